@@ -0,0 +1,245 @@
+package com.back.catchmate.global.entity;
+
+import com.back.catchmate.CatchmateApplication;
+import com.back.catchmate.domain.board.entity.Board;
+import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.board.service.BoardDeletionService;
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.chat.entity.UserChatRoom;
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.back.catchmate.domain.club.entity.Club;
+import com.back.catchmate.domain.club.repository.ClubRepository;
+import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+import com.back.catchmate.domain.enroll.entity.Enroll;
+import com.back.catchmate.domain.enroll.repository.EnrollRepository;
+import com.back.catchmate.domain.game.entity.Game;
+import com.back.catchmate.domain.game.repository.GameRepository;
+import com.back.catchmate.domain.notification.entity.Notification;
+import com.back.catchmate.domain.notification.repository.NotificationRepository;
+import com.back.catchmate.domain.user.entity.Authority;
+import com.back.catchmate.domain.user.entity.Provider;
+import com.back.catchmate.domain.user.entity.User;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// test 프로필(H2, MySQL 모드)로 애플리케이션을 띄워 초당 처리 횟수 비교
+// - saveAll*Identity : 같은 컬럼을 IDENTITY 로 발급 (행마다 INSERT 후 생성 키 조회, JDBC 배치 불가)
+// - saveAll*Sequence : 실제 엔티티의 pooled 시퀀스 (ALLOCATION_SIZE 건마다 시퀀스 조회 한 번, INSERT 는 배치)
+// - softDeleteBoards : 신청, 알림, 채팅방 참여 정보가 rowCount 건씩 달린 게시글 하나를 BoardDeletionService 로 삭제
+// 인메모리 H2 기준이므로 운영 DB 의 절대 수치가 아니라 방식 간 상대 비교로만 사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkWriteBenchmark {
+    @Param({"10", "100"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager em;
+    private NotificationRepository notificationRepository;
+    private UserChatRoomRepository userChatRoomRepository;
+    private EnrollRepository enrollRepository;
+    private BoardRepository boardRepository;
+    private ChatRoomRepository chatRoomRepository;
+    private BoardDeletionService boardDeletionService;
+    private SimpleJpaRepository<IdentityNotification, Long> identityNotificationRepository;
+    private SimpleJpaRepository<IdentityUserChatRoom, Long> identityUserChatRoomRepository;
+
+    private User user;
+    private Club club;
+    private Game game;
+    private Board board;
+    private ChatRoom chatRoom;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 명령행 인자로 넘겨 프로필 설정보다 우선 적용 (SQL 로그 출력이 측정에 섞이지 않도록 함)
+        context = new SpringApplicationBuilder(CatchmateApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--spring.jpa.show-sql=false");
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        em = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        notificationRepository = context.getBean(NotificationRepository.class);
+        userChatRoomRepository = context.getBean(UserChatRoomRepository.class);
+        enrollRepository = context.getBean(EnrollRepository.class);
+        boardRepository = context.getBean(BoardRepository.class);
+        chatRoomRepository = context.getBean(ChatRoomRepository.class);
+        boardDeletionService = context.getBean(BoardDeletionService.class);
+        identityNotificationRepository = new SimpleJpaRepository<>(IdentityNotification.class, em);
+        identityUserChatRoomRepository = new SimpleJpaRepository<>(IdentityUserChatRoom.class, em);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            club = context.getBean(ClubRepository.class).save(Club.builder()
+                    .name("KIA Tigers")
+                    .homeStadium("Champions Field")
+                    .region("Gwangju")
+                    .build());
+            user = context.getBean(UserRepository.class).save(createUser());
+            game = context.getBean(GameRepository.class).save(Game.builder()
+                    .homeClub(club)
+                    .awayClub(club)
+                    .gameStartDate(LocalDateTime.now().plusDays(1))
+                    .location("Gwangju")
+                    .build());
+            board = boardRepository.save(createBoard());
+            chatRoom = chatRoomRepository.save(ChatRoom.builder().board(board).participantCount(1).build());
+        });
+    }
+
+    // 반복마다 쌓인 행을 지워 테이블 크기가 측정 결과에 영향을 주지 않도록 함
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM IdentityNotification").executeUpdate();
+            em.createQuery("DELETE FROM IdentityUserChatRoom").executeUpdate();
+            em.createQuery("DELETE FROM Notification").executeUpdate();
+            em.createQuery("DELETE FROM UserChatRoom").executeUpdate();
+            em.createQuery("DELETE FROM Enroll").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void saveAllNotificationsIdentity() {
+        transactionTemplate.executeWithoutResult(status -> identityNotificationRepository.saveAll(
+                IntStream.range(0, rowCount)
+                        .mapToObj(i -> new IdentityNotification(user, board, "직관 신청", "신청이 도착했습니다"))
+                        .toList()));
+    }
+
+    @Benchmark
+    public void saveAllNotificationsSequence() {
+        transactionTemplate.executeWithoutResult(status -> notificationRepository.saveAll(createNotifications(board)));
+    }
+
+    @Benchmark
+    public void saveAllUserChatRoomsIdentity() {
+        transactionTemplate.executeWithoutResult(status -> identityUserChatRoomRepository.saveAll(
+                IntStream.range(0, rowCount)
+                        .mapToObj(i -> new IdentityUserChatRoom(user, chatRoom, LocalDateTime.now()))
+                        .toList()));
+    }
+
+    @Benchmark
+    public void saveAllUserChatRoomsSequence() {
+        transactionTemplate.executeWithoutResult(status -> userChatRoomRepository.saveAll(createUserChatRooms(chatRoom)));
+    }
+
+    @Benchmark
+    public void softDeleteBoards(DeletionTarget target) {
+        boardDeletionService.softDeleteBoards(target.boardIdList);
+    }
+
+    // 삭제할 게시글은 호출마다 새로 만들어야 하므로 softDeleteBoards 에서만 쓰는 별도 상태로 분리
+    @State(Scope.Thread)
+    public static class DeletionTarget {
+        private List<Long> boardIdList;
+
+        @Setup(Level.Invocation)
+        public void setUp(BulkWriteBenchmark benchmark) {
+            boardIdList = benchmark.transactionTemplate.execute(status -> {
+                Board target = benchmark.boardRepository.save(benchmark.createBoard());
+                ChatRoom targetChatRoom = benchmark.chatRoomRepository.save(ChatRoom.builder()
+                        .board(target)
+                        .participantCount(benchmark.rowCount)
+                        .build());
+                benchmark.enrollRepository.saveAll(IntStream.range(0, benchmark.rowCount)
+                        .mapToObj(i -> Enroll.builder()
+                                .user(benchmark.user)
+                                .board(target)
+                                .acceptStatus(AcceptStatus.ACCEPTED)
+                                .isNew(false)
+                                .build())
+                        .toList());
+                benchmark.notificationRepository.saveAll(benchmark.createNotifications(target));
+                benchmark.userChatRoomRepository.saveAll(benchmark.createUserChatRooms(targetChatRoom));
+                return List.of(target.getId());
+            });
+        }
+    }
+
+    private List<Notification> createNotifications(Board target) {
+        return IntStream.range(0, rowCount)
+                .mapToObj(i -> Notification.builder()
+                        .user(user)
+                        .board(target)
+                        .title("직관 신청")
+                        .body("신청이 도착했습니다")
+                        .isRead(false)
+                        .build())
+                .toList();
+    }
+
+    private List<UserChatRoom> createUserChatRooms(ChatRoom target) {
+        return IntStream.range(0, rowCount)
+                .mapToObj(i -> UserChatRoom.builder()
+                        .user(user)
+                        .chatRoom(target)
+                        .joinedAt(LocalDateTime.now())
+                        .isNewChatRoom(true)
+                        .build())
+                .toList();
+    }
+
+    private Board createBoard() {
+        return Board.builder()
+                .title("직관 모집")
+                .content("같이 가요")
+                .maxPerson(4)
+                .currentPerson(1)
+                .user(user)
+                .club(club)
+                .game(game)
+                .preferredGender("M")
+                .preferredAgeRange("20s")
+                .isCompleted(true)
+                .liftUpDate(LocalDateTime.now())
+                .build();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .email("benchmark@test.com")
+                .provider(Provider.GOOGLE)
+                .providerId("google_benchmark")
+                .gender('M')
+                .nickName("benchmark")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .club(club)
+                .profileImageUrl("default.jpg")
+                .allAlarm('Y').chatAlarm('Y').enrollAlarm('Y').eventAlarm('Y')
+                .fcmToken("token_benchmark")
+                .authority(Authority.ROLE_USER)
+                .isReported(false)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.back.catchmate.global.entity;
+
+import com.back.catchmate.domain.board.entity.Board;
+import com.back.catchmate.domain.user.entity.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+// 벤치마크 비교용: notifications 와 같은 컬럼을 IDENTITY 로 발급 (시퀀스 전환 전 매핑)
+@Entity
+@Table(name = "benchmark_identity_notifications")
+public class IdentityNotification extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id")
+    private Board board;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String body;
+
+    @Column(nullable = false)
+    private boolean isRead;
+
+    protected IdentityNotification() {
+    }
+
+    public IdentityNotification(User user, Board board, String title, String body) {
+        this.user = user;
+        this.board = board;
+        this.title = title;
+        this.body = body;
+    }
+}
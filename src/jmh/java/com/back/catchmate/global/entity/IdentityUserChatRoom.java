@@ -0,0 +1,52 @@
+package com.back.catchmate.global.entity;
+
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.user.entity.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+// 벤치마크 비교용: user_chat_rooms 와 같은 컬럼을 IDENTITY 로 발급 (시퀀스 전환 전 매핑)
+@Entity
+@Table(name = "benchmark_identity_user_chat_rooms")
+public class IdentityUserChatRoom extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "user_chat_room_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_room_id")
+    private ChatRoom chatRoom;
+
+    @Column(nullable = false)
+    private LocalDateTime joinedAt;
+
+    @Column(name = "is_new_chat_room", nullable = false)
+    private Boolean isNewChatRoom;
+
+    @Column(name = "is_notification_enabled", nullable = false)
+    private boolean isNotificationEnabled = true;
+
+    protected IdentityUserChatRoom() {
+    }
+
+    public IdentityUserChatRoom(User user, ChatRoom chatRoom, LocalDateTime joinedAt) {
+        this.user = user;
+        this.chatRoom = chatRoom;
+        this.joinedAt = joinedAt;
+        this.isNewChatRoom = true;
+    }
+}
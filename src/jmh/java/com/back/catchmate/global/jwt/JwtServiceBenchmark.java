@@ -0,0 +1,86 @@
+package com.back.catchmate.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 초당 토큰 파싱 횟수 비교
+// - legacyParse : 변경 전 코드 (매 호출마다 비밀키를 Base64 문자열로 인코딩하고 Jwts.parser() 를 새로 생성)
+// - parseWithoutCache : 미리 만든 JwtParser 로 매번 서명 검증 (캐시 없이 키/파서 재사용만 적용)
+// - parseWithCache : JwtService.parseJwtToken (검증한 토큰 캐시 적중)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtServiceBenchmark {
+    private static final String SECRET_KEY = "benchmark-secret-key-must-be-long-enough-for-security-algorithms";
+    private static final String BEARER = "Bearer ";
+    private static final String ID_CLAIM = "id";
+
+    private JwtService jwtService;
+    private JwtParser jwtParser;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = createJwtService();
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName()))
+                .build();
+        accessToken = jwtService.createAccessToken(1L);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public Long legacyParse() {
+        String token = accessToken.substring(BEARER.length());
+        Claims claims = Jwts.parser()
+                .setSigningKey(Base64.getEncoder().encodeToString(SECRET_KEY.getBytes()))
+                .parseClaimsJws(token)
+                .getBody();
+        return Long.valueOf((Integer) claims.get(ID_CLAIM));
+    }
+
+    @Benchmark
+    public Long parseWithoutCache() {
+        String token = accessToken.substring(BEARER.length());
+        return jwtParser.parseClaimsJws(token).getBody().get(ID_CLAIM, Long.class);
+    }
+
+    @Benchmark
+    public Long parseWithCache() {
+        return jwtService.parseJwtToken(accessToken);
+    }
+
+    private JwtService createJwtService() {
+        JwtService service = new JwtService();
+        setField(service, "secretKey", SECRET_KEY);
+        setField(service, "accessTokenExpirationPeriod", 3_600_000L);
+        setField(service, "refreshTokenExpirationPeriod", 3_600_000L);
+        setField(service, "ACCESS_TOKEN_SUBJECT", "AccessToken");
+        setField(service, "REFRESH_TOKEN_SUBJECT", "RefreshToken");
+        setField(service, "claimsCacheMaxEntries", 10_000);
+        service.init();
+        return service;
+    }
+
+    private void setField(JwtService service, String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtService.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, service, value);
+    }
+}
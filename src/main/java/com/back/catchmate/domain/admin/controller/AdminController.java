@@ -3,6 +3,8 @@ package com.back.catchmate.domain.admin.controller;
 import com.back.catchmate.domain.admin.dto.AdminRequest;
 import com.back.catchmate.domain.admin.dto.AdminRequest.AnswerInquiryRequest;
 import com.back.catchmate.domain.admin.dto.AdminResponse.*;
+import com.back.catchmate.domain.admin.entity.ActivityGranularity;
+import com.back.catchmate.domain.admin.entity.ActivityMetric;
 import com.back.catchmate.domain.admin.service.AdminService;
 import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.jwt.JwtValidation;
@@ -15,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
@@ -54,6 +57,16 @@ public class AdminController {
         return adminService.getCheerStyleStats();
     }
 
+    @GetMapping("/analytics")
+    @Operation(summary = "활동 지표 추이 조회", description = "가입, 게시글 등록, 직관 신청/수락, 채팅 메시지 수를 시간 또는 일 단위로 조회하는 API 입니다. 구단 ID를 생략하면 전체 구단 합계를 조회합니다.")
+    public ActivityStatsInfo getActivityStats(@RequestParam ActivityMetric metric,
+                                              @RequestParam(defaultValue = "DAILY") ActivityGranularity granularity,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                              @RequestParam(required = false) Long clubId) {
+        return adminService.getActivityStats(metric, granularity, startDate, endDate, clubId);
+    }
+
     @GetMapping("/user")
     @Operation(summary = "유저 리스트 조회", description = "구단명을 쿼리 파라미터로 전달받아 해당 구단의 유저 정보 리스트를 조회하는 API 입니다.")
     public PagedUserInfo getUserInfoList(@RequestParam(required = false) String clubName,
@@ -1,10 +1,15 @@
 package com.back.catchmate.domain.admin.converter;
 
+import com.back.catchmate.domain.admin.dto.ActivityBucket;
 import com.back.catchmate.domain.admin.dto.AdminRequest;
 import com.back.catchmate.domain.admin.dto.AdminResponse;
+import com.back.catchmate.domain.admin.dto.AdminResponse.ActivityBucketInfo;
+import com.back.catchmate.domain.admin.dto.AdminResponse.ActivityStatsInfo;
 import com.back.catchmate.domain.admin.dto.AdminResponse.AdminDashboardInfo;
 import com.back.catchmate.domain.admin.dto.AdminResponse.CheerStyleStatsInfo;
 import com.back.catchmate.domain.admin.dto.AdminResponse.PagedUserInfo;
+import com.back.catchmate.domain.admin.entity.ActivityGranularity;
+import com.back.catchmate.domain.admin.entity.ActivityMetric;
 import com.back.catchmate.domain.board.entity.Board;
 import com.back.catchmate.domain.chat.entity.UserChatRoom;
 import com.back.catchmate.domain.club.converter.ClubConverter;
@@ -60,6 +65,23 @@ public class AdminConverter {
                 .build();
     }
 
+    public ActivityStatsInfo toActivityStatsInfo(ActivityMetric metric, ActivityGranularity granularity, Long clubId, List<ActivityBucket> bucketList) {
+        List<ActivityBucketInfo> bucketInfoList = bucketList.stream()
+                .map(bucket -> ActivityBucketInfo.builder()
+                        .bucketStart(bucket.bucketStart())
+                        .count(bucket.count())
+                        .build())
+                .toList();
+
+        return ActivityStatsInfo.builder()
+                .metric(metric)
+                .granularity(granularity)
+                .clubId(clubId)
+                .bucketList(bucketInfoList)
+                .totalCount(bucketList.stream().mapToLong(ActivityBucket::count).sum())
+                .build();
+    }
+
     public AdminResponse.UserInfo toUserInfo(User user) {
         ClubResponse.ClubInfo clubInfo = clubConverter.toClubInfo(user.getClub());
 
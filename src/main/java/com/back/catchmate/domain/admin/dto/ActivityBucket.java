@@ -0,0 +1,8 @@
+package com.back.catchmate.domain.admin.dto;
+
+import java.time.LocalDateTime;
+
+// 집계 구간별 발생 건수
+public record ActivityBucket(LocalDateTime bucketStart,
+                             Long count) {
+}
@@ -1,5 +1,7 @@
 package com.back.catchmate.domain.admin.dto;
 
+import com.back.catchmate.domain.admin.entity.ActivityGranularity;
+import com.back.catchmate.domain.admin.entity.ActivityMetric;
 import com.back.catchmate.domain.club.dto.ClubResponse;
 import com.back.catchmate.domain.game.dto.GameResponse.GameInfo;
 import com.back.catchmate.domain.inquiry.entity.InquiryType;
@@ -172,4 +174,23 @@ public abstract class AdminResponse {
         private Boolean isFirst;
         private Boolean isLast;
     }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class ActivityBucketInfo {
+        private LocalDateTime bucketStart;  // 구간 시작 시각
+        private long count;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class ActivityStatsInfo {
+        private ActivityMetric metric;
+        private ActivityGranularity granularity;
+        private Long clubId;    // null 이면 전체 구단 합계
+        private List<ActivityBucketInfo> bucketList;   // 건수가 있는 구간만 시간순으로 포함
+        private long totalCount;
+    }
 }
@@ -0,0 +1,24 @@
+package com.back.catchmate.domain.admin.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum ActivityGranularity {
+    HOURLY(ChronoUnit.HOURS),
+    DAILY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    ActivityGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    // 시각이 속한 구간의 시작 시각
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public LocalDateTime nextBucketStart(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+}
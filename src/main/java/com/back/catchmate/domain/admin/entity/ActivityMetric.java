@@ -0,0 +1,9 @@
+package com.back.catchmate.domain.admin.entity;
+
+public enum ActivityMetric {
+    SIGNUP,
+    BOARD_CREATED,
+    ENROLL_REQUESTED,
+    ENROLL_ACCEPTED,
+    CHAT_MESSAGE;
+}
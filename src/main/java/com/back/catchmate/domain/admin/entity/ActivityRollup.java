@@ -0,0 +1,55 @@
+package com.back.catchmate.domain.admin.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 지표별 시간/일 단위 발생 건수 (원본 행 대신 구간별 건수만 유지)
+// 유니크 키가 (지표, 단위, 구간) 순서이므로 기간 조회도 같은 인덱스 범위 스캔으로 처리됨
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "activity_rollups", uniqueConstraints = @UniqueConstraint(
+        name = "uk_activity_rollups_bucket",
+        columnNames = {"metric", "granularity", "bucket_start", "club_id"}))
+public class ActivityRollup {
+    // 구단 정보가 없는 지표를 집계할 구단 ID (NULL 은 유니크 키로 중복을 막을 수 없으므로 사용하지 않음)
+    public static final long NO_CLUB_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "activity_rollup_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 30)
+    private ActivityMetric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private ActivityGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "club_id", nullable = false)
+    private Long clubId;
+
+    @Column(nullable = false)
+    private long eventCount;
+}
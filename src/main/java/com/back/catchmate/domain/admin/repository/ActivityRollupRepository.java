@@ -0,0 +1,49 @@
+package com.back.catchmate.domain.admin.repository;
+
+import com.back.catchmate.domain.admin.dto.ActivityBucket;
+import com.back.catchmate.domain.admin.entity.ActivityGranularity;
+import com.back.catchmate.domain.admin.entity.ActivityMetric;
+import com.back.catchmate.domain.admin.entity.ActivityRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, Long> {
+    // 이미 존재하는 구간에 건수를 더함 (행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE ActivityRollup r SET r.eventCount = r.eventCount + :delta " +
+            "WHERE r.metric = :metric AND r.granularity = :granularity " +
+            "AND r.bucketStart = :bucketStart AND r.clubId = :clubId")
+    int addEventCount(@Param("metric") ActivityMetric metric,
+                      @Param("granularity") ActivityGranularity granularity,
+                      @Param("bucketStart") LocalDateTime bucketStart,
+                      @Param("clubId") Long clubId,
+                      @Param("delta") long delta);
+
+    // [start, end) 구간의 전체 구단 합계
+    @Query("SELECT new com.back.catchmate.domain.admin.dto.ActivityBucket(r.bucketStart, SUM(r.eventCount)) " +
+            "FROM ActivityRollup r " +
+            "WHERE r.metric = :metric AND r.granularity = :granularity " +
+            "AND r.bucketStart >= :start AND r.bucketStart < :end " +
+            "GROUP BY r.bucketStart ORDER BY r.bucketStart ASC")
+    List<ActivityBucket> findBucketList(@Param("metric") ActivityMetric metric,
+                                        @Param("granularity") ActivityGranularity granularity,
+                                        @Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end);
+
+    // [start, end) 구간의 특정 구단 건수
+    @Query("SELECT new com.back.catchmate.domain.admin.dto.ActivityBucket(r.bucketStart, r.eventCount) " +
+            "FROM ActivityRollup r " +
+            "WHERE r.metric = :metric AND r.granularity = :granularity " +
+            "AND r.bucketStart >= :start AND r.bucketStart < :end AND r.clubId = :clubId " +
+            "ORDER BY r.bucketStart ASC")
+    List<ActivityBucket> findBucketListByClubId(@Param("metric") ActivityMetric metric,
+                                                @Param("granularity") ActivityGranularity granularity,
+                                                @Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end,
+                                                @Param("clubId") Long clubId);
+}
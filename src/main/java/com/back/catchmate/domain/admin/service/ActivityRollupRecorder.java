@@ -0,0 +1,147 @@
+package com.back.catchmate.domain.admin.service;
+
+import com.back.catchmate.domain.admin.entity.ActivityGranularity;
+import com.back.catchmate.domain.admin.entity.ActivityMetric;
+import com.back.catchmate.domain.admin.entity.ActivityRollup;
+import com.back.catchmate.domain.admin.repository.ActivityRollupRepository;
+import com.back.catchmate.domain.board.event.BoardCompletedEvent;
+import com.back.catchmate.domain.chat.event.ChatMessageSentEvent;
+import com.back.catchmate.domain.enroll.event.EnrollAcceptedEvent;
+import com.back.catchmate.domain.enroll.event.EnrollRequestedEvent;
+import com.back.catchmate.domain.user.event.UserJoinedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 커밋된 도메인 이벤트를 지표/단위/구간/구단별로 메모리에 누적하고, flush 시 구간별 건수만 rollup 테이블에 더함
+// 이벤트마다 쓰지 않으므로 채팅처럼 빈번한 지표도 flush 주기마다 구간당 한 번의 UPDATE 로 반영됨
+// 관리자 통계용 근사치이므로 유실 가능성을 허용함: 프로세스가 비정상 종료(kill -9, OOM 등)되면 마지막 flush 이후
+// 최대 flush 주기(admin.analytics.flush-interval-ms, 기본 60초) 동안의 건수가 사라지며, @PreDestroy 는 정상 종료에서만 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityRollupRecorder {
+    private final ActivityRollupRepository activityRollupRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ConcurrentHashMap<RollupKey, LongAdder> pendingCountMap = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserJoined(UserJoinedEvent event) {
+        record(ActivityMetric.SIGNUP, event.clubId(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardCompleted(BoardCompletedEvent event) {
+        record(ActivityMetric.BOARD_CREATED, event.clubId(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnrollRequested(EnrollRequestedEvent event) {
+        record(ActivityMetric.ENROLL_REQUESTED, event.clubId(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnrollAccepted(EnrollAcceptedEvent event) {
+        record(ActivityMetric.ENROLL_ACCEPTED, event.clubId(), event.acceptedCount());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChatMessageSent(ChatMessageSentEvent event) {
+        record(ActivityMetric.CHAT_MESSAGE, event.clubId(), 1);
+    }
+
+    public void record(ActivityMetric metric, Long clubId, long count) {
+        LocalDateTime now = LocalDateTime.now();
+        long rollupClubId = clubId != null ? clubId : ActivityRollup.NO_CLUB_ID;
+        for (ActivityGranularity granularity : ActivityGranularity.values()) {
+            RollupKey key = new RollupKey(metric, granularity, granularity.bucketStart(now), rollupClubId);
+            add(key, count);
+        }
+    }
+
+    // 누적된 건수를 구간별로 테이블에 반영하고 반영한 구간 수를 반환
+    public int flush() {
+        LocalDateTime now = LocalDateTime.now();
+        int flushedCount = 0;
+        for (Map.Entry<RollupKey, LongAdder> entry : pendingCountMap.entrySet()) {
+            RollupKey key = entry.getKey();
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                // 끝난 구간은 더 이상 기록되지 않으므로 비어 있으면 정리
+                // 건수 추가와 같은 compute 안에서 비어 있는지 확인하므로 확인 직후 더해진 건수가 함께 삭제되지 않음
+                if (!key.granularity().nextBucketStart(key.bucketStart()).isAfter(now)) {
+                    pendingCountMap.computeIfPresent(key, (k, adder) -> adder.sum() == 0 ? null : adder);
+                }
+                continue;
+            }
+
+            try {
+                upsert(key, delta);
+                flushedCount++;
+            } catch (Exception e) {
+                // 반영하지 못한 건수는 다음 flush 에서 다시 시도
+                add(key, delta);
+                log.warn("Activity rollup flush failed: {}", key, e);
+            }
+        }
+        return flushedCount;
+    }
+
+    // 정상 종료 시 남은 건수 반영 (비정상 종료 시에는 호출되지 않음)
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    // 건수 추가는 항상 compute 안에서 처리하여 flush 의 빈 구간 정리와 원자적으로 순서가 정해지도록 함
+    // (computeIfAbsent 로 꺼낸 뒤 더하면 그 사이 구간이 정리되어 정리된 LongAdder 에 더해질 수 있음)
+    private void add(RollupKey key, long count) {
+        pendingCountMap.compute(key, (k, adder) -> {
+            LongAdder target = (adder != null) ? adder : new LongAdder();
+            target.add(count);
+            return target;
+        });
+    }
+
+    private void upsert(RollupKey key, long delta) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        if (addEventCount(transactionTemplate, key, delta)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> activityRollupRepository.save(ActivityRollup.builder()
+                    .metric(key.metric())
+                    .granularity(key.granularity())
+                    .bucketStart(key.bucketStart())
+                    .clubId(key.clubId())
+                    .eventCount(delta)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 구간을 먼저 만든 경우 UPDATE 로 다시 반영
+            if (!addEventCount(transactionTemplate, key, delta)) {
+                throw e;
+            }
+        }
+    }
+
+    private boolean addEventCount(TransactionTemplate transactionTemplate, RollupKey key, long delta) {
+        Integer updatedCount = transactionTemplate.execute(status -> activityRollupRepository.addEventCount(
+                key.metric(), key.granularity(), key.bucketStart(), key.clubId(), delta));
+        return updatedCount != null && updatedCount > 0;
+    }
+
+    private record RollupKey(ActivityMetric metric, ActivityGranularity granularity, LocalDateTime bucketStart, Long clubId) {
+    }
+}
@@ -2,11 +2,14 @@ package com.back.catchmate.domain.admin.service;
 
 import com.back.catchmate.domain.admin.dto.AdminRequest;
 import com.back.catchmate.domain.admin.dto.AdminResponse;
+import com.back.catchmate.domain.admin.dto.AdminResponse.ActivityStatsInfo;
 import com.back.catchmate.domain.admin.dto.AdminResponse.CheerStyleStatsInfo;
 import com.back.catchmate.domain.admin.dto.AdminResponse.PagedBoardInfo;
 import com.back.catchmate.domain.admin.dto.AdminResponse.PagedReportInfo;
 import com.back.catchmate.domain.admin.dto.AdminResponse.PagedUserInfo;
 import com.back.catchmate.domain.admin.dto.AdminResponse.TeamSupportStatsInfo;
+import com.back.catchmate.domain.admin.entity.ActivityGranularity;
+import com.back.catchmate.domain.admin.entity.ActivityMetric;
 import com.back.catchmate.global.dto.StateResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -22,6 +25,8 @@ public interface AdminService {
 
     CheerStyleStatsInfo getCheerStyleStats();
 
+    ActivityStatsInfo getActivityStats(ActivityMetric metric, ActivityGranularity granularity, LocalDate startDate, LocalDate endDate, Long clubId);
+
     PagedUserInfo getUserInfoList(String clubName, Pageable pageable);
 
     AdminResponse.UserInfo getUserInfo(Long userId);
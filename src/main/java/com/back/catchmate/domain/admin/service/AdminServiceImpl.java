@@ -1,11 +1,15 @@
 package com.back.catchmate.domain.admin.service;
 
 import com.back.catchmate.domain.admin.converter.AdminConverter;
+import com.back.catchmate.domain.admin.dto.ActivityBucket;
 import com.back.catchmate.domain.admin.dto.AdminRequest;
 import com.back.catchmate.domain.admin.dto.AdminResponse;
 import com.back.catchmate.domain.admin.dto.AdminResponse.InquiryInfo;
 import com.back.catchmate.domain.admin.dto.AdminResponse.PagedInquiryInfo;
 import com.back.catchmate.domain.admin.dto.AdminResponse.PagedUserInfo;
+import com.back.catchmate.domain.admin.entity.ActivityGranularity;
+import com.back.catchmate.domain.admin.entity.ActivityMetric;
+import com.back.catchmate.domain.admin.repository.ActivityRollupRepository;
 import com.back.catchmate.domain.board.entity.Board;
 import com.back.catchmate.domain.board.repository.BoardRepository;
 import com.back.catchmate.domain.chat.entity.UserChatRoom;
@@ -14,7 +18,7 @@ import com.back.catchmate.domain.inquiry.entity.Inquiry;
 import com.back.catchmate.domain.inquiry.repository.InquiryRepository;
 import com.back.catchmate.domain.notice.entity.Notice;
 import com.back.catchmate.domain.notice.repository.NoticeRepository;
-import com.back.catchmate.domain.notification.service.FCMService;
+import com.back.catchmate.domain.notification.service.NotificationOutboxService;
 import com.back.catchmate.domain.notification.service.NotificationService;
 import com.back.catchmate.domain.report.entity.Report;
 import com.back.catchmate.domain.report.repository.ReportRepository;
@@ -36,7 +40,6 @@ import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static com.back.catchmate.domain.notification.message.NotificationMessages.INQUIRY_ANSWER_BODY;
 import static com.back.catchmate.domain.notification.message.NotificationMessages.INQUIRY_ANSWER_TITLE;
@@ -44,8 +47,8 @@ import static com.back.catchmate.domain.notification.message.NotificationMessage
 @Service
 @RequiredArgsConstructor
 public class AdminServiceImpl implements AdminService {
-    private final FCMService fcmService;
     private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final ReportRepository reportRepository;
@@ -53,23 +56,20 @@ public class AdminServiceImpl implements AdminService {
     private final UserChatRoomRepository userChatRoomRepository;
     private final AdminConverter adminConverter;
     private final NoticeRepository noticeRepository;
+    private final AdminStatsCounter adminStatsCounter;
+    private final ActivityRollupRepository activityRollupRepository;
 
+    // 통계는 도메인 이벤트로 갱신되는 메모리 카운터에서 조회 (AdminStatsCounter)
     @Override
-    @Transactional(readOnly = true)
     public AdminResponse.AdminDashboardInfo getDashboardStats() {
-        long totalUserCount = userRepository.countByDeletedAtIsNull();
-        long totalBoardCount = boardRepository.countByDeletedAtIsNullAndIsCompletedIsTrue();
-        long totalReportCount = reportRepository.countByDeletedAtIsNull();
-        long totalInquiryCount = inquiryRepository.countByDeletedAtIsNull();
-
-        return adminConverter.toAdminDashboardInfo(totalUserCount, totalBoardCount, totalReportCount, totalInquiryCount);
+        return adminConverter.toAdminDashboardInfo(adminStatsCounter.getUserCount(), adminStatsCounter.getBoardCount(),
+                adminStatsCounter.getReportCount(), adminStatsCounter.getInquiryCount());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public AdminResponse.GenderRatioDto getGenderRatio() {
-        long maleCount = userRepository.countByGenderAndDeletedAtIsNull('M');
-        long femaleCount = userRepository.countByGenderAndDeletedAtIsNull('F');
+        long maleCount = adminStatsCounter.getMaleCount();
+        long femaleCount = adminStatsCounter.getFemaleCount();
         long totalCount = maleCount + femaleCount;
 
         if (totalCount == 0) {
@@ -83,43 +83,38 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public AdminResponse.TeamSupportStatsInfo getTeamSupportStats() {
-        // 구단별 가입자 수를 조회
-        List<Object[]> results = userRepository.countUsersByClub();
-        // 구단별 가입자 수를 Map으로 변환
-        Map<Long, Long> teamSupportCountMap = createCheerClubCountMap(results);
+        // 구단별 가입자 수
+        Map<Long, Long> teamSupportCountMap = adminStatsCounter.getClubCountMap();
 
         initializeKboClubsWithZero(teamSupportCountMap);
         return adminConverter.toCheerClubStatsInfo(teamSupportCountMap);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public AdminResponse.CheerStyleStatsInfo getCheerStyleStats() {
-        // 응원 스타일별 가입자 수를 조회
-        List<Object[]> results = userRepository.countUsersByWatchStyle();
-        // 응원 스타일별 가입자 수를 Map으로 변환
-        Map<String, Long> cheerStyleSupportCountMap = createCheerStyleCountMap(results);
+        // 응원 스타일별 가입자 수
+        Map<String, Long> cheerStyleSupportCountMap = adminStatsCounter.getWatchStyleCountMap();
 
         initializeRolesWithZero(cheerStyleSupportCountMap);
         return adminConverter.toCheerStyleStatsInfo(cheerStyleSupportCountMap);
     }
 
-    private Map<Long, Long> createCheerClubCountMap(List<Object[]> results) {
-        return results.stream()
-                .collect(Collectors.toMap(
-                        result -> (Long) result[0],
-                        result -> (Long) result[1]
-                ));
-    }
+    // 원본 테이블 대신 구간별 rollup 행만 조회 (최근 flush 주기 동안의 건수는 아직 반영되지 않았을 수 있음)
+    @Override
+    @Transactional(readOnly = true)
+    public AdminResponse.ActivityStatsInfo getActivityStats(ActivityMetric metric, ActivityGranularity granularity,
+                                                            LocalDate startDate, LocalDate endDate, Long clubId) {
+        if (startDate.isAfter(endDate)) {
+            throw new BaseException(ErrorCode.INVALID_DATE_RANGE);
+        }
 
-    private Map<String, Long> createCheerStyleCountMap(List<Object[]> results) {
-        return results.stream()
-                .collect(Collectors.toMap(
-                        result -> result[0] != null ? (String) result[0] : "선택 안함",
-                        result -> (Long) result[1]
-                ));
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+        List<ActivityBucket> bucketList = (clubId != null)
+                ? activityRollupRepository.findBucketListByClubId(metric, granularity, start, end, clubId)
+                : activityRollupRepository.findBucketList(metric, granularity, start, end);
+        return adminConverter.toActivityStatsInfo(metric, granularity, clubId, bucketList);
     }
 
     private void initializeKboClubsWithZero(Map<Long, Long> teamSupportCountMap) {
@@ -212,7 +207,7 @@ public class AdminServiceImpl implements AdminService {
         String title = INQUIRY_ANSWER_TITLE;
         String body = INQUIRY_ANSWER_BODY;
 
-        fcmService.sendMessageByToken(inquiry.getUser().getFcmToken(), title, body, inquiryId);
+        notificationOutboxService.enqueueInquiryPush("inquiry-answer:" + inquiryId, inquiry.getUser().getFcmToken(), title, body, inquiryId);
         notificationService.createNotification(title, body, null, inquiryId, inquiry.getUser().getId());
 
         return new StateResponse(true);
@@ -0,0 +1,176 @@
+package com.back.catchmate.domain.admin.service;
+
+import com.back.catchmate.domain.board.event.BoardCompletedEvent;
+import com.back.catchmate.domain.board.event.BoardsDeletedEvent;
+import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.inquiry.event.InquiryCreatedEvent;
+import com.back.catchmate.domain.inquiry.repository.InquiryRepository;
+import com.back.catchmate.domain.report.event.ReportCreatedEvent;
+import com.back.catchmate.domain.report.repository.ReportRepository;
+import com.back.catchmate.domain.user.event.UserDeletedEvent;
+import com.back.catchmate.domain.user.event.UserJoinedEvent;
+import com.back.catchmate.domain.user.event.UserProfileUpdatedEvent;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 관리자 대시보드 통계를 메모리에 보관하고, 커밋된 도메인 이벤트로 증감하여 조회 시 테이블을 집계하지 않음
+// 이벤트는 이 인스턴스에서 커밋된 변경만 받으므로 다른 인스턴스의 변경은 주기적인 재집계(reconcile)로 반영됨
+@Component
+@RequiredArgsConstructor
+public class AdminStatsCounter {
+    // 응원 스타일을 선택하지 않은 사용자를 집계할 키
+    public static final String NO_WATCH_STYLE = "선택 안함";
+
+    private final UserRepository userRepository;
+    private final BoardRepository boardRepository;
+    private final ReportRepository reportRepository;
+    private final InquiryRepository inquiryRepository;
+
+    private final AtomicLong userCount = new AtomicLong();
+    private final AtomicLong boardCount = new AtomicLong();
+    private final AtomicLong reportCount = new AtomicLong();
+    private final AtomicLong inquiryCount = new AtomicLong();
+    private final AtomicLong maleCount = new AtomicLong();
+    private final AtomicLong femaleCount = new AtomicLong();
+
+    // 재집계 시 새로 만든 맵으로 교체하여 조회 중에 비어 있는 상태가 보이지 않도록 함
+    private volatile ConcurrentHashMap<Long, Long> clubCountMap = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<String, Long> watchStyleCountMap = new ConcurrentHashMap<>();
+
+    private volatile boolean initialized;
+
+    public long getUserCount() {
+        ensureInitialized();
+        return userCount.get();
+    }
+
+    public long getBoardCount() {
+        ensureInitialized();
+        return boardCount.get();
+    }
+
+    public long getReportCount() {
+        ensureInitialized();
+        return reportCount.get();
+    }
+
+    public long getInquiryCount() {
+        ensureInitialized();
+        return inquiryCount.get();
+    }
+
+    public long getMaleCount() {
+        ensureInitialized();
+        return maleCount.get();
+    }
+
+    public long getFemaleCount() {
+        ensureInitialized();
+        return femaleCount.get();
+    }
+
+    public Map<Long, Long> getClubCountMap() {
+        ensureInitialized();
+        return new HashMap<>(clubCountMap);
+    }
+
+    public Map<String, Long> getWatchStyleCountMap() {
+        ensureInitialized();
+        return new HashMap<>(watchStyleCountMap);
+    }
+
+    // 전체 재집계로 메모리 값을 교체
+    // 집계 쿼리와 교체 사이에 커밋된 이벤트는 누락될 수 있으나 다음 재집계에서 보정됨
+    public synchronized void reconcile() {
+        userCount.set(userRepository.countByDeletedAtIsNull());
+        boardCount.set(boardRepository.countByDeletedAtIsNullAndIsCompletedIsTrue());
+        reportCount.set(reportRepository.countByDeletedAtIsNull());
+        inquiryCount.set(inquiryRepository.countByDeletedAtIsNull());
+        maleCount.set(userRepository.countByGenderAndDeletedAtIsNull('M'));
+        femaleCount.set(userRepository.countByGenderAndDeletedAtIsNull('F'));
+        clubCountMap = toCountMap(userRepository.countUsersByClub(), key -> (Long) key);
+        watchStyleCountMap = toCountMap(userRepository.countUsersByWatchStyle(), key -> watchStyleKey((String) key));
+        initialized = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserJoined(UserJoinedEvent event) {
+        applyUser(event.gender(), event.clubId(), event.watchStyle(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserDeleted(UserDeletedEvent event) {
+        applyUser(event.gender(), event.clubId(), event.watchStyle(), -1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserProfileUpdated(UserProfileUpdatedEvent event) {
+        clubCountMap.merge(event.previousClubId(), -1L, Long::sum);
+        clubCountMap.merge(event.clubId(), 1L, Long::sum);
+        watchStyleCountMap.merge(watchStyleKey(event.previousWatchStyle()), -1L, Long::sum);
+        watchStyleCountMap.merge(watchStyleKey(event.watchStyle()), 1L, Long::sum);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardCompleted(BoardCompletedEvent event) {
+        boardCount.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardsDeleted(BoardsDeletedEvent event) {
+        boardCount.addAndGet(-event.completedBoardCount());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReportCreated(ReportCreatedEvent event) {
+        reportCount.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInquiryCreated(InquiryCreatedEvent event) {
+        inquiryCount.incrementAndGet();
+    }
+
+    private void applyUser(Character gender, Long clubId, String watchStyle, long delta) {
+        userCount.addAndGet(delta);
+        if (Character.valueOf('M').equals(gender)) {
+            maleCount.addAndGet(delta);
+        } else if (Character.valueOf('F').equals(gender)) {
+            femaleCount.addAndGet(delta);
+        }
+        clubCountMap.merge(clubId, delta, Long::sum);
+        watchStyleCountMap.merge(watchStyleKey(watchStyle), delta, Long::sum);
+    }
+
+    private void ensureInitialized() {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    reconcile();
+                }
+            }
+        }
+    }
+
+    private String watchStyleKey(String watchStyle) {
+        return watchStyle != null ? watchStyle : NO_WATCH_STYLE;
+    }
+
+    private <K> ConcurrentHashMap<K, Long> toCountMap(List<Object[]> results, Function<Object, K> keyMapper) {
+        ConcurrentHashMap<K, Long> countMap = new ConcurrentHashMap<>();
+        for (Object[] result : results) {
+            countMap.merge(keyMapper.apply(result[0]), (Long) result[1], Long::sum);
+        }
+        return countMap;
+    }
+}
@@ -11,6 +11,7 @@ import com.back.catchmate.domain.board.service.BookMarkService;
 import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.jwt.JwtValidation;
 import com.back.catchmate.global.jwt.OptionalJwtValidation;
+import com.back.catchmate.global.ratelimit.RateLimit;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -42,6 +43,7 @@ public class BoardController {
     private final BookMarkService bookMarkService;
 
     @PostMapping
+    @RateLimit(name = "board.create", capacity = 5, refillPerMinute = 5)
     @Operation(summary = "게시글 등록 API & 게시글 임시 등록 API", description = "게시글을 등록하는 API 입니다.")
     public BoardInfo createOrUpdateBoard(@JwtValidation Long userId,
                                          @Valid @RequestBody CreateOrUpdateBoardRequest request) {
@@ -15,12 +15,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// 인원 수는 조건부 UPDATE 로 변경되므로, 엔티티 수정 시에는 변경된 컬럼만 갱신하여 덮어쓰지 않도록 함
 @Entity
+@DynamicUpdate
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -103,30 +106,6 @@ public class Board extends BaseTimeEntity {
         this.liftUpDate = localDateTime;
     }
 
-    public void deleteBoard() {
-        // Enroll 리스트 삭제
-        for (Enroll enroll : enrollList) {
-            enroll.delete();
-        }
-        enrollList.clear();
-
-        // Notification 리스트 삭제
-        for (Notification notification : notificationList) {
-            notification.delete();
-        }
-        notificationList.clear();
-
-        // BookMark 리스트 삭제
-        for (BookMark bookMark : bookMarkList) {
-            bookMark.delete();
-        }
-        bookMarkList.clear();
-
-        chatRoom.deleteChatRoom();
-        // 삭제 시간 기록
-        super.delete();
-    }
-
     public void deleteTempBoard() {
         super.delete();
     }
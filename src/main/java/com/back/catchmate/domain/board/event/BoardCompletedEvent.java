@@ -0,0 +1,5 @@
+package com.back.catchmate.domain.board.event;
+
+// 게시글이 임시 저장이 아닌 완료 상태로 등록된 경우 발행
+public record BoardCompletedEvent(Long boardId, Long clubId) {
+}
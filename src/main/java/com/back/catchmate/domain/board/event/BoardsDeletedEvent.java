@@ -0,0 +1,7 @@
+package com.back.catchmate.domain.board.event;
+
+import java.util.List;
+
+// completedBoardCount: 삭제된 게시글 중 임시 저장이 아닌 게시글 수
+public record BoardsDeletedEvent(List<Long> boardIdList, long completedBoardCount) {
+}
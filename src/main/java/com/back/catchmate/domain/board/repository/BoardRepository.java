@@ -1,11 +1,10 @@
 package com.back.catchmate.domain.board.repository;
 
 import com.back.catchmate.domain.board.entity.Board;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,13 +15,11 @@ import java.util.Optional;
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
     long countByDeletedAtIsNullAndIsCompletedIsTrue();
 
+    long countByIdInAndDeletedAtIsNullAndIsCompletedIsTrue(List<Long> boardIds);
+
     @Query("SELECT b FROM Board b WHERE b.id = :boardId AND b.deletedAt IS NULL")
     Optional<Board> findByIdAndDeletedAtIsNull(Long boardId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT b FROM Board b WHERE b.id = :boardId")
-    Optional<Board> findByIdWithLock(@Param("boardId") Long boardId);
-
     @Query("SELECT b FROM Board b WHERE b.id = :boardId AND b.deletedAt IS NULL AND b.isCompleted = true")
     Optional<Board> findByIdAndDeletedAtIsNullAndIsCompleted(Long boardId);
 
@@ -30,6 +27,34 @@ public interface BoardRepository extends JpaRepository<Board, Long>, BoardReposi
 
     Optional<Board> findTopByUserIdAndIsCompletedIsFalseAndDeletedAtIsNullOrderByCreatedAtDesc(Long userId);
 
-    @Query("SELECT b FROM Board b WHERE b.game.gameStartDate <= :thresholdDate AND b.deletedAt IS NULL")
-    List<Board> findBoardsByGameStartDatePlusSevenAndDeletedAtIsNull(@Param("thresholdDate") LocalDateTime thresholdDate);
+    // 정리 대상 게시글 ID를 lastBoardId 이후부터 ID 순으로 조회 (청크 단위 처리용)
+    @Query("SELECT b.id FROM Board b " +
+            "WHERE b.game.gameStartDate <= :thresholdDate AND b.deletedAt IS NULL AND b.id > :lastBoardId " +
+            "ORDER BY b.id ASC")
+    List<Long> findExpiredBoardIds(@Param("thresholdDate") LocalDateTime thresholdDate, @Param("lastBoardId") Long lastBoardId, Pageable pageable);
+
+    // 사용자가 작성한 삭제되지 않은 게시글 ID (임시 저장 게시글 포함)를 lastBoardId 이후부터 ID 순으로 조회
+    @Query("SELECT b.id FROM Board b WHERE b.user.id = :userId AND b.deletedAt IS NULL AND b.id > :lastBoardId ORDER BY b.id ASC")
+    List<Long> findActiveIdsByUserId(@Param("userId") Long userId, @Param("lastBoardId") Long lastBoardId, Pageable pageable);
+
+    // 탈퇴한 사용자가 작성한 삭제되지 않은 게시글 ID를 lastBoardId 이후부터 ID 순으로 조회 (탈퇴 후 비동기 정리가 유실된 게시글 재처리용)
+    @Query("SELECT b.id FROM Board b JOIN b.user u WHERE u.deletedAt IS NOT NULL AND b.deletedAt IS NULL AND b.id > :lastBoardId ORDER BY b.id ASC")
+    List<Long> findActiveIdsOfDeletedUsers(@Param("lastBoardId") Long lastBoardId, Pageable pageable);
+
+    @Query("SELECT COUNT(b) FROM Board b WHERE b.game.gameStartDate <= :thresholdDate AND b.deletedAt IS NULL AND b.id > :lastBoardId")
+    long countExpiredBoards(@Param("thresholdDate") LocalDateTime thresholdDate, @Param("lastBoardId") Long lastBoardId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Board b SET b.deletedAt = :deletedAt WHERE b.id IN :boardIds AND b.deletedAt IS NULL")
+    int softDeleteAllByIdIn(@Param("boardIds") List<Long> boardIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 정원이 남아 있을 때만 현재 인원을 count 만큼 증가 (조건과 증가를 한 문장으로 처리하여 동시 수락 시에도 정원을 넘지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Board b SET b.currentPerson = b.currentPerson + :count " +
+            "WHERE b.id = :boardId AND b.currentPerson + :count <= b.maxPerson AND b.deletedAt IS NULL")
+    int incrementCurrentPerson(@Param("boardId") Long boardId, @Param("count") int count);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Board b SET b.currentPerson = b.currentPerson - 1 WHERE b.id = :boardId AND b.currentPerson > 0")
+    int decrementCurrentPerson(@Param("boardId") Long boardId);
 }
@@ -6,7 +6,12 @@ import com.back.catchmate.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface BookMarkRepository extends JpaRepository<BookMark, Long> {
@@ -17,4 +22,8 @@ public interface BookMarkRepository extends JpaRepository<BookMark, Long> {
     Page<BookMark> findAllByUserIdAndDeletedAtIsNull(Long userId, Pageable pageable);
 
     Optional<BookMark> findByUserIdAndBoardIdAndDeletedAtIsNull(Long userId, Long boardId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BookMark bm SET bm.deletedAt = :deletedAt WHERE bm.board.id IN :boardIds AND bm.deletedAt IS NULL")
+    int softDeleteAllByBoardIdIn(@Param("boardIds") List<Long> boardIds, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -0,0 +1,128 @@
+package com.back.catchmate.domain.board.service;
+
+import com.back.catchmate.domain.board.event.BoardsDeletedEvent;
+import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.board.repository.BookMarkRepository;
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.back.catchmate.domain.chat.service.ChatRoomMembershipCache;
+import com.back.catchmate.domain.enroll.repository.EnrollRepository;
+import com.back.catchmate.domain.notification.dto.UnreadNotificationCount;
+import com.back.catchmate.domain.notification.repository.NotificationRepository;
+import com.back.catchmate.domain.user.event.UserDeletedEvent;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 게시글과 하위 데이터(신청, 알림, 찜, 채팅방, 채팅방 참여 정보)를 테이블별 일괄 UPDATE 로 soft delete
+// 엔티티 그래프를 순회하지 않으므로 하위 데이터 수와 관계없이 테이블당 한 문장으로 처리됨
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardDeletionService {
+    private final BoardRepository boardRepository;
+    private final EnrollRepository enrollRepository;
+    private final NotificationRepository notificationRepository;
+    private final BookMarkRepository bookMarkRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserChatRoomRepository userChatRoomRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final UnreadBadgeService unreadBadgeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    // 탈퇴 요청 트랜잭션 안에서 바로 삭제할 최대 게시글 수 (넘으면 커밋 후 UserDeletedEvent 를 받아 비동기로 처리)
+    @Value("${board.deletion.sync-limit:20}")
+    private int syncLimit;
+
+    @Value("${board.deletion.chunk-size:200}")
+    private int chunkSize;
+
+    @Transactional
+    public void softDeleteBoards(List<Long> boardIdList) {
+        if (boardIdList.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime deletedAt = LocalDateTime.now();
+        long completedBoardCount = boardRepository.countByIdInAndDeletedAtIsNullAndIsCompletedIsTrue(boardIdList);
+        List<Long> chatRoomIdList = chatRoomRepository.findIdsByBoardIdIn(boardIdList);
+        // 일괄 UPDATE 는 엔티티를 거치지 않으므로 삭제 전에 사용자별 읽지 않은 알림 수를 구해 배지에서 차감
+        List<UnreadNotificationCount> unreadCountList = notificationRepository.countUnreadByUserForBoardIdIn(boardIdList);
+
+        enrollRepository.softDeleteAllByBoardIdIn(boardIdList, deletedAt);
+        notificationRepository.softDeleteAllByBoardIdIn(boardIdList, deletedAt);
+        unreadCountList.forEach(unreadCount ->
+                unreadBadgeService.onNotificationRead(unreadCount.userId(), Math.toIntExact(unreadCount.count())));
+        bookMarkRepository.softDeleteAllByBoardIdIn(boardIdList, deletedAt);
+        if (!chatRoomIdList.isEmpty()) {
+            userChatRoomRepository.softDeleteAllByChatRoomIdIn(chatRoomIdList, deletedAt);
+            chatRoomRepository.softDeleteAllByIdIn(chatRoomIdList, deletedAt);
+        }
+        boardRepository.softDeleteAllByIdIn(boardIdList, deletedAt);
+        eventPublisher.publishEvent(new BoardsDeletedEvent(boardIdList, completedBoardCount));
+
+        // 삭제된 채팅방의 모든 참여자 캐시는 커밋 이후 무효화
+        runAfterCommit(() -> chatRoomIdList.forEach(chatRoomMembershipCache::evictChatRoom));
+    }
+
+    // 탈퇴한 사용자의 게시글 삭제
+    // 게시글 수가 적으면 현재 트랜잭션에서 처리하고, 많으면 남겨 두었다가 커밋 이후 청크 단위로 나누어 처리
+    @Transactional
+    public void softDeleteBoardsOfUser(Long userId) {
+        List<Long> boardIdList = boardRepository.findActiveIdsByUserId(userId, 0L, PageRequest.of(0, syncLimit + 1));
+        if (boardIdList.size() <= syncLimit) {
+            softDeleteBoards(boardIdList);
+        }
+    }
+
+    // 동기 처리 한도 이내였다면 남은 게시글이 없어 조회 한 번으로 끝남
+    // 커밋 후 메모리에서만 넘겨받는 작업이라 처리 전에 종료되면 유실되며, 남은 게시글은 DeletedUserBoardSweepScheduler 가 다시 정리
+    @Async("asyncTask")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleUserDeleted(UserDeletedEvent event) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long deletedCount = 0;
+        Long lastBoardId = 0L;
+
+        while (true) {
+            Long fromBoardId = lastBoardId;
+            List<Long> boardIdList = boardRepository.findActiveIdsByUserId(event.userId(), fromBoardId, PageRequest.of(0, chunkSize));
+            if (boardIdList.isEmpty()) {
+                break;
+            }
+
+            // 청크마다 커밋하여 한 트랜잭션이 오래 락을 잡지 않도록 함
+            transactionTemplate.executeWithoutResult(status -> softDeleteBoards(boardIdList));
+            lastBoardId = boardIdList.get(boardIdList.size() - 1);
+            deletedCount += boardIdList.size();
+        }
+        log.info("Boards of deleted user cleaned: userId={}, boards={}", event.userId(), deletedCount);
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        }
+    }
+}
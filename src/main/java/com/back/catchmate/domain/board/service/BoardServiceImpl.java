@@ -8,12 +8,14 @@ import com.back.catchmate.domain.board.dto.BoardResponse.LiftUpStatusInfo;
 import com.back.catchmate.domain.board.dto.BoardResponse.PagedBoardInfo;
 import com.back.catchmate.domain.board.dto.BoardResponse.TempBoardInfo;
 import com.back.catchmate.domain.board.entity.Board;
+import com.back.catchmate.domain.board.event.BoardCompletedEvent;
 import com.back.catchmate.domain.board.repository.BoardRepository;
 import com.back.catchmate.domain.board.repository.BookMarkRepository;
 import com.back.catchmate.domain.chat.converter.ChatRoomConverter;
 import com.back.catchmate.domain.chat.converter.UserChatRoomConverter;
 import com.back.catchmate.domain.chat.entity.ChatRoom;
 import com.back.catchmate.domain.chat.entity.UserChatRoom;
+import com.back.catchmate.domain.chat.expiry.ChatMessageExpiryResolver;
 import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
 import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
 import com.back.catchmate.domain.club.entity.Club;
@@ -32,6 +34,7 @@ import com.back.catchmate.domain.user.repository.UserRepository;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -49,12 +52,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class BoardServiceImpl implements BoardService {
     private final ClubService clubService;
+    private final BoardDeletionService boardDeletionService;
     private final GameRepository gameRepository;
     private final ClubRepository clubRepository;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final EnrollRepository enrollRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageExpiryResolver chatMessageExpiryResolver;
     private final BookMarkRepository bookMarkRepository;
     private final BlockedUserRepository blockedUserRepository;
     private final UserChatRoomRepository userChatRoomRepository;
@@ -62,6 +67,7 @@ public class BoardServiceImpl implements BoardService {
     private final BoardConverter boardConverter;
     private final ChatRoomConverter chatRoomConverter;
     private final UserChatRoomConverter userChatRoomConverter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -119,7 +125,17 @@ public class BoardServiceImpl implements BoardService {
             createChatRoom(board, user);
         }
 
+        // 경기가 변경되면 채팅 메시지 만료 시간도 새 경기 기준으로 변경
+        if (board.getChatRoom() != null && !board.getGame().getId().equals(game.getId())) {
+            chatMessageExpiryResolver.reschedule(board.getChatRoom().getId(), game.getGameStartDate());
+        }
+
+        boolean wasCompleted = Boolean.TRUE.equals(board.getIsCompleted());
         board.updateBoard(cheerClub, game, request);
+        // 임시 저장 게시글이 완료되는 시점에 게시글 수 통계에 반영
+        if (!wasCompleted && Boolean.TRUE.equals(board.getIsCompleted())) {
+            eventPublisher.publishEvent(new BoardCompletedEvent(board.getId(), board.getClub().getId()));
+        }
         return board;
     }
 
@@ -135,6 +151,7 @@ public class BoardServiceImpl implements BoardService {
 
         if (request.getIsCompleted()) {
             createChatRoom(board, user);
+            eventPublisher.publishEvent(new BoardCompletedEvent(savedBoard.getId(), savedBoard.getClub().getId()));
         }
 
         return savedBoard;
@@ -243,7 +260,7 @@ public class BoardServiceImpl implements BoardService {
 
         validateBoardOwner(user, board, ErrorCode.BOARD_DELETE_BAD_REQUEST);
 
-        board.deleteBoard();
+        boardDeletionService.softDeleteBoards(List.of(board.getId()));
         return boardConverter.toBoardDeleteInfo(boardId);
     }
 
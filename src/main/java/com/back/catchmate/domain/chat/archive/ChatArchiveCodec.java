@@ -0,0 +1,133 @@
+package com.back.catchmate.domain.chat.archive;
+
+import com.back.catchmate.domain.chat.entity.ChatMessage;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채팅 아카이브 파일 포맷 (GZIP 압축)
+ * [MAGIC(int)] + [RECORD_MARKER(byte) + 메시지]* + [END_MARKER(byte)]
+ * 메시지: ObjectId(12 bytes), chatRoomId(long), senderId, sendTime, content, messageType (nullable 필드는 존재 여부 byte 선행)
+ */
+@Component
+public class ChatArchiveCodec {
+    private static final int MAGIC = 0x434D4131; // "CMA1"
+    private static final byte RECORD_MARKER = 1;
+    private static final byte END_MARKER = 0;
+
+    // 메시지를 순서대로 기록하고 마지막으로 기록한 메시지 ID를 반환 (메시지가 없으면 null)
+    public ObjectId encode(Iterator<ChatMessage> messages, OutputStream outputStream) throws IOException {
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+        DataOutputStream out = new DataOutputStream(gzipOutputStream);
+        out.writeInt(MAGIC);
+
+        ObjectId lastMessageId = null;
+        while (messages.hasNext()) {
+            ChatMessage message = messages.next();
+            out.writeByte(RECORD_MARKER);
+            writeMessage(out, message);
+            lastMessageId = message.getId();
+        }
+
+        out.writeByte(END_MARKER);
+        out.flush();
+        gzipOutputStream.finish();
+        return lastMessageId;
+    }
+
+    public void decode(InputStream inputStream, Consumer<ChatMessage> consumer) throws IOException {
+        DataInputStream in = new DataInputStream(new GZIPInputStream(inputStream));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Invalid chat archive format");
+        }
+
+        while (in.readByte() == RECORD_MARKER) {
+            consumer.accept(readMessage(in));
+        }
+    }
+
+    private void writeMessage(DataOutputStream out, ChatMessage message) throws IOException {
+        out.write(message.getId().toByteArray());
+        out.writeLong(message.getChatRoomId());
+        writeNullableLong(out, message.getSenderId());
+        writeNullableDateTime(out, message.getSendTime());
+        writeNullableString(out, message.getContent());
+        writeNullableString(out, message.getMessageType());
+    }
+
+    private ChatMessage readMessage(DataInputStream in) throws IOException {
+        byte[] objectId = new byte[12];
+        in.readFully(objectId);
+
+        return ChatMessage.builder()
+                .id(new ObjectId(objectId))
+                .chatRoomId(in.readLong())
+                .senderId(readNullableLong(in))
+                .sendTime(readNullableDateTime(in))
+                .content(readNullableString(in))
+                .messageType(readNullableString(in))
+                .build();
+    }
+
+    private void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private Long readNullableLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private void writeNullableDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private LocalDateTime readNullableDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    // writeUTF는 64KB 제한이 있으므로 길이(int) + UTF-8 바이트로 기록 (null은 -1)
+    private void writeNullableString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readNullableString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
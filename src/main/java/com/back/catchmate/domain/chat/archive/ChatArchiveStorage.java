@@ -0,0 +1,9 @@
+package com.back.catchmate.domain.chat.archive;
+
+import java.io.IOException;
+
+public interface ChatArchiveStorage {
+    void write(String key, byte[] data) throws IOException;
+
+    byte[] read(String key) throws IOException;
+}
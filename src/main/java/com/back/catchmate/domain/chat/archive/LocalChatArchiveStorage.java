@@ -0,0 +1,38 @@
+package com.back.catchmate.domain.chat.archive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+// 로컬 파일 시스템에 아카이브 저장 (기본값)
+@Component
+@ConditionalOnProperty(name = "chat.archive.storage", havingValue = "local", matchIfMissing = true)
+public class LocalChatArchiveStorage implements ChatArchiveStorage {
+    private final Path basePath;
+
+    public LocalChatArchiveStorage(@Value("${chat.archive.local-path:./chat-archive}") String basePath) {
+        this.basePath = Paths.get(basePath);
+    }
+
+    @Override
+    public void write(String key, byte[] data) throws IOException {
+        Path target = basePath.resolve(key);
+        Files.createDirectories(target.getParent());
+
+        // 임시 파일에 먼저 기록한 뒤 이동하여 중간에 실패해도 깨진 파일이 남지 않도록 처리
+        Path temp = Files.createTempFile(target.getParent(), "archive", ".tmp");
+        Files.write(temp, data);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public byte[] read(String key) throws IOException {
+        return Files.readAllBytes(basePath.resolve(key));
+    }
+}
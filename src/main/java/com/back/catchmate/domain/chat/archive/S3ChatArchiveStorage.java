@@ -0,0 +1,28 @@
+package com.back.catchmate.domain.chat.archive;
+
+import com.back.catchmate.global.s3.S3Service;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// S3에 아카이브 저장 (chat.archive.storage=s3)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.archive.storage", havingValue = "s3")
+public class S3ChatArchiveStorage implements ChatArchiveStorage {
+    private static final String CONTENT_TYPE = "application/gzip";
+
+    private final S3Service s3Service;
+
+    @Override
+    public void write(String key, byte[] data) {
+        s3Service.uploadBytes(key, data, CONTENT_TYPE);
+    }
+
+    @Override
+    public byte[] read(String key) throws IOException {
+        return s3Service.downloadBytes(key);
+    }
+}
@@ -4,7 +4,10 @@ import com.back.catchmate.domain.chat.dto.ChatRequest.ChatMessageRequest;
 import com.back.catchmate.domain.chat.dto.ChatRequest.ReadChatMessageRequest;
 import com.back.catchmate.domain.chat.dto.ChatResponse.PagedChatMessageInfo;
 import com.back.catchmate.domain.chat.service.ChatService;
+import com.back.catchmate.global.error.ErrorResponse;
+import com.back.catchmate.global.error.exception.BaseException;
 import com.back.catchmate.global.jwt.JwtValidation;
+import com.back.catchmate.global.ratelimit.RateLimit;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,9 +17,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -35,8 +41,10 @@ public class ChatController {
 
     @SendTo("/topic/chat.{chatRoomId}")
     @MessageMapping("/chat.{chatRoomId}")
+    @RateLimit(name = "chat.send", capacity = 20, refillPerMinute = 60)
     public void sendMessage(@DestinationVariable Long chatRoomId,
-                            @Payload ChatMessageRequest request) throws IOException, FirebaseMessagingException {
+                            @Payload ChatMessageRequest request,
+                            SimpMessageHeaderAccessor headerAccessor) throws IOException, FirebaseMessagingException {
         chatService.sendChatMessage(chatRoomId, request);
     }
 
@@ -46,6 +54,15 @@ public class ChatController {
         chatService.updateLastReadTime(request);
     }
 
+    // STOMP 메시지 처리 중 발생한 예외(요청 수 제한 초과 등)를 보낸 세션에만 전달
+    // 클라이언트는 /user/queue/errors 를 구독하여 수신
+    @MessageExceptionHandler(BaseException.class)
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public ErrorResponse handleMessageException(BaseException e) {
+        log.warn("STOMP message rejected: {}", e.getMessage());
+        return new ErrorResponse(e.getHttpStatus(), e.getMessage());
+    }
+
     @GetMapping("/{chatRoomId}")
     @Operation(summary = "특정 채팅방의 채팅 내역 조회 API", description = "특정 채팅방의 채팅 내역 조회 API 입니다.")
     public PagedChatMessageInfo findChatMessageList(@JwtValidation Long userId,
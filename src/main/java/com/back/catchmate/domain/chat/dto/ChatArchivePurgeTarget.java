@@ -0,0 +1,5 @@
+package com.back.catchmate.domain.chat.dto;
+
+// 아카이브가 끝났지만 MongoDB 원본 삭제가 확인되지 않은 채팅방
+public record ChatArchivePurgeTarget(Long chatRoomId, String archivedUntilMessageId) {
+}
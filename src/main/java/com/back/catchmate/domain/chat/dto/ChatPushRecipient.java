@@ -0,0 +1,10 @@
+package com.back.catchmate.domain.chat.dto;
+
+// 채팅 푸시 수신 대상 판단에 필요한 값만 조회한 프로젝션
+public record ChatPushRecipient(Long userId, String fcmToken, boolean notificationEnabled, Character chatAlarm) {
+    public boolean canReceive() {
+        return fcmToken != null && !fcmToken.isBlank()
+                && notificationEnabled
+                && Character.valueOf('Y').equals(chatAlarm);
+    }
+}
@@ -0,0 +1,51 @@
+package com.back.catchmate.domain.chat.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 채팅방 아카이브를 메시지 ID 구간별로 나눈 파일 (페이지 조회 시 커서 이전 구간의 파일만 읽음)
+// ObjectId 의 16진수 문자열은 길이가 같아 문자열 비교 순서가 ID 순서와 같음
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "chat_archive_chunks", indexes = {
+        @Index(name = "idx_chat_archive_chunks_room_first", columnList = "chat_room_id, first_message_id")
+})
+public class ChatArchiveChunk {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chat_archive_chunk_id")
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "first_message_id", nullable = false, length = 24)
+    private String firstMessageId;
+
+    @Column(name = "last_message_id", nullable = false, length = 24)
+    private String lastMessageId;
+
+    @Column(nullable = false)
+    private String archiveKey;
+
+    @Column(nullable = false)
+    private int messageCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -23,4 +23,10 @@ public class ChatMessage {
     private Long senderId;
     private LocalDateTime sendTime;
     private String messageType;
+    // TTL 인덱스 기준 시간 (경기 시작일 + 보관 기간, 저장 시 자동 설정)
+    private LocalDateTime expireAt;
+
+    public void updateExpireAt(LocalDateTime expireAt) {
+        this.expireAt = expireAt;
+    }
 }
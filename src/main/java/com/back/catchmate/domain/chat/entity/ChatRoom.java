@@ -17,12 +17,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// 참여자 수는 원자적 UPDATE 로 변경되므로, 엔티티 수정 시에는 변경된 컬럼만 갱신
 @Entity
+@DynamicUpdate
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -52,6 +55,17 @@ public class ChatRoom extends BaseTimeEntity {
 
     private String chatRoomImage;
 
+    // 아카이브 파일 위치 (아카이브되지 않은 채팅방은 null)
+    private String archiveKey;
+
+    // 아카이브 파일에 포함된 마지막 메시지 ID
+    private String archivedUntilMessageId;
+
+    private LocalDateTime archivedAt;
+
+    // 아카이브된 구간의 MongoDB 원본 삭제가 완료된 시각 (null 이면 다음 아카이브 작업에서 다시 삭제)
+    private LocalDateTime archivePurgedAt;
+
     // 채팅방에 메시지가 있을 때 마지막 메시지 시간 업데이트
     public void updateLastMessageTime() {
         this.lastMessageAt = LocalDateTime.now();
@@ -79,10 +93,13 @@ public class ChatRoom extends BaseTimeEntity {
         this.lastMessageContent = content;
     }
 
-    public void deleteChatRoom() {
-        for (UserChatRoom userChatRoom : userChatRoomList) {
-            userChatRoom.delete();
-        }
-        super.delete();
+    public void archive(String archiveKey, String archivedUntilMessageId) {
+        this.archiveKey = archiveKey;
+        this.archivedUntilMessageId = archivedUntilMessageId;
+        this.archivedAt = LocalDateTime.now();
+    }
+
+    public boolean isArchived() {
+        return this.archiveKey != null;
     }
 }
@@ -2,6 +2,7 @@ package com.back.catchmate.domain.chat.entity;
 
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.global.entity.BaseTimeEntity;
+import com.back.catchmate.global.entity.IdSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -10,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -28,7 +30,9 @@ import java.time.ZoneId;
 @Table(name = "user_chat_rooms")
 public class UserChatRoom extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 일괄 수락 시 여러 건을 한 번에 저장하므로 INSERT 배치가 가능한 시퀀스 사용
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_chat_rooms_seq")
+    @SequenceGenerator(name = "user_chat_rooms_seq", sequenceName = "user_chat_rooms_seq", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "user_chat_room_id")
     private Long id;
 
@@ -0,0 +1,5 @@
+package com.back.catchmate.domain.chat.event;
+
+// 사용자가 채팅방에 일반 메시지를 전송한 경우 발행 (날짜, 입장/퇴장 메시지 제외)
+public record ChatMessageSentEvent(Long chatRoomId, Long clubId) {
+}
@@ -0,0 +1,21 @@
+package com.back.catchmate.domain.chat.expiry;
+
+import com.back.catchmate.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+// 채팅 메시지 저장 직전에 TTL 만료 시간 설정
+@Component
+@RequiredArgsConstructor
+public class ChatMessageExpireAtCallback implements BeforeConvertCallback<ChatMessage> {
+    private final ChatMessageExpiryResolver chatMessageExpiryResolver;
+
+    @Override
+    public ChatMessage onBeforeConvert(ChatMessage chatMessage, String collection) {
+        if (chatMessage.getExpireAt() == null && chatMessage.getChatRoomId() != null) {
+            chatMessage.updateExpireAt(chatMessageExpiryResolver.resolve(chatMessage.getChatRoomId()));
+        }
+        return chatMessage;
+    }
+}
@@ -0,0 +1,81 @@
+package com.back.catchmate.domain.chat.expiry;
+
+import com.back.catchmate.domain.chat.repository.ChatMessageRepository;
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅방별 메시지 만료 시간 계산 (경기 시작일 + 보관 기간)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageExpiryResolver {
+    private static final int MAX_CACHE_SIZE = 10_000;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+
+    // 메시지 저장마다 DB를 조회하지 않도록 채팅방별 만료 시간 캐싱
+    private final ConcurrentHashMap<Long, LocalDateTime> expireAtCache = new ConcurrentHashMap<>();
+
+    @Value("${chat.message.retention-days:7}")
+    private long retentionDays;
+
+    public LocalDateTime resolve(Long chatRoomId) {
+        LocalDateTime cached = expireAtCache.get(chatRoomId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 게시글/경기 정보를 아직 조회할 수 없는 채팅방은 현재 시각 기준으로 보관하고 캐싱하지 않음
+        // (경기 정보가 연결되면 다음 메시지부터 경기 시작일 기준으로 계산됨)
+        LocalDateTime gameStartDate = chatRoomRepository.findGameStartDateById(chatRoomId).orElse(null);
+        if (gameStartDate == null) {
+            return toExpireAt(LocalDateTime.now());
+        }
+
+        LocalDateTime expireAt = toExpireAt(gameStartDate);
+        if (expireAtCache.size() >= MAX_CACHE_SIZE) {
+            expireAtCache.clear();
+        }
+        expireAtCache.put(chatRoomId, expireAt);
+        return expireAt;
+    }
+
+    // 게시글의 경기가 변경된 경우 이미 저장된 메시지의 만료 시간도 함께 갱신
+    public void reschedule(Long chatRoomId, LocalDateTime gameStartDate) {
+        LocalDateTime expireAt = toExpireAt(gameStartDate);
+        expireAtCache.remove(chatRoomId);
+
+        Runnable update = () -> {
+            try {
+                chatMessageRepository.updateExpireAt(chatRoomId, expireAt, false);
+            } catch (Exception e) {
+                log.error("Chat message expireAt update failed: chatRoomId={}", chatRoomId, e);
+            }
+        };
+
+        // MongoDB는 JPA 트랜잭션에 참여하지 않으므로 커밋 이후 반영
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    public LocalDateTime toExpireAt(LocalDateTime gameStartDate) {
+        return gameStartDate.plusDays(retentionDays);
+    }
+}
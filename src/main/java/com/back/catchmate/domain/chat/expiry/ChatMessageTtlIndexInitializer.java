@@ -0,0 +1,43 @@
+package com.back.catchmate.domain.chat.expiry;
+
+import com.back.catchmate.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// chatting_content 컬렉션 인덱스 생성 (이미 존재하면 MongoDB가 무시)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.message.index-bootstrap", havingValue = "true", matchIfMissing = true)
+public class ChatMessageTtlIndexInitializer {
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            // expireAt 시각이 지나면 MongoDB TTL 모니터가 백그라운드에서 문서 삭제
+            mongoTemplate.indexOps(ChatMessage.class).ensureIndex(new Index()
+                    .on("expireAt", Sort.Direction.ASC)
+                    .expire(Duration.ZERO)
+                    .named("idx_chatting_content_expire_at"));
+
+            // 채팅방별 조회 및 페이징용
+            mongoTemplate.indexOps(ChatMessage.class).ensureIndex(new Index()
+                    .on("chatRoomId", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.DESC)
+                    .named("idx_chatting_content_chat_room_id"));
+            log.info("Chat message indexes ensured");
+        } catch (Exception e) {
+            log.error("Chat message index creation failed", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.back.catchmate.domain.chat.membership;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+// 단일 인스턴스 / 테스트용 (다른 인스턴스가 없으므로 전파하지 않음)
+@Component
+@ConditionalOnProperty(name = "chat.membership-cache.broadcast", havingValue = "memory")
+public class LocalMembershipEvictionBroadcaster implements MembershipEvictionBroadcaster {
+
+    @Override
+    public void publish(MembershipEviction eviction) {
+    }
+
+    @Override
+    public void subscribe(Consumer<MembershipEviction> listener) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.back.catchmate.domain.chat.membership;
+
+// 무효화 대상 (사용자 한 명 또는 채팅방 하나에 참여중인 모든 사용자)
+public record MembershipEviction(Type type, Long id) {
+    private static final String DELIMITER = ":";
+
+    public enum Type {
+        USER, CHAT_ROOM
+    }
+
+    public static MembershipEviction ofUser(Long userId) {
+        return new MembershipEviction(Type.USER, userId);
+    }
+
+    public static MembershipEviction ofChatRoom(Long chatRoomId) {
+        return new MembershipEviction(Type.CHAT_ROOM, chatRoomId);
+    }
+
+    public String encode() {
+        return type.name() + DELIMITER + id;
+    }
+
+    public static MembershipEviction decode(String message) {
+        String[] parts = message.split(DELIMITER, 2);
+        return new MembershipEviction(Type.valueOf(parts[0]), Long.valueOf(parts[1]));
+    }
+}
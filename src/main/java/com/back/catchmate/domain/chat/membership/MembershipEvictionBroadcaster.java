@@ -0,0 +1,10 @@
+package com.back.catchmate.domain.chat.membership;
+
+import java.util.function.Consumer;
+
+// 채팅방 참여 캐시 무효화를 모든 인스턴스에 전파
+public interface MembershipEvictionBroadcaster {
+    void publish(MembershipEviction eviction);
+
+    void subscribe(Consumer<MembershipEviction> listener);
+}
@@ -0,0 +1,62 @@
+package com.back.catchmate.domain.chat.membership;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+// Redis pub/sub 기반 전파 (여러 인스턴스가 같은 Redis를 바라보는 운영 환경용)
+// 퇴장/강제 퇴장을 처리하지 않은 인스턴스에 남아 있는 세션도 바로 권한을 잃도록 함
+// 메시지가 유실되더라도 캐시 TTL 이내에는 반영됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.membership-cache.broadcast", havingValue = "redis", matchIfMissing = true)
+public class RedisMembershipEvictionBroadcaster implements MembershipEvictionBroadcaster {
+    private static final ChannelTopic TOPIC = new ChannelTopic("chat:membership:evict");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Override
+    public void publish(MembershipEviction eviction) {
+        try {
+            redisTemplate.convertAndSend(TOPIC.getTopic(), eviction.encode());
+        } catch (Exception e) {
+            log.warn("Membership eviction publish failed: {}", eviction, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<MembershipEviction> listener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(MembershipEviction.decode(new String(message.getBody(), StandardCharsets.UTF_8)));
+            } catch (Exception e) {
+                log.warn("Membership eviction message ignored", e);
+            }
+        }, TOPIC);
+        container.afterPropertiesSet();
+        container.start();
+        listenerContainer = container;
+    }
+
+    @PreDestroy
+    void shutdown() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+}
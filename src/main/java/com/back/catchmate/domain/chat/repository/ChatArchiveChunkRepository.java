@@ -0,0 +1,25 @@
+package com.back.catchmate.domain.chat.repository;
+
+import com.back.catchmate.domain.chat.entity.ChatArchiveChunk;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ChatArchiveChunkRepository extends JpaRepository<ChatArchiveChunk, Long> {
+    // 중단된 아카이브를 이어서 진행할 위치
+    Optional<ChatArchiveChunk> findTopByChatRoomIdOrderByLastMessageIdDesc(Long chatRoomId);
+
+    List<ChatArchiveChunk> findByChatRoomIdOrderByFirstMessageIdDesc(Long chatRoomId, Pageable pageable);
+
+    // 커서 이전 메시지를 포함하는 구간을 최신순으로 조회
+    @Query("SELECT c FROM ChatArchiveChunk c " +
+            "WHERE c.chatRoomId = :chatRoomId AND c.firstMessageId < :cursor " +
+            "ORDER BY c.firstMessageId DESC")
+    List<ChatArchiveChunk> findChunksBefore(@Param("chatRoomId") Long chatRoomId,
+                                            @Param("cursor") String cursor,
+                                            Pageable pageable);
+}
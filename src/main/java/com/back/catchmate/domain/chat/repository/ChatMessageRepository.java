@@ -7,8 +7,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
-public interface ChatMessageRepository extends MongoRepository<ChatMessage, String> {
+public interface ChatMessageRepository extends MongoRepository<ChatMessage, String>, ChatMessageRepositoryCustom {
     Page<ChatMessage> findByChatRoomIdOrderByIdDesc(Long chatRoomId, Pageable pageable);
 
     Page<ChatMessage> findByChatRoomIdAndIdLessThanOrderByIdDesc(Long chatRoomId, ObjectId id, Pageable pageable);
@@ -17,5 +18,9 @@ public interface ChatMessageRepository extends MongoRepository<ChatMessage, Stri
 
     long countByChatRoomIdAndSendTimeGreaterThanAndMessageType(Long chatRoomId, LocalDateTime lastReadTime, String messageType);
 
-    void deleteAllByChatRoomId(Long chatRoomId);
+    // 아카이브 시 채팅방의 메시지를 커서로 순차 조회 (호출 측에서 반드시 close)
+    Stream<ChatMessage> findAllByChatRoomIdOrderByIdAsc(Long chatRoomId);
+
+    // 중단된 아카이브를 마지막으로 저장한 구간 이후부터 이어서 조회
+    Stream<ChatMessage> findAllByChatRoomIdAndIdGreaterThanOrderByIdAsc(Long chatRoomId, ObjectId id);
 }
@@ -0,0 +1,15 @@
+package com.back.catchmate.domain.chat.repository;
+
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface ChatMessageRepositoryCustom {
+    long removeArchivedMessages(Map<Long, ObjectId> archivedUntilMap);
+
+    List<Long> findChatRoomIdsWithoutExpireAt(int limit);
+
+    long updateExpireAt(Long chatRoomId, LocalDateTime expireAt, boolean onlyMissing);
+}
@@ -0,0 +1,65 @@
+package com.back.catchmate.domain.chat.repository;
+
+import com.back.catchmate.domain.chat.entity.ChatMessage;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    // 아카이브가 완료된 채팅방들의 메시지를 한 번의 bulk 요청으로 삭제
+    // 아카이브 도중 새로 들어온 메시지는 남겨두기 위해 채팅방별로 아카이브된 마지막 메시지 ID 이하만 삭제
+    @Override
+    public long removeArchivedMessages(Map<Long, ObjectId> archivedUntilMap) {
+        if (archivedUntilMap.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class);
+        archivedUntilMap.forEach((chatRoomId, archivedUntil) -> bulkOperations.remove(
+                Query.query(Criteria.where("chatRoomId").is(chatRoomId).and("_id").lte(archivedUntil))
+        ));
+
+        BulkWriteResult result = bulkOperations.execute();
+        return result.getDeletedCount();
+    }
+
+    // expireAt 이 없는 (TTL 도입 이전) 메시지가 남아있는 채팅방 ID 조회
+    @Override
+    public List<Long> findChatRoomIdsWithoutExpireAt(int limit) {
+        // distinct 는 전체 채팅방 ID를 가져오므로 aggregation 으로 서버에서 limit 까지 처리
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("expireAt").exists(false)),
+                Aggregation.group("chatRoomId"),
+                Aggregation.limit(limit)
+        );
+        return mongoTemplate.aggregate(aggregation, ChatMessage.class, Document.class).getMappedResults().stream()
+                .map(document -> ((Number) document.get("_id")).longValue())
+                .toList();
+    }
+
+    @Override
+    public long updateExpireAt(Long chatRoomId, LocalDateTime expireAt, boolean onlyMissing) {
+        Criteria criteria = Criteria.where("chatRoomId").is(chatRoomId);
+        if (onlyMissing) {
+            criteria.and("expireAt").exists(false);
+        }
+
+        UpdateResult result = mongoTemplate.updateMulti(Query.query(criteria), Update.update("expireAt", expireAt), ChatMessage.class);
+        return result.getModifiedCount();
+    }
+}
@@ -1,20 +1,53 @@
 package com.back.catchmate.domain.chat.repository;
 
+import com.back.catchmate.domain.chat.dto.ChatArchivePurgeTarget;
 import com.back.catchmate.domain.chat.entity.ChatRoom;
-import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Optional<ChatRoom> findByIdAndDeletedAtIsNull(Long chatRoomId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT c FROM ChatRoom c WHERE c.board.id = :boardId AND c.deletedAt IS NULL")
-    Optional<ChatRoom> findByBoardIdWithLock(@Param("boardId") Long boardId);
-
     boolean existsByBoardId(Long boardId);
+
+    @Query("SELECT c.board.game.gameStartDate FROM ChatRoom c WHERE c.id = :chatRoomId")
+    Optional<LocalDateTime> findGameStartDateById(@Param("chatRoomId") Long chatRoomId);
+
+    @Query("SELECT c.id FROM ChatRoom c WHERE c.board.id IN :boardIds")
+    List<Long> findIdsByBoardIdIn(@Param("boardIds") List<Long> boardIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChatRoom c SET c.deletedAt = :deletedAt WHERE c.id IN :chatRoomIds AND c.deletedAt IS NULL")
+    int softDeleteAllByIdIn(@Param("chatRoomIds") List<Long> chatRoomIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 경기가 끝나 아카이브 대상이 된 채팅방 ID 조회
+    @Query("SELECT c.id FROM ChatRoom c " +
+            "WHERE c.archiveKey IS NULL AND c.deletedAt IS NULL AND c.board.game.gameStartDate < :threshold " +
+            "ORDER BY c.id ASC")
+    List<Long> findArchivableChatRoomIds(@Param("threshold") LocalDateTime threshold);
+
+    // 아카이브는 끝났지만 MongoDB 원본 삭제가 완료되지 않은 채팅방
+    @Query("SELECT new com.back.catchmate.domain.chat.dto.ChatArchivePurgeTarget(c.id, c.archivedUntilMessageId) " +
+            "FROM ChatRoom c WHERE c.archiveKey IS NOT NULL AND c.archivePurgedAt IS NULL ORDER BY c.id ASC")
+    List<ChatArchivePurgeTarget> findArchivePurgeTargets(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChatRoom c SET c.archivePurgedAt = :purgedAt WHERE c.id IN :chatRoomIds")
+    int markArchivePurged(@Param("chatRoomIds") List<Long> chatRoomIds, @Param("purgedAt") LocalDateTime purgedAt);
+
+    // 참여자 수를 행 잠금 조회 없이 원자적으로 증감
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom c SET c.participantCount = c.participantCount + :count WHERE c.board.id = :boardId AND c.deletedAt IS NULL")
+    int incrementParticipantCountByBoardId(@Param("boardId") Long boardId, @Param("count") int count);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom c SET c.participantCount = c.participantCount - 1 WHERE c.id = :chatRoomId AND c.participantCount > 0")
+    int decrementParticipantCount(@Param("chatRoomId") Long chatRoomId);
 }
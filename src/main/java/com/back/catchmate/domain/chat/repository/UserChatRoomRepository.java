@@ -1,11 +1,16 @@
 package com.back.catchmate.domain.chat.repository;
 
+import com.back.catchmate.domain.chat.dto.ChatPushRecipient;
 import com.back.catchmate.domain.chat.entity.UserChatRoom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,7 +26,21 @@ public interface UserChatRoomRepository extends JpaRepository<UserChatRoom, Long
             "ORDER BY cr.lastMessageAt DESC")
     Page<UserChatRoom> findAllByUserId(Long userId, Pageable pageable);
 
+    // 참여자별 사용자 정보를 함께 조회 (N+1 방지)
+    @EntityGraph(attributePaths = "user")
     List<UserChatRoom> findByChatRoomIdAndDeletedAtIsNull(Long chatRoomId);
 
     List<UserChatRoom> findByUserIdAndDeletedAtIsNull(Long userId);
+
+    // 채팅 푸시 대상 조회 (엔티티를 로딩하지 않고 필요한 컬럼만 한 번에 조회)
+    @Query("SELECT new com.back.catchmate.domain.chat.dto.ChatPushRecipient(u.id, u.fcmToken, ucr.isNotificationEnabled, u.chatAlarm) " +
+            "FROM UserChatRoom ucr JOIN ucr.user u " +
+            "WHERE ucr.chatRoom.id = :chatRoomId " +
+            "AND ucr.deletedAt IS NULL " +
+            "AND u.deletedAt IS NULL")
+    List<ChatPushRecipient> findPushRecipientsByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserChatRoom ucr SET ucr.deletedAt = :deletedAt WHERE ucr.chatRoom.id IN :chatRoomIds AND ucr.deletedAt IS NULL")
+    int softDeleteAllByChatRoomIdIn(@Param("chatRoomIds") List<Long> chatRoomIds, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -0,0 +1,15 @@
+package com.back.catchmate.domain.chat.service;
+
+import com.back.catchmate.domain.chat.entity.ChatMessage;
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import org.bson.types.ObjectId;
+
+import java.util.List;
+
+public interface ChatArchiveService {
+    ObjectId archiveChatRoom(Long chatRoomId);
+
+    int removeArchivedMessages();
+
+    List<ChatMessage> getArchivedMessageList(ChatRoom chatRoom, ObjectId lastMessageId, int size);
+}
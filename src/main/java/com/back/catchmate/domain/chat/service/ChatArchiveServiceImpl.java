@@ -0,0 +1,188 @@
+package com.back.catchmate.domain.chat.service;
+
+import com.back.catchmate.domain.chat.archive.ChatArchiveCodec;
+import com.back.catchmate.domain.chat.archive.ChatArchiveStorage;
+import com.back.catchmate.domain.chat.dto.ChatArchivePurgeTarget;
+import com.back.catchmate.domain.chat.entity.ChatArchiveChunk;
+import com.back.catchmate.domain.chat.entity.ChatMessage;
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.chat.repository.ChatArchiveChunkRepository;
+import com.back.catchmate.domain.chat.repository.ChatMessageRepository;
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import com.back.catchmate.global.error.ErrorCode;
+import com.back.catchmate.global.error.exception.BaseException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatArchiveServiceImpl implements ChatArchiveService {
+    private static final String ARCHIVE_PREFIX_FORMAT = "chat-archive/%d/";
+    private static final String CHUNK_KEY_FORMAT = "chat-archive/%d/%s.cma.gz";
+    // 페이지 조회 시 한 번에 조회할 구간 수
+    private static final int CHUNK_FETCH_SIZE = 2;
+
+    private final ChatArchiveCodec chatArchiveCodec;
+    private final ChatArchiveStorage chatArchiveStorage;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatArchiveChunkRepository chatArchiveChunkRepository;
+
+    // 구간 파일 하나에 담을 최대 메시지 수
+    @Value("${chat.archive.chunk-size:500}")
+    private int chunkSize;
+
+    // 한 번의 삭제 요청으로 처리할 채팅방 수
+    @Value("${chat.archive.purge-batch-size:500}")
+    private int purgeBatchSize;
+
+    // 채팅방의 메시지를 메시지 ID 구간별 압축 파일로 아카이브하고 아카이브된 마지막 메시지 ID를 반환
+    // 구간마다 파일과 구간 정보를 저장하므로 중간에 실패해도 다음 실행에서 마지막 구간 이후부터 이어서 진행
+    // MongoDB 문서 삭제는 removeArchivedMessages 에서 아카이브된 ID 구간 기준으로 처리
+    @Override
+    public ObjectId archiveChatRoom(Long chatRoomId) {
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(() -> new BaseException(ErrorCode.CHATROOM_NOT_FOUND));
+
+        if (chatRoom.isArchived()) {
+            return null;
+        }
+
+        ObjectId archivedUntil = chatArchiveChunkRepository.findTopByChatRoomIdOrderByLastMessageIdDesc(chatRoomId)
+                .map(chunk -> new ObjectId(chunk.getLastMessageId()))
+                .orElse(null);
+
+        try (Stream<ChatMessage> chatMessageStream = (archivedUntil == null)
+                ? chatMessageRepository.findAllByChatRoomIdOrderByIdAsc(chatRoomId)
+                : chatMessageRepository.findAllByChatRoomIdAndIdGreaterThanOrderByIdAsc(chatRoomId, archivedUntil)) {
+            Iterator<ChatMessage> iterator = chatMessageStream.iterator();
+            List<ChatMessage> chunkMessageList = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                chunkMessageList.add(iterator.next());
+                if (chunkMessageList.size() == chunkSize || !iterator.hasNext()) {
+                    archivedUntil = writeChunk(chatRoomId, chunkMessageList);
+                    chunkMessageList.clear();
+                }
+            }
+        } catch (IOException e) {
+            log.error("Chat archive failed: chatRoomId={}", chatRoomId, e);
+            throw new BaseException(ErrorCode.CHAT_ARCHIVE_FAILED);
+        }
+
+        String archivePrefix = String.format(ARCHIVE_PREFIX_FORMAT, chatRoomId);
+        chatRoom.archive(archivePrefix, archivedUntil != null ? archivedUntil.toHexString() : null);
+        chatRoomRepository.save(chatRoom);
+        log.info("Chat room archived: chatRoomId={}, prefix={}, archivedUntil={}", chatRoomId, archivePrefix, archivedUntil);
+        return archivedUntil;
+    }
+
+    // 파일 키는 구간의 첫 메시지 ID로 정해지므로, 파일 저장 후 구간 정보 저장 전에 실패해도 재실행 시 같은 파일을 덮어씀
+    private ObjectId writeChunk(Long chatRoomId, List<ChatMessage> chunkMessageList) throws IOException {
+        ObjectId firstMessageId = chunkMessageList.get(0).getId();
+        String chunkKey = String.format(CHUNK_KEY_FORMAT, chatRoomId, firstMessageId.toHexString());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ObjectId lastMessageId = chatArchiveCodec.encode(chunkMessageList.iterator(), outputStream);
+        chatArchiveStorage.write(chunkKey, outputStream.toByteArray());
+
+        chatArchiveChunkRepository.save(ChatArchiveChunk.builder()
+                .chatRoomId(chatRoomId)
+                .firstMessageId(firstMessageId.toHexString())
+                .lastMessageId(lastMessageId.toHexString())
+                .archiveKey(chunkKey)
+                .messageCount(chunkMessageList.size())
+                .createdAt(LocalDateTime.now())
+                .build());
+        return lastMessageId;
+    }
+
+    // 아카이브가 끝난 채팅방의 MongoDB 원본을 아카이브된 ID 구간까지만 삭제하고 삭제 완료를 기록한 뒤 처리한 채팅방 수를 반환
+    // 같은 구간을 다시 삭제해도 결과가 같으므로, 삭제 후 기록 전에 실패하면 다음 실행에서 다시 삭제
+    @Override
+    @Transactional
+    public int removeArchivedMessages() {
+        List<ChatArchivePurgeTarget> targetList = chatRoomRepository.findArchivePurgeTargets(PageRequest.of(0, purgeBatchSize));
+        if (targetList.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, ObjectId> archivedUntilMap = new HashMap<>();
+        for (ChatArchivePurgeTarget target : targetList) {
+            if (target.archivedUntilMessageId() != null) {
+                archivedUntilMap.put(target.chatRoomId(), new ObjectId(target.archivedUntilMessageId()));
+            }
+        }
+
+        long removedCount = chatMessageRepository.removeArchivedMessages(archivedUntilMap);
+        int purgedCount = chatRoomRepository.markArchivePurged(targetList.stream().map(ChatArchivePurgeTarget::chatRoomId).toList(), LocalDateTime.now());
+        log.info("Archived chat messages removed: rooms={}, removedMessages={}", purgedCount, removedCount);
+        return purgedCount;
+    }
+
+    // lastMessageId 보다 이전 메시지 중 최신 size 개를 최신순으로 반환
+    // 커서 이전 구간의 파일만 최신 구간부터 필요한 만큼 읽음
+    @Override
+    public List<ChatMessage> getArchivedMessageList(ChatRoom chatRoom, ObjectId lastMessageId, int size) {
+        if (!chatRoom.isArchived() || chatRoom.getArchivedUntilMessageId() == null || size <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<ChatMessage> chatMessageList = new ArrayList<>(size);
+        ObjectId cursor = lastMessageId;
+        while (chatMessageList.size() < size) {
+            List<ChatArchiveChunk> chunkList = (cursor == null)
+                    ? chatArchiveChunkRepository.findByChatRoomIdOrderByFirstMessageIdDesc(chatRoom.getId(), PageRequest.of(0, CHUNK_FETCH_SIZE))
+                    : chatArchiveChunkRepository.findChunksBefore(chatRoom.getId(), cursor.toHexString(), PageRequest.of(0, CHUNK_FETCH_SIZE));
+            if (chunkList.isEmpty()) {
+                break;
+            }
+
+            for (ChatArchiveChunk chunk : chunkList) {
+                List<ChatMessage> chunkMessageList = readChunk(chatRoom.getId(), chunk, cursor);
+                for (int i = chunkMessageList.size() - 1; i >= 0 && chatMessageList.size() < size; i--) {
+                    chatMessageList.add(chunkMessageList.get(i));
+                }
+                cursor = new ObjectId(chunk.getFirstMessageId());
+                if (chatMessageList.size() == size) {
+                    break;
+                }
+            }
+        }
+        return chatMessageList;
+    }
+
+    // 구간 파일에서 커서 이전 메시지만 오래된 순으로 반환
+    private List<ChatMessage> readChunk(Long chatRoomId, ChatArchiveChunk chunk, ObjectId cursor) {
+        List<ChatMessage> chunkMessageList = new ArrayList<>(chunk.getMessageCount());
+        try {
+            byte[] data = chatArchiveStorage.read(chunk.getArchiveKey());
+            chatArchiveCodec.decode(new ByteArrayInputStream(data), chatMessage -> {
+                if (cursor == null || chatMessage.getId().compareTo(cursor) < 0) {
+                    chunkMessageList.add(chatMessage);
+                }
+            });
+        } catch (IOException e) {
+            log.error("Chat archive read failed: chatRoomId={}, key={}", chatRoomId, chunk.getArchiveKey(), e);
+            throw new BaseException(ErrorCode.CHAT_ARCHIVE_FAILED);
+        }
+        return chunkMessageList;
+    }
+}
@@ -0,0 +1,125 @@
+package com.back.catchmate.domain.chat.service;
+
+import com.back.catchmate.domain.chat.dto.ChatPushRecipient;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 채팅방별로 짧은 시간 동안 쌓인 메시지를 하나의 푸시로 묶어서 전송
+// 메시지가 몰려도 수신자는 채팅방당 window 간격으로 최대 한 번의 푸시만 받음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatPushCoalescer {
+    private final UserChatRoomRepository userChatRoomRepository;
+    private final ChatSessionService chatSessionService;
+    private final ChatPushDigestService chatPushDigestService;
+    private final UnreadBadgeService unreadBadgeService;
+    private final MeterRegistry meterRegistry;
+
+    // 채팅방별 전송 대기 중인 푸시 (chatRoomId -> PendingPush)
+    private final ConcurrentHashMap<Long, PendingPush> pendingPushMap = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-push-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${chat.push.coalesce-window-ms:1000}")
+    private long coalesceWindowMillis;
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdownNow();
+    }
+
+    public void submit(Long chatRoomId, String title, String content, Long senderId) {
+        PendingPush pendingPush = pendingPushMap.compute(chatRoomId, (key, pending) -> pending == null
+                ? PendingPush.first(title, content, senderId)
+                : pending.add(content, senderId));
+
+        if (pendingPush.messageCount() == 1) {
+            flusher.schedule(() -> flush(chatRoomId), coalesceWindowMillis, TimeUnit.MILLISECONDS);
+        } else {
+            meterRegistry.counter("chat.push.coalesced").increment();
+        }
+    }
+
+    private void flush(Long chatRoomId) {
+        PendingPush pendingPush = pendingPushMap.remove(chatRoomId);
+        if (pendingPush == null) {
+            return;
+        }
+
+        try {
+            // 전송 시점 기준으로 접속 중인 사용자는 한 번에 제외
+            Set<Long> connectedUserIds = chatSessionService.getConnectedUserIds(chatRoomId);
+            List<ChatPushRecipient> memberList = userChatRoomRepository.findPushRecipientsByChatRoomId(chatRoomId);
+
+            // 같은 참여자 조회 결과로 접속하지 않은 사용자의 읽지 않은 채팅 수도 함께 갱신
+            Map<Long, Integer> unreadCountMap = new HashMap<>();
+            memberList.stream()
+                    .filter(member -> !connectedUserIds.contains(member.userId()))
+                    .forEach(member -> {
+                        int unreadCount = pendingPush.unreadCountFor(member.userId());
+                        if (unreadCount > 0) {
+                            unreadCountMap.put(member.userId(), unreadCount);
+                        }
+                    });
+            unreadBadgeService.onChatMessages(chatRoomId, unreadCountMap);
+
+            List<ChatPushRecipient> recipientList = memberList.stream()
+                    .filter(recipient -> !pendingPush.senderIds().contains(recipient.userId()))
+                    .filter(recipient -> !connectedUserIds.contains(recipient.userId()))
+                    .filter(ChatPushRecipient::canReceive)
+                    .toList();
+
+            // 사용자별로 최근에 푸시를 받았는지에 따라 바로 전송하거나 요약 푸시로 미룸
+            if (!recipientList.isEmpty()) {
+                chatPushDigestService.deliver(chatRoomId, pendingPush.title(), pendingPush.body(), pendingPush.messageCount(), recipientList);
+            }
+        } catch (Exception e) {
+            log.error("Chat push flush failed: chatRoomId={}", chatRoomId, e);
+        }
+    }
+
+    // senderMessageCountMap: 발신자별 보낸 메시지 수 (본인이 보낸 메시지는 읽지 않은 수에서 제외)
+    private record PendingPush(String title, String latestContent, int messageCount, Map<Long, Integer> senderMessageCountMap) {
+        static PendingPush first(String title, String content, Long senderId) {
+            return new PendingPush(title, content, 1, Map.of(senderId, 1));
+        }
+
+        PendingPush add(String content, Long senderId) {
+            Map<Long, Integer> mergedSenderMessageCountMap = new HashMap<>(senderMessageCountMap);
+            mergedSenderMessageCountMap.merge(senderId, 1, Integer::sum);
+            return new PendingPush(title, content, messageCount + 1, mergedSenderMessageCountMap);
+        }
+
+        Set<Long> senderIds() {
+            return senderMessageCountMap.keySet();
+        }
+
+        int unreadCountFor(Long userId) {
+            return messageCount - senderMessageCountMap.getOrDefault(userId, 0);
+        }
+
+        String body() {
+            return messageCount == 1 ? latestContent : latestContent + " 외 " + (messageCount - 1) + "개의 메시지";
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.back.catchmate.domain.chat.service;
+
+import com.back.catchmate.domain.chat.dto.ChatPushRecipient;
+import com.back.catchmate.domain.notification.service.FCMService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 사용자-채팅방 단위로 푸시 빈도를 제한하고, window 안에 도착한 메시지는 "새 메시지 N개" 요약 푸시 하나로 묶음
+// 대화가 계속 이어지면 window를 최대값까지 늘려서 경기 중 활발한 채팅방의 푸시 수와 기기 깨우기를 줄임
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatPushDigestService {
+    private static final int MAX_DISPLAY_COUNT = 999;
+
+    private final FCMService fcmService;
+    private final MeterRegistry meterRegistry;
+
+    // 사용자-채팅방별 마지막 푸시 상태 ("userId:chatRoomId" -> DigestState)
+    private final ConcurrentHashMap<String, DigestState> digestStateMap = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService digestFlusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-push-digest");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 같은 채팅방에 대해 한 사용자에게 푸시를 보내는 최소 간격
+    @Value("${chat.push.digest.window-ms:60000}")
+    private long windowMillis;
+
+    // 요약 푸시가 연속으로 나갈 때마다 window를 두 배로 늘리는 상한
+    @Value("${chat.push.digest.max-window-ms:600000}")
+    private long maxWindowMillis;
+
+    // 메모리 사용량 상한 (초과하면 오래된 상태가 정리될 때까지 빈도 제한 없이 바로 전송)
+    @Value("${chat.push.digest.max-entries:100000}")
+    private int maxEntries;
+
+    @PreDestroy
+    void shutdown() {
+        digestFlusher.shutdownNow();
+    }
+
+    public void deliver(Long chatRoomId, String title, String body, int messageCount, List<ChatPushRecipient> recipientList) {
+        long now = System.currentTimeMillis();
+        List<String> immediateTokenList = new ArrayList<>();
+
+        for (ChatPushRecipient recipient : recipientList) {
+            if (digestStateMap.size() >= maxEntries) {
+                immediateTokenList.add(recipient.fcmToken());
+                continue;
+            }
+
+            String key = recipient.userId() + ":" + chatRoomId;
+            AtomicBoolean sendNow = new AtomicBoolean(false);
+            AtomicLong digestDelay = new AtomicLong(-1);
+
+            digestStateMap.compute(key, (k, state) -> {
+                // 최근에 푸시를 받지 않았다면 바로 전송하고 window를 기본값으로 되돌림
+                if (state == null || (!state.scheduled() && now - state.lastPushedAt() >= state.windowMillis())) {
+                    sendNow.set(true);
+                    return new DigestState(recipient.fcmToken(), now, windowMillis, 0, false);
+                }
+                // window 안이면 개수만 누적하고, window가 끝나는 시점에 요약 푸시를 한 번 예약
+                if (!state.scheduled()) {
+                    digestDelay.set(Math.max(0, state.lastPushedAt() + state.windowMillis() - now));
+                }
+                return new DigestState(recipient.fcmToken(), state.lastPushedAt(), state.windowMillis(), state.pendingCount() + messageCount, true);
+            });
+
+            if (sendNow.get()) {
+                immediateTokenList.add(recipient.fcmToken());
+            } else {
+                meterRegistry.counter("chat.push.digest.deferred").increment(messageCount);
+                if (digestDelay.get() >= 0) {
+                    digestFlusher.schedule(() -> flushDigest(key, chatRoomId, title), digestDelay.get(), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        if (!immediateTokenList.isEmpty()) {
+            sendPush(chatRoomId, title, body, immediateTokenList);
+        }
+    }
+
+    private void flushDigest(String key, Long chatRoomId, String title) {
+        long now = System.currentTimeMillis();
+        AtomicReference<DigestState> digest = new AtomicReference<>();
+
+        digestStateMap.computeIfPresent(key, (k, state) -> {
+            if (state.pendingCount() == 0) {
+                return new DigestState(state.fcmToken(), state.lastPushedAt(), state.windowMillis(), 0, false);
+            }
+            digest.set(state);
+            long nextWindowMillis = Math.min(state.windowMillis() * 2, maxWindowMillis);
+            return new DigestState(state.fcmToken(), now, nextWindowMillis, 0, false);
+        });
+
+        DigestState state = digest.get();
+        if (state != null) {
+            String body = "새 메시지 " + Math.min(state.pendingCount(), MAX_DISPLAY_COUNT) + (state.pendingCount() > MAX_DISPLAY_COUNT ? "+개" : "개");
+            sendPush(chatRoomId, title, body, List.of(state.fcmToken()));
+            meterRegistry.counter("chat.push.digest.sent").increment();
+        }
+    }
+
+    // 전송은 chatPushTask 에서 비동기로 실행되므로 여기서는 작업 제출 실패만 잡힘 (전송 중 예외는 AsyncConfig 에서 기록)
+    private void sendPush(Long chatRoomId, String title, String body, List<String> tokenList) {
+        try {
+            fcmService.sendMessagesByTokens(chatRoomId, title, body, tokenList);
+        } catch (Exception e) {
+            log.error("Chat push send failed: chatRoomId={}", chatRoomId, e);
+        }
+    }
+
+    // 최대 window 이상 푸시가 없었던 상태는 정리 (다음 메시지는 어차피 바로 전송됨)
+    @Scheduled(fixedDelayString = "${chat.push.digest.evict-interval-ms:60000}")
+    public void evictIdleStates() {
+        long threshold = System.currentTimeMillis() - maxWindowMillis;
+        digestStateMap.entrySet().removeIf(entry -> !entry.getValue().scheduled() && entry.getValue().lastPushedAt() < threshold);
+    }
+
+    private record DigestState(String fcmToken, long lastPushedAt, long windowMillis, int pendingCount, boolean scheduled) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.back.catchmate.domain.chat.service;
+
+import com.back.catchmate.domain.chat.membership.MembershipEviction;
+import com.back.catchmate.domain.chat.membership.MembershipEvictionBroadcaster;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 인스턴스 로컬 캐시이므로 무효화는 모든 인스턴스에 전파하고, 전파가 유실되더라도 TTL 이내에 반영됨
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomMembershipCache {
+    private final UserChatRoomRepository userChatRoomRepository;
+    private final MembershipEvictionBroadcaster membershipEvictionBroadcaster;
+
+    // 사용자별 참여중인 채팅방 목록 (userId -> chatRoomId Set)
+    private Cache<Long, Set<Long>> membershipMap;
+
+    @Value("${chat.membership-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${chat.membership-cache.max-entries:100000}")
+    private int maxEntries;
+
+    // 최대 개수를 넘으면 오래 사용하지 않은 항목부터 제거
+    @PostConstruct
+    void init() {
+        membershipMap = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        membershipEvictionBroadcaster.subscribe(this::evictLocal);
+    }
+
+    // 소켓 연결(CONNECT) 시 사용자가 참여중인 채팅방 목록을 적재
+    public void load(Long userId) {
+        membershipMap.put(userId, findChatRoomIds(userId));
+    }
+
+    // SUBSCRIBE / SEND 권한 확인 (캐시에 없을 경우에만 DB 조회)
+    // 조회 중 캐시 잠금을 잡지 않도록 DB 조회는 캐시 밖에서 수행
+    public boolean isMember(Long userId, Long chatRoomId) {
+        Set<Long> chatRoomIds = membershipMap.getIfPresent(userId);
+        if (chatRoomIds == null) {
+            chatRoomIds = findChatRoomIds(userId);
+            membershipMap.put(userId, chatRoomIds);
+        }
+        return chatRoomIds.contains(chatRoomId);
+    }
+
+    // 참여 정보가 변경된 사용자의 캐시 무효화 (입장, 퇴장, 강제 퇴장)
+    public void evict(Long userId) {
+        evictEverywhere(MembershipEviction.ofUser(userId));
+    }
+
+    // 채팅방 자체가 삭제된 경우 해당 채팅방에 참여중인 모든 사용자의 캐시 무효화
+    public void evictChatRoom(Long chatRoomId) {
+        evictEverywhere(MembershipEviction.ofChatRoom(chatRoomId));
+    }
+
+    private void evictEverywhere(MembershipEviction eviction) {
+        evictLocal(eviction);
+        // 커밋 전에 다른 요청이 이전 상태를 다시 적재했을 수 있으므로 커밋 후 한 번 더 무효화하고 다른 인스턴스에 전파
+        runAfterCommit(() -> {
+            evictLocal(eviction);
+            membershipEvictionBroadcaster.publish(eviction);
+        });
+    }
+
+    private void evictLocal(MembershipEviction eviction) {
+        switch (eviction.type()) {
+            case USER -> membershipMap.invalidate(eviction.id());
+            case CHAT_ROOM -> membershipMap.asMap().values().removeIf(chatRoomIds -> chatRoomIds.contains(eviction.id()));
+        }
+    }
+
+    private Set<Long> findChatRoomIds(Long userId) {
+        return userChatRoomRepository.findByUserIdAndDeletedAtIsNull(userId).stream()
+                .map(userChatRoom -> userChatRoom.getChatRoom().getId())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    // 트랜잭션이 없으면 바로 실행
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.back.catchmate.domain.chat.service;
 
 import com.back.catchmate.domain.board.entity.Board;
+import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.board.service.BoardDeletionService;
 import com.back.catchmate.domain.chat.converter.ChatRoomConverter;
 import com.back.catchmate.domain.chat.dto.ChatResponse.ChatRoomInfo;
 import com.back.catchmate.domain.chat.dto.ChatResponse.PagedChatRoomInfo;
@@ -14,6 +16,7 @@ import com.back.catchmate.domain.enroll.entity.Enroll;
 import com.back.catchmate.domain.enroll.repository.EnrollRepository;
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.UserRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
 import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
@@ -36,8 +39,12 @@ import static com.back.catchmate.domain.chat.dto.ChatRequest.ChatMessageRequest.
 @RequiredArgsConstructor
 public class ChatRoomServiceImpl implements ChatRoomService {
     private final ChatService chatService;
+    private final BoardDeletionService boardDeletionService;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final UnreadBadgeService unreadBadgeService;
     private final S3Service s3Service;
     private final UserRepository userRepository;
+    private final BoardRepository boardRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final UserChatRoomRepository userChatRoomRepository;
     private final EnrollRepository enrollRepository;
@@ -109,21 +116,23 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_CHATROOM_NOT_FOUND));
 
         if (chatRoom.isOwner(userId)) {
-            userChatRoom.delete();
-            chatRoom.getBoard().deleteBoard();
+            // 방장이 나가면 게시글과 채팅방이 삭제되며, 모든 참여자의 캐시는 커밋 이후 무효화됨
+            boardDeletionService.softDeleteBoards(List.of(chatRoom.getBoard().getId()));
+            unreadBadgeService.onChatRead(userId, chatRoom.getId());
         } else {
             // 채팅방에서 나가기 처리
             userChatRoom.delete();
-            // 게시글 현재 인원 수 감소
-            chatRoom.getBoard().decrementCurrentPerson();
-            // 채팅방에서 참여자 수 감소
-            chatRoom.decrementParticipantCount();
+            // 게시글 현재 인원 수, 채팅방 참여자 수를 원자적으로 감소
+            boardRepository.decrementCurrentPerson(chatRoom.getBoard().getId());
+            chatRoomRepository.decrementParticipantCount(chatRoom.getId());
 
             // 신청도 삭제 처리
             Enroll enroll = enrollRepository.findFirstByUserIdAndBoardIdAndDeletedAtIsNullAndAcceptStatusIs(userId, chatRoom.getBoard().getId(), AcceptStatus.ACCEPTED)
                     .orElseThrow(() -> new BaseException(ErrorCode.ENROLL_NOT_FOUND));
 
             enroll.delete();
+            chatRoomMembershipCache.evict(userId);
+            unreadBadgeService.onChatRead(userId, chatRoom.getId());
 
             // 퇴장 메시지 보내기
             String content = user.getNickName() + " 님이 채팅을 떠났어요";  // 퇴장 메시지 내용
@@ -166,10 +175,11 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
         // 채팅방에서 나가기 처리
         userChatRoom.delete();
-        // 게시글 현재 인원 수 감소
-        chatRoom.getBoard().decrementCurrentPerson();
-        // 채팅방에서 참여자 수 감소
-        chatRoom.decrementParticipantCount();
+        // 게시글 현재 인원 수, 채팅방 참여자 수를 원자적으로 감소
+        boardRepository.decrementCurrentPerson(chatRoom.getBoard().getId());
+        chatRoomRepository.decrementParticipantCount(chatRoom.getId());
+        chatRoomMembershipCache.evict(userId);
+        unreadBadgeService.onChatRead(userId, chatRoom.getId());
 
         String content = "방장의 결정으로 " + user.getNickName() + " 님이 채팅방에서 나갔습니다.";
         chatService.sendEnterLeaveMessage(chatRoomId, content, userId, MessageType.LEAVE);
@@ -9,19 +9,21 @@ import com.back.catchmate.domain.chat.dto.ChatResponse.PagedChatMessageInfo;
 import com.back.catchmate.domain.chat.entity.ChatMessage;
 import com.back.catchmate.domain.chat.entity.ChatRoom;
 import com.back.catchmate.domain.chat.entity.UserChatRoom;
+import com.back.catchmate.domain.chat.event.ChatMessageSentEvent;
 import com.back.catchmate.domain.chat.repository.ChatMessageRepository;
 import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
 import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
-import com.back.catchmate.domain.notification.service.FCMService;
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.UserRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -32,8 +34,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 import static com.back.catchmate.domain.chat.dto.ChatRequest.ChatMessageRequest.MessageType;
 
@@ -42,18 +44,20 @@ import static com.back.catchmate.domain.chat.dto.ChatRequest.ChatMessageRequest.
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
     private final SimpMessagingTemplate messagingTemplate;
-    private final FCMService fcmService;
-    private final ChatSessionService chatSessionService;
+    private final ChatPushCoalescer chatPushCoalescer;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatArchiveService chatArchiveService;
     private final ChatRoomRepository chatRoomRepository;
     private final UserChatRoomRepository userChatRoomRepository;
     private final ChatMessageConverter chatMessageConverter;
     private final UserRepository userRepository;
+    private final UnreadBadgeService unreadBadgeService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 메시지를 특정 채팅방으로 전송
     @Override
     @Transactional
-    public void sendChatMessage(Long chatRoomId, ChatMessageRequest request) throws FirebaseMessagingException {
+    public void sendChatMessage(Long chatRoomId, ChatMessageRequest request) {
         User user = userRepository.findById(request.getSenderId())
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
 
@@ -78,25 +82,16 @@ public class ChatServiceImpl implements ChatService {
                     .orElseThrow(() -> new BaseException(ErrorCode.CHATROOM_NOT_FOUND));
             chatRoom.updateLastMessageContent(request.getContent());
             chatRoom.updateLastMessageTime();
+            eventPublisher.publishEvent(new ChatMessageSentEvent(chatRoomId, chatRoom.getBoard().getClub().getId()));
 
             // 채팅방 목록 실시간 업데이트
             LastChatMessageUpdateInfo lastMessageUpdate = chatMessageConverter.toLastChatMessageUpdateRequest(chatRoomId, request.getContent(), LocalDateTime.now());
             messagingTemplate.convertAndSend("/topic/chatList", lastMessageUpdate);
 
             // 채팅방 참여자가 2명 이상일 경우 알림 전송 로직 수행
+            // 수신 대상 조회와 접속 여부 필터링은 채팅방 단위로 묶어서 전송 시점에 한 번만 수행
             if (chatRoom.getParticipantCount() > 1) {
-                // 채팅방에 참여한 사용자 중 접속 중이지 않은 사용자 필터링
-                List<String> targetTokens = chatRoom.getUserChatRoomList().stream()
-                        .filter(userChatRoom -> !chatSessionService.isUserInChatRoom(chatRoomId, userChatRoom.getUser().getId())) // 접속 중이지 않은 사용자
-                        .filter(UserChatRoom::isNotificationEnabled)
-                        .map(userChatRoom -> userChatRoom.getUser().getFcmToken()) // FCM 토큰 추출
-                        .filter(Objects::nonNull) // FCM 토큰이 있는 사용자만 포함
-                        .toList();
-
-                // FCM 알림 전송
-                if (!targetTokens.isEmpty()) {
-                    fcmService.sendMessagesByTokens(chatRoomId, chatRoom.getBoard().getTitle(), request.getContent(), user.getFcmToken());
-                }
+                chatPushCoalescer.submit(chatRoomId, chatRoom.getBoard().getTitle(), request.getContent(), user.getId());
             }
         }
 
@@ -126,6 +121,7 @@ public class ChatServiceImpl implements ChatService {
 
         userChatRoom.updateLastReadTime();
         userChatRoomRepository.flush();
+        unreadBadgeService.onChatRead(request.getUserId(), request.getChatRoomId());
     }
 
     @Override
@@ -154,17 +150,23 @@ public class ChatServiceImpl implements ChatService {
         UserChatRoom userChatRoom = userChatRoomRepository.findByUserIdAndChatRoomIdAndDeletedAtIsNull(userId, chatRoomId)
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
         userChatRoom.updateLastReadTime();
+        unreadBadgeService.onChatRead(userId, chatRoomId);
 
         Page<ChatMessage> chatMessageList;
+        Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Order.desc("_id")));
+        ObjectId lastObjectId = (lastMessageId == null) ? null : new ObjectId(lastMessageId);
 
-        if (lastMessageId == null) {
-            chatMessageList = chatMessageRepository.findByChatRoomIdOrderByIdDesc(chatRoomId, PageRequest.of(0, size, Sort.by(Sort.Order.desc("_id"))));
+        if (lastObjectId == null) {
+            chatMessageList = chatMessageRepository.findByChatRoomIdOrderByIdDesc(chatRoomId, pageable);
         } else {
-            Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Order.desc("_id")));
-            ObjectId lastObjectId = new ObjectId(lastMessageId);
             chatMessageList = chatMessageRepository.findByChatRoomIdAndIdLessThanOrderByIdDesc(chatRoomId, lastObjectId, pageable);
         }
 
+        // MongoDB에 남은 메시지로 페이지를 채우지 못하면 아카이브된 이전 메시지로 이어서 조회
+        if (chatMessageList.getContent().size() < size) {
+            chatMessageList = appendArchivedMessages(chatRoomId, chatMessageList, lastObjectId, pageable);
+        }
+
         boolean isLast = (chatMessageList.getContent().size() < size);
         String nextLastMessageId = (isLast || chatMessageList.isEmpty())
                 ? null
@@ -172,4 +174,20 @@ public class ChatServiceImpl implements ChatService {
 
         return chatMessageConverter.toPagedChatMessageInfo(chatMessageList, nextLastMessageId);
     }
+
+    private Page<ChatMessage> appendArchivedMessages(Long chatRoomId, Page<ChatMessage> chatMessageList, ObjectId lastObjectId, Pageable pageable) {
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(() -> new BaseException(ErrorCode.CHATROOM_NOT_FOUND));
+        if (!chatRoom.isArchived()) {
+            return chatMessageList;
+        }
+
+        List<ChatMessage> mergedList = new ArrayList<>(chatMessageList.getContent());
+        ObjectId archiveCursor = mergedList.isEmpty() ? lastObjectId : mergedList.get(mergedList.size() - 1).getId();
+        mergedList.addAll(chatArchiveService.getArchivedMessageList(chatRoom, archiveCursor, pageable.getPageSize() - mergedList.size()));
+
+        // 페이지가 가득 찼다면 이전 메시지가 더 있을 수 있으므로 마지막 페이지로 표시하지 않음
+        long total = (mergedList.size() < pageable.getPageSize()) ? mergedList.size() : mergedList.size() + 1;
+        return new PageImpl<>(mergedList, pageable, total);
+    }
 }
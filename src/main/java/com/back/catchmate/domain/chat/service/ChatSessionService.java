@@ -25,6 +25,12 @@ public class ChatSessionService {
         chatRoomSessionMap.getOrDefault(chatRoomId, new CopyOnWriteArraySet<>()).remove(userId);
     }
 
+    // 채팅방에 접속 중인 사용자 목록 (푸시 대상을 한 번에 걸러내기 위해 사용)
+    public Set<Long> getConnectedUserIds(Long chatRoomId) {
+        Set<Long> userIds = chatRoomSessionMap.get(chatRoomId);
+        return userIds == null ? Set.of() : Set.copyOf(userIds);
+    }
+
     // 특정 사용자가 채팅방에 접속 중인지 확인
     public boolean isUserInChatRoom(Long chatRoomId, Long userId) {
         return chatRoomSessionMap.getOrDefault(chatRoomId, new CopyOnWriteArraySet<>()).contains(userId);
@@ -1,5 +1,6 @@
 package com.back.catchmate.domain.club.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -11,8 +12,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import static com.back.catchmate.global.config.JpaConfig.CLUB_CACHE_REGION;
+
+// 구단 정보는 변경되지 않고 게시글, 사용자, 경기에서 계속 참조되므로 읽기 전용 2차 캐시에 보관
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = CLUB_CACHE_REGION)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -1,6 +1,8 @@
 package com.back.catchmate.domain.enroll.controller;
 
+import com.back.catchmate.domain.enroll.dto.EnrollRequest.BulkRespondEnrollRequest;
 import com.back.catchmate.domain.enroll.dto.EnrollRequest.CreateEnrollRequest;
+import com.back.catchmate.domain.enroll.dto.EnrollResponse.BulkUpdateEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.CancelEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.CreateEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.EnrollDescriptionInfo;
@@ -10,6 +12,7 @@ import com.back.catchmate.domain.enroll.dto.EnrollResponse.PagedEnrollRequestInf
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.UpdateEnrollInfo;
 import com.back.catchmate.domain.enroll.service.EnrollService;
 import com.back.catchmate.global.jwt.JwtValidation;
+import com.back.catchmate.global.ratelimit.RateLimit;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -38,6 +41,7 @@ public class EnrollController {
     private final EnrollService enrollService;
 
     @PostMapping("/{boardId}")
+    @RateLimit(name = "enroll.request", capacity = 10, refillPerMinute = 10)
     @Operation(summary = "직관 신청 API", description = "직관 신청을 요청하는 API 입니다.")
     public CreateEnrollInfo requestEnroll(@PathVariable Long boardId,
                                           @Valid @RequestBody CreateEnrollRequest createEnrollRequest,
@@ -97,6 +101,20 @@ public class EnrollController {
         return enrollService.rejectEnroll(enrollId, userId);
     }
 
+    @PatchMapping("/bulk/accept")
+    @Operation(summary = "받은 직관 신청 일괄 수락 API", description = "한 게시글에 받은 여러 직관 신청을 한 번에 수락하는 API 입니다.")
+    public BulkUpdateEnrollInfo acceptEnrollList(@Valid @RequestBody BulkRespondEnrollRequest request,
+                                                 @JwtValidation Long userId) {
+        return enrollService.acceptEnrollList(request, userId);
+    }
+
+    @PatchMapping("/bulk/reject")
+    @Operation(summary = "받은 직관 신청 일괄 거절 API", description = "한 게시글에 받은 여러 직관 신청을 한 번에 거절하는 API 입니다.")
+    public BulkUpdateEnrollInfo rejectEnrollList(@Valid @RequestBody BulkRespondEnrollRequest request,
+                                                 @JwtValidation Long userId) {
+        return enrollService.rejectEnrollList(request, userId);
+    }
+
     @GetMapping("/{boardId}/description")
     @Operation(summary = "보낸 신청 상세 조회 API", description = "내가 특정 게시글에 보낸 신청의 상세 내용을 조회하는 API 입니다.")
     public EnrollDescriptionInfo getEnrollDescriptionById(@PathVariable Long boardId,
@@ -132,6 +132,14 @@ public class EnrollConverter {
                 .build();
     }
 
+    public BulkUpdateEnrollInfo toBulkUpdateEnrollInfo(Long boardId, List<Long> enrollIdList, AcceptStatus acceptStatus) {
+        return BulkUpdateEnrollInfo.builder()
+                .boardId(boardId)
+                .enrollIdList(enrollIdList)
+                .acceptStatus(acceptStatus)
+                .build();
+    }
+
     public EnrollDescriptionInfo toEnrollDescriptionInfo(Enroll enroll) {
         return EnrollDescriptionInfo.builder()
                 .enrollId(enroll.getId())
@@ -1,11 +1,15 @@
 package com.back.catchmate.domain.enroll.dto;
 
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 public abstract class EnrollRequest {
     @Getter
     @Builder
@@ -15,4 +19,16 @@ public abstract class EnrollRequest {
         @NotNull
         private String description;
     }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkRespondEnrollRequest {
+        @NotNull
+        private Long boardId;
+        @NotEmpty
+        @Size(max = 50)
+        private List<Long> enrollIdList;
+    }
 }
@@ -88,6 +88,16 @@ public abstract class EnrollResponse {
         private AcceptStatus acceptStatus;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkUpdateEnrollInfo {
+        private Long boardId;
+        private List<Long> enrollIdList;
+        private AcceptStatus acceptStatus;
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor
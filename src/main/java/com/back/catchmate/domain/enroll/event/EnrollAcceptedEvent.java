@@ -0,0 +1,5 @@
+package com.back.catchmate.domain.enroll.event;
+
+// 게시글 작성자가 신청을 수락한 경우 발행 (일괄 수락은 수락 건수를 한 번에 전달)
+public record EnrollAcceptedEvent(Long boardId, Long clubId, int acceptedCount) {
+}
@@ -0,0 +1,5 @@
+package com.back.catchmate.domain.enroll.event;
+
+// 게시글에 직관 신청이 등록된 경우 발행
+public record EnrollRequestedEvent(Long boardId, Long clubId) {
+}
@@ -1,18 +0,0 @@
-package com.back.catchmate.domain.enroll.event;
-
-import com.back.catchmate.domain.enroll.entity.AcceptStatus;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-
-@Getter
-@RequiredArgsConstructor
-public class EnrollmentAcceptedEvent {
-    private final String fcmToken;
-    private final String title;
-    private final String body;
-    private final Long boardId;
-    private final AcceptStatus acceptStatus;
-    private final Long chatRoomId;
-    private final Long receiverId;
-    private final Long senderId;
-}
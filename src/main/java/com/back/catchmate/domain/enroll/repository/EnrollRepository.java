@@ -7,14 +7,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface EnrollRepository extends JpaRepository<Enroll, Long> {
     Optional<Enroll> findByIdAndDeletedAtIsNull(Long enrollId);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Enroll e SET e.deletedAt = :deletedAt WHERE e.board.id IN :boardIds AND e.deletedAt IS NULL")
+    int softDeleteAllByBoardIdIn(@Param("boardIds") List<Long> boardIds, @Param("deletedAt") LocalDateTime deletedAt);
+
     Optional<Enroll> findByUserIdAndBoardIdAndDeletedAtIsNull(Long userId, Long boardId);
 
     Optional<Enroll> findFirstByUserIdAndBoardIdAndDeletedAtIsNullOrderByCreatedAtDesc(Long userId, Long boardId);
@@ -44,4 +51,20 @@ public interface EnrollRepository extends JpaRepository<Enroll, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT e FROM Enroll e WHERE e.id = :enrollId")
     Optional<Enroll> findByIdWithLock(@Param("enrollId") Long enrollId);
+
+    // 신청 상태가 기대한 값일 때만 변경 (동시에 같은 신청을 처리해도 한 요청만 성공)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Enroll e SET e.acceptStatus = :newStatus " +
+            "WHERE e.id = :enrollId AND e.acceptStatus = :expectedStatus AND e.deletedAt IS NULL")
+    int updateAcceptStatus(@Param("enrollId") Long enrollId, @Param("expectedStatus") AcceptStatus expectedStatus, @Param("newStatus") AcceptStatus newStatus);
+
+    // 일괄 처리 대상 신청을 신청자와 함께 조회 (이미 처리되어 삭제된 신청도 포함)
+    @Query("SELECT e FROM Enroll e JOIN FETCH e.user WHERE e.id IN :enrollIds")
+    List<Enroll> findAllWithUserByIdIn(@Param("enrollIds") List<Long> enrollIds);
+
+    // 대기 중인 신청만 응답 상태로 변경하고 함께 삭제 처리
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Enroll e SET e.acceptStatus = :newStatus, e.deletedAt = :deletedAt " +
+            "WHERE e.id IN :enrollIds AND e.acceptStatus = 'PENDING' AND e.deletedAt IS NULL")
+    int respondAllPendingByIdIn(@Param("enrollIds") List<Long> enrollIds, @Param("newStatus") AcceptStatus newStatus, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -1,6 +1,8 @@
 package com.back.catchmate.domain.enroll.service;
 
+import com.back.catchmate.domain.enroll.dto.EnrollRequest.BulkRespondEnrollRequest;
 import com.back.catchmate.domain.enroll.dto.EnrollRequest.CreateEnrollRequest;
+import com.back.catchmate.domain.enroll.dto.EnrollResponse.BulkUpdateEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.CancelEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.CreateEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.EnrollDescriptionInfo;
@@ -29,5 +31,9 @@ public interface EnrollService {
 
     UpdateEnrollInfo rejectEnroll(Long enrollId, Long userId) throws IOException;
 
+    BulkUpdateEnrollInfo acceptEnrollList(BulkRespondEnrollRequest request, Long userId);
+
+    BulkUpdateEnrollInfo rejectEnrollList(BulkRespondEnrollRequest request, Long userId);
+
     EnrollDescriptionInfo getEnrollDescriptionById(Long enrollId, Long userId);
 }
@@ -7,9 +7,12 @@ import com.back.catchmate.domain.chat.entity.ChatRoom;
 import com.back.catchmate.domain.chat.entity.UserChatRoom;
 import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
 import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.back.catchmate.domain.chat.service.ChatRoomMembershipCache;
 import com.back.catchmate.domain.chat.service.ChatService;
 import com.back.catchmate.domain.enroll.converter.EnrollConverter;
+import com.back.catchmate.domain.enroll.dto.EnrollRequest.BulkRespondEnrollRequest;
 import com.back.catchmate.domain.enroll.dto.EnrollRequest.CreateEnrollRequest;
+import com.back.catchmate.domain.enroll.dto.EnrollResponse.BulkUpdateEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.CancelEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.CreateEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.EnrollDescriptionInfo;
@@ -19,15 +22,17 @@ import com.back.catchmate.domain.enroll.dto.EnrollResponse.PagedEnrollRequestInf
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.UpdateEnrollInfo;
 import com.back.catchmate.domain.enroll.entity.AcceptStatus;
 import com.back.catchmate.domain.enroll.entity.Enroll;
-import com.back.catchmate.domain.enroll.event.EnrollmentAcceptedEvent;
-import com.back.catchmate.domain.enroll.event.EnrollmentRejectedEvent;
+import com.back.catchmate.domain.enroll.event.EnrollAcceptedEvent;
+import com.back.catchmate.domain.enroll.event.EnrollRequestedEvent;
 import com.back.catchmate.domain.enroll.repository.EnrollRepository;
+import com.back.catchmate.domain.notification.dto.PushTarget;
 import com.back.catchmate.domain.notification.entity.Notification;
 import com.back.catchmate.domain.notification.repository.NotificationRepository;
-import com.back.catchmate.domain.notification.service.FCMService;
+import com.back.catchmate.domain.notification.service.NotificationOutboxService;
 import com.back.catchmate.domain.notification.service.NotificationService;
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.UserRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +43,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.back.catchmate.domain.chat.dto.ChatRequest.ChatMessageRequest.MessageType;
 import static com.back.catchmate.domain.notification.message.NotificationMessages.*;
@@ -46,9 +53,11 @@ import static com.back.catchmate.domain.notification.message.NotificationMessage
 @Service
 @RequiredArgsConstructor
 public class EnrollServiceImpl implements EnrollService {
-    private final FCMService fcmService;
     private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
     private final ChatService chatService;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final UnreadBadgeService unreadBadgeService;
     private final EnrollRepository enrollRepository;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
@@ -86,11 +95,12 @@ public class EnrollServiceImpl implements EnrollService {
         // 게시글 작성자의 아이디를 통해 FCM 토큰 확인
         User boardWriter = userRepository.findById(board.getUser().getId())
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
-        // 게시글 작성자에게 푸시 알림 메세지 전송
-        fcmService.sendMessageByToken(boardWriter.getFcmToken(), title, body, boardId, AcceptStatus.PENDING, null);
+        // 게시글 작성자에게 보낼 푸시 알림을 아웃박스에 저장 (커밋 이후 디스패처가 전송)
+        notificationOutboxService.enqueueEnrollPush("enroll-request:" + enroll.getId(), boardWriter.getFcmToken(), title, body, boardId, AcceptStatus.PENDING, null);
 
         // 데이터베이스에 저장
         notificationService.createNotification(title, body, enroll.getUser().getId(), boardId, boardWriter.getId(), AcceptStatus.PENDING);
+        eventPublisher.publishEvent(new EnrollRequestedEvent(board.getId(), board.getClub().getId()));
         return enrollConverter.toCreateEnrollInfo(enroll);
     }
 
@@ -112,6 +122,10 @@ public class EnrollServiceImpl implements EnrollService {
 
         Notification notification = notificationRepository.findByBoardIdAndUserIdAndSenderIdAndDeletedAtIsNull(enroll.getBoard().getId(), enroll.getBoard().getUser().getId(), userId)
                 .orElseThrow(() -> new BaseException(ErrorCode.NOTIFICATION_NOT_FOUND));
+        // 게시글 작성자가 아직 읽지 않은 신청 알림이면 배지에서도 차감
+        if (notification.isNotRead()) {
+            unreadBadgeService.onNotificationRead(enroll.getBoard().getUser().getId());
+        }
         notification.delete();
 
         return enrollConverter.toCancelEnrollInfo(enroll);
@@ -175,22 +189,12 @@ public class EnrollServiceImpl implements EnrollService {
         User loginUser = userRepository.findById(userId)
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
 
-        Enroll enroll = enrollRepository.findByIdWithLock(enrollId)
+        // 행 잠금 없이 조회한 뒤 상태 변경과 인원 증가를 조건부 UPDATE 로 처리
+        Enroll enroll = enrollRepository.findById(enrollId)
                 .orElseThrow(() -> new BaseException(ErrorCode.ENROLL_NOT_FOUND));
 
-        User boardWriter = enroll.getBoard().getUser();
-        User enrollApplicant = userRepository.findById(enroll.getUser().getId())
-                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
-
-        Board board = boardRepository.findByIdWithLock(enroll.getBoard().getId())
-                .orElseThrow(() -> new BaseException(ErrorCode.BOARD_NOT_FOUND));
-
-        if (board.canIncrementCurrentPerson()) {
-            board.incrementCurrentPerson();
-        } else {
-            throw new BaseException(ErrorCode.FULL_PERSON);
-        }
-
+        Board board = enroll.getBoard();
+        User boardWriter = board.getUser();
         if (loginUser.isDifferentUserFrom(boardWriter)) {
             throw new BaseException(ErrorCode.ENROLL_ACCEPT_INVALID);
         }
@@ -199,38 +203,45 @@ public class EnrollServiceImpl implements EnrollService {
             throw new BaseException(ErrorCode.ENROLL_ALREADY_RESPOND);
         }
 
+        User enrollApplicant = userRepository.findById(enroll.getUser().getId())
+                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+
+        // 1. PENDING 인 경우에만 ACCEPTED 로 변경 (같은 신청을 동시에 수락하면 한 요청만 성공)
+        if (enrollRepository.updateAcceptStatus(enrollId, AcceptStatus.PENDING, AcceptStatus.ACCEPTED) == 0) {
+            throw new BaseException(ErrorCode.ENROLL_ALREADY_RESPOND);
+        }
         enroll.respondToEnroll(AcceptStatus.ACCEPTED);
+
+        // 2. 정원이 남아 있는 경우에만 인원 증가 (실패 시 예외로 1번 변경도 롤백)
+        if (boardRepository.incrementCurrentPerson(board.getId(), 1) == 0) {
+            throw new BaseException(ErrorCode.FULL_PERSON);
+        }
+
         enterChatRoom(enrollApplicant, board);
 
         Notification notification = notificationRepository.findByUserIdAndBoardIdAndSenderIdAndAcceptStatusAndDeletedAtIsNull(enroll.getBoard().getUser().getId(), enroll.getBoard().getId(), enrollApplicant.getId(), AcceptStatus.PENDING)
                 .orElseThrow(() -> new BaseException(ErrorCode.NOTIFICATION_NOT_FOUND));
         notification.updateAcceptStatus(AcceptStatus.ALREADY_ACCEPTED);
 
-        // 이벤트 발행 로직으로 대체
-        eventPublisher.publishEvent(new EnrollmentAcceptedEvent(
-                enrollApplicant.getFcmToken(),
-                ENROLLMENT_ACCEPT_TITLE,
-                ENROLLMENT_ACCEPT_BODY,
-                enroll.getBoard().getId(),
-                AcceptStatus.ACCEPTED,
-                board.getChatRoom().getId(),
-                enrollApplicant.getId(), // receiverId
-                boardWriter.getId()      // senderId
-        ));
+        // 신청자에게 보낼 알림은 수락과 같은 트랜잭션에서 저장
+        notificationService.createNotification(ENROLLMENT_ACCEPT_TITLE, ENROLLMENT_ACCEPT_BODY, boardWriter.getId(), board.getId(), enrollApplicant.getId(), AcceptStatus.ACCEPTED);
+        notificationOutboxService.enqueueEnrollPush("enroll-accept:" + enroll.getId(), enrollApplicant.getFcmToken(),
+                ENROLLMENT_ACCEPT_TITLE, ENROLLMENT_ACCEPT_BODY, board.getId(), AcceptStatus.ACCEPTED, board.getChatRoom().getId());
 
-        enroll.respondToEnroll(AcceptStatus.ACCEPTED);
         enroll.delete();
+        eventPublisher.publishEvent(new EnrollAcceptedEvent(board.getId(), board.getClub().getId(), 1));
         return enrollConverter.toUpdateEnrollInfo(enroll, AcceptStatus.ACCEPTED);
     }
 
     private void enterChatRoom(User user, Board board) {
-        ChatRoom chatRoom = chatRoomRepository.findByBoardIdWithLock(board.getId())
-                .orElseThrow(() -> new BaseException(ErrorCode.CHATROOM_NOT_FOUND));
-
-        chatRoom.incrementParticipantCount();
+        if (chatRoomRepository.incrementParticipantCountByBoardId(board.getId(), 1) == 0) {
+            throw new BaseException(ErrorCode.CHATROOM_NOT_FOUND);
+        }
+        ChatRoom chatRoom = board.getChatRoom();
 
         UserChatRoom userChatRoom = userChatRoomConverter.toEntity(user, chatRoom);
         userChatRoomRepository.save(userChatRoom);
+        chatRoomMembershipCache.evict(user.getId());
 
         String content = user.getNickName() + " 님이 채팅에 참여했어요";
         chatService.sendEnterLeaveMessage(chatRoom.getId(), content, user.getId(), MessageType.ENTER);
@@ -257,22 +268,126 @@ public class EnrollServiceImpl implements EnrollService {
                 .orElseThrow(() -> new BaseException(ErrorCode.NOTIFICATION_NOT_FOUND));
         notification.updateAcceptStatus(AcceptStatus.ALREADY_REJECTED);
 
-        // 이벤트 발행 로직으로 대체
-        eventPublisher.publishEvent(new EnrollmentRejectedEvent(
-                enrollApplicant.getFcmToken(),
-                ENROLLMENT_REJECT_TITLE,
-                ENROLLMENT_REJECT_BODY,
-                enroll.getBoard().getId(),
-                AcceptStatus.REJECTED,
-                enrollApplicant.getId(), // receiverId
-                boardWriter.getId()      // senderId
-        ));
+        // 신청자에게 보낼 알림은 거절과 같은 트랜잭션에서 저장 (거절 시에는 채팅방 ID가 없음)
+        notificationService.createNotification(ENROLLMENT_REJECT_TITLE, ENROLLMENT_REJECT_BODY, boardWriter.getId(), enroll.getBoard().getId(), enrollApplicant.getId(), AcceptStatus.REJECTED);
+        notificationOutboxService.enqueueEnrollPush("enroll-reject:" + enroll.getId(), enrollApplicant.getFcmToken(),
+                ENROLLMENT_REJECT_TITLE, ENROLLMENT_REJECT_BODY, enroll.getBoard().getId(), AcceptStatus.REJECTED, null);
 
         enroll.respondToEnroll(AcceptStatus.REJECTED);
         enroll.delete();
         return enrollConverter.toUpdateEnrollInfo(enroll, AcceptStatus.REJECTED);
     }
 
+    // 한 게시글에 받은 여러 신청을 한 트랜잭션에서 수락 (하나라도 처리할 수 없으면 전체 롤백)
+    @Override
+    @Transactional
+    public BulkUpdateEnrollInfo acceptEnrollList(BulkRespondEnrollRequest request, Long userId) {
+        Board board = findBoardOwnedBy(request.getBoardId(), userId, ErrorCode.ENROLL_ACCEPT_INVALID);
+        List<Enroll> enrollList = findPendingEnrollList(board, request.getEnrollIdList(), ErrorCode.ENROLL_ACCEPT_INVALID);
+        List<Long> enrollIdList = enrollList.stream().map(Enroll::getId).toList();
+        List<User> applicantList = enrollList.stream().map(Enroll::getUser).toList();
+        int acceptCount = enrollList.size();
+
+        // 1. 대기 중인 신청만 한 번에 수락 및 삭제 처리 (일부라도 이미 처리되었다면 실패)
+        if (enrollRepository.respondAllPendingByIdIn(enrollIdList, AcceptStatus.ACCEPTED, LocalDateTime.now()) != acceptCount) {
+            throw new BaseException(ErrorCode.ENROLL_ALREADY_RESPOND);
+        }
+
+        // 2. 수락 인원 전체에 대해 정원을 한 번만 확인하여 증가
+        if (boardRepository.incrementCurrentPerson(board.getId(), acceptCount) == 0) {
+            throw new BaseException(ErrorCode.FULL_PERSON);
+        }
+        if (chatRoomRepository.incrementParticipantCountByBoardId(board.getId(), acceptCount) == 0) {
+            throw new BaseException(ErrorCode.CHATROOM_NOT_FOUND);
+        }
+
+        // 3. 채팅방 입장 처리 후 입장 메시지는 하나로 합쳐서 전송
+        ChatRoom chatRoom = board.getChatRoom();
+        List<UserChatRoom> userChatRoomList = applicantList.stream()
+                .map(applicant -> userChatRoomConverter.toEntity(applicant, chatRoom))
+                .toList();
+        userChatRoomRepository.saveAll(userChatRoomList);
+        applicantList.forEach(applicant -> chatRoomMembershipCache.evict(applicant.getId()));
+
+        String content = applicantList.stream()
+                .map(User::getNickName)
+                .collect(Collectors.joining(", ")) + " 님이 채팅에 참여했어요";
+        chatService.sendEnterLeaveMessage(chatRoom.getId(), content, board.getUser().getId(), MessageType.ENTER);
+
+        notifyResponseList(board, enrollList, AcceptStatus.ACCEPTED, chatRoom.getId());
+        eventPublisher.publishEvent(new EnrollAcceptedEvent(board.getId(), board.getClub().getId(), acceptCount));
+        return enrollConverter.toBulkUpdateEnrollInfo(board.getId(), enrollIdList, AcceptStatus.ACCEPTED);
+    }
+
+    // 한 게시글에 받은 여러 신청을 한 트랜잭션에서 거절 (하나라도 처리할 수 없으면 전체 롤백)
+    @Override
+    @Transactional
+    public BulkUpdateEnrollInfo rejectEnrollList(BulkRespondEnrollRequest request, Long userId) {
+        Board board = findBoardOwnedBy(request.getBoardId(), userId, ErrorCode.ENROLL_REJECT_INVALID);
+        List<Enroll> enrollList = findPendingEnrollList(board, request.getEnrollIdList(), ErrorCode.ENROLL_REJECT_INVALID);
+        List<Long> enrollIdList = enrollList.stream().map(Enroll::getId).toList();
+
+        if (enrollRepository.respondAllPendingByIdIn(enrollIdList, AcceptStatus.REJECTED, LocalDateTime.now()) != enrollList.size()) {
+            throw new BaseException(ErrorCode.ENROLL_ALREADY_RESPOND);
+        }
+
+        // 거절 시에는 채팅방 ID가 없음
+        notifyResponseList(board, enrollList, AcceptStatus.REJECTED, null);
+        return enrollConverter.toBulkUpdateEnrollInfo(board.getId(), enrollIdList, AcceptStatus.REJECTED);
+    }
+
+    private Board findBoardOwnedBy(Long boardId, Long userId, ErrorCode invalidErrorCode) {
+        User loginUser = userRepository.findById(userId)
+                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+
+        Board board = boardRepository.findByIdAndDeletedAtIsNull(boardId)
+                .orElseThrow(() -> new BaseException(ErrorCode.BOARD_NOT_FOUND));
+
+        if (loginUser.isDifferentUserFrom(board.getUser())) {
+            throw new BaseException(invalidErrorCode);
+        }
+        return board;
+    }
+
+    // 요청한 신청이 모두 존재하고, 해당 게시글에 대한 대기 중인 신청인지 확인
+    private List<Enroll> findPendingEnrollList(Board board, List<Long> enrollIdList, ErrorCode invalidErrorCode) {
+        List<Long> distinctIdList = enrollIdList.stream().distinct().toList();
+        List<Enroll> enrollList = enrollRepository.findAllWithUserByIdIn(distinctIdList);
+        if (enrollList.size() != distinctIdList.size()) {
+            throw new BaseException(ErrorCode.ENROLL_NOT_FOUND);
+        }
+
+        for (Enroll enroll : enrollList) {
+            if (!enroll.getBoard().getId().equals(board.getId())) {
+                throw new BaseException(invalidErrorCode);
+            }
+            if (enroll.getAcceptStatus() != AcceptStatus.PENDING || enroll.getDeletedAt() != null) {
+                throw new BaseException(ErrorCode.ENROLL_ALREADY_RESPOND);
+            }
+        }
+        return enrollList;
+    }
+
+    // 작성자가 받은 신청 알림 상태 변경, 신청자 알림 저장, 푸시 적재를 각각 한 번에 처리
+    private void notifyResponseList(Board board, List<Enroll> enrollList, AcceptStatus acceptStatus, Long chatRoomId) {
+        boolean accepted = acceptStatus == AcceptStatus.ACCEPTED;
+        String title = accepted ? ENROLLMENT_ACCEPT_TITLE : ENROLLMENT_REJECT_TITLE;
+        String body = accepted ? ENROLLMENT_ACCEPT_BODY : ENROLLMENT_REJECT_BODY;
+        String keyPrefix = accepted ? "enroll-accept:" : "enroll-reject:";
+        Long boardWriterId = board.getUser().getId();
+        List<Long> applicantIdList = enrollList.stream().map(enroll -> enroll.getUser().getId()).toList();
+
+        // 알림을 이미 삭제한 경우가 있으므로 일괄 처리에서는 알림이 없어도 실패로 보지 않음
+        notificationRepository.updatePendingAcceptStatusBySenderIdIn(boardWriterId, board.getId(), applicantIdList,
+                accepted ? AcceptStatus.ALREADY_ACCEPTED : AcceptStatus.ALREADY_REJECTED);
+
+        notificationService.createNotificationList(title, body, boardWriterId, board.getId(), applicantIdList, acceptStatus);
+
+        List<PushTarget> targetList = enrollList.stream()
+                .map(enroll -> new PushTarget(keyPrefix + enroll.getId(), enroll.getUser().getFcmToken()))
+                .toList();
+        notificationOutboxService.enqueueEnrollPushList(targetList, title, body, board.getId(), acceptStatus, chatRoomId);
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -2,6 +2,7 @@ package com.back.catchmate.domain.game.entity;
 
 import com.back.catchmate.domain.club.entity.Club;
 import com.back.catchmate.global.entity.BaseTimeEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -16,10 +17,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
+import static com.back.catchmate.global.config.JpaConfig.GAME_CACHE_REGION;
+
+// 경기 일정 수정은 드물어 2차 캐시에 보관 (수정 시 캐시 항목을 무효화하고, 다른 인스턴스의 항목은 짧은 TTL 후 만료)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = GAME_CACHE_REGION)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,4 @@
+package com.back.catchmate.domain.inquiry.event;
+
+public record InquiryCreatedEvent(Long inquiryId) {
+}
@@ -6,6 +6,7 @@ import com.back.catchmate.domain.inquiry.converter.InquiryConverter;
 import com.back.catchmate.domain.inquiry.dto.InquiryRequest.CreateInquiryRequest;
 import com.back.catchmate.domain.inquiry.dto.InquiryResponse;
 import com.back.catchmate.domain.inquiry.entity.Inquiry;
+import com.back.catchmate.domain.inquiry.event.InquiryCreatedEvent;
 import com.back.catchmate.domain.inquiry.repository.InquiryRepository;
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.UserRepository;
@@ -13,6 +14,7 @@ import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class InquiryServiceImpl implements InquiryService {
     private final InquiryRepository inquiryRepository;
     private final UserRepository userRepository;
     private final InquiryConverter inquiryConverter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -31,6 +34,7 @@ public class InquiryServiceImpl implements InquiryService {
 
         Inquiry inquiry = inquiryConverter.toEntity(user, request);
         inquiryRepository.save(inquiry);
+        eventPublisher.publishEvent(new InquiryCreatedEvent(inquiry.getId()));
         return new StateResponse(true);
     }
 
@@ -1,25 +1,35 @@
 package com.back.catchmate.domain.notice.repository;
 
 import com.back.catchmate.domain.notice.entity.Notice;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import static com.back.catchmate.global.config.JpaConfig.NOTICE_LIST_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
     @Query("SELECT n FROM Notice n " +
             "WHERE (:startDateTime IS NULL OR n.createdAt >= :startDateTime) " +
             "AND (:endDateTime IS NULL OR n.createdAt <= :endDateTime) " +
             "AND n.deletedAt IS NULL") // Soft Delete 적용
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = NOTICE_LIST_CACHE_REGION)})
     Page<Notice> findNoticesWithinDateRange(@Param("startDateTime") LocalDateTime startDateTime,
                                             @Param("endDateTime") LocalDateTime endDateTime,
                                             Pageable pageable);
 
     Optional<Notice> findByIdAndDeletedAtIsNull(Long id);
 
+    // 목록 결과(ID)는 전용 쿼리 캐시 영역에, 각 공지사항은 엔티티 캐시에 보관
+    // 같은 인스턴스에서 notices 테이블이 변경되면 바로 무효화되고, 다른 인스턴스의 변경은 짧은 TTL 후 반영됨
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = NOTICE_LIST_CACHE_REGION)})
     Page<Notice> findAllByDeletedAtIsNull(Pageable pageable);
 }
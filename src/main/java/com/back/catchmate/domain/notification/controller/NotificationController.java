@@ -1,5 +1,6 @@
 package com.back.catchmate.domain.notification.controller;
 
+import com.back.catchmate.domain.notification.dto.NotificationResponse.CursorNotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.NotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.PagedNotificationInfo;
 import com.back.catchmate.domain.notification.service.NotificationService;
@@ -8,17 +9,26 @@ import com.back.catchmate.global.jwt.JwtValidation;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+
 @Tag(name = "[사용자] 알림 관련 API")
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/notifications")
@@ -33,6 +43,21 @@ public class NotificationController {
         return notificationService.getNotificationList(userId, pageable);
     }
 
+    @GetMapping("/receive/cursor")
+    @Operation(summary = "내가 받은 알림 목록 커서 조회 API", description = "전체 개수를 세지 않고 (생성일시, 알림 ID) 커서 기준으로 알림 목록을 조회하는 API 입니다.")
+    public CursorNotificationInfo getNotificationListByCursor(@JwtValidation Long userId,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+                                                              @RequestParam(required = false) Long lastNotificationId,
+                                                              @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return notificationService.getNotificationList(userId, lastCreatedAt, lastNotificationId, size);
+    }
+
+    @PatchMapping("/receive/read-all")
+    @Operation(summary = "내가 받은 알림 모두 읽음 처리 API", description = "읽지 않은 알림을 한 번에 읽음 처리하는 API 입니다.")
+    public StateResponse markAllAsRead(@JwtValidation Long userId) {
+        return notificationService.markAllAsRead(userId);
+    }
+
     @GetMapping("/receive/{notificationId}")
     @Operation(summary = "내가 받은 알림 단일 조회 API", description = "내가 받은 알림을 단일 조회하는 API 입니다.")
     public NotificationInfo getNotification(@JwtValidation Long userId,
@@ -7,8 +7,10 @@ import com.back.catchmate.domain.enroll.entity.AcceptStatus;
 import com.back.catchmate.domain.inquiry.converter.InquiryConverter;
 import com.back.catchmate.domain.inquiry.dto.InquiryResponse.InquiryInfo;
 import com.back.catchmate.domain.inquiry.entity.Inquiry;
+import com.back.catchmate.domain.notification.dto.NotificationResponse.CursorNotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.NotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.PagedNotificationInfo;
+import com.back.catchmate.domain.notification.dto.NotificationSummary;
 import com.back.catchmate.domain.notification.entity.Notification;
 import com.back.catchmate.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
@@ -69,6 +71,20 @@ public class NotificationConverter {
                 .build();
     }
 
+    // size + 1 개를 조회한 결과로 다음 페이지 여부를 판단하고 마지막 항목을 다음 커서로 사용
+    public CursorNotificationInfo toCursorNotificationInfo(List<NotificationSummary> summaryList, int size) {
+        boolean isLast = summaryList.size() <= size;
+        List<NotificationSummary> pageList = isLast ? summaryList : summaryList.subList(0, size);
+        NotificationSummary lastSummary = pageList.isEmpty() ? null : pageList.get(pageList.size() - 1);
+
+        return CursorNotificationInfo.builder()
+                .notificationSummaryList(pageList)
+                .lastCreatedAt(isLast || lastSummary == null ? null : lastSummary.createdAt())
+                .lastNotificationId(isLast || lastSummary == null ? null : lastSummary.notificationId())
+                .isLast(isLast)
+                .build();
+    }
+
     public NotificationInfo toNotificationInfo(Notification notification, Board board) {
         BoardInfo boardInfo = boardConverter.toBoardInfo(board, board.getGame());
 
@@ -0,0 +1,34 @@
+package com.back.catchmate.domain.notification.dto;
+
+// FCM HTTP v1 전송 결과 (토큰 단위로 성공/재시도/토큰 정리/실패를 구분)
+public record FcmSendResult(Status status, String error) {
+    public enum Status {
+        SUCCESS,
+        // 429, 5xx, 네트워크 오류 - 잠시 후 다시 보내면 성공할 수 있음
+        RETRYABLE,
+        // 앱 삭제 등으로 더 이상 유효하지 않은 토큰 - 사용자 토큰을 제거해야 함
+        UNREGISTERED,
+        // 잘못된 요청 - 재시도해도 성공할 수 없음
+        FAILED
+    }
+
+    public static FcmSendResult success() {
+        return new FcmSendResult(Status.SUCCESS, null);
+    }
+
+    public static FcmSendResult retryable(String error) {
+        return new FcmSendResult(Status.RETRYABLE, error);
+    }
+
+    public static FcmSendResult unregistered(String error) {
+        return new FcmSendResult(Status.UNREGISTERED, error);
+    }
+
+    public static FcmSendResult failed(String error) {
+        return new FcmSendResult(Status.FAILED, error);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
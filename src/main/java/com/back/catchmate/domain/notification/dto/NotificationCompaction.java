@@ -0,0 +1,11 @@
+package com.back.catchmate.domain.notification.dto;
+
+import java.time.LocalDateTime;
+
+// 정리 대상 알림을 사용자별로 집계한 결과
+public record NotificationCompaction(Long userId,
+                                     Long totalCount,
+                                     Long readCount,
+                                     LocalDateTime oldestCreatedAt,
+                                     LocalDateTime newestCreatedAt) {
+}
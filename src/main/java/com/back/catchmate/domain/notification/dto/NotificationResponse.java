@@ -40,4 +40,15 @@ public abstract class NotificationResponse {
         private Boolean isFirst;
         private Boolean isLast;
     }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class CursorNotificationInfo {
+        private List<NotificationSummary> notificationSummaryList;
+        private LocalDateTime lastCreatedAt; // 다음 페이지 요청 시 전달할 커서 (createdAt)
+        private Long lastNotificationId;     // 다음 페이지 요청 시 전달할 커서 (notificationId)
+        private Boolean isLast;
+    }
 }
@@ -0,0 +1,19 @@
+package com.back.catchmate.domain.notification.dto;
+
+import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+
+import java.time.LocalDateTime;
+
+// 알림 목록 화면에 필요한 값만 한 번의 조인으로 조회한 프로젝션
+public record NotificationSummary(Long notificationId,
+                                  String title,
+                                  String body,
+                                  boolean isRead,
+                                  AcceptStatus acceptStatus,
+                                  LocalDateTime createdAt,
+                                  Long boardId,
+                                  String boardTitle,
+                                  Long inquiryId,
+                                  String senderNickName,
+                                  String senderProfileImageUrl) {
+}
@@ -0,0 +1,5 @@
+package com.back.catchmate.domain.notification.dto;
+
+// 같은 내용의 푸시를 여러 사용자에게 보낼 때 사용자별로 달라지는 값 (중복 방지 키, FCM 토큰)
+public record PushTarget(String idempotencyKey, String targetToken) {
+}
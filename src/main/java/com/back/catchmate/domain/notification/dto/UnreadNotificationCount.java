@@ -0,0 +1,5 @@
+package com.back.catchmate.domain.notification.dto;
+
+// 사용자별 읽지 않은 알림 수
+public record UnreadNotificationCount(Long userId, Long count) {
+}
@@ -0,0 +1,102 @@
+package com.back.catchmate.domain.notification.entity;
+
+import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+import com.back.catchmate.global.entity.BaseTimeEntity;
+import com.back.catchmate.global.entity.IdSequence;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 푸시 알림 발송 대기열 (비즈니스 변경과 같은 트랜잭션에서 저장하고 디스패처가 비동기로 전송)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_dispatch", columnList = "status, nextAttemptAt")
+})
+public class NotificationOutbox extends BaseTimeEntity {
+    @Id
+    // 푸시 일괄 적재 시 INSERT 를 배치로 묶기 위해 시퀀스 사용
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = IdSequence.ALLOCATION_SIZE)
+    @Column(name = "notification_outbox_id")
+    private Long id;
+
+    // 같은 비즈니스 이벤트가 중복 저장되지 않도록 하는 키 (ex. enroll-accept:{enrollId})
+    @Column(nullable = false, unique = true)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxType type;
+
+    @Column(nullable = false)
+    private String targetToken;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String body;
+
+    private Long boardId;
+
+    private Long chatRoomId;
+
+    private Long inquiryId;
+
+    @Enumerated(EnumType.STRING)
+    private AcceptStatus acceptStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attemptCount;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    // 전송을 위해 선점 (전송 결과가 기록되지 않으면 visibleAt 이후 다른 디스패처가 다시 가져감)
+    public void claim(LocalDateTime visibleAt) {
+        this.attemptCount++;
+        this.nextAttemptAt = visibleAt;
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = OutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error;
+    }
+
+    public void markDead(String error) {
+        this.status = OutboxStatus.DEAD;
+        this.lastError = error;
+    }
+}
@@ -0,0 +1,63 @@
+package com.back.catchmate.domain.notification.entity;
+
+import com.back.catchmate.domain.notification.dto.NotificationCompaction;
+import com.back.catchmate.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관 기간이 지나 삭제된 알림의 사용자별 요약 (원본 행 대신 건수와 기간만 유지)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "notification_rollups")
+public class NotificationRollup extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_rollup_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(nullable = false)
+    private long totalCount;
+
+    @Column(nullable = false)
+    private long readCount;
+
+    private LocalDateTime oldestCreatedAt;
+
+    private LocalDateTime newestCreatedAt;
+
+    public static NotificationRollup empty(Long userId) {
+        return NotificationRollup.builder()
+                .userId(userId)
+                .totalCount(0)
+                .readCount(0)
+                .build();
+    }
+
+    public void accumulate(NotificationCompaction compaction) {
+        this.totalCount += compaction.totalCount();
+        this.readCount += compaction.readCount();
+        if (oldestCreatedAt == null || compaction.oldestCreatedAt().isBefore(oldestCreatedAt)) {
+            this.oldestCreatedAt = compaction.oldestCreatedAt();
+        }
+        if (newestCreatedAt == null || compaction.newestCreatedAt().isAfter(newestCreatedAt)) {
+            this.newestCreatedAt = compaction.newestCreatedAt();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.back.catchmate.domain.notification.entity;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    DEAD;
+}
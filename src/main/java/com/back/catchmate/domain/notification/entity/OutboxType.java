@@ -0,0 +1,6 @@
+package com.back.catchmate.domain.notification.entity;
+
+public enum OutboxType {
+    ENROLL,
+    INQUIRY;
+}
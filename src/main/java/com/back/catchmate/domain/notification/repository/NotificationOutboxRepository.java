@@ -0,0 +1,44 @@
+package com.back.catchmate.domain.notification.repository;
+
+import com.back.catchmate.domain.notification.entity.NotificationOutbox;
+import com.back.catchmate.domain.notification.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    @Query("SELECT o.idempotencyKey FROM NotificationOutbox o WHERE o.idempotencyKey IN :idempotencyKeys")
+    List<String> findIdempotencyKeysIn(@Param("idempotencyKeys") List<String> idempotencyKeys);
+
+    // 여러 인스턴스의 디스패처가 같은 행을 가져가지 않도록 잠긴 행은 건너뜀 (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.id ASC")
+    List<NotificationOutbox> findDispatchable(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    // 전송 완료(SENT) / 전송 포기(DEAD) 처리된 뒤 보관 기간이 지난 아웃박스
+    @Query("SELECT o.id FROM NotificationOutbox o " +
+            "WHERE o.id > :lastId AND o.status = :status AND o.updatedAt < :threshold " +
+            "ORDER BY o.id ASC")
+    List<Long> findPurgeableIds(@Param("status") OutboxStatus status,
+                                @Param("lastId") Long lastId,
+                                @Param("threshold") LocalDateTime threshold,
+                                Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM NotificationOutbox o WHERE o.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+}
@@ -1,14 +1,29 @@
 package com.back.catchmate.domain.notification.repository;
 
 import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+import com.back.catchmate.domain.notification.dto.NotificationCompaction;
+import com.back.catchmate.domain.notification.dto.NotificationSummary;
+import com.back.catchmate.domain.notification.dto.UnreadNotificationCount;
 import com.back.catchmate.domain.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+    String SUMMARY_SELECT = "SELECT new com.back.catchmate.domain.notification.dto.NotificationSummary(" +
+            "n.id, n.title, n.body, n.isRead, n.acceptStatus, n.createdAt, b.id, b.title, i.id, s.nickName, s.profileImageUrl) " +
+            "FROM Notification n " +
+            "LEFT JOIN n.board b " +
+            "LEFT JOIN n.inquiry i " +
+            "LEFT JOIN n.sender s ";
+
     Page<Notification> findByUserIdAndDeletedAtIsNull(Long userId, Pageable pageable);
 
     Optional<Notification> findByIdAndUserIdAndDeletedAtIsNull(Long notificationId, Long userId);
@@ -17,5 +32,67 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     Optional<Notification> findByUserIdAndBoardIdAndSenderIdAndAcceptStatusAndDeletedAtIsNull(Long userId, Long boardId, Long senderId, AcceptStatus acceptStatus);
 
+    // 게시글 작성자가 받은 신청 알림의 처리 상태를 신청자 단위로 일괄 변경
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Notification n SET n.acceptStatus = :newStatus " +
+            "WHERE n.user.id = :userId AND n.board.id = :boardId AND n.sender.id IN :senderIds " +
+            "AND n.acceptStatus = 'PENDING' AND n.deletedAt IS NULL")
+    int updatePendingAcceptStatusBySenderIdIn(@Param("userId") Long userId, @Param("boardId") Long boardId,
+                                               @Param("senderIds") List<Long> senderIds, @Param("newStatus") AcceptStatus newStatus);
+
     Boolean existsByUserIdAndIsReadFalseAndDeletedAtIsNull(Long userId);
+
+    long countByUserIdAndIsReadFalseAndDeletedAtIsNull(Long userId);
+
+    // 최신순 첫 페이지 (COUNT 쿼리 없이 size + 1 개를 조회하여 다음 페이지 여부 판단)
+    @Query(SUMMARY_SELECT +
+            "WHERE n.user.id = :userId AND n.deletedAt IS NULL " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationSummary> findSummaryList(@Param("userId") Long userId, Pageable pageable);
+
+    // (createdAt, id) 커서 이후 페이지
+    @Query(SUMMARY_SELECT +
+            "WHERE n.user.id = :userId AND n.deletedAt IS NULL " +
+            "AND (n.createdAt < :lastCreatedAt OR (n.createdAt = :lastCreatedAt AND n.id < :lastNotificationId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationSummary> findSummaryListBefore(@Param("userId") Long userId,
+                                                    @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                                                    @Param("lastNotificationId") Long lastNotificationId,
+                                                    Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false AND n.deletedAt IS NULL")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    // 게시글 삭제로 함께 삭제될 알림 중 읽지 않은 알림 수 (배지 차감용)
+    @Query("SELECT new com.back.catchmate.domain.notification.dto.UnreadNotificationCount(n.user.id, COUNT(n)) " +
+            "FROM Notification n WHERE n.board.id IN :boardIds AND n.isRead = false AND n.deletedAt IS NULL GROUP BY n.user.id")
+    List<UnreadNotificationCount> countUnreadByUserForBoardIdIn(@Param("boardIds") List<Long> boardIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.deletedAt = :deletedAt WHERE n.board.id IN :boardIds AND n.deletedAt IS NULL")
+    int softDeleteAllByBoardIdIn(@Param("boardIds") List<Long> boardIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 보관 정리 대상: 읽은 지 오래된 알림 또는 읽음 여부와 관계없이 최대 보관 기간이 지난 알림
+    @Query("SELECT n.id FROM Notification n " +
+            "WHERE n.id > :lastId AND n.deletedAt IS NULL " +
+            "AND ((n.isRead = true AND n.createdAt < :readThreshold) OR n.createdAt < :expireThreshold) " +
+            "ORDER BY n.id ASC")
+    List<Long> findCompactableIds(@Param("lastId") Long lastId,
+                                  @Param("readThreshold") LocalDateTime readThreshold,
+                                  @Param("expireThreshold") LocalDateTime expireThreshold,
+                                  Pageable pageable);
+
+    @Query("SELECT new com.back.catchmate.domain.notification.dto.NotificationCompaction(" +
+            "n.user.id, COUNT(n), SUM(CASE WHEN n.isRead = true THEN 1L ELSE 0L END), MIN(n.createdAt), MAX(n.createdAt)) " +
+            "FROM Notification n WHERE n.id IN :ids GROUP BY n.user.id")
+    List<NotificationCompaction> summarizeByUser(@Param("ids") List<Long> ids);
+
+    // soft delete 된 뒤 유예 기간이 지난 알림
+    @Query("SELECT n.id FROM Notification n WHERE n.id > :lastId AND n.deletedAt < :threshold ORDER BY n.id ASC")
+    List<Long> findPurgeableIds(@Param("lastId") Long lastId, @Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
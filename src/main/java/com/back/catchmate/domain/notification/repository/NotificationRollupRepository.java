@@ -0,0 +1,11 @@
+package com.back.catchmate.domain.notification.repository;
+
+import com.back.catchmate.domain.notification.entity.NotificationRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationRollupRepository extends JpaRepository<NotificationRollup, Long> {
+    List<NotificationRollup> findByUserIdIn(Collection<Long> userIds);
+}
@@ -1,47 +1,41 @@
 package com.back.catchmate.domain.notification.service;
 
-import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
 import com.back.catchmate.domain.enroll.entity.AcceptStatus;
 import com.back.catchmate.domain.notification.dto.FCMMessageRequest;
-import com.back.catchmate.global.error.ErrorCode;
-import com.back.catchmate.global.error.exception.BaseException;
+import com.back.catchmate.domain.user.repository.UserRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.AndroidNotification;
+import com.google.firebase.messaging.ApnsConfig;
+import com.google.firebase.messaging.Aps;
 import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.RequestBody;
-import okhttp3.Response;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FCMService {
-    @Value("${fcm.firebase_config_path}")
-    private String FIREBASE_CONFIG_PATH;
-    @Value("${fcm.firebase_api_uri}")
-    private String FIREBASE_ALARM_SEND_API_URI;
-    private final FcmTokenProvider fcmTokenProvider;
-    private final OkHttpClient okHttpClient;
+    private static final int MULTICAST_MAX_TOKENS = 500;
 
     private final ObjectMapper objectMapper;
-    private final UserChatRoomRepository userChatRoomRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
 
     // 신청 알림 파라미터들을 요구하는 body 형태로 가공
     public String makeEnrollMessage(String targetToken, String title, String body, Long boardId, AcceptStatus acceptStatus, Long chatRoomId) throws JsonProcessingException {
@@ -95,60 +89,56 @@ public class FCMService {
         return objectMapper.writeValueAsString(fcmMessage);
     }
 
-    @Async("asyncTask")
-    public void sendMessageByToken(String targetToken, String title, String body, Long boardId, AcceptStatus acceptStatus, Long chatRoomId) throws IOException {
-        String message = makeEnrollMessage(targetToken, title, body, boardId, acceptStatus, chatRoomId);
-        sendRequest(message);
-    }
-
-    @Async("asyncTask")
-    public void sendMessageByToken(String targetToken, String title, String body, Long inquiryId) throws IOException {
-        String message = makeInquiryMessage(targetToken, title, body, inquiryId);
-        sendRequest(message);
+    // 채팅 푸시 대상 토큰 목록에 FCM 메시지 전송 (대상 선정은 호출하는 쪽에서 완료)
+    @Async("chatPushTask")
+    public void sendMessagesByTokens(Long chatRoomId, String title, String body, List<String> targetTokenList) throws FirebaseMessagingException {
+        String collapseKey = "chat-" + chatRoomId;
+        // 멀티캐스트 한 번에 보낼 수 있는 토큰 수 제한(500)에 맞춰 나누어 전송
+        for (int from = 0; from < targetTokenList.size(); from += MULTICAST_MAX_TOKENS) {
+            List<String> tokenChunk = targetTokenList.subList(from, Math.min(from + MULTICAST_MAX_TOKENS, targetTokenList.size()));
+            MulticastMessage message = MulticastMessage.builder()
+                    .setNotification(Notification.builder()
+                            .setTitle(title)
+                            .setBody(body)
+                            .build())
+                    .putData("chatRoomId", String.valueOf(chatRoomId))
+                    // 같은 채팅방의 알림은 기기에서 하나로 대체되도록 collapse key 지정
+                    .setAndroidConfig(AndroidConfig.builder()
+                            .setCollapseKey(collapseKey)
+                            .setNotification(AndroidNotification.builder().setTag(collapseKey).build())
+                            .build())
+                    .setApnsConfig(ApnsConfig.builder()
+                            .putHeader("apns-collapse-id", collapseKey)
+                            .setAps(Aps.builder().setThreadId(collapseKey).build())
+                            .build())
+                    .addAllTokens(tokenChunk)
+                    .build();
+
+            // FCM에 메시지 전송
+            BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
+
+            log.info("FCM 응답: {}개의 메시지가 성공적으로 전송되었습니다.", response.getSuccessCount());
+            clearUnregisteredTokens(tokenChunk, response);
+        }
     }
 
-    // 공통 전송 로직 분리
-    private void sendRequest(String message) throws IOException {
-        RequestBody requestBody = RequestBody.create(message, MediaType.get("application/json; charset=utf-8"));
-
-        Request request = new Request.Builder()
-                .url(FIREBASE_ALARM_SEND_API_URI)
-                .post(requestBody)
-                // [변경] this.getAccessToken() -> fcmTokenProvider.getAccessToken()
-                .addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + fcmTokenProvider.getAccessToken())
-                .addHeader(HttpHeaders.CONTENT_TYPE, "application/json; UTF-8")
-                .build();
-
-        // [변경] new OkHttpClient() -> okHttpClient
-        try (Response response = okHttpClient.newCall(request).execute()) {
-            if (response.body() == null) {
-                throw new BaseException(ErrorCode.EMPTY_FCM_RESPONSE);
+    // 더 이상 유효하지 않은 토큰은 사용자 정보에서 제거하여 이후 푸시 대상에서 빠지도록 함 (응답 순서는 토큰 순서와 같음)
+    private void clearUnregisteredTokens(List<String> tokenChunk, BatchResponse response) {
+        List<SendResponse> sendResponseList = response.getResponses();
+        Set<String> unregisteredTokens = new HashSet<>();
+        for (int i = 0; i < sendResponseList.size(); i++) {
+            SendResponse sendResponse = sendResponseList.get(i);
+            if (!sendResponse.isSuccessful()
+                    && sendResponse.getException() != null
+                    && sendResponse.getException().getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+                unregisteredTokens.add(tokenChunk.get(i));
             }
-            log.info(response.body().string());
         }
-    }
-    // 특정 채팅방의 모든 사용자에게 FCM 메시지 전송
-    @Async("asyncTask")
-    public void sendMessagesByTokens(Long chatRoomId, String title, String body, String senderToken) throws FirebaseMessagingException {
-        List<String> targetTokenList = userChatRoomRepository.findByChatRoomIdAndDeletedAtIsNull(chatRoomId)
-                .stream()
-                .map(userChatRoom -> userChatRoom.getUser().getFcmToken()) // User 엔티티에서 FCM 토큰 가져오기
-                .filter(token -> token != null && !token.isEmpty())
-                .filter(token -> !token.equals(senderToken))
-                .toList();
-
-        MulticastMessage message = MulticastMessage.builder()
-                .setNotification(Notification.builder()
-                        .setTitle(title)
-                        .setBody(body)
-                        .build())
-                .putData("chatRoomId", String.valueOf(chatRoomId))
-                .addAllTokens(targetTokenList)
-                .build();
 
-        // FCM에 메시지 전송
-        BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
-
-        log.info("FCM 응답: {}개의 메시지가 성공적으로 전송되었습니다.", response.getSuccessCount());
+        if (!unregisteredTokens.isEmpty()) {
+            Integer clearedCount = new TransactionTemplate(transactionManager)
+                    .execute(status -> userRepository.clearFcmTokens(unregisteredTokens));
+            log.info("Unregistered fcm tokens cleared: tokens={}, users={}", unregisteredTokens.size(), clearedCount);
+        }
     }
 }
@@ -0,0 +1,175 @@
+package com.back.catchmate.domain.notification.service;
+
+import com.back.catchmate.domain.notification.dto.FcmSendResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// FCM HTTP v1 메시지를 비동기로 동시에 전송 (공유 커넥션 풀 + 동시 요청 수 제한)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmPushSender {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final String UNREGISTERED = "UNREGISTERED";
+
+    private final OkHttpClient okHttpClient;
+    private final FcmTokenProvider fcmTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fcm.firebase_api_uri}")
+    private String sendApiUri;
+
+    // 동시에 전송 중인 요청의 최대 개수 (초과하면 호출 스레드가 대기)
+    @Value("${fcm.sender.max-in-flight:64}")
+    private int maxInFlight;
+
+    @Value("${fcm.sender.await-timeout-seconds:30}")
+    private long awaitTimeoutSeconds;
+
+    private Semaphore inFlight;
+
+    @PostConstruct
+    void init() {
+        inFlight = new Semaphore(maxInFlight);
+        Gauge.builder("fcm.sender.in_flight", this, sender -> sender.maxInFlight - sender.inFlight.availablePermits())
+                .description("응답을 기다리고 있는 FCM 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 메시지 목록을 동시에 전송하고 요청 순서대로 결과를 반환
+    public List<FcmSendResult> sendAll(List<String> messageList) {
+        List<CompletableFuture<FcmSendResult>> futureList = messageList.stream()
+                .map(this::sendAsync)
+                .toList();
+        return futureList.stream()
+                .map(this::await)
+                .toList();
+    }
+
+    public CompletableFuture<FcmSendResult> sendAsync(String message) {
+        CompletableFuture<FcmSendResult> future = new CompletableFuture<>();
+        Request request;
+        try {
+            request = buildRequest(message);
+            inFlight.acquire();
+        } catch (IOException e) {
+            future.complete(record(FcmSendResult.retryable("Access token: " + e.getMessage())));
+            return future;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.complete(FcmSendResult.retryable("Interrupted"));
+            return future;
+        }
+
+        try {
+            okHttpClient.newCall(request).enqueue(new Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    inFlight.release();
+                    future.complete(record(FcmSendResult.retryable(e.getClass().getSimpleName() + ": " + e.getMessage())));
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) {
+                    try (response) {
+                        future.complete(record(classify(response)));
+                    } catch (Exception e) {
+                        future.complete(record(FcmSendResult.retryable(e.getClass().getSimpleName() + ": " + e.getMessage())));
+                    } finally {
+                        inFlight.release();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            future.complete(record(FcmSendResult.retryable(e.getClass().getSimpleName() + ": " + e.getMessage())));
+        }
+        return future;
+    }
+
+    private Request buildRequest(String message) throws IOException {
+        return new Request.Builder()
+                .url(sendApiUri)
+                .post(RequestBody.create(message, JSON))
+                .addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + fcmTokenProvider.getAccessToken())
+                .build();
+    }
+
+    // 응답 본문 전체를 로그로 남기지 않고 실패한 경우의 에러 코드만 기록
+    private FcmSendResult classify(Response response) throws IOException {
+        if (response.isSuccessful()) {
+            return FcmSendResult.success();
+        }
+
+        ResponseBody body = response.body();
+        String errorCode = parseErrorCode(body == null ? "" : body.string());
+        String error = "FCM status " + response.code() + (errorCode == null ? "" : " " + errorCode);
+        log.warn("FCM 전송 실패: {}", error);
+
+        if (UNREGISTERED.equals(errorCode)) {
+            return FcmSendResult.unregistered(error);
+        }
+        if (response.code() == 429 || response.code() >= 500) {
+            return FcmSendResult.retryable(error);
+        }
+        return FcmSendResult.failed(error);
+    }
+
+    // {"error": {"status": "NOT_FOUND", "details": [{"errorCode": "UNREGISTERED"}]}}
+    private String parseErrorCode(String body) {
+        try {
+            JsonNode error = objectMapper.readTree(body).path("error");
+            for (JsonNode detail : error.path("details")) {
+                if (detail.hasNonNull("errorCode")) {
+                    return detail.get("errorCode").asText();
+                }
+            }
+            return error.hasNonNull("status") ? error.get("status").asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private FcmSendResult await(CompletableFuture<FcmSendResult> future) {
+        try {
+            return future.get(awaitTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            return record(FcmSendResult.retryable("Timeout"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return FcmSendResult.retryable("Interrupted");
+        } catch (ExecutionException e) {
+            return record(FcmSendResult.retryable(e.getCause().getMessage()));
+        }
+    }
+
+    private FcmSendResult record(FcmSendResult result) {
+        meterRegistry.counter("fcm.sender.results", "status", result.status().name()).increment();
+        return result;
+    }
+}
@@ -1,25 +1,162 @@
 package com.back.catchmate.domain.notification.service;
 
+import com.google.auth.oauth2.AccessToken;
 import com.google.auth.oauth2.GoogleCredentials;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+// FCM 전송에 사용하는 OAuth 액세스 토큰을 메모리에 보관하고 만료 전에 백그라운드에서 미리 갱신
+// 전송 경로에서는 캐시된 토큰만 읽으므로 알림마다 키 파일을 읽거나 토큰을 교환하지 않음
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class FcmTokenProvider {
+    private static final List<String> SCOPES = List.of("https://www.googleapis.com/auth/cloud-platform");
+    // 만료 직전의 토큰으로 요청하면 전송 중에 만료될 수 있으므로 여유를 둠
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_TOKEN_LIFETIME = Duration.ofHours(1);
+    // 발급된 토큰의 수명이 짧더라도 갱신 요청이 연달아 발생하지 않도록 하는 최소 간격
+    private static final Duration MIN_REFRESH_DELAY = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fcm-token-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Value("${fcm.firebase_config_path}")
     private String firebaseConfigPath;
 
+    // 만료 몇 초 전에 갱신할지
+    @Value("${fcm.token.refresh-ahead-seconds:300}")
+    private long refreshAheadSeconds;
+
+    // 여러 인스턴스가 같은 시각에 토큰을 교환하지 않도록 갱신 시각을 분산
+    @Value("${fcm.token.refresh-jitter-seconds:60}")
+    private long refreshJitterSeconds;
+
+    @Value("${fcm.token.retry-delay-seconds:30}")
+    private long retryDelaySeconds;
+
+    private GoogleCredentials credentials;
+    private ScheduledFuture<?> scheduledRefresh;
+    private volatile CachedToken cachedToken;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("fcm.access_token.age.seconds", this, FcmTokenProvider::tokenAgeSeconds)
+                .description("현재 사용 중인 FCM 액세스 토큰이 발급된 이후 경과 시간")
+                .register(meterRegistry);
+        meterRegistry.counter("fcm.access_token.refresh.failures");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
     public String getAccessToken() throws IOException {
-        GoogleCredentials googleCredentials = GoogleCredentials
-                .fromStream(new ClassPathResource(firebaseConfigPath).getInputStream())
-                .createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
+        CachedToken token = cachedToken;
+        if (token != null && token.isUsable(Instant.now())) {
+            return token.value();
+        }
+        // 최초 호출이거나 백그라운드 갱신이 계속 실패하여 만료된 경우에만 요청 스레드에서 갱신
+        return refreshIfUnusable().value();
+    }
+
+    private synchronized CachedToken refreshIfUnusable() throws IOException {
+        CachedToken token = cachedToken;
+        if (token != null && token.isUsable(Instant.now())) {
+            return token;
+        }
+        return refresh();
+    }
+
+    private synchronized CachedToken refresh() throws IOException {
+        try {
+            if (credentials == null) {
+                credentials = loadCredentials();
+            }
+            credentials.refresh();
+
+            AccessToken accessToken = credentials.getAccessToken();
+            Instant issuedAt = Instant.now();
+            Instant expiresAt = accessToken.getExpirationTime() != null
+                    ? accessToken.getExpirationTime().toInstant()
+                    : issuedAt.plus(DEFAULT_TOKEN_LIFETIME);
+
+            CachedToken refreshed = new CachedToken(accessToken.getTokenValue(), issuedAt, expiresAt);
+            cachedToken = refreshed;
+            scheduleRefresh(nextRefreshDelay(refreshed));
+            return refreshed;
+        } catch (IOException | RuntimeException e) {
+            meterRegistry.counter("fcm.access_token.refresh.failures").increment();
+            throw e;
+        }
+    }
+
+    private void refreshInBackground() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 기존 토큰은 만료 전까지 계속 사용하고 짧은 간격으로 다시 시도
+            log.warn("FCM access token refresh failed, retry in {}s", retryDelaySeconds, e);
+            scheduleRefresh(Duration.ofSeconds(retryDelaySeconds));
+        }
+    }
+
+    private synchronized void scheduleRefresh(Duration delay) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+        scheduledRefresh = refresher.schedule(this::refreshInBackground, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    Duration nextRefreshDelay(CachedToken token) {
+        long jitterMillis = refreshJitterSeconds > 0
+                ? ThreadLocalRandom.current().nextLong(TimeUnit.SECONDS.toMillis(refreshJitterSeconds))
+                : 0;
+        Instant refreshAt = token.expiresAt()
+                .minusSeconds(refreshAheadSeconds)
+                .minusMillis(jitterMillis);
+        Duration delay = Duration.between(Instant.now(), refreshAt);
+        return delay.compareTo(MIN_REFRESH_DELAY) < 0 ? MIN_REFRESH_DELAY : delay;
+    }
+
+    GoogleCredentials loadCredentials() throws IOException {
+        try (InputStream inputStream = new ClassPathResource(firebaseConfigPath).getInputStream()) {
+            return GoogleCredentials.fromStream(inputStream).createScoped(SCOPES);
+        }
+    }
+
+    private double tokenAgeSeconds() {
+        CachedToken token = cachedToken;
+        return token == null ? 0 : Duration.between(token.issuedAt(), Instant.now()).toSeconds();
+    }
 
-        googleCredentials.refreshIfExpired();
-        return googleCredentials.getAccessToken().getTokenValue();
+    record CachedToken(String value, Instant issuedAt, Instant expiresAt) {
+        boolean isUsable(Instant now) {
+            return now.isBefore(expiresAt.minus(EXPIRY_MARGIN));
+        }
     }
 }
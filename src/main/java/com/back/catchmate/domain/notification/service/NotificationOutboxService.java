@@ -0,0 +1,14 @@
+package com.back.catchmate.domain.notification.service;
+
+import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+import com.back.catchmate.domain.notification.dto.PushTarget;
+
+import java.util.List;
+
+public interface NotificationOutboxService {
+    void enqueueEnrollPush(String idempotencyKey, String targetToken, String title, String body, Long boardId, AcceptStatus acceptStatus, Long chatRoomId);
+
+    void enqueueEnrollPushList(List<PushTarget> targetList, String title, String body, Long boardId, AcceptStatus acceptStatus, Long chatRoomId);
+
+    void enqueueInquiryPush(String idempotencyKey, String targetToken, String title, String body, Long inquiryId);
+}
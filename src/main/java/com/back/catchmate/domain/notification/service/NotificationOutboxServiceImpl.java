@@ -0,0 +1,109 @@
+package com.back.catchmate.domain.notification.service;
+
+import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+import com.back.catchmate.domain.notification.dto.PushTarget;
+import com.back.catchmate.domain.notification.entity.NotificationOutbox;
+import com.back.catchmate.domain.notification.entity.OutboxStatus;
+import com.back.catchmate.domain.notification.entity.OutboxType;
+import com.back.catchmate.domain.notification.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    // 호출한 트랜잭션에 참여하여 비즈니스 변경과 함께 커밋 (롤백되면 푸시도 발송되지 않음)
+    @Override
+    @Transactional
+    public void enqueueEnrollPush(String idempotencyKey, String targetToken, String title, String body, Long boardId, AcceptStatus acceptStatus, Long chatRoomId) {
+        enqueue(NotificationOutbox.builder()
+                .idempotencyKey(idempotencyKey)
+                .type(OutboxType.ENROLL)
+                .targetToken(targetToken)
+                .title(title)
+                .body(body)
+                .boardId(boardId)
+                .acceptStatus(acceptStatus)
+                .chatRoomId(chatRoomId));
+    }
+
+    // 일괄 처리 시 여러 사용자의 푸시를 한 번에 적재 (중복 확인과 저장을 각각 한 번의 쿼리로 처리)
+    @Override
+    @Transactional
+    public void enqueueEnrollPushList(List<PushTarget> targetList, String title, String body, Long boardId, AcceptStatus acceptStatus, Long chatRoomId) {
+        List<PushTarget> sendableList = targetList.stream()
+                .filter(target -> target.targetToken() != null && !target.targetToken().isBlank())
+                .toList();
+        if (sendableList.isEmpty()) {
+            return;
+        }
+
+        Set<String> enqueuedKeys = new HashSet<>(notificationOutboxRepository.findIdempotencyKeysIn(
+                sendableList.stream().map(PushTarget::idempotencyKey).toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> outboxList = sendableList.stream()
+                .filter(target -> enqueuedKeys.add(target.idempotencyKey()))
+                .map(target -> NotificationOutbox.builder()
+                        .idempotencyKey(target.idempotencyKey())
+                        .type(OutboxType.ENROLL)
+                        .targetToken(target.targetToken())
+                        .title(title)
+                        .body(body)
+                        .boardId(boardId)
+                        .acceptStatus(acceptStatus)
+                        .chatRoomId(chatRoomId)
+                        .status(OutboxStatus.PENDING)
+                        .attemptCount(0)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+
+        if (outboxList.size() < sendableList.size()) {
+            log.info("Skip duplicated push: count={}", sendableList.size() - outboxList.size());
+        }
+        notificationOutboxRepository.saveAll(outboxList);
+    }
+
+    @Override
+    @Transactional
+    public void enqueueInquiryPush(String idempotencyKey, String targetToken, String title, String body, Long inquiryId) {
+        enqueue(NotificationOutbox.builder()
+                .idempotencyKey(idempotencyKey)
+                .type(OutboxType.INQUIRY)
+                .targetToken(targetToken)
+                .title(title)
+                .body(body)
+                .inquiryId(inquiryId));
+    }
+
+    private void enqueue(NotificationOutbox.NotificationOutboxBuilder builder) {
+        NotificationOutbox outbox = builder
+                .status(OutboxStatus.PENDING)
+                .attemptCount(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        // FCM 토큰이 없는 사용자(알림 미동의, 로그아웃)에게는 발송할 대상이 없음
+        if (outbox.getTargetToken() == null || outbox.getTargetToken().isBlank()) {
+            log.debug("Skip push without fcm token: key={}", outbox.getIdempotencyKey());
+            return;
+        }
+
+        if (notificationOutboxRepository.existsByIdempotencyKey(outbox.getIdempotencyKey())) {
+            log.info("Skip duplicated push: key={}", outbox.getIdempotencyKey());
+            return;
+        }
+        notificationOutboxRepository.save(outbox);
+    }
+}
@@ -1,21 +1,31 @@
 package com.back.catchmate.domain.notification.service;
 
 import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+import com.back.catchmate.domain.notification.dto.NotificationResponse.CursorNotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.NotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.PagedNotificationInfo;
 import com.back.catchmate.global.dto.StateResponse;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface NotificationService {
     void createNotification(String title, String body, Long senderId, Long boardId, Long receiverId, AcceptStatus acceptStatus);
 
+    void createNotificationList(String title, String body, Long senderId, Long boardId, List<Long> receiverIdList, AcceptStatus acceptStatus);
+
     void createNotification(String title, String body, Long senderId, Long inquiryId, Long receiverId);
 
     PagedNotificationInfo getNotificationList(Long userId, Pageable pageable);
 
+    CursorNotificationInfo getNotificationList(Long userId, LocalDateTime lastCreatedAt, Long lastNotificationId, int size);
+
     NotificationInfo getNotification(Long userId, Long notificationId);
 
     StateResponse deleteNotification(Long userId, Long notificationId);
 
+    StateResponse markAllAsRead(Long userId);
+
     Boolean hasUnreadNotification(Long userId);
 }
@@ -6,21 +6,28 @@ import com.back.catchmate.domain.enroll.entity.AcceptStatus;
 import com.back.catchmate.domain.inquiry.entity.Inquiry;
 import com.back.catchmate.domain.inquiry.repository.InquiryRepository;
 import com.back.catchmate.domain.notification.converter.NotificationConverter;
+import com.back.catchmate.domain.notification.dto.NotificationResponse.CursorNotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.NotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.PagedNotificationInfo;
+import com.back.catchmate.domain.notification.dto.NotificationSummary;
 import com.back.catchmate.domain.notification.entity.Notification;
 import com.back.catchmate.domain.notification.repository.NotificationRepository;
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.UserRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
 import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
@@ -29,6 +36,7 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final InquiryRepository inquiryRepository;
     private final NotificationConverter notificationConverter;
+    private final UnreadBadgeService unreadBadgeService;
 
     @Override
     @Transactional
@@ -44,6 +52,29 @@ public class NotificationServiceImpl implements NotificationService {
 
         Notification notification = notificationConverter.toEntityEnroll(user, board, sender, title, body, acceptStatus);
         notificationRepository.save(notification);
+        unreadBadgeService.onNotificationCreated(user.getId());
+    }
+
+    // 같은 게시글에 대한 알림을 여러 수신자에게 한 번에 저장 (수신자 조회와 저장을 각각 한 번의 쿼리로 처리)
+    @Override
+    @Transactional
+    public void createNotificationList(String title, String body, Long senderId, Long boardId, List<Long> receiverIdList, AcceptStatus acceptStatus) {
+        User sender = userRepository.findByIdAndDeletedAtIsNull(senderId)
+                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+
+        Board board = boardRepository.findByIdAndDeletedAtIsNullAndIsCompleted(boardId)
+                .orElseThrow(() -> new BaseException(ErrorCode.BOARD_NOT_FOUND));
+
+        List<User> receiverList = userRepository.findAllById(receiverIdList);
+        if (receiverList.size() != receiverIdList.size()) {
+            throw new BaseException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        List<Notification> notificationList = receiverList.stream()
+                .map(receiver -> notificationConverter.toEntityEnroll(receiver, board, sender, title, body, acceptStatus))
+                .toList();
+        notificationRepository.saveAll(notificationList);
+        receiverList.forEach(receiver -> unreadBadgeService.onNotificationCreated(receiver.getId()));
     }
 
     @Override
@@ -57,6 +88,7 @@ public class NotificationServiceImpl implements NotificationService {
 
         Notification notification = notificationConverter.toEntityInquiry(user, inquiry, title, body);
         notificationRepository.save(notification);
+        unreadBadgeService.onNotificationCreated(user.getId());
     }
 
     @Override
@@ -69,6 +101,18 @@ public class NotificationServiceImpl implements NotificationService {
         return notificationConverter.toPagedNotificationInfo(notificationList);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorNotificationInfo getNotificationList(Long userId, LocalDateTime lastCreatedAt, Long lastNotificationId, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<NotificationSummary> summaryList = (lastCreatedAt == null || lastNotificationId == null)
+                ? notificationRepository.findSummaryList(userId, pageable)
+                : notificationRepository.findSummaryListBefore(userId, lastCreatedAt, lastNotificationId, pageable);
+        return notificationConverter.toCursorNotificationInfo(summaryList, size);
+    }
+
     @Override
     @Transactional
     public NotificationInfo getNotification(Long userId, Long notificationId) {
@@ -81,6 +125,7 @@ public class NotificationServiceImpl implements NotificationService {
         // 읽지 않은 알림일 경우, 읽음으로 표시
         if (notification.isNotRead()) {
             notification.markAsRead();
+            unreadBadgeService.onNotificationRead(user.getId());
         }
 
         Board board = notification.getBoard();
@@ -101,10 +146,24 @@ public class NotificationServiceImpl implements NotificationService {
         Notification notification = notificationRepository.findByIdAndUserIdAndDeletedAtIsNull(notificationId, user.getId())
                 .orElseThrow(() -> new BaseException(ErrorCode.NOTIFICATION_NOT_FOUND));
 
+        // 읽지 않은 알림을 삭제하면 배지에서도 차감
+        if (notification.isNotRead()) {
+            unreadBadgeService.onNotificationRead(user.getId());
+        }
         notification.delete();
         return new StateResponse(true);
     }
 
+    @Override
+    @Transactional
+    public StateResponse markAllAsRead(Long userId) {
+        int updatedCount = notificationRepository.markAllAsReadByUserId(userId);
+        if (updatedCount > 0) {
+            unreadBadgeService.onNotificationRead(userId, updatedCount);
+        }
+        return new StateResponse(true);
+    }
+
     @Override
     public Boolean hasUnreadNotification(Long userId) {
         return notificationRepository.existsByUserIdAndIsReadFalseAndDeletedAtIsNull(userId);
@@ -4,6 +4,7 @@ import com.back.catchmate.domain.report.dto.ReportRequest.CreateReportRequest;
 import com.back.catchmate.domain.report.service.ReportService;
 import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.jwt.JwtValidation;
+import com.back.catchmate.global.ratelimit.RateLimit;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -22,6 +23,7 @@ public class ReportController {
     private final ReportService reportService;
 
     @PostMapping("/{reportedUserId}")
+    @RateLimit(name = "report.create", capacity = 3, refillPerMinute = 3)
     @Operation(summary = "유저 신고 API", description = """ 
                     유저를 신고하는 API입니다. 신고 사유 목록은 다음과 같습니다:
                     - **PROFANITY**: 욕설 / 비하 발언
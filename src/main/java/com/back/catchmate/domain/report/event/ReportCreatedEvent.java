@@ -0,0 +1,4 @@
+package com.back.catchmate.domain.report.event;
+
+public record ReportCreatedEvent(Long reportId) {
+}
@@ -3,6 +3,7 @@ package com.back.catchmate.domain.report.service;
 import com.back.catchmate.domain.report.converter.ReportConverter;
 import com.back.catchmate.domain.report.dto.ReportRequest;
 import com.back.catchmate.domain.report.entity.Report;
+import com.back.catchmate.domain.report.event.ReportCreatedEvent;
 import com.back.catchmate.domain.report.repository.ReportRepository;
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.UserRepository;
@@ -10,6 +11,7 @@ import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class ReportServiceImpl implements ReportService {
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
     private final ReportConverter reportConverter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -31,6 +34,7 @@ public class ReportServiceImpl implements ReportService {
 
         Report report = reportConverter.toEntity(reporter, reportedUser, request);
         reportRepository.save(report);
+        eventPublisher.publishEvent(new ReportCreatedEvent(report.getId()));
 
         return new StateResponse(true);
     }
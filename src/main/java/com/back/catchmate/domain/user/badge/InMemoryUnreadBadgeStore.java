@@ -0,0 +1,99 @@
+package com.back.catchmate.domain.user.badge;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+// 단일 인스턴스 / 테스트용 배지 저장소 (Redis 저장소와 동일한 의미를 메모리에서 제공)
+@Component
+@ConditionalOnProperty(name = "badge.store", havingValue = "memory")
+public class InMemoryUnreadBadgeStore implements UnreadBadgeStore {
+    private final Clock clock;
+    private final ConcurrentHashMap<Long, BadgeEntry> badgeMap = new ConcurrentHashMap<>();
+
+    public InMemoryUnreadBadgeStore() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemoryUnreadBadgeStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<UnreadBadge> find(Long userId) {
+        return Optional.ofNullable(badgeMap.computeIfPresent(userId, this::dropIfExpired))
+                .map(BadgeEntry::toBadge);
+    }
+
+    @Override
+    public UnreadBadge initialize(Long userId, long unreadNotificationCount, Map<Long, Long> unreadChatCountMap, Duration ttl) {
+        Map<Long, Long> chatCountMap = new HashMap<>();
+        unreadChatCountMap.forEach((chatRoomId, count) -> {
+            if (count > 0) {
+                chatCountMap.put(chatRoomId, count);
+            }
+        });
+
+        BadgeEntry entry = new BadgeEntry(unreadNotificationCount, Map.copyOf(chatCountMap), clock.instant().plus(ttl));
+        badgeMap.put(userId, entry);
+        return entry.toBadge();
+    }
+
+    @Override
+    public Optional<UnreadBadge> addNotification(Long userId, long delta) {
+        return update(userId, entry -> entry.withNotificationCount(Math.max(0, entry.notificationCount() + delta)));
+    }
+
+    @Override
+    public Optional<UnreadBadge> addChat(Long userId, Long chatRoomId, long delta) {
+        return update(userId, entry -> {
+            Map<Long, Long> chatCountMap = new HashMap<>(entry.chatCountMap());
+            chatCountMap.merge(chatRoomId, delta, Long::sum);
+            return entry.withChatCountMap(chatCountMap);
+        });
+    }
+
+    @Override
+    public Optional<UnreadBadge> clearChat(Long userId, Long chatRoomId) {
+        return update(userId, entry -> {
+            Map<Long, Long> chatCountMap = new HashMap<>(entry.chatCountMap());
+            chatCountMap.remove(chatRoomId);
+            return entry.withChatCountMap(chatCountMap);
+        });
+    }
+
+    private Optional<UnreadBadge> update(Long userId, UnaryOperator<BadgeEntry> updater) {
+        BadgeEntry updated = badgeMap.computeIfPresent(userId, (key, entry) -> {
+            BadgeEntry current = dropIfExpired(key, entry);
+            return current == null ? null : updater.apply(current);
+        });
+        return Optional.ofNullable(updated).map(BadgeEntry::toBadge);
+    }
+
+    private BadgeEntry dropIfExpired(Long userId, BadgeEntry entry) {
+        return clock.instant().isBefore(entry.expiresAt()) ? entry : null;
+    }
+
+    private record BadgeEntry(long notificationCount, Map<Long, Long> chatCountMap, Instant expiresAt) {
+        BadgeEntry withNotificationCount(long notificationCount) {
+            return new BadgeEntry(notificationCount, chatCountMap, expiresAt);
+        }
+
+        BadgeEntry withChatCountMap(Map<Long, Long> chatCountMap) {
+            return new BadgeEntry(notificationCount, Map.copyOf(chatCountMap), expiresAt);
+        }
+
+        UnreadBadge toBadge() {
+            long chatCount = chatCountMap.values().stream().mapToLong(Long::longValue).sum();
+            return new UnreadBadge(notificationCount, Math.max(0, chatCount));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.back.catchmate.domain.user.badge;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Redis 해시 기반 배지 저장소 (badge:{userId} -> notification, chat, room:{chatRoomId})
+// 채팅 합계를 별도 필드로 유지하여 조회는 채팅방 수와 관계없이 O(1)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "badge.store", havingValue = "redis", matchIfMissing = true)
+public class RedisUnreadBadgeStore implements UnreadBadgeStore {
+    private static final String KEY_PREFIX = "badge:";
+    private static final String NOTIFICATION_FIELD = "notification";
+    private static final String CHAT_FIELD = "chat";
+
+    // 기존 상태를 지우고 DB에서 계산한 값으로 다시 설정
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+                    "redis.call('HSET', KEYS[1], 'notification', ARGV[2], 'chat', ARGV[3]) " +
+                    "for i = 4, #ARGV, 2 do redis.call('HSET', KEYS[1], 'room:' .. ARGV[i], ARGV[i + 1]) end " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+                    "return 1", Long.class);
+
+    // 초기화된 사용자일 때만 알림 수를 증감 (0 미만으로 내려가지 않음)
+    private static final RedisScript<List> ADD_NOTIFICATION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+                    "local count = redis.call('HINCRBY', KEYS[1], 'notification', ARGV[1]) " +
+                    "if count < 0 then redis.call('HSET', KEYS[1], 'notification', 0) end " +
+                    "return redis.call('HMGET', KEYS[1], 'notification', 'chat')", List.class);
+
+    // 초기화된 사용자일 때만 채팅방별 수와 합계를 함께 증가
+    private static final RedisScript<List> ADD_CHAT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+                    "redis.call('HINCRBY', KEYS[1], 'room:' .. ARGV[1], ARGV[2]) " +
+                    "redis.call('HINCRBY', KEYS[1], 'chat', ARGV[2]) " +
+                    "return redis.call('HMGET', KEYS[1], 'notification', 'chat')", List.class);
+
+    // 채팅방을 읽으면 해당 채팅방의 수만큼 합계에서 차감
+    private static final RedisScript<List> CLEAR_CHAT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+                    "local count = tonumber(redis.call('HGET', KEYS[1], 'room:' .. ARGV[1]) or '0') " +
+                    "if count > 0 then " +
+                    "redis.call('HDEL', KEYS[1], 'room:' .. ARGV[1]) " +
+                    "if redis.call('HINCRBY', KEYS[1], 'chat', -count) < 0 then redis.call('HSET', KEYS[1], 'chat', 0) end " +
+                    "end " +
+                    "return redis.call('HMGET', KEYS[1], 'notification', 'chat')", List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Optional<UnreadBadge> find(Long userId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY_PREFIX + userId, List.of(NOTIFICATION_FIELD, CHAT_FIELD));
+        return toBadge(values);
+    }
+
+    @Override
+    public UnreadBadge initialize(Long userId, long unreadNotificationCount, Map<Long, Long> unreadChatCountMap, Duration ttl) {
+        long unreadChatCount = unreadChatCountMap.values().stream().mapToLong(Long::longValue).sum();
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(String.valueOf(unreadNotificationCount));
+        args.add(String.valueOf(unreadChatCount));
+        unreadChatCountMap.forEach((chatRoomId, count) -> {
+            if (count > 0) {
+                args.add(String.valueOf(chatRoomId));
+                args.add(String.valueOf(count));
+            }
+        });
+
+        redisTemplate.execute(INITIALIZE_SCRIPT, List.of(KEY_PREFIX + userId), args.toArray());
+        return new UnreadBadge(unreadNotificationCount, unreadChatCount);
+    }
+
+    @Override
+    public Optional<UnreadBadge> addNotification(Long userId, long delta) {
+        return toBadge(redisTemplate.execute(ADD_NOTIFICATION_SCRIPT, List.of(KEY_PREFIX + userId), String.valueOf(delta)));
+    }
+
+    @Override
+    public Optional<UnreadBadge> addChat(Long userId, Long chatRoomId, long delta) {
+        return toBadge(redisTemplate.execute(ADD_CHAT_SCRIPT, List.of(KEY_PREFIX + userId),
+                String.valueOf(chatRoomId), String.valueOf(delta)));
+    }
+
+    @Override
+    public Optional<UnreadBadge> clearChat(Long userId, Long chatRoomId) {
+        return toBadge(redisTemplate.execute(CLEAR_CHAT_SCRIPT, List.of(KEY_PREFIX + userId), String.valueOf(chatRoomId)));
+    }
+
+    private Optional<UnreadBadge> toBadge(List<?> values) {
+        if (values == null || values.size() < 2 || values.get(0) == null || values.get(1) == null) {
+            return Optional.empty();
+        }
+        long unreadNotificationCount = Math.max(0, Long.parseLong(values.get(0).toString()));
+        long unreadChatCount = Math.max(0, Long.parseLong(values.get(1).toString()));
+        return Optional.of(new UnreadBadge(unreadNotificationCount, unreadChatCount));
+    }
+}
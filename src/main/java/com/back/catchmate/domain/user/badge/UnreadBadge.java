@@ -0,0 +1,12 @@
+package com.back.catchmate.domain.user.badge;
+
+// 사용자별 읽지 않은 알림 수와 읽지 않은 채팅 수
+public record UnreadBadge(long unreadNotificationCount, long unreadChatCount) {
+    public boolean hasUnreadNotification() {
+        return unreadNotificationCount > 0;
+    }
+
+    public boolean hasUnreadChat() {
+        return unreadChatCount > 0;
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.catchmate.domain.user.badge;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+// 사용자별 배지 상태 저장소
+// 초기화되지 않은 사용자에 대한 증감은 무시하고 빈 값을 반환 (조회 시 DB 기준으로 다시 계산)
+public interface UnreadBadgeStore {
+    Optional<UnreadBadge> find(Long userId);
+
+    UnreadBadge initialize(Long userId, long unreadNotificationCount, Map<Long, Long> unreadChatCountMap, Duration ttl);
+
+    Optional<UnreadBadge> addNotification(Long userId, long delta);
+
+    Optional<UnreadBadge> addChat(Long userId, Long chatRoomId, long delta);
+
+    Optional<UnreadBadge> clearChat(Long userId, Long chatRoomId);
+}
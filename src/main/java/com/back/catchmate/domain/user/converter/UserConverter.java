@@ -3,6 +3,7 @@ package com.back.catchmate.domain.user.converter;
 import com.back.catchmate.domain.club.converter.ClubConverter;
 import com.back.catchmate.domain.club.dto.ClubResponse.ClubInfo;
 import com.back.catchmate.domain.club.entity.Club;
+import com.back.catchmate.domain.user.badge.UnreadBadge;
 import com.back.catchmate.domain.user.dto.UserRequest.UserJoinRequest;
 import com.back.catchmate.domain.user.dto.UserResponse.LoginInfo;
 import com.back.catchmate.domain.user.dto.UserResponse.PagedUserInfo;
@@ -99,10 +100,12 @@ public class UserConverter {
                 .build();
     }
 
-    public UnreadStatusInfo toUnreadStatusInfo(Boolean hasUnreadNotification, Boolean hasUnreadChat) {
+    public UnreadStatusInfo toUnreadStatusInfo(UnreadBadge badge) {
         return UnreadStatusInfo.builder()
-                .hasUnreadNotification(hasUnreadNotification)
-                .hasUnreadChat(hasUnreadChat)
+                .hasUnreadNotification(badge.hasUnreadNotification())
+                .hasUnreadChat(badge.hasUnreadChat())
+                .unreadNotificationCount(badge.unreadNotificationCount())
+                .unreadChatCount(badge.unreadChatCount())
                 .build();
     }
 }
@@ -80,5 +80,7 @@ public abstract class UserResponse {
     public static class UnreadStatusInfo {
         private boolean hasUnreadChat;
         private boolean hasUnreadNotification;
+        private long unreadChatCount;
+        private long unreadNotificationCount;
     }
 }
@@ -148,14 +148,9 @@ public class User extends BaseTimeEntity {
         return !this.id.equals(boardWriter.getId());
     }
 
+    // 작성한 게시글과 하위 데이터는 BoardDeletionService 에서 일괄 UPDATE 로 삭제
     public void deleteUser() {
         this.delete();
-
-        // 탈퇴 후 관련된 데이터 처리
-        for (Board board : boardList) {
-            board.deleteBoard();
-        }
-
         this.deleteFcmToken();
     }
 }
@@ -0,0 +1,5 @@
+package com.back.catchmate.domain.user.event;
+
+// 회원 탈퇴 커밋 이후 처리 (남은 게시글 정리, 관리자 통계 차감)
+public record UserDeletedEvent(Long userId, Character gender, Long clubId, String watchStyle) {
+}
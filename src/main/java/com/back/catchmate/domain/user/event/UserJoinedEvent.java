@@ -0,0 +1,4 @@
+package com.back.catchmate.domain.user.event;
+
+public record UserJoinedEvent(Long userId, Character gender, Long clubId, String watchStyle) {
+}
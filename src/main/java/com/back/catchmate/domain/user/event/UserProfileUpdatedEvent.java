@@ -0,0 +1,5 @@
+package com.back.catchmate.domain.user.event;
+
+// 응원 구단, 응원 스타일이 바뀐 경우에만 발행
+public record UserProfileUpdatedEvent(Long userId, Long previousClubId, String previousWatchStyle, Long clubId, String watchStyle) {
+}
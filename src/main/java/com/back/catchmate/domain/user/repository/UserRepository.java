@@ -4,8 +4,11 @@ import com.back.catchmate.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +31,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Page<User> findAllByDeletedAtIsNull(Pageable pageable);
 
+    // FCM에서 더 이상 등록되지 않은 토큰으로 응답한 경우 해당 토큰 제거
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.fcmToken = NULL WHERE u.fcmToken IN :fcmTokens")
+    int clearFcmTokens(@Param("fcmTokens") Collection<String> fcmTokens);
+
     boolean existsByProviderIdAndDeletedAtIsNull(String providerId);
 
     Optional<User> findByProviderIdAndDeletedAtIsNull(String providerId);
@@ -0,0 +1,121 @@
+package com.back.catchmate.domain.user.service;
+
+import com.back.catchmate.domain.chat.entity.UserChatRoom;
+import com.back.catchmate.domain.chat.repository.ChatMessageRepository;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.back.catchmate.domain.notification.repository.NotificationRepository;
+import com.back.catchmate.domain.user.badge.UnreadBadge;
+import com.back.catchmate.domain.user.badge.UnreadBadgeStore;
+import com.back.catchmate.domain.user.converter.UserConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// 사용자별 읽지 않은 알림 / 채팅 수를 쓰기 경로에서 갱신하고 조회 시에는 저장소 값만 반환
+// 저장소에 값이 없거나 만료된 경우에만 DB 기준으로 다시 계산
+// 일괄 삭제 경로도 삭제 전에 사용자별 읽지 않은 건수를 구해 차감하며, 그래도 남는 오차는 TTL 주기로 보정
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadBadgeService {
+    private final UnreadBadgeStore unreadBadgeStore;
+    private final NotificationRepository notificationRepository;
+    private final UserChatRoomRepository userChatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UserConverter userConverter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${badge.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    // 배지 변경 시 /topic/badge.{userId} 로 전송하여 클라이언트가 폴링하지 않아도 되도록 함
+    @Value("${badge.push.enabled:false}")
+    private boolean pushEnabled;
+
+    @Transactional(readOnly = true)
+    public UnreadBadge getBadge(Long userId) {
+        return unreadBadgeStore.find(userId).orElseGet(() -> rebuild(userId));
+    }
+
+    public void onNotificationCreated(Long userId) {
+        runAfterCommit(userId, () -> unreadBadgeStore.addNotification(userId, 1));
+    }
+
+    // 읽지 않은 알림을 읽거나 삭제한 경우
+    public void onNotificationRead(Long userId) {
+        onNotificationRead(userId, 1);
+    }
+
+    // 모두 읽음 처리처럼 여러 건을 한 번에 읽은 경우
+    public void onNotificationRead(Long userId, int count) {
+        runAfterCommit(userId, () -> unreadBadgeStore.addNotification(userId, -count));
+    }
+
+    // 채팅방에 새로 쌓인 메시지 수를 사용자별로 반영 (userId -> 메시지 수)
+    public void onChatMessages(Long chatRoomId, Map<Long, Integer> messageCountMap) {
+        messageCountMap.forEach((userId, count) ->
+                runAfterCommit(userId, () -> unreadBadgeStore.addChat(userId, chatRoomId, count)));
+    }
+
+    // 채팅방 메시지를 읽었거나 채팅방에서 나간 경우
+    public void onChatRead(Long userId, Long chatRoomId) {
+        runAfterCommit(userId, () -> unreadBadgeStore.clearChat(userId, chatRoomId));
+    }
+
+    private UnreadBadge rebuild(Long userId) {
+        long unreadNotificationCount = notificationRepository.countByUserIdAndIsReadFalseAndDeletedAtIsNull(userId);
+
+        List<UserChatRoom> userChatRoomList = userChatRoomRepository.findByUserIdAndDeletedAtIsNull(userId);
+        Map<Long, Long> unreadChatCountMap = new HashMap<>();
+        for (UserChatRoom userChatRoom : userChatRoomList) {
+            Long chatRoomId = userChatRoom.getChatRoom().getId();
+            long count = chatMessageRepository.countByChatRoomIdAndSendTimeGreaterThanAndMessageType(chatRoomId, userChatRoom.getLastReadTime(), "TALK");
+            unreadChatCountMap.put(chatRoomId, count);
+        }
+
+        meterRegistry.counter("badge.rebuild").increment();
+        return unreadBadgeStore.initialize(userId, unreadNotificationCount, unreadChatCountMap, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // 롤백된 변경이 배지에 반영되지 않도록 커밋 이후에 갱신
+    private void runAfterCommit(Long userId, Supplier<Optional<UnreadBadge>> update) {
+        Runnable task = () -> {
+            try {
+                update.get().ifPresent(badge -> publish(userId, badge));
+            } catch (Exception e) {
+                log.warn("Unread badge update failed: userId={}", userId, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void publish(Long userId, UnreadBadge badge) {
+        if (pushEnabled) {
+            messagingTemplate.convertAndSend("/topic/badge." + userId, userConverter.toUnreadStatusInfo(badge));
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package com.back.catchmate.domain.user.service;
 
-import com.back.catchmate.domain.chat.service.UserChatRoomService;
+import com.back.catchmate.domain.board.service.BoardDeletionService;
 import com.back.catchmate.domain.club.converter.ClubConverter;
 import com.back.catchmate.domain.club.entity.Club;
 import com.back.catchmate.domain.club.repository.ClubRepository;
-import com.back.catchmate.domain.notification.service.NotificationService;
 import com.back.catchmate.domain.user.converter.UserConverter;
 import com.back.catchmate.domain.user.dto.UserRequest.UserJoinRequest;
 import com.back.catchmate.domain.user.dto.UserRequest.UserProfileUpdateRequest;
@@ -14,20 +13,25 @@ import com.back.catchmate.domain.user.dto.UserResponse.UpdateAlarmInfo;
 import com.back.catchmate.domain.user.dto.UserResponse.UserInfo;
 import com.back.catchmate.domain.user.entity.AlarmType;
 import com.back.catchmate.domain.user.entity.User;
+import com.back.catchmate.domain.user.event.UserDeletedEvent;
+import com.back.catchmate.domain.user.event.UserJoinedEvent;
+import com.back.catchmate.domain.user.event.UserProfileUpdatedEvent;
 import com.back.catchmate.domain.user.repository.UserRepository;
-import com.back.catchmate.global.auth.entity.RefreshToken;
-import com.back.catchmate.global.auth.repository.RefreshTokenRepository;
+import com.back.catchmate.global.auth.service.RefreshTokenService;
 import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
 import com.back.catchmate.global.jwt.JwtService;
+import com.back.catchmate.global.jwt.PrincipalCache;
 import com.back.catchmate.global.s3.S3Service;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.Objects;
 
 import static com.back.catchmate.global.auth.service.AuthServiceImpl.PROVIDER_ID_SEPARATOR;
 
@@ -37,12 +41,14 @@ import static com.back.catchmate.global.auth.service.AuthServiceImpl.PROVIDER_ID
 public class UserServiceImpl implements UserService {
     private final S3Service s3Service;
     private final JwtService jwtService;
-    private final NotificationService notificationService;
-    private final UserChatRoomService userChatRoomService;
+    private final UnreadBadgeService unreadBadgeService;
+    private final PrincipalCache principalCache;
     private final UserRepository userRepository;
     private final ClubRepository clubRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final BoardDeletionService boardDeletionService;
     private final UserConverter userConverter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -55,6 +61,7 @@ public class UserServiceImpl implements UserService {
         User user = userConverter.toEntity(request, favoriteClub, providerIdWithProvider);
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserJoinedEvent(user.getId(), user.getGender(), favoriteClub.getId(), user.getWatchStyle()));
 
         return createLoginInfoForUser(user);
     }
@@ -76,8 +83,7 @@ public class UserServiceImpl implements UserService {
 
     private LoginInfo createLoginInfoForUser(User user) {
         String accessToken = jwtService.createAccessToken(user.getId());
-        String refreshToken = jwtService.createRefreshToken(user.getId());
-        refreshTokenRepository.save(RefreshToken.of(refreshToken, user.getId()));
+        String refreshToken = refreshTokenService.issue(user.getId());
         return userConverter.toLoginInfo(user, accessToken, refreshToken);
     }
 
@@ -106,7 +112,12 @@ public class UserServiceImpl implements UserService {
         Club club = clubRepository.findById(request.getFavoriteClubId())
                 .orElseThrow(() -> new BaseException(ErrorCode.CLUB_NOT_FOUND));
 
+        Long previousClubId = user.getClub().getId();
+        String previousWatchStyle = user.getWatchStyle();
         user.updateProfile(request, club);
+        if (!previousClubId.equals(club.getId()) || !Objects.equals(previousWatchStyle, user.getWatchStyle())) {
+            eventPublisher.publishEvent(new UserProfileUpdatedEvent(user.getId(), previousClubId, previousWatchStyle, club.getId(), user.getWatchStyle()));
+        }
 
         String profileImageUrl = s3Service.uploadFile(profileImage);
         user.updateProfileImageUrl(profileImageUrl);
@@ -130,14 +141,18 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
 
         user.deleteUser();
+        boardDeletionService.softDeleteBoardsOfUser(user.getId());
+        eventPublisher.publishEvent(new UserDeletedEvent(user.getId(), user.getGender(), user.getClub().getId(), user.getWatchStyle()));
+        // 탈퇴한 사용자의 토큰이 캐시된 권한으로 계속 인증되지 않도록 무효화
+        principalCache.evict(user.getId());
+        // 모든 기기의 리프레시 토큰 폐기
+        refreshTokenService.revokeAll(user.getId());
         return new StateResponse(true);
     }
 
     @Override
     public UnreadStatusInfo hasUnreadMessagesOrNotifications(Long userId) {
-        Boolean hasUnreadNotification = notificationService.hasUnreadNotification(userId);
-        Boolean hasUnreadChat = userChatRoomService.hasUnreadChat(userId);
-
-        return userConverter.toUnreadStatusInfo(hasUnreadNotification, hasUnreadChat);
+        // 쓰기 경로에서 갱신해 둔 배지 상태를 그대로 반환 (채팅방 수만큼 조회하지 않음)
+        return userConverter.toUnreadStatusInfo(unreadBadgeService.getBadge(userId));
     }
 }
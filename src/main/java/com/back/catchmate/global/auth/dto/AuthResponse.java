@@ -28,5 +28,6 @@ public abstract class AuthResponse {
     @AllArgsConstructor
     public static class ReissueInfo {
         private String accessToken;
+        private String refreshToken;
     }
 }
@@ -7,8 +7,7 @@ import com.back.catchmate.global.auth.dto.AuthRequest.LoginRequest;
 import com.back.catchmate.global.auth.dto.AuthResponse.AuthInfo;
 import com.back.catchmate.global.auth.dto.AuthResponse.NicknameCheckInfo;
 import com.back.catchmate.global.auth.dto.AuthResponse.ReissueInfo;
-import com.back.catchmate.global.auth.entity.RefreshToken;
-import com.back.catchmate.global.auth.repository.RefreshTokenRepository;
+import com.back.catchmate.global.auth.service.RefreshTokenService.RotatedToken;
 import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
@@ -25,7 +24,7 @@ import java.util.Optional;
 public class AuthServiceImpl implements AuthService {
     private final JwtService jwtService;
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final AuthConverter authConverter;
 
     // Provider ID와 구분자를 결합하기 위한 상수
@@ -50,8 +49,7 @@ public class AuthServiceImpl implements AuthService {
         checkFcmToken(loginRequest, user);
 
         String accessToken = jwtService.createAccessToken(userId);
-        String refreshToken = jwtService.createRefreshToken(userId);
-        refreshTokenRepository.save(RefreshToken.of(refreshToken, userId));
+        String refreshToken = refreshTokenService.issue(userId);
 
         return authConverter.toAuthInfo(accessToken, refreshToken, false);
     }
@@ -77,31 +75,26 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public ReissueInfo reissue(String refreshToken) {
-        // RefreshToken을 파싱하여 사용자 ID를 가져옴
-        Long userId = jwtService.parseJwtToken(refreshToken);
-        // RefreshToken이 유효한지 확인
-        refreshTokenRepository.findById(refreshToken)
-                .orElseThrow(() -> new BaseException(ErrorCode.INVALID_REFRESH_TOKEN));
+        // 사용한 RefreshToken을 폐기하고 새로운 RefreshToken을 발급 (이미 사용된 토큰이면 예외)
+        RotatedToken rotatedToken = refreshTokenService.rotate(refreshToken);
 
         // 새로운 AccessToken을 생성
-        String accessToken = jwtService.createAccessToken(userId);
-        return new ReissueInfo(accessToken);
+        String accessToken = jwtService.createAccessToken(rotatedToken.userId());
+        return new ReissueInfo(accessToken, rotatedToken.refreshToken());
     }
 
     // 로그아웃 메서드
     @Override
     @Transactional
     public StateResponse logout(String refreshToken) {
-        // RefreshToken을 파싱하여 사용자 ID를 가져옴
-        Long userId = jwtService.parseJwtToken(refreshToken);
+        // RefreshToken을 저장소에서 삭제하고 사용자 ID를 가져옴
+        Long userId = refreshTokenService.revoke(refreshToken);
         // 사용자 정보를 조회
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
 
         // FCM 토큰 삭제
         user.deleteFcmToken();
-        // RefreshToken을 Redis에서 삭제
-        refreshTokenRepository.deleteById(refreshToken);
         return new StateResponse(true);
     }
 }
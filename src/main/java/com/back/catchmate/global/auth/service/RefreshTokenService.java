@@ -0,0 +1,121 @@
+package com.back.catchmate.global.auth.service;
+
+import com.back.catchmate.global.auth.token.RefreshTokenStore;
+import com.back.catchmate.global.auth.token.RotationResult;
+import com.back.catchmate.global.error.ErrorCode;
+import com.back.catchmate.global.error.exception.BaseException;
+import com.back.catchmate.global.jwt.JwtService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+// 리프레시 토큰 발급, 교체(rotation), 폐기를 담당
+// 저장소에는 토큰 원문 대신 SHA-256 해시 앞 16바이트만 저장
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private static final int TOKEN_HASH_BYTES = 16;
+
+    private final JwtService jwtService;
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Value("${jwt.refresh.expiration}")
+    private Long refreshTokenExpirationPeriod;
+
+    // 교체 직후 같은 토큰으로 들어온 요청(재시도, 여러 탭)을 재사용으로 보지 않는 시간
+    @Value("${refresh-token.reuse-grace-seconds:10}")
+    private long reuseGraceSeconds;
+
+    // 이전 방식으로 저장된 토큰을 첫 사용 시 새 방식으로 옮김 (다음 릴리스에서 제거)
+    @Value("${refresh-token.legacy-fallback:true}")
+    private boolean legacyFallback;
+
+    // 새 리프레시 토큰을 발급하고 저장
+    public String issue(Long userId) {
+        String refreshToken = jwtService.createRefreshToken(userId);
+        refreshTokenStore.save(userId, hash(refreshToken), ttl());
+        return refreshToken;
+    }
+
+    // 사용한 리프레시 토큰을 폐기하고 새 토큰을 발급
+    public RotatedToken rotate(String refreshToken) {
+        Long userId = jwtService.parseJwtToken(refreshToken);
+        String newRefreshToken = jwtService.createRefreshToken(userId);
+
+        RotationResult result = rotateInStore(userId, refreshToken, newRefreshToken);
+        if (result == RotationResult.NOT_FOUND && migrateLegacy(userId, refreshToken)) {
+            result = rotateInStore(userId, refreshToken, newRefreshToken);
+        }
+
+        if (result == RotationResult.REUSED) {
+            log.warn("Refresh token reuse detected, all sessions revoked: userId={}", userId);
+        }
+        if (result == RotationResult.ROTATED_IN_GRACE) {
+            log.info("Refresh token rotated again within grace period: userId={}", userId);
+        }
+        if (result != RotationResult.ROTATED && result != RotationResult.ROTATED_IN_GRACE) {
+            throw new BaseException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        return new RotatedToken(userId, newRefreshToken);
+    }
+
+    // 로그아웃한 리프레시 토큰을 폐기하고 사용자 ID를 반환
+    public Long revoke(String refreshToken) {
+        Long userId = jwtService.parseJwtToken(refreshToken);
+        refreshTokenStore.delete(userId, hash(refreshToken));
+        if (legacyFallback) {
+            refreshTokenStore.claimLegacy(userId, refreshToken);
+        }
+        return userId;
+    }
+
+    // 사용자의 모든 세션 폐기 (회원 탈퇴 등)
+    public void revokeAll(Long userId) {
+        refreshTokenStore.deleteAll(userId);
+    }
+
+    private RotationResult rotateInStore(Long userId, String refreshToken, String newRefreshToken) {
+        return refreshTokenStore.rotate(userId, hash(refreshToken), hash(newRefreshToken), ttl(), Duration.ofSeconds(reuseGraceSeconds));
+    }
+
+    // 이전 방식(refreshToken:{토큰 원문})으로 저장된 토큰이면 남은 유효 기간 그대로 새 방식으로 옮김
+    // 배포 전에 로그인한 사용자가 재발급 시 로그아웃되지 않도록 함
+    private boolean migrateLegacy(Long userId, String refreshToken) {
+        if (!legacyFallback) {
+            return false;
+        }
+
+        return refreshTokenStore.claimLegacy(userId, refreshToken)
+                .map(remaining -> {
+                    refreshTokenStore.save(userId, hash(refreshToken), remaining.isZero() ? ttl() : remaining);
+                    log.info("Legacy refresh token migrated: userId={}", userId);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private Duration ttl() {
+        return Duration.ofMillis(refreshTokenExpirationPeriod);
+    }
+
+    private String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, TOKEN_HASH_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    public record RotatedToken(Long userId, String refreshToken) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.back.catchmate.global.auth.token;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 단일 인스턴스 / 테스트용 리프레시 토큰 저장소 (Redis 저장소와 동일한 의미를 메모리에서 제공)
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+    private final Clock clock;
+    // userId -> (토큰 해시 -> 상태)
+    private final ConcurrentHashMap<Long, Map<String, TokenEntry>> sessionMap = new ConcurrentHashMap<>();
+
+    public InMemoryRefreshTokenStore() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemoryRefreshTokenStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(Long userId, String tokenHash, Duration ttl) {
+        Instant now = clock.instant();
+        sessionMap.compute(userId, (id, tokenMap) -> {
+            Map<String, TokenEntry> updated = liveEntries(tokenMap, now);
+            updated.put(tokenHash, new TokenEntry(false, now.plus(ttl), null));
+            return updated;
+        });
+    }
+
+    @Override
+    public RotationResult rotate(Long userId, String oldTokenHash, String newTokenHash, Duration ttl, Duration grace) {
+        Instant now = clock.instant();
+        RotationResult[] result = {RotationResult.NOT_FOUND};
+
+        sessionMap.compute(userId, (id, tokenMap) -> {
+            Map<String, TokenEntry> updated = liveEntries(tokenMap, now);
+            TokenEntry oldEntry = updated.get(oldTokenHash);
+            if (oldEntry == null) {
+                return updated.isEmpty() ? null : updated;
+            }
+            if (oldEntry.used()) {
+                if (oldEntry.graceUntil() != null && now.isBefore(oldEntry.graceUntil())) {
+                    updated.put(newTokenHash, new TokenEntry(false, now.plus(ttl), null));
+                    result[0] = RotationResult.ROTATED_IN_GRACE;
+                    return updated;
+                }
+                result[0] = RotationResult.REUSED;
+                return null;
+            }
+
+            updated.put(oldTokenHash, new TokenEntry(true, oldEntry.expiresAt(), now.plus(grace)));
+            updated.put(newTokenHash, new TokenEntry(false, now.plus(ttl), null));
+            result[0] = RotationResult.ROTATED;
+            return updated;
+        });
+        return result[0];
+    }
+
+    @Override
+    public void delete(Long userId, String tokenHash) {
+        sessionMap.computeIfPresent(userId, (id, tokenMap) -> {
+            Map<String, TokenEntry> updated = liveEntries(tokenMap, clock.instant());
+            updated.remove(tokenHash);
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    @Override
+    public void deleteAll(Long userId) {
+        sessionMap.remove(userId);
+    }
+
+    // 메모리 저장소에는 이전 방식으로 저장된 토큰이 없음
+    @Override
+    public Optional<Duration> claimLegacy(Long userId, String refreshToken) {
+        return Optional.empty();
+    }
+
+    private Map<String, TokenEntry> liveEntries(Map<String, TokenEntry> tokenMap, Instant now) {
+        Map<String, TokenEntry> liveMap = new HashMap<>();
+        if (tokenMap != null) {
+            tokenMap.forEach((hash, entry) -> {
+                if (now.isBefore(entry.expiresAt())) {
+                    liveMap.put(hash, entry);
+                }
+            });
+        }
+        return liveMap;
+    }
+
+    // graceUntil: 교체된 토큰이 재사용 감지 없이 다시 교체될 수 있는 시각
+    private record TokenEntry(boolean used, Instant expiresAt, Instant graceUntil) {
+    }
+}
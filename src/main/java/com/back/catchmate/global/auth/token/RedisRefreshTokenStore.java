@@ -0,0 +1,153 @@
+package com.back.catchmate.global.auth.token;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+// Redis 기반 리프레시 토큰 저장소
+// refresh:{userId}:{hash} -> A(사용 가능) / U(교체됨), refresh:{userId}:sessions -> 토큰 해시 Set
+// refresh:{userId}:grace:{hash} -> 교체 직후 짧은 시간 동안 같은 토큰의 재요청 허용
+// 한 사용자의 키는 같은 해시 태그를 사용하여 하나의 스크립트에서 함께 처리
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+    private static final String KEY_PREFIX = "refresh:";
+    private static final String SESSIONS_SUFFIX = "sessions";
+    // refresh:{userId}:grace:{hash} -> 교체 직후 재요청을 허용하는 동안만 존재
+    private static final String GRACE_INFIX = "grace:";
+    // 이전 방식(@RedisHash("refreshToken"))의 키 접두사와 인덱스 Set
+    private static final String LEGACY_KEYSPACE = "refreshToken";
+    // 세션 목록이 이 크기를 넘으면 만료된 해시를 정리
+    private static final int PRUNE_THRESHOLD = 64;
+
+    // 만료되어 사라진 토큰 해시를 세션 목록에서 제거
+    private static final String PRUNE =
+            "if redis.call('SCARD', KEYS[1]) > tonumber(ARGV[3]) then " +
+                    "for _, hash in ipairs(redis.call('SMEMBERS', KEYS[1])) do " +
+                    "if redis.call('EXISTS', ARGV[2] .. hash) == 0 then redis.call('SREM', KEYS[1], hash) end " +
+                    "end " +
+                    "end ";
+
+    // 새 토큰 해시(ARGV[5])를 사용 가능 상태로 등록
+    private static final String REGISTER_NEW =
+            "redis.call('SET', ARGV[2] .. ARGV[5], 'A', 'PX', ARGV[1]) " +
+                    "redis.call('SADD', KEYS[1], ARGV[5]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[1]) ";
+
+    // KEYS[1] = 세션 목록, ARGV = ttl, 키 접두사, 정리 기준, 새 토큰 해시
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            PRUNE +
+                    "redis.call('SET', ARGV[2] .. ARGV[4], 'A', 'PX', ARGV[1]) " +
+                    "redis.call('SADD', KEYS[1], ARGV[4]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+                    "return 1", Long.class);
+
+    // KEYS[1] = 세션 목록, ARGV = ttl, 키 접두사, 정리 기준, 기존 토큰 해시, 새 토큰 해시, grace
+    // 반환값 1: 교체, 3: grace 이내 재요청으로 새 토큰 추가 등록, 2: 재사용 감지 후 전체 폐기, 0: 없음
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local oldKey = ARGV[2] .. ARGV[4] " +
+                    "local graceKey = ARGV[2] .. '" + GRACE_INFIX + "' .. ARGV[4] " +
+                    "local state = redis.call('GET', oldKey) " +
+                    "if state == 'A' then " +
+                    // 교체된 토큰은 원래 만료 시각까지 재사용 감지용으로 남겨 둠
+                    "local remaining = redis.call('PTTL', oldKey) " +
+                    "if remaining <= 0 then remaining = ARGV[1] end " +
+                    "redis.call('SET', oldKey, 'U', 'PX', remaining) " +
+                    "if tonumber(ARGV[6]) > 0 then redis.call('SET', graceKey, '1', 'PX', ARGV[6]) end " +
+                    PRUNE +
+                    REGISTER_NEW +
+                    "return 1 " +
+                    "end " +
+                    "if state == 'U' then " +
+                    "if redis.call('EXISTS', graceKey) == 1 then " +
+                    REGISTER_NEW +
+                    "return 3 " +
+                    "end " +
+                    "for _, hash in ipairs(redis.call('SMEMBERS', KEYS[1])) do " +
+                    "redis.call('DEL', ARGV[2] .. hash, ARGV[2] .. '" + GRACE_INFIX + "' .. hash) " +
+                    "end " +
+                    "redis.call('DEL', KEYS[1], oldKey) " +
+                    "return 2 " +
+                    "end " +
+                    "return 0", Long.class);
+
+    // KEYS[1] = 세션 목록, ARGV[1] = 키 접두사
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "for _, hash in ipairs(redis.call('SMEMBERS', KEYS[1])) do " +
+                    "redis.call('DEL', ARGV[1] .. hash, ARGV[1] .. '" + GRACE_INFIX + "' .. hash) " +
+                    "end " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "return 1", Long.class);
+
+    // KEYS[1] = 이전 방식 토큰 해시, KEYS[2] = 이전 방식 인덱스 Set, ARGV = 사용자 ID, 토큰 원문
+    // 본인 토큰이면 삭제하고 남은 유효 기간(ms, 만료 없음은 0) 반환, 없으면 -1
+    private static final RedisScript<Long> CLAIM_LEGACY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'userId') ~= ARGV[1] then return -1 end " +
+                    "local remaining = redis.call('PTTL', KEYS[1]) " +
+                    "redis.call('DEL', KEYS[1], KEYS[1] .. ':phantom') " +
+                    "redis.call('SREM', KEYS[2], ARGV[2]) " +
+                    "if remaining < 0 then return 0 end " +
+                    "return remaining", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void save(Long userId, String tokenHash, Duration ttl) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(sessionsKey(userId)),
+                String.valueOf(ttl.toMillis()), keyPrefix(userId), String.valueOf(PRUNE_THRESHOLD), tokenHash);
+    }
+
+    @Override
+    public RotationResult rotate(Long userId, String oldTokenHash, String newTokenHash, Duration ttl, Duration grace) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(sessionsKey(userId)),
+                String.valueOf(ttl.toMillis()), keyPrefix(userId), String.valueOf(PRUNE_THRESHOLD), oldTokenHash, newTokenHash,
+                String.valueOf(grace.toMillis()));
+
+        if (result == null || result == 0) {
+            return RotationResult.NOT_FOUND;
+        }
+        if (result == 1) {
+            return RotationResult.ROTATED;
+        }
+        return result == 3 ? RotationResult.ROTATED_IN_GRACE : RotationResult.REUSED;
+    }
+
+    @Override
+    public void delete(Long userId, String tokenHash) {
+        redisTemplate.delete(List.of(keyPrefix(userId) + tokenHash, keyPrefix(userId) + GRACE_INFIX + tokenHash));
+        redisTemplate.opsForSet().remove(sessionsKey(userId), tokenHash);
+    }
+
+    @Override
+    public void deleteAll(Long userId) {
+        redisTemplate.execute(DELETE_ALL_SCRIPT, List.of(sessionsKey(userId)), keyPrefix(userId));
+    }
+
+    @Override
+    public Optional<Duration> claimLegacy(Long userId, String refreshToken) {
+        Long remaining = redisTemplate.execute(CLAIM_LEGACY_SCRIPT,
+                List.of(LEGACY_KEYSPACE + ":" + refreshToken, LEGACY_KEYSPACE),
+                String.valueOf(userId), refreshToken);
+
+        if (remaining == null || remaining < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofMillis(remaining));
+    }
+
+    private String keyPrefix(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}:";
+    }
+
+    private String sessionsKey(Long userId) {
+        return keyPrefix(userId) + SESSIONS_SUFFIX;
+    }
+}
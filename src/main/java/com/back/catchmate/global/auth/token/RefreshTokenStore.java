@@ -0,0 +1,23 @@
+package com.back.catchmate.global.auth.token;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 사용자별 리프레시 토큰 저장소 (원본 토큰 대신 해시만 보관)
+// 사용자마다 발급한 토큰 해시 목록을 함께 관리하여 전체 세션 폐기를 세션 수만큼의 비용으로 처리
+public interface RefreshTokenStore {
+    void save(Long userId, String tokenHash, Duration ttl);
+
+    // 기존 토큰을 사용 처리하고 새 토큰을 등록
+    // 교체 후 grace 이내에 같은 토큰이 다시 들어오면 새 토큰을 하나 더 등록하고,
+    // 그 이후에 다시 들어오면 탈취로 보고 해당 사용자의 모든 토큰을 폐기
+    RotationResult rotate(Long userId, String oldTokenHash, String newTokenHash, Duration ttl, Duration grace);
+
+    void delete(Long userId, String tokenHash);
+
+    void deleteAll(Long userId);
+
+    // 이전 방식(refreshToken:{토큰 원문} 해시)으로 저장된 토큰을 삭제하고 남은 유효 기간을 반환 (없거나 다른 사용자의 토큰이면 빈 값)
+    // 이전 방식으로 발급된 토큰이 모두 만료되는 다음 릴리스에서 제거
+    Optional<Duration> claimLegacy(Long userId, String refreshToken);
+}
@@ -0,0 +1,8 @@
+package com.back.catchmate.global.auth.token;
+
+public enum RotationResult {
+    ROTATED,   // 정상 교체
+    ROTATED_IN_GRACE, // 교체 직후 같은 토큰으로 들어온 요청 (재시도, 여러 탭) - 새 토큰을 하나 더 발급
+    REUSED,    // 이미 교체된 토큰 재사용 (전체 세션 폐기됨)
+    NOT_FOUND  // 저장소에 없는 토큰 (로그아웃, 만료, 폐기)
+}
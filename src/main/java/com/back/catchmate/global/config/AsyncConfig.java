@@ -1,22 +1,93 @@
 package com.back.catchmate.global.config;
 
-import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
-
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업 실행기 설정
+ * @EnableAsync 로 아래 @Async 메서드는 호출한 스레드가 아닌 각 실행기에서 실행되며, 호출한 쪽은 결과와 예외를 받지 않는다.
+ * - BoardDeletionService.handleUserDeleted (탈퇴한 사용자의 남은 게시글 정리) : asyncTask
+ * - FCMService.sendMessagesByTokens (ChatPushDigestService 가 모아 보내는 채팅 푸시) : chatPushTask
+ * 신청/문의 알림은 알림 아웃박스(NotificationOutboxDispatcher)가 스케줄러에서 전송하므로 여기에 속하지 않는다.
+ * 비동기 메서드에서 던진 예외는 getAsyncUncaughtExceptionHandler 에서 기록한다.
+ */
+@Slf4j
+@EnableAsync
 @Configuration
-public class AsyncConfig {
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+    private final MeterRegistry meterRegistry;
+
+    // 탈퇴한 사용자의 게시글 정리처럼 누락되면 안 되는 작업: 큐가 가득 차면 호출한 스레드에서 직접 실행하여 속도를 늦춤
     @Bean("asyncTask")
-    public Executor threadPoolExecutor() {
+    public ThreadPoolTaskExecutor threadPoolExecutor(@Value("${async.task.core-pool-size:5}") int corePoolSize,
+                                                     @Value("${async.task.max-pool-size:20}") int maxPoolSize,
+                                                     @Value("${async.task.queue-capacity:500}") int queueCapacity) {
+        return createExecutor("asyncTask", corePoolSize, maxPoolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // 채팅 푸시 fan-out: 최신 메시지 알림이 더 중요하므로 큐가 가득 차면 가장 오래된 작업을 버림
+    @Bean("chatPushTask")
+    public ThreadPoolTaskExecutor chatPushExecutor(@Value("${async.chat-push.core-pool-size:4}") int corePoolSize,
+                                                   @Value("${async.chat-push.max-pool-size:16}") int maxPoolSize,
+                                                   @Value("${async.chat-push.queue-capacity:1000}") int queueCapacity) {
+        return createExecutor("chatPushTask", corePoolSize, maxPoolSize, queueCapacity, new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> {
+            meterRegistry.counter("async.task.failed", "method", method.getName()).increment();
+            log.error("Async task failed: method={}.{}", method.getDeclaringClass().getSimpleName(), method.getName(), e);
+        };
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String name, int corePoolSize, int maxPoolSize, int queueCapacity, RejectedExecutionHandler rejectedExecutionHandler) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setThreadNamePrefix("asyncTask-"); // thread 이름 설정
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(100); // 최대 스레드 개수
-        executor.setQueueCapacity(0);
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix(name + "-"); // thread 이름 설정
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize); // 최대 스레드 개수 (큐가 가득 찬 이후에만 증가)
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(countRejection(name, rejectedExecutionHandler));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        registerMetrics(name, executor);
         return executor;
     }
+
+    private RejectedExecutionHandler countRejection(String name, RejectedExecutionHandler delegate) {
+        Counter rejected = Counter.builder("async.executor.rejected")
+                .tag("name", name)
+                .description("큐가 가득 차 거절 정책이 적용된 작업 수")
+                .register(meterRegistry);
+        return (task, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    private void registerMetrics(String name, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
 }
@@ -1,13 +1,47 @@
 package com.back.catchmate.global.config;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class HttpConfig {
+    // 한 호스트(FCM)로 동시에 보낼 수 있는 요청 수 (OkHttp 기본값은 5)
+    @Value("${http.client.max-requests-per-host:64}")
+    private int maxRequestsPerHost;
+
+    @Value("${http.client.max-requests:128}")
+    private int maxRequests;
+
+    @Value("${http.client.max-idle-connections:10}")
+    private int maxIdleConnections;
+
+    @Value("${http.client.keep-alive-seconds:300}")
+    private long keepAliveSeconds;
+
     @Bean
     public OkHttpClient okHttpClient() {
-        return new OkHttpClient();
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
+                // TLS(ALPN)로 HTTP/2가 협상되면 하나의 연결에서 여러 요청을 다중화
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(10))
+                .writeTimeout(Duration.ofSeconds(10))
+                .callTimeout(Duration.ofSeconds(30))
+                .build();
     }
 }
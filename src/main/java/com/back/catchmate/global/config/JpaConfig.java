@@ -1,9 +1,104 @@
 package com.back.catchmate.global.config;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import static org.hibernate.cache.spi.RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
+    // 2차 캐시 영역 이름 (엔티티의 @Cache region 과 동일해야 함)
+    public static final String CLUB_CACHE_REGION = "club";
+    public static final String GAME_CACHE_REGION = "game";
+    public static final String NOTICE_CACHE_REGION = "notice";
+    // 공지사항 목록 쿼리 결과 전용 영역 (기본 쿼리 캐시 영역과 분리해 TTL 을 따로 둠)
+    public static final String NOTICE_LIST_CACHE_REGION = "notice-list";
+
+    // 같은 종류의 INSERT/UPDATE 를 JDBC 배치로 묶어 전송 (게시글 삭제, 일괄 수락 등 여러 행을 변경하는 흐름)
+    // 프로필별 설정 파일에 값이 있으면 그 값을 우선 사용
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc.batch-size:100}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    // 구단, 경기, 공지사항처럼 읽기가 대부분인 엔티티와 공지사항 목록 쿼리를 인스턴스 로컬 2차 캐시에 보관
+    // 인스턴스 로컬 캐시는 다른 인스턴스에서의 수정, 삭제를 알 수 없으므로 변경되지 않는 구단(READ_ONLY)만 긴 TTL 을 두고,
+    // 수정 가능한 경기, 공지사항(NONSTRICT_READ_WRITE)과 공지사항 목록은 짧은 TTL 로 오래된 값이 보이는 시간을 제한
+    // 통계를 켜 두면 hibernate-micrometer 를 통해 영역별 hit/miss 가 메트릭으로 노출됨
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager,
+                                                                    @Value("${jpa.second-level-cache.enabled:true}") boolean enabled,
+                                                                    @Value("${jpa.statistics.enabled:true}") boolean statisticsEnabled) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, statisticsEnabled);
+            if (!enabled) {
+                properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                return;
+            }
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+        };
+    }
+
+    @Bean
+    public CacheManager hibernateCacheManager(@Value("${jpa.second-level-cache.max-entries:10000}") long maxEntries,
+                                              @Value("${jpa.second-level-cache.ttl-minutes:30}") long ttlMinutes,
+                                              @Value("${jpa.second-level-cache.mutable-ttl-seconds:30}") long mutableTtlSeconds) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        createOrClear(cacheManager, CLUB_CACHE_REGION, expiringConfiguration(maxEntries, TimeUnit.MINUTES.toNanos(ttlMinutes)));
+        for (String region : List.of(GAME_CACHE_REGION, NOTICE_CACHE_REGION, NOTICE_LIST_CACHE_REGION)) {
+            createOrClear(cacheManager, region, expiringConfiguration(maxEntries, TimeUnit.SECONDS.toNanos(mutableTtlSeconds)));
+        }
+        // 쿼리 캐시 무효화 기준이 되는 테이블별 갱신 시각은 만료되거나 축출되면 안 됨 (테이블 수만큼만 쌓임)
+        createOrClear(cacheManager, DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, referenceConfiguration());
+        return cacheManager;
+    }
+
+    private CaffeineConfiguration<Object, Object> expiringConfiguration(long maxEntries, long ttlNanos) {
+        CaffeineConfiguration<Object, Object> configuration = referenceConfiguration();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttlNanos));
+        return configuration;
+    }
+
+    private CaffeineConfiguration<Object, Object> referenceConfiguration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate 가 캐시 항목을 직접 분해/조립하므로 값 복사는 불필요
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+
+    // 기본 CacheManager 는 JVM 단위로 공유되므로, 스키마를 새로 만드는 경우를 대비해 기존 항목은 비우고 재사용
+    private void createOrClear(CacheManager cacheManager, String region, CaffeineConfiguration<Object, Object> configuration) {
+        Cache<Object, Object> cache = cacheManager.getCache(region);
+        if (cache == null) {
+            cacheManager.createCache(region, configuration);
+        } else {
+            cache.clear();
+        }
+    }
 }
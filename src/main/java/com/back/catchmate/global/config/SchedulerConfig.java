@@ -0,0 +1,30 @@
+package com.back.catchmate.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// @Scheduled 작업 실행용 스케줄러
+// 기본 스케줄러는 스레드가 하나라 새벽 배치(게시글 정리, 아카이브, 알림 보관 등)가 도는 동안
+// 2초 주기의 알림 아웃박스 디스패처와 1분 주기의 통계 flush 가 밀리므로 스레드 풀을 둠
+// 풀 크기(기본 8)는 @Scheduled 메서드 수가 아니라 동시에 실행될 수 있는 작업 수 기준
+// (fixedDelay 작업 4개 + 10분 주기 정리 1개 + 길어져 겹칠 수 있는 새벽 배치 최대 3개), 동시에 도는 작업이 늘면 scheduler.pool-size 를 함께 조정
+// (WebSocket 브로커도 TaskScheduler 빈을 등록하므로 @Scheduled 가 찾는 이름인 taskScheduler 로 등록)
+@Slf4j
+@Configuration
+public class SchedulerConfig {
+
+    @Bean("taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduler.pool-size:8}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setErrorHandler(e -> log.error("Scheduled task failed", e));
+        // 종료 시 실행 중인 작업(통계 flush, 청크 커밋 등)이 끝날 때까지 대기
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
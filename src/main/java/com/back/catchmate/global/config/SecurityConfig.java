@@ -1,8 +1,8 @@
 package com.back.catchmate.global.config;
 
-import com.back.catchmate.domain.user.repository.UserRepository;
 import com.back.catchmate.global.jwt.JwtAuthenticationFilter;
 import com.back.catchmate.global.jwt.JwtService;
+import com.back.catchmate.global.jwt.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,7 +19,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     private static final String[] whiteList = {"/auth/**", "/users/additional-info", "/actuator/**", "/swagger-ui/**", "/swagger-resources/**", "/swagger/**", "/v3/api-docs/**", "/error/**", "/clubs/**", "/ws/**", "/boards/list"};
 
@@ -55,7 +55,7 @@ public class SecurityConfig {
                 );
 
         http
-                .addFilterBefore(new JwtAuthenticationFilter(jwtService, userRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService, principalCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
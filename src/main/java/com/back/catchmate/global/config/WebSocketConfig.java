@@ -27,7 +27,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic"); // 메시지 브로커 경로
+        registry.enableSimpleBroker("/topic", "/queue"); // 메시지 브로커 경로 (/queue 는 세션별 오류 전달용)
         registry.setApplicationDestinationPrefixes("/app"); // 메시지 전송 경로
     }
 
@@ -0,0 +1,11 @@
+package com.back.catchmate.global.entity;
+
+// 시퀀스로 ID 를 발급하는 엔티티의 공통 설정
+// db/migration/V20261019__create_id_sequences.sql 의 INCREMENT BY 와 같아야 함
+public final class IdSequence {
+    // 시퀀스를 한 번 조회할 때 미리 받아 두는 ID 수
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequence() {
+    }
+}
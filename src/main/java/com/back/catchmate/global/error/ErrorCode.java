@@ -56,6 +56,8 @@ public enum ErrorCode {
     // 채팅방
     CHATROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 채팅방입니다."),
     USER_CHATROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자가 해당 채팅방에 참여하지 않았습니다."),
+    CHATROOM_ACCESS_DENIED(HttpStatus.FORBIDDEN, "참여하지 않은 채팅방에 접근할 수 없습니다."),
+    CHAT_ARCHIVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "채팅 아카이브 처리에 실패했습니다."),
 
     // 파일
     FILE_UPLOAD_FAILED(HttpStatus.BAD_REQUEST, "파일 업로드를 실패했습니다."),
@@ -75,9 +77,13 @@ public enum ErrorCode {
     // 신고
     REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 신고입니다."),
 
+    // 관리자 통계
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "조회 시작일은 종료일보다 늦을 수 없습니다."),
+
     SOCKET_CONNECT_FAILED(HttpStatus.UNAUTHORIZED, "소켓 연결에 실패했습니다."),
 
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "클라이언트 에러입니다"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 에러입니다."),
 
@@ -4,6 +4,7 @@ import com.back.catchmate.global.error.exception.BaseException;
 import com.back.catchmate.global.error.exception.clientError.BadRequestException;
 import com.back.catchmate.global.error.exception.serverError.DataNotFoundException;
 import com.back.catchmate.global.error.exception.serverError.InternalServerException;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.HttpStatus;
@@ -36,6 +37,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * 1.1. @Validated 컨트롤러의 요청 파라미터 제약 조건 위반 시 발생 (HTTP Status 400)
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> constraintViolationException(ConstraintViolationException e) {
+        String reason = e.getConstraintViolations().stream()
+                .map(violation -> violation.getPropertyPath() + " : " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+
+        log.warn("ConstraintViolationException - {}", reason);
+        final ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST, reason);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * 2. 파라미터 타입 불일치 (TypeMismatchException) 및 필수 파라미터 누락 (MissingServletRequestParameterException) 처리 (HTTP Status 400)
      */
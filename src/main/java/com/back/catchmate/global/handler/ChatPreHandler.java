@@ -1,5 +1,6 @@
 package com.back.catchmate.global.handler;
 
+import com.back.catchmate.domain.chat.service.ChatRoomMembershipCache;
 import com.back.catchmate.domain.chat.service.ChatSessionService;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
@@ -17,7 +18,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Component
@@ -25,8 +29,13 @@ import java.util.Objects;
 public class ChatPreHandler implements ChannelInterceptor {
     private final JwtService jwtService;
     private final ChatSessionService chatSessionService; // 사용자 접속 관리
+    private final ChatRoomMembershipCache chatRoomMembershipCache; // 채팅방 참여 여부 캐시
 
     private static final String ACCESS_TOKEN_HEADER = "AccessToken";
+    // 구독 경로(/topic/chat.{id}) 및 전송 경로(/app/chat.{id})에서 채팅방 ID 추출
+    private static final Pattern CHAT_ROOM_DESTINATION = Pattern.compile("^/(?:topic|app)/chat\\.(\\d+)$");
+    // 배지 구독 경로(/topic/badge.{userId})에서 사용자 ID 추출
+    private static final Pattern BADGE_DESTINATION = Pattern.compile("^/topic/badge\\.(\\d+)$");
 
     @Override
     public Message<?> preSend(@NotNull Message<?> message, @NotNull MessageChannel channel) {
@@ -43,6 +52,7 @@ public class ChatPreHandler implements ChannelInterceptor {
                     accessor.getSessionAttributes().put("chatRoomId", chatRoomId);
 
                     chatSessionService.userJoined(chatRoomId, userId); // 접속 정보 저장
+                    chatRoomMembershipCache.load(userId); // 참여중인 채팅방 목록 적재
                     log.info("User connected: userId={}, chatRoomId={}", userId, chatRoomId);
                 }
             } catch (MessageDeliveryException e) {
@@ -51,11 +61,20 @@ public class ChatPreHandler implements ChannelInterceptor {
             }
         }
 
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) || StompCommand.SEND.equals(accessor.getCommand())) {
+            validateChatRoomAccess(accessor);
+        }
+
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            validateBadgeAccess(accessor);
+        }
+
         if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
             Long userId = getUserIdFromSession(accessor);
             Long chatRoomId = getChatRoomIdFromSession(accessor);
             if (userId != null && chatRoomId != null) {
                 chatSessionService.userLeft(chatRoomId, userId);
+                chatRoomMembershipCache.evict(userId);
                 log.info("User disconnected: userId={}, chatRoomId={}", userId, chatRoomId);
             } else {
                 log.warn("User disconnected but session info is missing.");
@@ -65,6 +84,50 @@ public class ChatPreHandler implements ChannelInterceptor {
         return message;
     }
 
+    // 채팅방 구독 및 메시지 전송은 해당 채팅방 참여자만 가능
+    private void validateChatRoomAccess(StompHeaderAccessor accessor) {
+        Long chatRoomId = getChatRoomIdFromDestination(accessor.getDestination());
+        if (chatRoomId == null) {
+            return;
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Long userId = (sessionAttributes != null) ? (Long) sessionAttributes.get("userId") : null;
+        if (userId == null || !chatRoomMembershipCache.isMember(userId, chatRoomId)) {
+            log.warn("Chat room access denied: command={}, userId={}, chatRoomId={}", accessor.getCommand(), userId, chatRoomId);
+            throw new BaseException(ErrorCode.CHATROOM_ACCESS_DENIED);
+        }
+    }
+
+    // 배지는 본인 것만 구독 가능
+    private void validateBadgeAccess(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return;
+        }
+
+        Matcher matcher = BADGE_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Long userId = (sessionAttributes != null) ? (Long) sessionAttributes.get("userId") : null;
+        if (userId == null || !userId.equals(Long.valueOf(matcher.group(1)))) {
+            log.warn("Badge access denied: userId={}, destination={}", userId, destination);
+            throw new BaseException(ErrorCode.FORBIDDEN_ACCESS);
+        }
+    }
+
+    private Long getChatRoomIdFromDestination(String destination) {
+        if (destination == null) {
+            return null;
+        }
+
+        Matcher matcher = CHAT_ROOM_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
     private Long getChatRoomIdFromHeaders(StompHeaderAccessor accessor) {
         List<String> chatRoomHeaders = accessor.getNativeHeader("ChatRoomId");
 
@@ -1,7 +1,6 @@
 package com.back.catchmate.global.jwt;
 
-import com.back.catchmate.domain.user.entity.User;
-import com.back.catchmate.domain.user.repository.UserRepository;
+import com.back.catchmate.domain.user.entity.Authority;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.ErrorResponse;
 import com.back.catchmate.global.error.exception.BaseException;
@@ -28,8 +27,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
+    // 파싱한 사용자 ID를 요청 속성에 저장하여 ArgumentResolver 에서 토큰을 다시 파싱하지 않도록 함
+    public static final String USER_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".userId";
     // 요청 헤더에서 AccessToken을 가져오기 위한 상수
     private static final String ACCESS_TOKEN_HEADER = "AccessToken";
     // 응답 인코딩 타입을 설정하기 위한 상수
@@ -42,14 +43,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (accessToken != null) {
                 Long userId = jwtService.parseJwtToken(accessToken);
-                User user = getUserOrThrow(userId);
+                Authority authority = getAuthorityOrThrow(userId);
 
-                if (isAdminPath(request) && !isAdmin(user)) {
+                if (isAdminPath(request) && !isAdmin(authority)) {
                     setErrorResponse(response, ErrorCode.FORBIDDEN_ACCESS);
                     return;
                 }
 
-                setAuthentication(userId, user);
+                setAuthentication(userId, authority);
+                request.setAttribute(USER_ID_ATTRIBUTE, userId);
             }
 
             filterChain.doFilter(request, response);
@@ -63,8 +65,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return (token != null && !token.isBlank()) ? token : null;
     }
 
-    private User getUserOrThrow(Long userId) {
-        return userRepository.findByIdAndDeletedAtIsNull(userId)
+    private Authority getAuthorityOrThrow(Long userId) {
+        return principalCache.getAuthority(userId)
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
     }
 
@@ -72,12 +74,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return request.getRequestURI().startsWith("/admin");
     }
 
-    private boolean isAdmin(User user) {
-        return "ROLE_ADMIN".equals(user.getAuthority().name());
+    private boolean isAdmin(Authority authority) {
+        return authority == Authority.ROLE_ADMIN;
     }
 
-    private void setAuthentication(Long userId, User user) {
-        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(user.getAuthority().name()));
+    private void setAuthentication(Long userId, Authority authority) {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(authority.name()));
         Authentication authentication = new UsernamePasswordAuthenticationToken(userId, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
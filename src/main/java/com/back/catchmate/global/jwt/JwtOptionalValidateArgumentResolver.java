@@ -26,6 +26,12 @@ public class JwtOptionalValidateArgumentResolver implements HandlerMethodArgumen
     @Override
     public Object resolveArgument(@NonNull MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
+        // 인증 필터에서 이미 파싱한 사용자 ID가 있으면 그대로 사용
+        Object userId = request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE);
+        if (userId instanceof Long) {
+            return userId;
+        }
+
         String accessToken = request.getHeader(ACCESS_TOKEN_HEADER);
 
         if (accessToken == null) {
@@ -2,16 +2,26 @@ package com.back.catchmate.global.jwt;
 
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Base64;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -27,11 +37,37 @@ public class JwtService {
     private String ACCESS_TOKEN_SUBJECT;
     @Value("${jwt.refresh.header}")
     private String REFRESH_TOKEN_SUBJECT;
+    // 검증이 끝난 토큰을 보관할 최대 개수
+    @Value("${jwt.claims-cache.max-entries:10000}")
+    private int claimsCacheMaxEntries;
 
     // JWT 클레임에서 사용자 ID를 저장하는 키
     private static final String ID_CLAIM = "id";
     // Bearer 토큰 접두사
     private static final String BEARER = "Bearer ";
+    // 서명 알고리즘 (기존에 발급된 토큰과 동일하게 HS256 유지)
+    private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
+
+    // 서명 키와 파서는 한 번만 생성하여 재사용 (JwtParser 는 불변 객체로 스레드 안전)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // 최근에 검증한 토큰 -> 사용자 ID, 만료 시간 (토큰이 만료되는 시각에 캐시에서도 제거됨)
+    private Cache<String, VerifiedToken> verifiedTokenMap;
+
+    @PostConstruct
+    void init() {
+        signingKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), SIGNATURE_ALGORITHM.getJcaName());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        // 최대 개수를 넘으면 오래 사용하지 않은 토큰부터 제거
+        verifiedTokenMap = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxEntries)
+                .expireAfter(Expiry.creating((String token, VerifiedToken verifiedToken) ->
+                        Duration.ofMillis(Math.max(verifiedToken.expiresAt() - System.currentTimeMillis(), 0))))
+                .build();
+    }
 
     // 액세스 토큰을 생성하는 메서드
     public String createAccessToken(Long userId) {
@@ -60,7 +96,9 @@ public class JwtService {
                 .setSubject(tokenSubject)
                 .setClaims(claims)
                 .setExpiration(expirationTime)
-                .signWith(SignatureAlgorithm.HS256, Base64.getEncoder().encodeToString(secretKey.getBytes()))
+                // 같은 시각에 발급한 토큰도 서로 구분되도록 고유 ID 부여 (리프레시 토큰 재사용 감지)
+                .setId(UUID.randomUUID().toString())
+                .signWith(signingKey, SIGNATURE_ALGORITHM)
                 .compact();
 
         // Bearer 접두사를 붙여서 반환
@@ -69,19 +107,35 @@ public class JwtService {
 
     // JWT 토큰을 파싱하여 사용자 ID를 반환하는 메서드
     public Long parseJwtToken(String token) {
+        if (token == null || !token.startsWith(BEARER)) {
+            throw new BaseException(ErrorCode.INVALID_TOKEN);
+        }
+
+        // 이미 검증한 토큰이면 서명 검증 없이 만료 여부만 확인
+        long now = System.currentTimeMillis();
+        VerifiedToken verifiedToken = verifiedTokenMap.getIfPresent(token);
+        if (verifiedToken != null && !verifiedToken.isExpired(now)) {
+            return verifiedToken.userId();
+        }
+
         try {
-            // Bearer 접두사 제거
-            token = BearerRemove(token);
-            // 토큰을 파싱하여 클레임을 가져옴
-            Claims claims = Jwts.parser()
-                    .setSigningKey(Base64.getEncoder().encodeToString(secretKey.getBytes()))
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            // 클레임에서 사용자 ID를 추출하여 반환
-            return Long.valueOf((Integer) claims.get(ID_CLAIM));
-        } catch (Exception e) {
-            // 예외 발생 시 INVALID_TOKEN 에러를 던짐
+            // Bearer 접두사 제거 후 토큰을 파싱하여 클레임을 가져옴
+            Claims claims = jwtParser.parseClaimsJws(BearerRemove(token)).getBody();
+
+            // 클레임에서 사용자 ID를 추출
+            Long userId = claims.get(ID_CLAIM, Long.class);
+            if (userId == null) {
+                throw new BaseException(ErrorCode.INVALID_TOKEN);
+            }
+
+            // 만료 시간이 있는 토큰만 캐싱하여 만료 이후에는 다시 검증하도록 함
+            Date expiration = claims.getExpiration();
+            if (expiration != null) {
+                verifiedTokenMap.put(token, new VerifiedToken(userId, expiration.getTime()));
+            }
+            return userId;
+        } catch (JwtException | IllegalArgumentException e) {
+            // 서명 불일치, 만료, 형식 오류 등은 INVALID_TOKEN 에러로 변환
             throw new BaseException(ErrorCode.INVALID_TOKEN);
         }
     }
@@ -90,4 +144,10 @@ public class JwtService {
     private String BearerRemove(String token) {
         return token.substring(BEARER.length());
     }
+
+    private record VerifiedToken(Long userId, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
 }
@@ -34,6 +34,12 @@ public class JwtValidateArgumentResolver implements HandlerMethodArgumentResolve
     public Object resolveArgument(@NonNull MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
         // 요청에서 HttpServletRequest 객체를 가져옴
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
+        // 인증 필터에서 이미 파싱한 사용자 ID가 있으면 그대로 사용
+        Object userId = request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE);
+        if (userId instanceof Long) {
+            return userId;
+        }
+
         // 요청 헤더에서 AccessToken을 가져옴
         String accessToken = request.getHeader(ACCESS_TOKEN_HEADER);
 
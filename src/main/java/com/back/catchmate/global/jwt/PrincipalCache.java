@@ -0,0 +1,70 @@
+package com.back.catchmate.global.jwt;
+
+import com.back.catchmate.domain.user.entity.Authority;
+import com.back.catchmate.domain.user.entity.User;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 인증 필터에서 매 요청마다 사용자를 조회하지 않도록 사용자별 권한과 탈퇴 여부를 짧게 캐싱
+// 인스턴스 로컬 캐시이므로 다른 인스턴스에서의 변경은 TTL 이내에 반영됨
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+    private final UserRepository userRepository;
+
+    // userId -> 권한 (탈퇴했거나 존재하지 않는 사용자는 빈 값)
+    private Cache<Long, Optional<Authority>> principalMap;
+
+    @Value("${jwt.principal-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${jwt.principal-cache.max-entries:100000}")
+    private int maxEntries;
+
+    // 최대 개수를 넘으면 오래 사용하지 않은 항목부터 제거
+    @PostConstruct
+    void init() {
+        principalMap = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // 유효한 사용자의 권한 조회 (캐시에 없거나 만료된 경우에만 DB 조회, 같은 사용자의 동시 요청은 한 번만 조회)
+    public Optional<Authority> getAuthority(Long userId) {
+        return principalMap.get(userId, this::load);
+    }
+
+    // 탈퇴, 권한 변경 등 사용자 상태가 바뀐 경우 캐시 무효화
+    public void evict(Long userId) {
+        principalMap.invalidate(userId);
+        // 커밋 전에 다른 요청이 이전 상태를 다시 적재했을 수 있으므로 커밋 후 한 번 더 무효화
+        runAfterCommit(() -> principalMap.invalidate(userId));
+    }
+
+    private Optional<Authority> load(Long userId) {
+        return userRepository.findByIdAndDeletedAtIsNull(userId)
+                .map(User::getAuthority);
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        }
+    }
+}
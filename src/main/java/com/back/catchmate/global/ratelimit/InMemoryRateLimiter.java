@@ -0,0 +1,75 @@
+package com.back.catchmate.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 인스턴스 로컬 토큰 버킷 (기본값)
+// 버킷 상태를 불변 객체로 두고 CAS 로 교체하여 락 없이 처리
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimiter implements RateLimiter {
+    private static final double MILLIS_PER_MINUTE = 60_000d;
+
+    private final Clock clock;
+
+    // 제한 이름:사용자 ID -> 버킷
+    Cache<String, AtomicReference<Bucket>> bucketMap;
+
+    @Value("${rate-limit.max-buckets:100000}")
+    private int maxBuckets = 100000;
+
+    // 이 시간 동안 요청이 없던 버킷은 제거 (가장 긴 완전 충전 시간보다 길어야 가득 찬 버킷만 제거됨)
+    @Value("${rate-limit.idle-expiry-seconds:600}")
+    private long idleExpirySeconds = 600;
+
+    public InMemoryRateLimiter() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemoryRateLimiter(Clock clock) {
+        this.clock = clock;
+    }
+
+    // 최대 개수를 넘으면 오래 사용하지 않은 버킷부터 제거 (정리 비용은 요청마다 나누어 처리)
+    @PostConstruct
+    void init() {
+        bucketMap = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofSeconds(idleExpirySeconds))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int capacity, int refillPerMinute) {
+        long now = clock.millis();
+        double refillPerMillis = refillPerMinute / MILLIS_PER_MINUTE;
+        AtomicReference<Bucket> bucketReference = bucketMap.get(key, k -> new AtomicReference<>(new Bucket(capacity, now)));
+
+        while (true) {
+            Bucket current = bucketReference.get();
+            double tokens = current.refill(now, capacity, refillPerMillis);
+            if (tokens < 1) {
+                return false;
+            }
+            if (bucketReference.compareAndSet(current, new Bucket(tokens - 1, now))) {
+                return true;
+            }
+        }
+    }
+
+    record Bucket(double tokens, long refilledAt) {
+        double refill(long now, int capacity, double refillPerMillis) {
+            return Math.min(capacity, tokens + Math.max(0, now - refilledAt) * refillPerMillis);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.back.catchmate.global.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 사용자별 요청 수 제한 (토큰 버킷)
+// MVC 컨트롤러와 STOMP @MessageMapping 핸들러 모두에 사용 가능
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+    // 제한을 공유하는 엔드포인트 구분 이름
+    String name();
+
+    // 버킷 크기 (연속으로 허용하는 최대 요청 수)
+    int capacity();
+
+    // 분당 충전되는 토큰 수 (지속적으로 허용하는 요청 속도)
+    int refillPerMinute();
+}
@@ -0,0 +1,76 @@
+package com.back.catchmate.global.ratelimit;
+
+import com.back.catchmate.global.error.ErrorCode;
+import com.back.catchmate.global.error.exception.BaseException;
+import com.back.catchmate.global.jwt.JwtValidation;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+
+// @RateLimit 이 붙은 핸들러 호출 전에 (사용자 ID, 제한 이름) 단위로 토큰을 차감
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RateLimitAspect {
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Before("@annotation(rateLimit)")
+    public void checkRateLimit(JoinPoint joinPoint, RateLimit rateLimit) {
+        Long userId = resolveUserId(joinPoint);
+        if (userId == null) {
+            return;
+        }
+
+        if (!rateLimiter.tryAcquire(rateLimit.name() + ":" + userId, rateLimit.capacity(), rateLimit.refillPerMinute())) {
+            meterRegistry.counter("ratelimit.rejected", "name", rateLimit.name()).increment();
+            log.warn("Rate limit exceeded: name={}, userId={}", rateLimit.name(), userId);
+            throw new BaseException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    // 1. @JwtValidation 파라미터 (MVC) 2. STOMP 세션 속성 3. SecurityContext 순서로 사용자 ID 확인
+    private Long resolveUserId(JoinPoint joinPoint) {
+        Object[] args = joinPoint.getArgs();
+        Annotation[][] parameterAnnotations = ((MethodSignature) joinPoint.getSignature()).getMethod().getParameterAnnotations();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Long userId && hasJwtValidation(parameterAnnotations[i])) {
+                return userId;
+            }
+            if (args[i] instanceof SimpMessageHeaderAccessor accessor) {
+                Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+                if (sessionAttributes != null && sessionAttributes.get("userId") instanceof Long userId) {
+                    return userId;
+                }
+            }
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+
+    private boolean hasJwtValidation(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof JwtValidation) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,6 @@
+package com.back.catchmate.global.ratelimit;
+
+// 토큰 버킷에서 토큰 하나를 꺼낼 수 있으면 true
+public interface RateLimiter {
+    boolean tryAcquire(String key, int capacity, int refillPerMinute);
+}
@@ -0,0 +1,45 @@
+package com.back.catchmate.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 여러 인스턴스가 하나의 한도를 공유하는 Redis 토큰 버킷 (rate-limit.store=redis)
+// ratelimit:{key} -> tokens, ts 해시, 시간은 Redis 서버 시각을 사용하여 인스턴스 간 시계 차이 영향을 받지 않음
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "redis")
+public class RedisRateLimiter implements RateLimiter {
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // ARGV = 버킷 크기, 밀리초당 충전량
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('TIME') " +
+                    "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+                    "local capacity = tonumber(ARGV[1]) " +
+                    "local refill = tonumber(ARGV[2]) " +
+                    "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+                    "local tokens = tonumber(state[1]) or capacity " +
+                    "local ts = tonumber(state[2]) or now " +
+                    "tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill) " +
+                    "local allowed = 0 " +
+                    "if tokens >= 1 then tokens = tokens - 1 allowed = 1 end " +
+                    "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now) " +
+                    // 버킷이 다시 가득 차는 시간이 지나면 키 삭제
+                    "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill)) " +
+                    "return allowed", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public boolean tryAcquire(String key, int capacity, int refillPerMinute) {
+        Long allowed = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + key),
+                String.valueOf(capacity), String.valueOf(refillPerMinute / 60_000d));
+        return allowed != null && allowed == 1;
+    }
+}
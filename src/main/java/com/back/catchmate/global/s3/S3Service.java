@@ -3,11 +3,14 @@ package com.back.catchmate.global.s3;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.UUID;
 
@@ -30,6 +33,22 @@ public class S3Service {
         return getPublicUrl(uniqueFileName);
     }
 
+    // 외부에 공개하지 않는 내부 파일(채팅 아카이브 등) 업로드
+    public void uploadBytes(String key, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(bytes.length);
+
+        amazonS3.putObject(bucket, key, new ByteArrayInputStream(bytes), metadata);
+    }
+
+    public byte[] downloadBytes(String key) throws IOException {
+        S3Object s3Object = amazonS3.getObject(bucket, key);
+        try (S3ObjectInputStream inputStream = s3Object.getObjectContent()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
     private String getPublicUrl(String fileName) {
         return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, fileName);
     }
@@ -0,0 +1,23 @@
+package com.back.catchmate.global.scheduler;
+
+import com.back.catchmate.domain.admin.service.ActivityRollupRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 각 인스턴스가 메모리에 누적한 건수를 더하는 방식이므로 임대 없이 모든 인스턴스에서 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityRollupFlushScheduler {
+    private final ActivityRollupRecorder activityRollupRecorder;
+
+    @Scheduled(fixedDelayString = "${admin.analytics.flush-interval-ms:60000}")
+    public void flush() {
+        int flushedCount = activityRollupRecorder.flush();
+        if (flushedCount > 0) {
+            log.debug("Flushed {} activity rollup buckets", flushedCount);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.back.catchmate.global.scheduler;
+
+import com.back.catchmate.domain.admin.service.AdminStatsCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 관리자 통계 카운터는 인스턴스마다 메모리에 있으므로 임대 없이 모든 인스턴스에서 각자 재집계
+// 다른 인스턴스에서 발생한 변경과 누락된 이벤트는 최대 재집계 주기만큼 늦게 반영됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminStatsReconcileScheduler {
+    private final AdminStatsCounter adminStatsCounter;
+
+    @Scheduled(fixedDelayString = "${admin.stats.reconcile-interval-ms:600000}",
+            initialDelayString = "${admin.stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            adminStatsCounter.reconcile();
+        } catch (Exception e) {
+            // 실패해도 이벤트로 갱신된 값은 유지하고 다음 주기에 다시 시도
+            log.warn("Admin stats reconcile failed", e);
+        }
+    }
+}
@@ -1,31 +1,138 @@
 package com.back.catchmate.global.scheduler;
 
-import com.back.catchmate.domain.board.entity.Board;
 import com.back.catchmate.domain.board.repository.BoardRepository;
-import com.back.catchmate.domain.chat.repository.ChatMessageRepository;
+import com.back.catchmate.domain.board.service.BoardDeletionService;
+import com.back.catchmate.global.scheduler.entity.JobCheckpoint;
+import com.back.catchmate.global.scheduler.lock.JobCoordinator;
+import com.back.catchmate.global.scheduler.lock.JobLease;
+import com.back.catchmate.global.scheduler.repository.JobCheckpointRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class BoardCleanScheduler {
+    private static final String JOB_NAME = "board-clean";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(5);
+
     private final BoardRepository boardRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final BoardDeletionService boardDeletionService;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final JobCoordinator jobCoordinator;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // 남은 정리 대상 게시글 수
+    private final AtomicLong backlog = new AtomicLong();
+    // 마지막으로 청크가 커밋된 시각 (epoch seconds)
+    private final AtomicLong lastCommittedAt = new AtomicLong();
+
+    @Value("${scheduler.board-clean.chunk-size:500}")
+    private int chunkSize;
 
-    @Transactional
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("scheduler.board_clean.backlog", backlog, AtomicLong::get)
+                .description("정리 대기 중인 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.board_clean.lag.seconds", lastCommittedAt,
+                        committedAt -> committedAt.get() == 0 ? 0 : System.currentTimeMillis() / 1000 - committedAt.get())
+                .description("마지막 청크 커밋 이후 경과 시간")
+                .register(meterRegistry);
+    }
+
+    // 경기일로부터 7일이 지난 게시글과 관련 데이터를 청크 단위로 soft delete
+    // 여러 인스턴스가 떠 있어도 임대를 획득한 하나의 인스턴스에서만 실행
     @Scheduled(cron = "0 0 3 * * ?", zone = "Asia/Seoul")
     public void softDeleteOldBoardsAndChats() {
-        LocalDateTime deleteThreshold = LocalDateTime.now().minusDays(7);
+        jobCoordinator.runExclusively(JOB_NAME, LEASE_TIME, this::cleanOldBoards);
+    }
+
+    private void cleanOldBoards(JobLease lease) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        JobCheckpoint checkpoint = transactionTemplate.execute(status -> loadCheckpoint(LocalDateTime.now().minusDays(7)));
+        LocalDateTime deleteThreshold = checkpoint.getThresholdAt();
+        Long lastBoardId = checkpoint.getLastProcessedId();
+
+        backlog.set(boardRepository.countExpiredBoards(deleteThreshold, lastBoardId));
+        Timer chunkTimer = meterRegistry.timer("scheduler.board_clean.chunk");
+
+        while (lease.isValid()) {
+            Long fromBoardId = lastBoardId;
+            // 청크마다 트랜잭션을 커밋하여 락 점유 시간과 Undo 로그 크기를 제한
+            ChunkResult result = chunkTimer.record(() -> transactionTemplate.execute(status -> cleanChunk(lease, deleteThreshold, fromBoardId)));
+            if (result == null) {
+                break;
+            }
+
+            lastBoardId = result.lastBoardId();
+            backlog.addAndGet(-result.boardCount());
+            lastCommittedAt.set(System.currentTimeMillis() / 1000);
+            meterRegistry.counter("scheduler.board_clean.boards").increment(result.boardCount());
+        }
+
+        if (!lease.isValid()) {
+            log.warn("Board clean stopped, lease lost: lastBoardId={}", lastBoardId);
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                jobCheckpointRepository.findById(JOB_NAME).ifPresent(JobCheckpoint::complete));
+        log.info("Board clean finished: threshold={}, lastBoardId={}", deleteThreshold, lastBoardId);
+    }
+
+    // 완료되지 않은 체크포인트가 있으면 이어서 진행하고, 없으면 새로운 기준 시간으로 시작
+    private JobCheckpoint loadCheckpoint(LocalDateTime deleteThreshold) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> jobCheckpointRepository.save(JobCheckpoint.start(JOB_NAME, deleteThreshold)));
+
+        if (checkpoint.isCompleted()) {
+            checkpoint.restart(deleteThreshold);
+        } else if (checkpoint.getLastProcessedId() > 0) {
+            log.info("Board clean resumed: threshold={}, lastBoardId={}", checkpoint.getThresholdAt(), checkpoint.getLastProcessedId());
+        }
+        return checkpoint;
+    }
+
+    private ChunkResult cleanChunk(JobLease lease, LocalDateTime deleteThreshold, Long lastBoardId) {
+        List<Long> boardIdList = boardRepository.findExpiredBoardIds(deleteThreshold, lastBoardId, PageRequest.of(0, chunkSize));
+        if (boardIdList.isEmpty()) {
+            return null;
+        }
+
+        // 청크 트랜잭션에 참여하며, 채팅방 캐시는 청크 커밋 이후 무효화됨
+        boardDeletionService.softDeleteBoards(boardIdList);
+
+        // 삭제와 같은 트랜잭션에서 체크포인트를 갱신하여 커밋된 청크는 다시 처리하지 않음
+        Long chunkLastBoardId = boardIdList.get(boardIdList.size() - 1);
+        // 다른 인스턴스가 더 높은 fencing 토큰으로 이어받았다면 예외로 청크 전체를 롤백
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("Job checkpoint not found: " + JOB_NAME));
+        if (!checkpoint.claim(lease.getFencingToken())) {
+            throw new IllegalStateException("Stale fencing token: " + lease.getFencingToken());
+        }
+        checkpoint.advance(chunkLastBoardId, boardIdList.size());
+
+        return new ChunkResult(chunkLastBoardId, boardIdList.size());
+    }
 
-        List<Board> oldBoardList = boardRepository.findBoardsByGameStartDatePlusSevenAndDeletedAtIsNull(deleteThreshold);
-        oldBoardList.forEach(board -> {
-            board.deleteBoard();
-            chatMessageRepository.deleteAllByChatRoomId(board.getChatRoom().getId());
-        });
+    private record ChunkResult(Long lastBoardId, int boardCount) {
     }
 }
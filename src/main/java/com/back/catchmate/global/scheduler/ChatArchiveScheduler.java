@@ -0,0 +1,69 @@
+package com.back.catchmate.global.scheduler;
+
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import com.back.catchmate.domain.chat.service.ChatArchiveService;
+import com.back.catchmate.global.scheduler.lock.JobCoordinator;
+import com.back.catchmate.global.scheduler.lock.JobLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatArchiveScheduler {
+    private static final String JOB_NAME = "chat-archive";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(5);
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatArchiveService chatArchiveService;
+    private final JobCoordinator jobCoordinator;
+
+    @Value("${chat.archive.after-days:1}")
+    private long archiveAfterDays;
+
+    // 경기가 끝난 채팅방의 메시지를 아카이브 파일로 옮기고 MongoDB 문서는 아카이브된 ID 구간 기준으로 삭제
+    @Scheduled(cron = "0 30 4 * * ?", zone = "Asia/Seoul")
+    public void archiveFinishedChatRooms() {
+        jobCoordinator.runExclusively(JOB_NAME, LEASE_TIME, this::archive);
+    }
+
+    private void archive(JobLease lease) {
+        LocalDateTime archiveThreshold = LocalDateTime.now().minusDays(archiveAfterDays);
+        List<Long> chatRoomIdList = chatRoomRepository.findArchivableChatRoomIds(archiveThreshold);
+
+        int archivedCount = 0;
+        for (Long chatRoomId : chatRoomIdList) {
+            if (!lease.isValid()) {
+                log.warn("Chat archive stopped, lease lost");
+                return;
+            }
+            try {
+                // 채팅방 단위로 처리하여 한 채팅방의 실패가 전체에 영향을 주지 않도록 처리 (실패한 채팅방은 다음 실행에서 이어서 진행)
+                chatArchiveService.archiveChatRoom(chatRoomId);
+                archivedCount++;
+            } catch (Exception e) {
+                log.error("Chat room archive skipped: chatRoomId={}", chatRoomId, e);
+            }
+        }
+
+        // 이번 실행에서 아카이브한 채팅방뿐 아니라 이전 실행에서 삭제가 끝나지 않은 채팅방도 함께 삭제
+        int purgedRoomCount = 0;
+        int purgedCount;
+        do {
+            if (!lease.isValid()) {
+                log.warn("Chat archive purge stopped, lease lost");
+                return;
+            }
+            purgedCount = chatArchiveService.removeArchivedMessages();
+            purgedRoomCount += purgedCount;
+        } while (purgedCount > 0);
+        log.info("Chat archive finished: archivedRooms={}, purgedRooms={}", archivedCount, purgedRoomCount);
+    }
+}
@@ -0,0 +1,59 @@
+package com.back.catchmate.global.scheduler;
+
+import com.back.catchmate.domain.chat.expiry.ChatMessageExpiryResolver;
+import com.back.catchmate.domain.chat.repository.ChatMessageRepository;
+import com.back.catchmate.global.scheduler.lock.JobCoordinator;
+import com.back.catchmate.global.scheduler.lock.JobLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// TTL 도입 이전에 저장되어 expireAt 이 없는 채팅 메시지에 만료 시간을 채워 넣음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageExpiryBackfillScheduler {
+    private static final String JOB_NAME = "chat-message-expiry-backfill";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(5);
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageExpiryResolver chatMessageExpiryResolver;
+    private final JobCoordinator jobCoordinator;
+
+    @Value("${chat.message.backfill.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "0 0 5 * * ?", zone = "Asia/Seoul")
+    public void backfillExpireAt() {
+        jobCoordinator.runExclusively(JOB_NAME, LEASE_TIME, this::backfill);
+    }
+
+    private void backfill(JobLease lease) {
+        Set<Long> processedChatRoomIds = new HashSet<>();
+        long updatedCount = 0;
+
+        while (lease.isValid()) {
+            List<Long> chatRoomIdList = chatMessageRepository.findChatRoomIdsWithoutExpireAt(batchSize).stream()
+                    .filter(chatRoomId -> !processedChatRoomIds.contains(chatRoomId))
+                    .toList();
+            if (chatRoomIdList.isEmpty()) {
+                break;
+            }
+
+            // 채팅방 단위 updateMulti 로 해당 채팅방의 메시지를 한 번에 갱신
+            for (Long chatRoomId : chatRoomIdList) {
+                updatedCount += chatMessageRepository.updateExpireAt(chatRoomId, chatMessageExpiryResolver.resolve(chatRoomId), true);
+                processedChatRoomIds.add(chatRoomId);
+            }
+        }
+
+        log.info("Chat message expireAt backfill finished: rooms={}, messages={}", processedChatRoomIds.size(), updatedCount);
+    }
+}
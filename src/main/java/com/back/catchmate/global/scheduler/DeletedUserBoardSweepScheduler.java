@@ -0,0 +1,61 @@
+package com.back.catchmate.global.scheduler;
+
+import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.board.service.BoardDeletionService;
+import com.back.catchmate.global.scheduler.lock.JobCoordinator;
+import com.back.catchmate.global.scheduler.lock.JobLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// 탈퇴한 사용자의 게시글은 커밋 이후 비동기로 정리하는데, 그 전에 인스턴스가 종료되면 작업이 유실됨
+// 탈퇴한 사용자가 작성한 남은 게시글을 주기적으로 찾아 청크 단위로 soft delete
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeletedUserBoardSweepScheduler {
+    private static final String JOB_NAME = "deleted-user-board-sweep";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(5);
+
+    private final BoardRepository boardRepository;
+    private final BoardDeletionService boardDeletionService;
+    private final JobCoordinator jobCoordinator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scheduler.deleted-user-board-sweep.chunk-size:200}")
+    private int chunkSize;
+
+    @Scheduled(cron = "0 */10 * * * ?", zone = "Asia/Seoul")
+    public void sweepBoardsOfDeletedUsers() {
+        jobCoordinator.runExclusively(JOB_NAME, LEASE_TIME, this::sweep);
+    }
+
+    private void sweep(JobLease lease) {
+        long deletedCount = 0;
+        Long lastBoardId = 0L;
+
+        while (lease.isValid()) {
+            List<Long> boardIdList = boardRepository.findActiveIdsOfDeletedUsers(lastBoardId, PageRequest.of(0, chunkSize));
+            if (boardIdList.isEmpty()) {
+                break;
+            }
+
+            // 청크마다 별도 트랜잭션으로 커밋
+            boardDeletionService.softDeleteBoards(boardIdList);
+            lastBoardId = boardIdList.get(boardIdList.size() - 1);
+            deletedCount += boardIdList.size();
+            meterRegistry.counter("scheduler.deleted_user_board_sweep.boards").increment(boardIdList.size());
+        }
+
+        if (deletedCount > 0) {
+            log.info("Boards of deleted users swept: boards={}, lastBoardId={}", deletedCount, lastBoardId);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.back.catchmate.global.scheduler;
+
+import com.back.catchmate.domain.notification.dto.FcmSendResult;
+import com.back.catchmate.domain.notification.entity.NotificationOutbox;
+import com.back.catchmate.domain.notification.entity.OutboxStatus;
+import com.back.catchmate.domain.notification.entity.OutboxType;
+import com.back.catchmate.domain.notification.repository.NotificationOutboxRepository;
+import com.back.catchmate.domain.notification.service.FCMService;
+import com.back.catchmate.domain.notification.service.FcmPushSender;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 알림 아웃박스를 배치 단위로 꺼내 FCM으로 동시에 전송
+// 선점 -> 전송 -> 결과 기록을 각각 분리하여 FCM 응답을 기다리는 동안 DB 트랜잭션과 락을 잡고 있지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationOutboxDispatcher {
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final FCMService fcmService;
+    private final FcmPushSender fcmPushSender;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    // 선점 후 결과가 기록되지 않으면(인스턴스 종료 등) 이 시간 이후 다시 전송 대상이 됨
+    @Value("${notification.outbox.visibility-timeout-seconds:60}")
+    private long visibilityTimeoutSeconds;
+
+    @Value("${notification.outbox.backoff-base-seconds:10}")
+    private long backoffBaseSeconds;
+
+    @Value("${notification.outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 가득 찬 배치를 처리했다면 밀린 알림이 더 있을 수 있으므로 바로 다음 배치를 진행
+        int dispatchedCount;
+        do {
+            List<NotificationOutbox> outboxList = transactionTemplate.execute(status -> claimBatch());
+            if (outboxList == null || outboxList.isEmpty()) {
+                return;
+            }
+
+            Map<Long, FcmSendResult> resultMap = send(outboxList);
+            transactionTemplate.executeWithoutResult(status -> recordResults(resultMap));
+            dispatchedCount = outboxList.size();
+        } while (dispatchedCount == batchSize);
+    }
+
+    private List<NotificationOutbox> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> outboxList = notificationOutboxRepository.findDispatchable(OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        LocalDateTime visibleAt = now.plusSeconds(visibilityTimeoutSeconds);
+        outboxList.forEach(outbox -> outbox.claim(visibleAt));
+        return outboxList;
+    }
+
+    private Map<Long, FcmSendResult> send(List<NotificationOutbox> outboxList) {
+        Map<Long, FcmSendResult> resultMap = new HashMap<>();
+        List<Long> sendingIdList = new ArrayList<>();
+        List<String> messageList = new ArrayList<>();
+
+        for (NotificationOutbox outbox : outboxList) {
+            try {
+                messageList.add(makeMessage(outbox));
+                sendingIdList.add(outbox.getId());
+            } catch (JsonProcessingException e) {
+                resultMap.put(outbox.getId(), FcmSendResult.failed("Invalid message: " + e.getMessage()));
+            }
+        }
+
+        List<FcmSendResult> resultList = fcmPushSender.sendAll(messageList);
+        for (int i = 0; i < sendingIdList.size(); i++) {
+            resultMap.put(sendingIdList.get(i), resultList.get(i));
+        }
+        return resultMap;
+    }
+
+    private String makeMessage(NotificationOutbox outbox) throws JsonProcessingException {
+        if (outbox.getType() == OutboxType.INQUIRY) {
+            return fcmService.makeInquiryMessage(outbox.getTargetToken(), outbox.getTitle(), outbox.getBody(), outbox.getInquiryId());
+        }
+        return fcmService.makeEnrollMessage(outbox.getTargetToken(), outbox.getTitle(), outbox.getBody(), outbox.getBoardId(), outbox.getAcceptStatus(), outbox.getChatRoomId());
+    }
+
+    private void recordResults(Map<Long, FcmSendResult> resultMap) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, NotificationOutbox> outboxMap = notificationOutboxRepository.findAllById(resultMap.keySet()).stream()
+                .collect(Collectors.toMap(NotificationOutbox::getId, Function.identity()));
+        Set<String> unregisteredTokens = new HashSet<>();
+
+        resultMap.forEach((outboxId, result) -> {
+            NotificationOutbox outbox = outboxMap.get(outboxId);
+            if (outbox == null) {
+                return;
+            }
+
+            if (result.isSuccess()) {
+                outbox.markSent(now);
+                meterRegistry.counter("notification.outbox.sent").increment();
+                return;
+            }
+
+            if (result.status() == FcmSendResult.Status.UNREGISTERED) {
+                unregisteredTokens.add(outbox.getTargetToken());
+            }
+
+            if (result.status() != FcmSendResult.Status.RETRYABLE || outbox.getAttemptCount() >= maxAttempts) {
+                outbox.markDead(truncate(result.error()));
+                meterRegistry.counter("notification.outbox.dead").increment();
+                log.error("Notification outbox dead-lettered: id={}, key={}, attempts={}, error={}",
+                        outbox.getId(), outbox.getIdempotencyKey(), outbox.getAttemptCount(), result.error());
+            } else {
+                outbox.retryAt(now.plus(backoff(outbox.getAttemptCount())), truncate(result.error()));
+                meterRegistry.counter("notification.outbox.retried").increment();
+            }
+        });
+
+        // 더 이상 유효하지 않은 토큰은 사용자 정보에서 제거하여 이후 알림이 아웃박스에 쌓이지 않도록 함
+        if (!unregisteredTokens.isEmpty()) {
+            int clearedCount = userRepository.clearFcmTokens(unregisteredTokens);
+            log.info("Unregistered fcm tokens cleared: tokens={}, users={}", unregisteredTokens.size(), clearedCount);
+        }
+    }
+
+    // 지수 백오프 + jitter (동시에 실패한 알림들이 같은 시각에 몰려서 재시도하지 않도록 분산)
+    Duration backoff(int attemptCount) {
+        long exponential = backoffBaseSeconds * (1L << Math.min(attemptCount - 1, 20));
+        long capped = Math.min(exponential, backoffMaxSeconds);
+        long jittered = capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+        return Duration.ofSeconds(jittered);
+    }
+
+    private String truncate(String error) {
+        return error != null && error.length() > 255 ? error.substring(0, 255) : error;
+    }
+}
@@ -0,0 +1,166 @@
+package com.back.catchmate.global.scheduler;
+
+import com.back.catchmate.domain.notification.dto.NotificationCompaction;
+import com.back.catchmate.domain.notification.entity.NotificationRollup;
+import com.back.catchmate.domain.notification.entity.OutboxStatus;
+import com.back.catchmate.domain.notification.repository.NotificationOutboxRepository;
+import com.back.catchmate.domain.notification.repository.NotificationRepository;
+import com.back.catchmate.domain.notification.repository.NotificationRollupRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
+import com.back.catchmate.global.scheduler.lock.JobCoordinator;
+import com.back.catchmate.global.scheduler.lock.JobLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 알림 테이블이 계속 커지지 않도록 오래된 알림을 청크 단위로 정리
+// 1. soft delete 후 유예 기간이 지난 알림은 그대로 삭제
+// 2. 읽은 지 오래된 알림과 최대 보관 기간이 지난 알림은 사용자별 요약(NotificationRollup)에 합친 뒤 삭제
+// 3. 전송이 끝난 푸시 아웃박스는 보관 기간이 지나면 삭제 (실패한 건은 원인 확인을 위해 더 오래 보관)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+    private static final String JOB_NAME = "notification-retention";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(5);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationRollupRepository notificationRollupRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UnreadBadgeService unreadBadgeService;
+    private final JobCoordinator jobCoordinator;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${notification.retention.read-after-days:30}")
+    private long readAfterDays;
+
+    @Value("${notification.retention.max-age-days:180}")
+    private long maxAgeDays;
+
+    @Value("${notification.retention.deleted-after-days:7}")
+    private long deletedAfterDays;
+
+    @Value("${notification.retention.outbox-sent-after-days:7}")
+    private long outboxSentAfterDays;
+
+    @Value("${notification.retention.outbox-dead-after-days:30}")
+    private long outboxDeadAfterDays;
+
+    @Scheduled(cron = "0 0 5 * * ?", zone = "Asia/Seoul")
+    public void cleanUpNotifications() {
+        jobCoordinator.runExclusively(JOB_NAME, LEASE_TIME, this::cleanUp);
+    }
+
+    private void cleanUp(JobLease lease) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+        Timer chunkTimer = meterRegistry.timer("notification.retention.chunk");
+
+        // 1. 삭제된 알림 정리
+        LocalDateTime purgeThreshold = now.minusDays(deletedAfterDays);
+        long purgedCount = 0;
+        Long lastId = 0L;
+        while (lease.isValid()) {
+            Long fromId = lastId;
+            List<Long> idList = notificationRepository.findPurgeableIds(fromId, purgeThreshold, PageRequest.of(0, chunkSize));
+            if (idList.isEmpty()) {
+                break;
+            }
+
+            chunkTimer.record(() -> transactionTemplate.executeWithoutResult(status -> notificationRepository.deleteAllByIdIn(idList)));
+            lastId = idList.get(idList.size() - 1);
+            purgedCount += idList.size();
+            meterRegistry.counter("notification.retention.purged").increment(idList.size());
+        }
+
+        // 2. 오래된 알림을 요약으로 압축
+        LocalDateTime readThreshold = now.minusDays(readAfterDays);
+        LocalDateTime expireThreshold = now.minusDays(maxAgeDays);
+        long compactedCount = 0;
+        lastId = 0L;
+        while (lease.isValid()) {
+            Long fromId = lastId;
+            List<Long> idList = notificationRepository.findCompactableIds(fromId, readThreshold, expireThreshold, PageRequest.of(0, chunkSize));
+            if (idList.isEmpty()) {
+                break;
+            }
+
+            // 요약 반영과 원본 삭제를 같은 트랜잭션에서 처리하여 중복 집계를 방지
+            chunkTimer.record(() -> transactionTemplate.executeWithoutResult(status -> compactChunk(idList)));
+            lastId = idList.get(idList.size() - 1);
+            compactedCount += idList.size();
+            meterRegistry.counter("notification.retention.compacted").increment(idList.size());
+        }
+
+        // 3. 오래된 아웃박스 정리
+        long outboxPurgedCount = purgeOutbox(lease, transactionTemplate, chunkTimer, OutboxStatus.SENT, now.minusDays(outboxSentAfterDays))
+                + purgeOutbox(lease, transactionTemplate, chunkTimer, OutboxStatus.DEAD, now.minusDays(outboxDeadAfterDays));
+
+        if (!lease.isValid()) {
+            log.warn("Notification retention stopped, lease lost: purged={}, compacted={}, outboxPurged={}",
+                    purgedCount, compactedCount, outboxPurgedCount);
+            return;
+        }
+        log.info("Notification retention finished: purged={}, compacted={}, outboxPurged={}",
+                purgedCount, compactedCount, outboxPurgedCount);
+    }
+
+    private long purgeOutbox(JobLease lease, TransactionTemplate transactionTemplate, Timer chunkTimer,
+                             OutboxStatus outboxStatus, LocalDateTime threshold) {
+        long purgedCount = 0;
+        Long lastId = 0L;
+        while (lease.isValid()) {
+            Long fromId = lastId;
+            List<Long> idList = notificationOutboxRepository.findPurgeableIds(outboxStatus, fromId, threshold, PageRequest.of(0, chunkSize));
+            if (idList.isEmpty()) {
+                break;
+            }
+
+            chunkTimer.record(() -> transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.deleteAllByIdIn(idList)));
+            lastId = idList.get(idList.size() - 1);
+            purgedCount += idList.size();
+            meterRegistry.counter("notification.retention.outbox_purged", "status", outboxStatus.name()).increment(idList.size());
+        }
+        return purgedCount;
+    }
+
+    private void compactChunk(List<Long> idList) {
+        List<NotificationCompaction> compactionList = notificationRepository.summarizeByUser(idList);
+
+        Map<Long, NotificationRollup> rollupMap = notificationRollupRepository.findByUserIdIn(
+                        compactionList.stream().map(NotificationCompaction::userId).toList()).stream()
+                .collect(Collectors.toMap(NotificationRollup::getUserId, Function.identity()));
+
+        for (NotificationCompaction compaction : compactionList) {
+            NotificationRollup rollup = rollupMap.computeIfAbsent(compaction.userId(), NotificationRollup::empty);
+            rollup.accumulate(compaction);
+
+            // 최대 보관 기간이 지나 함께 삭제되는 읽지 않은 알림은 배지에서도 차감 (커밋 이후 반영)
+            long unreadCount = compaction.totalCount() - compaction.readCount();
+            if (unreadCount > 0) {
+                unreadBadgeService.onNotificationRead(compaction.userId(), Math.toIntExact(unreadCount));
+            }
+        }
+        notificationRollupRepository.saveAll(rollupMap.values());
+
+        notificationRepository.deleteAllByIdIn(idList);
+    }
+}
@@ -0,0 +1,85 @@
+package com.back.catchmate.global.scheduler.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 배치 작업의 진행 상황 (중단 시 마지막으로 커밋된 위치부터 재개)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "job_checkpoints")
+public class JobCheckpoint {
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    // 실행 시점에 고정한 처리 기준 시간 (재개 시에도 동일한 기준 사용)
+    @Column(nullable = false)
+    private LocalDateTime thresholdAt;
+
+    // 마지막으로 커밋된 청크의 최대 ID
+    @Column(nullable = false)
+    private Long lastProcessedId;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    // 마지막으로 체크포인트를 갱신한 실행의 fencing 토큰
+    @Column(nullable = false)
+    private long fencingToken;
+
+    private LocalDateTime updatedAt;
+
+    public static JobCheckpoint start(String jobName, LocalDateTime thresholdAt) {
+        return JobCheckpoint.builder()
+                .jobName(jobName)
+                .thresholdAt(thresholdAt)
+                .lastProcessedId(0L)
+                .processedCount(0)
+                .completed(false)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void restart(LocalDateTime thresholdAt) {
+        this.thresholdAt = thresholdAt;
+        this.lastProcessedId = 0L;
+        this.processedCount = 0;
+        this.completed = false;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 더 최신 실행이 이미 체크포인트를 갱신했다면 false (임대를 잃은 이전 실행의 쓰기 차단)
+    public boolean claim(long fencingToken) {
+        if (fencingToken < this.fencingToken) {
+            return false;
+        }
+        this.fencingToken = fencingToken;
+        return true;
+    }
+
+    public void advance(Long lastProcessedId, int processedCount) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += processedCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,5 @@
+package com.back.catchmate.global.scheduler.entity;
+
+public enum JobRunStatus {
+    SUCCEEDED, FAILED, LEASE_LOST
+}
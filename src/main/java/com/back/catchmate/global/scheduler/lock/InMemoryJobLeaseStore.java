@@ -0,0 +1,65 @@
+package com.back.catchmate.global.scheduler.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 단일 인스턴스 / 테스트용 임대 저장소 (Redis 락과 동일한 의미를 메모리에서 제공)
+@Component
+@ConditionalOnProperty(name = "scheduler.lock.store", havingValue = "memory")
+public class InMemoryJobLeaseStore implements JobLeaseStore {
+    private final Clock clock;
+    private final Map<String, LockEntry> lockMap = new HashMap<>();
+    private final Map<String, Long> fenceMap = new HashMap<>();
+
+    public InMemoryJobLeaseStore() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemoryJobLeaseStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized Optional<JobLease> tryAcquire(String jobName, String ownerId, Duration leaseTime) {
+        LockEntry current = lockMap.get(jobName);
+        if (current != null && !current.isExpired(clock.millis())) {
+            return Optional.empty();
+        }
+
+        long token = fenceMap.merge(jobName, 1L, Long::sum);
+        JobLease lease = new JobLease(jobName, ownerId, token);
+        lockMap.put(jobName, new LockEntry(lease.getLockValue(), clock.millis() + leaseTime.toMillis()));
+        return Optional.of(lease);
+    }
+
+    @Override
+    public synchronized boolean renew(JobLease lease, Duration leaseTime) {
+        LockEntry current = lockMap.get(lease.getJobName());
+        if (current == null || current.isExpired(clock.millis()) || !current.value().equals(lease.getLockValue())) {
+            return false;
+        }
+
+        lockMap.put(lease.getJobName(), new LockEntry(current.value(), clock.millis() + leaseTime.toMillis()));
+        return true;
+    }
+
+    @Override
+    public synchronized void release(JobLease lease) {
+        LockEntry current = lockMap.get(lease.getJobName());
+        if (current != null && current.value().equals(lease.getLockValue())) {
+            lockMap.remove(lease.getJobName());
+        }
+    }
+
+    private record LockEntry(String value, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
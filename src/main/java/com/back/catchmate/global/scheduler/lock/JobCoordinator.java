@@ -0,0 +1,145 @@
+package com.back.catchmate.global.scheduler.lock;
+
+import com.back.catchmate.global.scheduler.entity.JobRunHistory;
+import com.back.catchmate.global.scheduler.entity.JobRunStatus;
+import com.back.catchmate.global.scheduler.repository.JobRunHistoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 여러 인스턴스 중 하나에서만 스케줄 작업이 실행되도록 조정
+ * 임대를 획득한 인스턴스만 작업을 실행하고, 실행 중에는 임대 기간의 1/3 주기로 연장한다.
+ * 연장에 실패하면 lease 가 무효화되므로 작업은 청크 사이에서 lease.isValid() 를 확인해 중단해야 한다.
+ */
+@Slf4j
+@Component
+public class JobCoordinator {
+    private final JobLeaseStore jobLeaseStore;
+    private final JobRunHistoryRepository jobRunHistoryRepository;
+    private final MeterRegistry meterRegistry;
+    private final String ownerId;
+    private final ScheduledExecutorService renewalExecutor;
+
+    @Autowired
+    public JobCoordinator(JobLeaseStore jobLeaseStore,
+                          JobRunHistoryRepository jobRunHistoryRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${scheduler.instance-id:}") String instanceId) {
+        this.jobLeaseStore = jobLeaseStore;
+        this.jobRunHistoryRepository = jobRunHistoryRepository;
+        this.meterRegistry = meterRegistry;
+        this.ownerId = instanceId.isBlank() ? defaultOwnerId() : instanceId;
+        this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 임대를 획득하면 작업을 실행하고 true, 다른 인스턴스가 실행 중이면 false 반환
+    public boolean runExclusively(String jobName, Duration leaseTime, Consumer<JobLease> job) {
+        Optional<JobLease> acquired = jobLeaseStore.tryAcquire(jobName, ownerId, leaseTime);
+        if (acquired.isEmpty()) {
+            meterRegistry.counter("scheduler.job.skipped", "job", jobName).increment();
+            log.info("Job skipped, lease held by another instance: job={}", jobName);
+            return false;
+        }
+
+        JobLease lease = acquired.get();
+        long renewPeriod = Math.max(leaseTime.toMillis() / 3, 1);
+        ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(
+                () -> renew(lease, leaseTime), renewPeriod, renewPeriod, TimeUnit.MILLISECONDS);
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        JobRunStatus status = JobRunStatus.SUCCEEDED;
+        String errorMessage = null;
+
+        try {
+            job.accept(lease);
+            if (!lease.isValid()) {
+                status = JobRunStatus.LEASE_LOST;
+            }
+        } catch (RuntimeException e) {
+            status = lease.isValid() ? JobRunStatus.FAILED : JobRunStatus.LEASE_LOST;
+            errorMessage = e.getMessage();
+            log.error("Job failed: job={}, fencingToken={}", jobName, lease.getFencingToken(), e);
+        } finally {
+            renewal.cancel(false);
+            if (lease.isValid()) {
+                jobLeaseStore.release(lease);
+            }
+        }
+
+        long durationNanos = System.nanoTime() - startNanos;
+        meterRegistry.timer("scheduler.job.duration", "job", jobName, "status", status.name())
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        saveHistory(lease, status, startedAt, TimeUnit.NANOSECONDS.toMillis(durationNanos), errorMessage);
+        return true;
+    }
+
+    private void renew(JobLease lease, Duration leaseTime) {
+        if (!lease.isValid()) {
+            return;
+        }
+
+        try {
+            if (!jobLeaseStore.renew(lease, leaseTime)) {
+                lease.invalidate();
+                log.warn("Job lease lost: job={}, fencingToken={}", lease.getJobName(), lease.getFencingToken());
+            }
+        } catch (Exception e) {
+            // 저장소 장애 시에도 다른 인스턴스가 락을 획득할 수 있으므로 안전하게 무효화
+            lease.invalidate();
+            log.error("Job lease renewal failed: job={}", lease.getJobName(), e);
+        }
+    }
+
+    private void saveHistory(JobLease lease, JobRunStatus status, LocalDateTime startedAt, long durationMillis, String errorMessage) {
+        try {
+            jobRunHistoryRepository.save(JobRunHistory.builder()
+                    .jobName(lease.getJobName())
+                    .ownerId(ownerId)
+                    .fencingToken(lease.getFencingToken())
+                    .status(status)
+                    .startedAt(startedAt)
+                    .finishedAt(LocalDateTime.now())
+                    .durationMillis(durationMillis)
+                    .errorMessage(errorMessage != null && errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage)
+                    .build());
+        } catch (Exception e) {
+            log.error("Job run history save failed: job={}", lease.getJobName(), e);
+        }
+    }
+
+    private static String defaultOwnerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+}
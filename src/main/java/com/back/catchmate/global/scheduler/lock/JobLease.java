@@ -0,0 +1,33 @@
+package com.back.catchmate.global.scheduler.lock;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 스케줄 작업 실행 권한 (임대 기간 동안 하나의 인스턴스만 보유)
+@Getter
+public class JobLease {
+    private final String jobName;
+    private final String ownerId;
+    // 획득할 때마다 단조 증가하는 토큰 (이전 소유자의 늦은 쓰기를 차단하는 데 사용)
+    private final long fencingToken;
+    private final AtomicBoolean valid = new AtomicBoolean(true);
+
+    public JobLease(String jobName, String ownerId, long fencingToken) {
+        this.jobName = jobName;
+        this.ownerId = ownerId;
+        this.fencingToken = fencingToken;
+    }
+
+    public String getLockValue() {
+        return ownerId + ":" + fencingToken;
+    }
+
+    public boolean isValid() {
+        return valid.get();
+    }
+
+    public void invalidate() {
+        valid.set(false);
+    }
+}
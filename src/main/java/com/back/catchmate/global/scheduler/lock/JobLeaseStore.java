@@ -0,0 +1,12 @@
+package com.back.catchmate.global.scheduler.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface JobLeaseStore {
+    Optional<JobLease> tryAcquire(String jobName, String ownerId, Duration leaseTime);
+
+    boolean renew(JobLease lease, Duration leaseTime);
+
+    void release(JobLease lease);
+}
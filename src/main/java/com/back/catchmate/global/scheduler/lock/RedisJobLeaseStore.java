@@ -0,0 +1,65 @@
+package com.back.catchmate.global.scheduler.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+// Redis 기반 임대 저장소 (여러 인스턴스가 같은 Redis를 바라보는 운영 환경용)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.lock.store", havingValue = "redis", matchIfMissing = true)
+public class RedisJobLeaseStore implements JobLeaseStore {
+    private static final String LOCK_KEY_PREFIX = "scheduler:lock:";
+    private static final String FENCE_KEY_PREFIX = "scheduler:fence:";
+
+    // 락이 비어 있을 때만 fencing 토큰을 증가시키고 락을 설정
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return -1 end " +
+                    "local token = redis.call('INCR', KEYS[2]) " +
+                    "redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+                    "return token", Long.class);
+
+    // 본인이 보유한 락일 때만 만료 시간 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+                    "return 0", Long.class);
+
+    // 본인이 보유한 락일 때만 해제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+                    "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Optional<JobLease> tryAcquire(String jobName, String ownerId, Duration leaseTime) {
+        Long token = redisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(LOCK_KEY_PREFIX + jobName, FENCE_KEY_PREFIX + jobName),
+                ownerId, String.valueOf(leaseTime.toMillis()));
+
+        if (token == null || token < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new JobLease(jobName, ownerId, token));
+    }
+
+    @Override
+    public boolean renew(JobLease lease, Duration leaseTime) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT,
+                List.of(LOCK_KEY_PREFIX + lease.getJobName()),
+                lease.getLockValue(), String.valueOf(leaseTime.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void release(JobLease lease) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY_PREFIX + lease.getJobName()), lease.getLockValue());
+    }
+}
@@ -0,0 +1,7 @@
+package com.back.catchmate.global.scheduler.repository;
+
+import com.back.catchmate.global.scheduler.entity.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
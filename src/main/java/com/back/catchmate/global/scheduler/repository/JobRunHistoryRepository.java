@@ -0,0 +1,10 @@
+package com.back.catchmate.global.scheduler.repository;
+
+import com.back.catchmate.global.scheduler.entity.JobRunHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface JobRunHistoryRepository extends JpaRepository<JobRunHistory, Long> {
+    List<JobRunHistory> findTop20ByJobNameOrderByStartedAtDesc(String jobName);
+}
@@ -0,0 +1,35 @@
+-- user_chat_rooms, notifications, notification_outbox 의 ID 발급을 AUTO_INCREMENT 에서 시퀀스로 변경 (MariaDB)
+-- Flyway 가 애플리케이션 시작 시(Hibernate 초기화 전) 한 번만 실행
+-- INCREMENT BY 는 IdSequence.ALLOCATION_SIZE 와 같아야 함
+-- pooled 방식은 시퀀스 값에서 (INCREMENT BY - 1) 만큼 아래부터 사용하므로 기존 최대 ID + INCREMENT BY + 1 부터 시작
+-- 테이블이 아직 없는 새 DB 에서는 51 부터 시작
+
+SET @has_table = (SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'user_chat_rooms');
+SET @query = IF(@has_table > 0, 'SELECT COALESCE(MAX(user_chat_room_id), 0) + 51 INTO @start FROM user_chat_rooms', 'SELECT 51 INTO @start');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+SET @ddl = CONCAT('CREATE OR REPLACE SEQUENCE user_chat_rooms_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @has_table = (SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'notifications');
+SET @query = IF(@has_table > 0, 'SELECT COALESCE(MAX(notification_id), 0) + 51 INTO @start FROM notifications', 'SELECT 51 INTO @start');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+SET @ddl = CONCAT('CREATE OR REPLACE SEQUENCE notifications_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @has_table = (SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'notification_outbox');
+SET @query = IF(@has_table > 0, 'SELECT COALESCE(MAX(notification_outbox_id), 0) + 51 INTO @start FROM notification_outbox', 'SELECT 51 INTO @start');
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+SET @ddl = CONCAT('CREATE OR REPLACE SEQUENCE notification_outbox_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
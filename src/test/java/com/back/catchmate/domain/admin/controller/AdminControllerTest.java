@@ -4,6 +4,8 @@ import com.back.catchmate.domain.admin.dto.AdminRequest.AnswerInquiryRequest;
 import com.back.catchmate.domain.admin.dto.AdminRequest.CreateNoticeRequest;
 import com.back.catchmate.domain.admin.dto.AdminRequest.UpdateNoticeRequest;
 import com.back.catchmate.domain.admin.dto.AdminResponse.*;
+import com.back.catchmate.domain.admin.entity.ActivityGranularity;
+import com.back.catchmate.domain.admin.entity.ActivityMetric;
 import com.back.catchmate.domain.admin.service.AdminService;
 import com.back.catchmate.domain.board.dto.BoardResponse;
 import com.back.catchmate.domain.board.service.BoardService;
@@ -130,6 +132,29 @@ class AdminControllerTest {
                 .andExpect(jsonPath("$.cheerStyleCountMap").isMap());
     }
 
+    @Test
+    @DisplayName("GET /analytics - 활동 지표 추이 조회 성공")
+    @WithMockUser(roles = "ADMIN")
+    void getActivityStats_Success() throws Exception {
+        ActivityStatsInfo response = ActivityStatsInfo.builder()
+                .metric(ActivityMetric.SIGNUP)
+                .granularity(ActivityGranularity.DAILY)
+                .bucketList(List.of(ActivityBucketInfo.builder().bucketStart(LocalDate.of(2024, 5, 1).atStartOfDay()).count(3L).build()))
+                .totalCount(3L)
+                .build();
+        given(adminService.getActivityStats(ActivityMetric.SIGNUP, ActivityGranularity.DAILY,
+                LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31), null)).willReturn(response);
+
+        mockMvc.perform(get(BASE_URI + "/analytics")
+                        .param("metric", "SIGNUP")
+                        .param("startDate", "2024-05-01")
+                        .param("endDate", "2024-05-31")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(3L))
+                .andExpect(jsonPath("$.bucketList[0].count").value(3L));
+    }
+
     // --- 2. 유저 및 게시글 조회 API ---
 
     @Test
@@ -0,0 +1,164 @@
+package com.back.catchmate.domain.admin.service;
+
+import com.back.catchmate.domain.admin.dto.AdminResponse.ActivityStatsInfo;
+import com.back.catchmate.domain.admin.entity.ActivityGranularity;
+import com.back.catchmate.domain.admin.entity.ActivityMetric;
+import com.back.catchmate.domain.admin.entity.ActivityRollup;
+import com.back.catchmate.domain.admin.repository.ActivityRollupRepository;
+import com.back.catchmate.domain.enroll.event.EnrollAcceptedEvent;
+import com.back.catchmate.global.error.ErrorCode;
+import com.back.catchmate.global.error.exception.BaseException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ActivityRollupRecorderTest {
+    // 다른 테스트에서 기록된 건수와 섞이지 않도록 실제 구단과 겹치지 않는 ID 사용
+    private static final Long CLUB_ID = 9001L;
+
+    @Autowired private ActivityRollupRecorder activityRollupRecorder;
+    @Autowired private ActivityRollupRepository activityRollupRepository;
+    @Autowired private AdminService adminService;
+    @Autowired private EntityManager em;
+
+    @Test
+    @DisplayName("기록한 건수는 flush 후 시간, 일 단위 구간에 각각 반영된다")
+    void flush_RecordsHourlyAndDailyBuckets() {
+        // given
+        LocalDate today = LocalDate.now();
+        activityRollupRecorder.record(ActivityMetric.SIGNUP, CLUB_ID, 1);
+        activityRollupRecorder.record(ActivityMetric.SIGNUP, CLUB_ID, 1);
+        activityRollupRecorder.onEnrollAccepted(new EnrollAcceptedEvent(1L, CLUB_ID, 3));
+
+        // when
+        activityRollupRecorder.flush();
+        em.clear();
+
+        // then
+        ActivityStatsInfo daily = adminService.getActivityStats(ActivityMetric.SIGNUP, ActivityGranularity.DAILY, today, today, CLUB_ID);
+        ActivityStatsInfo hourly = adminService.getActivityStats(ActivityMetric.SIGNUP, ActivityGranularity.HOURLY, today, today, CLUB_ID);
+        ActivityStatsInfo accepted = adminService.getActivityStats(ActivityMetric.ENROLL_ACCEPTED, ActivityGranularity.DAILY, today, today, CLUB_ID);
+
+        assertThat(daily.getBucketList()).hasSize(1);
+        assertThat(daily.getBucketList().get(0).getBucketStart()).isEqualTo(today.atStartOfDay());
+        assertThat(daily.getTotalCount()).isEqualTo(2L);
+        assertThat(hourly.getTotalCount()).isEqualTo(2L);
+        assertThat(accepted.getTotalCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("같은 구간을 여러 번 flush 하면 기존 행에 건수가 더해진다")
+    void flush_Twice_AccumulatesSameBucket() {
+        // given
+        LocalDate today = LocalDate.now();
+        activityRollupRecorder.record(ActivityMetric.CHAT_MESSAGE, CLUB_ID, 5);
+        activityRollupRecorder.flush();
+
+        // when
+        activityRollupRecorder.record(ActivityMetric.CHAT_MESSAGE, CLUB_ID, 2);
+        activityRollupRecorder.flush();
+        em.clear();
+
+        // then
+        ActivityStatsInfo daily = adminService.getActivityStats(ActivityMetric.CHAT_MESSAGE, ActivityGranularity.DAILY, today, today, CLUB_ID);
+        assertThat(daily.getBucketList()).hasSize(1);
+        assertThat(daily.getTotalCount()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("flush 도중 동시에 기록한 건수도 유실 없이 반영된다")
+    void flush_ConcurrentRecord_LosesNoCount() throws InterruptedException {
+        // given
+        LocalDate today = LocalDate.now();
+        int threadCount = 4;
+        int recordCountPerThread = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < recordCountPerThread; j++) {
+                        activityRollupRecorder.record(ActivityMetric.CHAT_MESSAGE, CLUB_ID, 1);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        // 기록이 끝나기 전까지 flush 를 반복
+        while (!latch.await(1, TimeUnit.MILLISECONDS)) {
+            activityRollupRecorder.flush();
+        }
+        executorService.shutdown();
+        activityRollupRecorder.flush();
+        em.clear();
+
+        // then
+        ActivityStatsInfo daily = adminService.getActivityStats(ActivityMetric.CHAT_MESSAGE, ActivityGranularity.DAILY, today, today, CLUB_ID);
+        ActivityStatsInfo hourly = adminService.getActivityStats(ActivityMetric.CHAT_MESSAGE, ActivityGranularity.HOURLY, today, today, CLUB_ID);
+        assertThat(daily.getTotalCount()).isEqualTo((long) threadCount * recordCountPerThread);
+        assertThat(hourly.getTotalCount()).isEqualTo((long) threadCount * recordCountPerThread);
+    }
+
+    @Test
+    @DisplayName("구단을 지정하지 않으면 구간별로 전체 구단 건수를 합산하고 조회 기간 밖의 구간은 제외한다")
+    void getActivityStats_AllClubs_SumsByBucket() {
+        // given
+        LocalDateTime firstDay = LocalDate.of(2024, 5, 1).atStartOfDay();
+        LocalDateTime secondDay = LocalDate.of(2024, 5, 2).atStartOfDay();
+        saveRollup(ActivityMetric.BOARD_CREATED, firstDay, 1L, 3);
+        saveRollup(ActivityMetric.BOARD_CREATED, firstDay, 2L, 4);
+        saveRollup(ActivityMetric.BOARD_CREATED, secondDay, 1L, 5);
+        saveRollup(ActivityMetric.BOARD_CREATED, LocalDate.of(2024, 5, 3).atStartOfDay(), 1L, 100);
+
+        // when
+        ActivityStatsInfo result = adminService.getActivityStats(ActivityMetric.BOARD_CREATED, ActivityGranularity.DAILY,
+                LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 2), null);
+
+        // then
+        assertThat(result.getBucketList()).hasSize(2);
+        assertThat(result.getBucketList().get(0).getBucketStart()).isEqualTo(firstDay);
+        assertThat(result.getBucketList().get(0).getCount()).isEqualTo(7L);
+        assertThat(result.getBucketList().get(1).getCount()).isEqualTo(5L);
+        assertThat(result.getTotalCount()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("조회 시작일이 종료일보다 늦으면 예외가 발생한다")
+    void getActivityStats_InvalidRange_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> adminService.getActivityStats(ActivityMetric.SIGNUP, ActivityGranularity.DAILY,
+                LocalDate.of(2024, 5, 2), LocalDate.of(2024, 5, 1), null))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.INVALID_DATE_RANGE.getMessage());
+    }
+
+    private void saveRollup(ActivityMetric metric, LocalDateTime bucketStart, Long clubId, long eventCount) {
+        activityRollupRepository.save(ActivityRollup.builder()
+                .metric(metric)
+                .granularity(ActivityGranularity.DAILY)
+                .bucketStart(bucketStart)
+                .clubId(clubId)
+                .eventCount(eventCount)
+                .build());
+    }
+}
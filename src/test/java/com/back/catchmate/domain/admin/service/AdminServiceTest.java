@@ -18,7 +18,7 @@ import com.back.catchmate.domain.inquiry.entity.InquiryType;
 import com.back.catchmate.domain.inquiry.repository.InquiryRepository;
 import com.back.catchmate.domain.notice.entity.Notice;
 import com.back.catchmate.domain.notice.repository.NoticeRepository;
-import com.back.catchmate.domain.notification.service.FCMService;
+import com.back.catchmate.domain.notification.service.NotificationOutboxService;
 import com.back.catchmate.domain.notification.service.NotificationService;
 import com.back.catchmate.domain.report.entity.Report;
 import com.back.catchmate.domain.report.entity.ReportType;
@@ -72,9 +72,10 @@ class AdminServiceImplTest {
     @Autowired private GameRepository gameRepository;
     @Autowired private ChatRoomRepository chatRoomRepository;
     @Autowired private UserChatRoomRepository userChatRoomRepository;
+    @Autowired private AdminStatsCounter adminStatsCounter;
     @Autowired private EntityManager em;
 
-    @MockBean private FCMService fcmService;
+    @MockBean private NotificationOutboxService notificationOutboxService;
     @MockBean private NotificationService notificationService;
 
     private User adminUser;
@@ -115,6 +116,7 @@ class AdminServiceImplTest {
         Board board = createAndSaveBoard(regularUser, hanhwaClub, true);
         createAndSaveReport(regularUser, adminUser);
         createAndSaveInquiry(regularUser);
+        reconcileStats();
 
         // when
         AdminResponse.AdminDashboardInfo stats = adminService.getDashboardStats();
@@ -135,6 +137,7 @@ class AdminServiceImplTest {
 
         // 현재 총 4명 (M=3, F=1)
         // M 비율: 3/4 = 75.0, F 비율: 1/4 = 25.0
+        reconcileStats();
 
         // when
         AdminResponse.GenderRatioDto ratio = adminService.getGenderRatio();
@@ -149,6 +152,7 @@ class AdminServiceImplTest {
     void getTeamSupportStats_Success() {
         // given
         // KIA: 1명 (admin), Hanwha: 1명 (regular)
+        reconcileStats();
 
         // when
         AdminResponse.TeamSupportStatsInfo stats = adminService.getTeamSupportStats();
@@ -167,6 +171,7 @@ class AdminServiceImplTest {
     void getCheerStyleStats_Success() {
         // given
         userRepository.save(createUser("m2@test.com", "M2", hanhwaClub, Authority.ROLE_USER, "먹보")); // 먹보 2명
+        reconcileStats();
 
         // when
         AdminResponse.CheerStyleStatsInfo stats = adminService.getCheerStyleStats();
@@ -218,7 +223,7 @@ class AdminServiceImplTest {
     // --- 3. 문의 관리 API ---
 
     @Test
-    @DisplayName("문의 답변 작성 성공 - DB 업데이트 및 FCM/알림 서비스 호출 검증")
+    @DisplayName("문의 답변 작성 성공 - DB 업데이트 및 푸시 아웃박스/알림 서비스 호출 검증")
     void answerInquiry_Success() throws IOException {
         // given
         Inquiry inquiry = createAndSaveInquiry(regularUser);
@@ -236,8 +241,9 @@ class AdminServiceImplTest {
         assertThat(answeredInquiry.getIsCompleted()).isTrue();
         assertThat(answeredInquiry.getAnsweredBy().getId()).isEqualTo(adminUser.getId());
 
-        // 2. 외부 호출 검증 (FCM, Notification)
-        verify(fcmService).sendMessageByToken(
+        // 2. 외부 호출 검증 (아웃박스, Notification)
+        verify(notificationOutboxService).enqueueInquiryPush(
+                eq("inquiry-answer:" + inquiry.getId()),
                 eq(regularUser.getFcmToken()),
                 eq(INQUIRY_ANSWER_TITLE),
                 eq(INQUIRY_ANSWER_BODY),
@@ -368,6 +374,12 @@ class AdminServiceImplTest {
     }
 
     // --- Helper Methods ---
+    // 저장소로 직접 넣은 데이터는 도메인 이벤트가 발행되지 않으므로 재집계로 통계에 반영
+    private void reconcileStats() {
+        em.flush();
+        adminStatsCounter.reconcile();
+    }
+
 
     private Club createAndSaveClub(Long id, String name, String region) {
         // Native Query로 ID를 강제 지정 (통계 초기화 로직 검증용)
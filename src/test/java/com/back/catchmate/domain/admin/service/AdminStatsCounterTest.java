@@ -0,0 +1,127 @@
+package com.back.catchmate.domain.admin.service;
+
+import com.back.catchmate.domain.board.event.BoardCompletedEvent;
+import com.back.catchmate.domain.board.event.BoardsDeletedEvent;
+import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.inquiry.event.InquiryCreatedEvent;
+import com.back.catchmate.domain.inquiry.repository.InquiryRepository;
+import com.back.catchmate.domain.report.event.ReportCreatedEvent;
+import com.back.catchmate.domain.report.repository.ReportRepository;
+import com.back.catchmate.domain.user.event.UserDeletedEvent;
+import com.back.catchmate.domain.user.event.UserJoinedEvent;
+import com.back.catchmate.domain.user.event.UserProfileUpdatedEvent;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminStatsCounterTest {
+
+    @InjectMocks
+    private AdminStatsCounter adminStatsCounter;
+
+    @Mock private UserRepository userRepository;
+    @Mock private BoardRepository boardRepository;
+    @Mock private ReportRepository reportRepository;
+    @Mock private InquiryRepository inquiryRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 초기 상태: 남성 1명 (1번 구단, 먹보), 완료 게시글 1건
+        given(userRepository.countByDeletedAtIsNull()).willReturn(1L);
+        given(boardRepository.countByDeletedAtIsNullAndIsCompletedIsTrue()).willReturn(1L);
+        given(reportRepository.countByDeletedAtIsNull()).willReturn(0L);
+        given(inquiryRepository.countByDeletedAtIsNull()).willReturn(0L);
+        given(userRepository.countByGenderAndDeletedAtIsNull('M')).willReturn(1L);
+        given(userRepository.countByGenderAndDeletedAtIsNull('F')).willReturn(0L);
+        given(userRepository.countUsersByClub()).willReturn(rows(new Object[]{1L, 1L}));
+        given(userRepository.countUsersByWatchStyle()).willReturn(rows(new Object[]{"먹보", 1L}));
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 한 번만 전체 집계하고 이후에는 메모리 값을 반환한다")
+    void getUserCount_LoadOnce() {
+        // when
+        adminStatsCounter.getUserCount();
+        long userCount = adminStatsCounter.getUserCount();
+
+        // then
+        assertThat(userCount).isEqualTo(1L);
+        verify(userRepository, times(1)).countByDeletedAtIsNull();
+    }
+
+    @Test
+    @DisplayName("가입, 탈퇴, 프로필 변경 이벤트로 사용자 통계가 증감한다")
+    void onUserEvents_UpdateCounters() {
+        // given
+        adminStatsCounter.reconcile();
+
+        // when
+        adminStatsCounter.onUserJoined(new UserJoinedEvent(2L, 'F', 2L, null));
+        adminStatsCounter.onUserProfileUpdated(new UserProfileUpdatedEvent(1L, 1L, "먹보", 2L, "보살"));
+        adminStatsCounter.onUserDeleted(new UserDeletedEvent(2L, 'F', 2L, null));
+
+        // then
+        assertThat(adminStatsCounter.getUserCount()).isEqualTo(1L);
+        assertThat(adminStatsCounter.getMaleCount()).isEqualTo(1L);
+        assertThat(adminStatsCounter.getFemaleCount()).isEqualTo(0L);
+        assertThat(adminStatsCounter.getClubCountMap()).containsEntry(1L, 0L).containsEntry(2L, 1L);
+        assertThat(adminStatsCounter.getWatchStyleCountMap())
+                .containsEntry("먹보", 0L)
+                .containsEntry("보살", 1L)
+                .containsEntry(AdminStatsCounter.NO_WATCH_STYLE, 0L);
+    }
+
+    @Test
+    @DisplayName("게시글 완료/삭제, 신고, 문의 이벤트로 대시보드 통계가 증감한다")
+    void onBoardReportInquiryEvents_UpdateCounters() {
+        // given
+        adminStatsCounter.reconcile();
+
+        // when
+        adminStatsCounter.onBoardCompleted(new BoardCompletedEvent(2L, 1L));
+        adminStatsCounter.onBoardCompleted(new BoardCompletedEvent(3L, 1L));
+        adminStatsCounter.onBoardsDeleted(new BoardsDeletedEvent(List.of(1L, 2L, 4L), 2L));
+        adminStatsCounter.onReportCreated(new ReportCreatedEvent(1L));
+        adminStatsCounter.onInquiryCreated(new InquiryCreatedEvent(1L));
+
+        // then
+        assertThat(adminStatsCounter.getBoardCount()).isEqualTo(1L);
+        assertThat(adminStatsCounter.getReportCount()).isEqualTo(1L);
+        assertThat(adminStatsCounter.getInquiryCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("재집계하면 이벤트로 누적된 값이 DB 집계 값으로 교체된다")
+    void reconcile_ReplaceCounters() {
+        // given
+        adminStatsCounter.reconcile();
+        adminStatsCounter.onReportCreated(new ReportCreatedEvent(1L));
+        adminStatsCounter.onUserJoined(new UserJoinedEvent(2L, 'M', 3L, "감독"));
+
+        // when
+        adminStatsCounter.reconcile();
+
+        // then
+        assertThat(adminStatsCounter.getReportCount()).isZero();
+        assertThat(adminStatsCounter.getUserCount()).isEqualTo(1L);
+        assertThat(adminStatsCounter.getClubCountMap()).containsOnlyKeys(1L);
+    }
+
+    private List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
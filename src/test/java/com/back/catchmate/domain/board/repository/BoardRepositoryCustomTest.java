@@ -1,8 +1,11 @@
 package com.back.catchmate.domain.board.repository;
 
 import com.back.catchmate.domain.board.entity.Board;
+import com.back.catchmate.domain.board.service.BoardDeletionService;
 import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.chat.membership.LocalMembershipEvictionBroadcaster;
 import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import com.back.catchmate.domain.chat.service.ChatRoomMembershipCache;
 import com.back.catchmate.domain.club.entity.Club;
 import com.back.catchmate.domain.club.repository.ClubRepository;
 import com.back.catchmate.domain.game.entity.Game;
@@ -13,6 +16,7 @@ import com.back.catchmate.domain.user.entity.Provider;
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.BlockedUserRepository;
 import com.back.catchmate.domain.user.repository.UserRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
 import com.back.catchmate.global.config.JpaConfig;
 import com.back.catchmate.global.config.QueryDslConfig;
 import jakarta.persistence.EntityManager;
@@ -21,6 +25,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -33,7 +38,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({QueryDslConfig.class, JpaConfig.class})
+@Import({QueryDslConfig.class, JpaConfig.class, BoardDeletionService.class, ChatRoomMembershipCache.class, LocalMembershipEvictionBroadcaster.class})
 @ActiveProfiles("test")
 class BoardRepositoryTest {
 
@@ -43,8 +48,12 @@ class BoardRepositoryTest {
     @Autowired private GameRepository gameRepository;
     @Autowired private BlockedUserRepository blockedUserRepository;
     @Autowired private ChatRoomRepository chatRoomRepository;
+    @Autowired private BoardDeletionService boardDeletionService;
     @Autowired private EntityManager em; // 필드 추가
 
+    // 게시글 삭제 시 배지 차감은 이 테스트의 관심사가 아니므로 Mock 처리
+    @MockBean private UnreadBadgeService unreadBadgeService;
+
     private User userA, userB, userBlocked;
     private Club kia, doosan;
     private Game gameToday, gameTomorrow;
@@ -77,8 +86,7 @@ class BoardRepositoryTest {
         createAndSaveBoard("임시글", userA, kia, gameToday, false);
         // 4. 삭제된 게시글
         Board deletedBoard = createAndSaveBoard("삭제글", userB, doosan, gameToday, true);
-        deletedBoard.deleteBoard();
-        boardRepository.save(deletedBoard);
+        boardDeletionService.softDeleteBoards(List.of(deletedBoard.getId()));
 
         // when
         // 오늘 날짜로 조회
@@ -0,0 +1,192 @@
+package com.back.catchmate.domain.board.service;
+
+import com.back.catchmate.domain.board.entity.Board;
+import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.chat.entity.UserChatRoom;
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.back.catchmate.domain.club.entity.Club;
+import com.back.catchmate.domain.club.repository.ClubRepository;
+import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+import com.back.catchmate.domain.enroll.entity.Enroll;
+import com.back.catchmate.domain.enroll.repository.EnrollRepository;
+import com.back.catchmate.domain.game.entity.Game;
+import com.back.catchmate.domain.game.repository.GameRepository;
+import com.back.catchmate.domain.notification.entity.Notification;
+import com.back.catchmate.domain.notification.repository.NotificationRepository;
+import com.back.catchmate.domain.user.entity.Authority;
+import com.back.catchmate.domain.user.entity.Provider;
+import com.back.catchmate.domain.user.entity.User;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class BoardDeletionServiceTest {
+
+    @Autowired private BoardDeletionService boardDeletionService;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private GameRepository gameRepository;
+    @Autowired private ChatRoomRepository chatRoomRepository;
+    @Autowired private UserChatRoomRepository userChatRoomRepository;
+    @Autowired private EnrollRepository enrollRepository;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private EntityManager em;
+
+    @SpyBean private UnreadBadgeService unreadBadgeService;
+
+    private User writer;
+    private User participant;
+    private Club club;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        club = clubRepository.save(Club.builder()
+                .name("KIA Tigers")
+                .homeStadium("Champions Field")
+                .region("Gwangju")
+                .build());
+
+        writer = userRepository.save(createUser("writer@test.com", "writer"));
+        participant = userRepository.save(createUser("participant@test.com", "participant"));
+
+        game = gameRepository.save(Game.builder()
+                .homeClub(club)
+                .awayClub(club)
+                .gameStartDate(LocalDateTime.now().plusDays(1))
+                .location("Gwangju")
+                .build());
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 신청, 채팅방, 채팅방 참여 정보가 함께 soft delete 된다")
+    void softDeleteBoards_Success() {
+        // given
+        Board board = createAndSaveBoard(true);
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .board(board)
+                .participantCount(2)
+                .build());
+        Enroll enroll = enrollRepository.save(Enroll.builder()
+                .user(participant).board(board).acceptStatus(AcceptStatus.ACCEPTED).isNew(false).build());
+        UserChatRoom userChatRoom = userChatRoomRepository.save(UserChatRoom.builder()
+                .user(participant).chatRoom(chatRoom).joinedAt(LocalDateTime.now()).isNewChatRoom(false).build());
+        em.flush();
+        em.clear();
+
+        // when
+        boardDeletionService.softDeleteBoards(List.of(board.getId()));
+
+        // then
+        assertThat(boardRepository.findById(board.getId()).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(chatRoomRepository.findById(chatRoom.getId()).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(enrollRepository.findById(enroll.getId()).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(userChatRoomRepository.findById(userChatRoom.getId()).orElseThrow().getDeletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("게시글 삭제로 함께 삭제되는 읽지 않은 알림 수만큼 수신자별 배지를 차감한다")
+    void softDeleteBoards_DecrementUnreadBadge() {
+        // given
+        Board board = createAndSaveBoard(true);
+        createAndSaveNotification(writer, board, false);
+        createAndSaveNotification(writer, board, false);
+        createAndSaveNotification(writer, board, true);
+        createAndSaveNotification(participant, board, true);
+        em.flush();
+        em.clear();
+
+        // when
+        boardDeletionService.softDeleteBoards(List.of(board.getId()));
+
+        // then
+        verify(unreadBadgeService).onNotificationRead(writer.getId(), 2);
+        verify(unreadBadgeService, never()).onNotificationRead(eq(participant.getId()), anyInt());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 게시글이 동기 처리 한도 이내면 임시 저장 게시글까지 바로 삭제된다")
+    void softDeleteBoardsOfUser_WithinSyncLimit() {
+        // given
+        Board completedBoard = createAndSaveBoard(true);
+        Board tempBoard = createAndSaveBoard(false);
+        em.flush();
+        em.clear();
+
+        // when
+        boardDeletionService.softDeleteBoardsOfUser(writer.getId());
+
+        // then
+        assertThat(boardRepository.findById(completedBoard.getId()).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(boardRepository.findById(tempBoard.getId()).orElseThrow().getDeletedAt()).isNotNull();
+    }
+
+    // --- Helper Methods ---
+    private void createAndSaveNotification(User receiver, Board board, boolean isRead) {
+        notificationRepository.save(Notification.builder()
+                .user(receiver)
+                .sender(participant)
+                .board(board)
+                .title("직관 신청")
+                .body("신청이 도착했습니다")
+                .isRead(isRead)
+                .build());
+    }
+
+    private Board createAndSaveBoard(boolean isCompleted) {
+        return boardRepository.save(Board.builder()
+                .title("직관 모집")
+                .content("같이 가요")
+                .maxPerson(4)
+                .currentPerson(1)
+                .user(writer)
+                .club(club)
+                .game(game)
+                .preferredGender("M")
+                .preferredAgeRange("20s")
+                .isCompleted(isCompleted)
+                .liftUpDate(LocalDateTime.now())
+                .build());
+    }
+
+    private User createUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .provider(Provider.GOOGLE)
+                .providerId("google_" + email)
+                .gender('M')
+                .nickName(nickname)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .club(club)
+                .profileImageUrl("default.jpg")
+                .allAlarm('Y').chatAlarm('Y').enrollAlarm('Y').eventAlarm('Y')
+                .fcmToken("token_" + email)
+                .authority(Authority.ROLE_USER)
+                .isReported(false)
+                .build();
+    }
+}
@@ -273,7 +273,7 @@ class BoardServiceTest {
         Board board = createAndSaveBoard(writer, true);
         // 삭제 로직에서 ChatRoom 참조하므로 필요 시 생성 (createAndSaveBoard 메서드 확인 필요)
         // createAndSaveBoard에서는 채팅방 생성 안함. 수동 생성 필요.
-        // 하지만 Service.deleteBoard 로직은 cascade 처리 또는 chatRoom.deleteChatRoom() 호출함.
+        // 하지만 Service.deleteBoard 로직은 BoardDeletionService 로 채팅방까지 함께 삭제함.
         // NPE 방지를 위해 채팅방 연결
         com.back.catchmate.domain.chat.entity.ChatRoom chatRoom = com.back.catchmate.domain.chat.entity.ChatRoom.builder()
                 .board(board)
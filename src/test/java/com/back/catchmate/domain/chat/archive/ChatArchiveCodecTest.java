@@ -0,0 +1,89 @@
+package com.back.catchmate.domain.chat.archive;
+
+import com.back.catchmate.domain.chat.entity.ChatMessage;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatArchiveCodecTest {
+
+    private final ChatArchiveCodec chatArchiveCodec = new ChatArchiveCodec();
+
+    @Test
+    @DisplayName("아카이브 인코딩 후 디코딩하면 동일한 메시지가 순서대로 복원된다")
+    void encodeDecode_RoundTrip() throws IOException {
+        // given
+        ChatMessage talk = ChatMessage.builder()
+                .id(new ObjectId())
+                .chatRoomId(1L)
+                .senderId(10L)
+                .content("안녕하세요 ⚾")
+                .sendTime(LocalDateTime.of(2024, 5, 1, 18, 30, 15, 123_000_000))
+                .messageType("TALK")
+                .build();
+        ChatMessage date = ChatMessage.builder()
+                .id(new ObjectId())
+                .chatRoomId(1L)
+                .senderId(-1L)
+                .content("5월 1일")
+                .messageType("DATE")
+                .build();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        ObjectId lastMessageId = chatArchiveCodec.encode(List.of(talk, date).iterator(), outputStream);
+        List<ChatMessage> decodedList = new ArrayList<>();
+        chatArchiveCodec.decode(new ByteArrayInputStream(outputStream.toByteArray()), decodedList::add);
+
+        // then
+        assertThat(lastMessageId).isEqualTo(date.getId());
+        assertThat(decodedList).hasSize(2);
+        assertThat(decodedList.get(0))
+                .usingRecursiveComparison()
+                .isEqualTo(talk);
+        assertThat(decodedList.get(1).getSendTime()).isNull();
+        assertThat(decodedList.get(1).getContent()).isEqualTo("5월 1일");
+    }
+
+    @Test
+    @DisplayName("메시지가 없으면 마지막 메시지 ID로 null을 반환하고 빈 아카이브를 생성한다")
+    void encode_Empty() throws IOException {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        ObjectId lastMessageId = chatArchiveCodec.encode(Collections.<ChatMessage>emptyIterator(), outputStream);
+        List<ChatMessage> decodedList = new ArrayList<>();
+        chatArchiveCodec.decode(new ByteArrayInputStream(outputStream.toByteArray()), decodedList::add);
+
+        // then
+        assertThat(lastMessageId).isNull();
+        assertThat(decodedList).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아카이브 포맷이 아니면 예외가 발생한다")
+    void decode_InvalidFormat() throws IOException {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (java.util.zip.GZIPOutputStream gzip = new java.util.zip.GZIPOutputStream(outputStream)) {
+            gzip.write(new byte[]{0, 0, 0, 0});
+        }
+
+        // when & then
+        assertThatThrownBy(() -> chatArchiveCodec.decode(new ByteArrayInputStream(outputStream.toByteArray()), message -> {}))
+                .isInstanceOf(IOException.class);
+    }
+}
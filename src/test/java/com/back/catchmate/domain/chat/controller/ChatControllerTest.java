@@ -5,6 +5,9 @@ import com.back.catchmate.domain.chat.dto.ChatRequest.ReadChatMessageRequest;
 import com.back.catchmate.domain.chat.dto.ChatResponse.ChatMessageInfo;
 import com.back.catchmate.domain.chat.dto.ChatResponse.PagedChatMessageInfo;
 import com.back.catchmate.domain.chat.service.ChatService;
+import com.back.catchmate.global.error.ErrorCode;
+import com.back.catchmate.global.error.ErrorResponse;
+import com.back.catchmate.global.error.exception.BaseException;
 import com.back.catchmate.global.jwt.JwtService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,12 +17,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
 import static com.back.catchmate.domain.chat.dto.ChatRequest.ChatMessageRequest.MessageType;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -101,7 +106,7 @@ class ChatControllerTest {
 
         // when
         // @MessageMapping 메서드는 MockMvc로 호출 불가하므로 직접 호출
-        chatController.sendMessage(chatRoomId, request);
+        chatController.sendMessage(chatRoomId, request, SimpMessageHeaderAccessor.create());
 
         // then
         verify(chatService).sendChatMessage(eq(chatRoomId), eq(request));
@@ -119,4 +124,15 @@ class ChatControllerTest {
         // then
         verify(chatService).updateLastReadTime(eq(request));
     }
+
+    @Test
+    @DisplayName("메시지 처리 예외 (WebSocket) - 예외의 상태 코드와 메시지를 오류 응답으로 변환한다")
+    void handleMessageException_TooManyRequests() {
+        // when
+        ErrorResponse response = chatController.handleMessageException(new BaseException(ErrorCode.TOO_MANY_REQUESTS));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(429);
+        assertThat(response.getMessage()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS.getMessage());
+    }
 }
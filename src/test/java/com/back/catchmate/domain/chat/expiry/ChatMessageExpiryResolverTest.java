@@ -0,0 +1,112 @@
+package com.back.catchmate.domain.chat.expiry;
+
+import com.back.catchmate.domain.chat.entity.ChatMessage;
+import com.back.catchmate.domain.chat.repository.ChatMessageRepository;
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageExpiryResolverTest {
+
+    @InjectMocks
+    private ChatMessageExpiryResolver chatMessageExpiryResolver;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    private final Long CHAT_ROOM_ID = 100L;
+    private final LocalDateTime GAME_START_DATE = LocalDateTime.of(2024, 5, 1, 18, 30);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chatMessageExpiryResolver, "retentionDays", 7L);
+    }
+
+    @Test
+    @DisplayName("만료 시간은 경기 시작일 + 보관 기간이며 채팅방별로 캐싱된다")
+    void resolve_GameStartDatePlusRetention_Cached() {
+        // given
+        given(chatRoomRepository.findGameStartDateById(CHAT_ROOM_ID)).willReturn(Optional.of(GAME_START_DATE));
+
+        // when
+        LocalDateTime first = chatMessageExpiryResolver.resolve(CHAT_ROOM_ID);
+        LocalDateTime second = chatMessageExpiryResolver.resolve(CHAT_ROOM_ID);
+
+        // then
+        assertThat(first).isEqualTo(GAME_START_DATE.plusDays(7));
+        assertThat(second).isEqualTo(first);
+        verify(chatRoomRepository, times(1)).findGameStartDateById(CHAT_ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("경기 정보가 없는 채팅방은 현재 시각 + 보관 기간으로 계산하고 캐싱하지 않는다")
+    void resolve_NoGame_NowPlusRetention_NotCached() {
+        // given
+        given(chatRoomRepository.findGameStartDateById(CHAT_ROOM_ID))
+                .willReturn(Optional.empty(), Optional.of(GAME_START_DATE));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        LocalDateTime first = chatMessageExpiryResolver.resolve(CHAT_ROOM_ID);
+        LocalDateTime second = chatMessageExpiryResolver.resolve(CHAT_ROOM_ID);
+
+        // then
+        assertThat(first).isBetween(before.plusDays(7), LocalDateTime.now().plusDays(7));
+        assertThat(second).isEqualTo(GAME_START_DATE.plusDays(7));
+        verify(chatRoomRepository, times(2)).findGameStartDateById(CHAT_ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("경기가 변경되면 캐시를 비우고 저장된 메시지의 만료 시간을 갱신한다")
+    void reschedule_UpdatesMessagesAndEvictsCache() {
+        // given
+        LocalDateTime newGameStartDate = GAME_START_DATE.plusDays(3);
+        given(chatRoomRepository.findGameStartDateById(CHAT_ROOM_ID))
+                .willReturn(Optional.of(GAME_START_DATE), Optional.of(newGameStartDate));
+        chatMessageExpiryResolver.resolve(CHAT_ROOM_ID);
+
+        // when
+        chatMessageExpiryResolver.reschedule(CHAT_ROOM_ID, newGameStartDate);
+
+        // then
+        verify(chatMessageRepository).updateExpireAt(CHAT_ROOM_ID, newGameStartDate.plusDays(7), false);
+        assertThat(chatMessageExpiryResolver.resolve(CHAT_ROOM_ID)).isEqualTo(newGameStartDate.plusDays(7));
+    }
+
+    @Test
+    @DisplayName("저장 직전 콜백에서 expireAt 이 비어있으면 채워 넣는다")
+    void callback_SetsExpireAt() {
+        // given
+        given(chatRoomRepository.findGameStartDateById(CHAT_ROOM_ID)).willReturn(Optional.of(GAME_START_DATE));
+        ChatMessageExpireAtCallback callback = new ChatMessageExpireAtCallback(chatMessageExpiryResolver);
+        ChatMessage chatMessage = ChatMessage.builder()
+                .chatRoomId(CHAT_ROOM_ID)
+                .content("안녕하세요")
+                .messageType("TALK")
+                .build();
+
+        // when
+        ChatMessage result = callback.onBeforeConvert(chatMessage, "chatting_content");
+
+        // then
+        assertThat(result.getExpireAt()).isEqualTo(GAME_START_DATE.plusDays(7));
+    }
+}
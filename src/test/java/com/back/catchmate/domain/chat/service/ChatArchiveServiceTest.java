@@ -0,0 +1,216 @@
+package com.back.catchmate.domain.chat.service;
+
+import com.back.catchmate.domain.chat.archive.ChatArchiveCodec;
+import com.back.catchmate.domain.chat.archive.ChatArchiveStorage;
+import com.back.catchmate.domain.chat.dto.ChatArchivePurgeTarget;
+import com.back.catchmate.domain.chat.entity.ChatArchiveChunk;
+import com.back.catchmate.domain.chat.entity.ChatMessage;
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.chat.repository.ChatArchiveChunkRepository;
+import com.back.catchmate.domain.chat.repository.ChatMessageRepository;
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatArchiveServiceTest {
+    private static final Long CHAT_ROOM_ID = 1L;
+    private static final int CHUNK_SIZE = 3;
+
+    @Mock private ChatMessageRepository chatMessageRepository;
+    @Mock private ChatRoomRepository chatRoomRepository;
+    @Mock private ChatArchiveChunkRepository chatArchiveChunkRepository;
+
+    private final ChatArchiveCodec chatArchiveCodec = new ChatArchiveCodec();
+    private final InMemoryArchiveStorage chatArchiveStorage = new InMemoryArchiveStorage();
+    private ChatArchiveServiceImpl chatArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        chatArchiveService = new ChatArchiveServiceImpl(chatArchiveCodec, chatArchiveStorage,
+                chatMessageRepository, chatRoomRepository, chatArchiveChunkRepository);
+        ReflectionTestUtils.setField(chatArchiveService, "chunkSize", CHUNK_SIZE);
+        ReflectionTestUtils.setField(chatArchiveService, "purgeBatchSize", 100);
+    }
+
+    @Test
+    @DisplayName("채팅방 메시지를 구간 크기만큼 나누어 파일과 구간 정보를 저장한다")
+    void archiveChatRoom_SplitIntoChunks() {
+        // given
+        List<ChatMessage> messageList = createMessages(7);
+        ChatRoom chatRoom = ChatRoom.builder().id(CHAT_ROOM_ID).build();
+        given(chatRoomRepository.findById(CHAT_ROOM_ID)).willReturn(Optional.of(chatRoom));
+        given(chatArchiveChunkRepository.findTopByChatRoomIdOrderByLastMessageIdDesc(CHAT_ROOM_ID)).willReturn(Optional.empty());
+        given(chatMessageRepository.findAllByChatRoomIdOrderByIdAsc(CHAT_ROOM_ID)).willReturn(messageList.stream());
+
+        // when
+        ObjectId archivedUntil = chatArchiveService.archiveChatRoom(CHAT_ROOM_ID);
+
+        // then
+        ArgumentCaptor<ChatArchiveChunk> chunkCaptor = ArgumentCaptor.forClass(ChatArchiveChunk.class);
+        verify(chatArchiveChunkRepository, times(3)).save(chunkCaptor.capture());
+        List<ChatArchiveChunk> chunkList = chunkCaptor.getAllValues();
+
+        assertThat(chunkList).extracting(ChatArchiveChunk::getMessageCount).containsExactly(3, 3, 1);
+        assertThat(chunkList.get(1).getFirstMessageId()).isEqualTo(messageList.get(3).getId().toHexString());
+        assertThat(chunkList.get(1).getLastMessageId()).isEqualTo(messageList.get(5).getId().toHexString());
+        assertThat(chatArchiveStorage.dataMap).hasSize(3);
+        assertThat(archivedUntil).isEqualTo(messageList.get(6).getId());
+        assertThat(chatRoom.isArchived()).isTrue();
+        assertThat(chatRoom.getArchivedUntilMessageId()).isEqualTo(messageList.get(6).getId().toHexString());
+    }
+
+    @Test
+    @DisplayName("이전 실행에서 저장한 구간이 있으면 마지막 구간 이후 메시지부터 이어서 아카이브한다")
+    void archiveChatRoom_ResumeAfterLastChunk() {
+        // given
+        List<ChatMessage> messageList = createMessages(5);
+        ChatArchiveChunk savedChunk = createChunk(messageList.subList(0, 3));
+        ChatRoom chatRoom = ChatRoom.builder().id(CHAT_ROOM_ID).build();
+        given(chatRoomRepository.findById(CHAT_ROOM_ID)).willReturn(Optional.of(chatRoom));
+        given(chatArchiveChunkRepository.findTopByChatRoomIdOrderByLastMessageIdDesc(CHAT_ROOM_ID)).willReturn(Optional.of(savedChunk));
+        given(chatMessageRepository.findAllByChatRoomIdAndIdGreaterThanOrderByIdAsc(CHAT_ROOM_ID, messageList.get(2).getId()))
+                .willReturn(messageList.subList(3, 5).stream());
+
+        // when
+        ObjectId archivedUntil = chatArchiveService.archiveChatRoom(CHAT_ROOM_ID);
+
+        // then
+        ArgumentCaptor<ChatArchiveChunk> chunkCaptor = ArgumentCaptor.forClass(ChatArchiveChunk.class);
+        verify(chatArchiveChunkRepository).save(chunkCaptor.capture());
+        assertThat(chunkCaptor.getValue().getFirstMessageId()).isEqualTo(messageList.get(3).getId().toHexString());
+        assertThat(archivedUntil).isEqualTo(messageList.get(4).getId());
+    }
+
+    @Test
+    @DisplayName("커서 이전 구간의 파일만 읽어 최신순으로 요청한 개수만큼 반환한다")
+    void getArchivedMessageList_ReadOnlyChunksBeforeCursor() {
+        // given
+        List<ChatMessage> messageList = createMessages(9);
+        ChatArchiveChunk oldChunk = createChunk(messageList.subList(0, 3));
+        ChatArchiveChunk middleChunk = createChunk(messageList.subList(3, 6));
+        ChatArchiveChunk latestChunk = createChunk(messageList.subList(6, 9));
+        ChatRoom chatRoom = ChatRoom.builder()
+                .id(CHAT_ROOM_ID)
+                .archiveKey("chat-archive/1/")
+                .archivedUntilMessageId(messageList.get(8).getId().toHexString())
+                .build();
+
+        // 커서(7번째 메시지) 이전 메시지를 포함하는 구간은 최신 구간과 중간 구간
+        ObjectId cursor = messageList.get(7).getId();
+        given(chatArchiveChunkRepository.findChunksBefore(eq(CHAT_ROOM_ID), eq(cursor.toHexString()), any(Pageable.class)))
+                .willReturn(List.of(latestChunk, middleChunk));
+
+        // when
+        List<ChatMessage> result = chatArchiveService.getArchivedMessageList(chatRoom, cursor, 3);
+
+        // then
+        assertThat(result).extracting(ChatMessage::getId)
+                .containsExactly(messageList.get(6).getId(), messageList.get(5).getId(), messageList.get(4).getId());
+        assertThat(chatArchiveStorage.readKeyList).containsExactly(latestChunk.getArchiveKey(), middleChunk.getArchiveKey());
+        assertThat(chatArchiveStorage.readKeyList).doesNotContain(oldChunk.getArchiveKey());
+    }
+
+    @Test
+    @DisplayName("삭제가 끝나지 않은 채팅방은 아카이브된 ID 구간까지만 삭제하고 삭제 완료를 기록한다")
+    void removeArchivedMessages_RemoveByArchivedRange() {
+        // given
+        ObjectId archivedUntil = new ObjectId();
+        given(chatRoomRepository.findArchivePurgeTargets(any(Pageable.class)))
+                .willReturn(List.of(new ChatArchivePurgeTarget(CHAT_ROOM_ID, archivedUntil.toHexString()),
+                        new ChatArchivePurgeTarget(2L, null)));
+        given(chatMessageRepository.removeArchivedMessages(Map.of(CHAT_ROOM_ID, archivedUntil))).willReturn(10L);
+        given(chatRoomRepository.markArchivePurged(eq(List.of(CHAT_ROOM_ID, 2L)), any(LocalDateTime.class))).willReturn(2);
+
+        // when
+        int purgedCount = chatArchiveService.removeArchivedMessages();
+
+        // then
+        assertThat(purgedCount).isEqualTo(2);
+        verify(chatMessageRepository).removeArchivedMessages(Map.of(CHAT_ROOM_ID, archivedUntil));
+        verify(chatRoomRepository).markArchivePurged(anyList(), any(LocalDateTime.class));
+    }
+
+    // --- Helper Methods ---
+    private List<ChatMessage> createMessages(int count) {
+        List<ChatMessage> messageList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messageList.add(ChatMessage.builder()
+                    .id(new ObjectId())
+                    .chatRoomId(CHAT_ROOM_ID)
+                    .senderId(10L)
+                    .content("메시지 " + i)
+                    .sendTime(LocalDateTime.now())
+                    .messageType("TALK")
+                    .build());
+        }
+        return messageList;
+    }
+
+    // 구간 파일을 미리 저장하고 구간 정보를 반환
+    private ChatArchiveChunk createChunk(List<ChatMessage> chunkMessageList) {
+        String firstMessageId = chunkMessageList.get(0).getId().toHexString();
+        String archiveKey = "chat-archive/1/" + firstMessageId + ".cma.gz";
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            chatArchiveCodec.encode(chunkMessageList.iterator(), outputStream);
+            chatArchiveStorage.dataMap.put(archiveKey, outputStream.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return ChatArchiveChunk.builder()
+                .chatRoomId(CHAT_ROOM_ID)
+                .firstMessageId(firstMessageId)
+                .lastMessageId(chunkMessageList.get(chunkMessageList.size() - 1).getId().toHexString())
+                .archiveKey(archiveKey)
+                .messageCount(chunkMessageList.size())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static class InMemoryArchiveStorage implements ChatArchiveStorage {
+        private final Map<String, byte[]> dataMap = new HashMap<>();
+        private final List<String> readKeyList = new ArrayList<>();
+
+        @Override
+        public void write(String key, byte[] data) {
+            dataMap.put(key, data);
+        }
+
+        @Override
+        public byte[] read(String key) throws IOException {
+            readKeyList.add(key);
+            byte[] data = dataMap.get(key);
+            if (data == null) {
+                throw new IOException("Not found: " + key);
+            }
+            return data;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.back.catchmate.domain.chat.service;
+
+import com.back.catchmate.domain.chat.dto.ChatPushRecipient;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPushCoalescerTest {
+
+    private static final Long CHAT_ROOM_ID = 100L;
+
+    @Mock
+    private UserChatRoomRepository userChatRoomRepository;
+
+    @Mock
+    private ChatSessionService chatSessionService;
+
+    @Mock
+    private ChatPushDigestService chatPushDigestService;
+
+    @Mock
+    private UnreadBadgeService unreadBadgeService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatPushCoalescer chatPushCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chatPushCoalescer = new ChatPushCoalescer(userChatRoomRepository, chatSessionService, chatPushDigestService, unreadBadgeService, meterRegistry);
+        ReflectionTestUtils.setField(chatPushCoalescer, "coalesceWindowMillis", 100L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatPushCoalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("짧은 시간에 연속으로 보낸 메시지는 하나의 푸시로 묶고 수신 대상은 한 번만 조회한다")
+    void submit_Burst_CoalescedIntoOnePush() throws Exception {
+        // given
+        given(chatSessionService.getConnectedUserIds(CHAT_ROOM_ID)).willReturn(Set.of(2L));
+        ChatPushRecipient receiver = new ChatPushRecipient(6L, "receiver_token", true, 'Y');
+        given(userChatRoomRepository.findPushRecipientsByChatRoomId(CHAT_ROOM_ID)).willReturn(List.of(
+                new ChatPushRecipient(1L, "sender_token", true, 'Y'),      // 보낸 사람
+                new ChatPushRecipient(2L, "connected_token", true, 'Y'),   // 채팅방 접속 중
+                new ChatPushRecipient(3L, "muted_token", false, 'Y'),      // 채팅방 알림 끔
+                new ChatPushRecipient(4L, "alarm_off_token", true, 'N'),   // 채팅 알림 끔
+                new ChatPushRecipient(5L, null, true, 'Y'),                // 토큰 없음
+                receiver
+        ));
+
+        // when
+        chatPushCoalescer.submit(CHAT_ROOM_ID, "직관 모집", "첫 번째", 1L);
+        chatPushCoalescer.submit(CHAT_ROOM_ID, "직관 모집", "두 번째", 1L);
+        chatPushCoalescer.submit(CHAT_ROOM_ID, "직관 모집", "세 번째", 1L);
+
+        // then
+        verify(chatPushDigestService, timeout(1000).times(1))
+                .deliver(CHAT_ROOM_ID, "직관 모집", "세 번째 외 2개의 메시지", 3, List.of(receiver));
+        verify(userChatRoomRepository, times(1)).findPushRecipientsByChatRoomId(CHAT_ROOM_ID);
+        assertThat(meterRegistry.counter("chat.push.coalesced").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("보낼 대상이 없으면 푸시를 전송하지 않는다")
+    void submit_NoRecipient_NotSent() throws Exception {
+        // given
+        given(chatSessionService.getConnectedUserIds(CHAT_ROOM_ID)).willReturn(Set.of(2L));
+        given(userChatRoomRepository.findPushRecipientsByChatRoomId(CHAT_ROOM_ID)).willReturn(List.of(
+                new ChatPushRecipient(1L, "sender_token", true, 'Y'),
+                new ChatPushRecipient(2L, "connected_token", true, 'Y')
+        ));
+
+        // when
+        chatPushCoalescer.submit(CHAT_ROOM_ID, "직관 모집", "안녕하세요", 1L);
+
+        // then
+        verify(userChatRoomRepository, timeout(1000)).findPushRecipientsByChatRoomId(CHAT_ROOM_ID);
+        verify(chatPushDigestService, after(200).never()).deliver(anyLong(), anyString(), anyString(), anyInt(), anyList());
+    }
+
+    @Test
+    @DisplayName("묶인 메시지 수만큼 접속하지 않은 참여자의 읽지 않은 채팅 수를 갱신하고 본인이 보낸 메시지는 제외한다")
+    void submit_Burst_UpdatesUnreadBadge() throws Exception {
+        // given
+        given(chatSessionService.getConnectedUserIds(CHAT_ROOM_ID)).willReturn(Set.of(2L));
+        given(userChatRoomRepository.findPushRecipientsByChatRoomId(CHAT_ROOM_ID)).willReturn(List.of(
+                new ChatPushRecipient(1L, "sender_token", true, 'Y'),
+                new ChatPushRecipient(2L, "connected_token", true, 'Y'),
+                new ChatPushRecipient(3L, "muted_token", false, 'Y')
+        ));
+
+        // when
+        chatPushCoalescer.submit(CHAT_ROOM_ID, "직관 모집", "첫 번째", 1L);
+        chatPushCoalescer.submit(CHAT_ROOM_ID, "직관 모집", "두 번째", 3L);
+        chatPushCoalescer.submit(CHAT_ROOM_ID, "직관 모집", "세 번째", 1L);
+
+        // then
+        verify(unreadBadgeService, timeout(1000)).onChatMessages(CHAT_ROOM_ID, Map.of(1L, 1, 3L, 2));
+    }
+}
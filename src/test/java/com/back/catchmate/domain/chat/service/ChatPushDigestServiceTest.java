@@ -0,0 +1,97 @@
+package com.back.catchmate.domain.chat.service;
+
+import com.back.catchmate.domain.chat.dto.ChatPushRecipient;
+import com.back.catchmate.domain.notification.service.FCMService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPushDigestServiceTest {
+
+    private static final Long CHAT_ROOM_ID = 100L;
+    private static final String TITLE = "직관 모집";
+
+    @Mock
+    private FCMService fcmService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatPushDigestService chatPushDigestService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chatPushDigestService = new ChatPushDigestService(fcmService, meterRegistry);
+        ReflectionTestUtils.setField(chatPushDigestService, "windowMillis", 200L);
+        ReflectionTestUtils.setField(chatPushDigestService, "maxWindowMillis", 1000L);
+        ReflectionTestUtils.setField(chatPushDigestService, "maxEntries", 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatPushDigestService.shutdown();
+    }
+
+    @Test
+    @DisplayName("window 안에 도착한 메시지는 바로 보내지 않고 window가 끝나면 요약 푸시 하나로 전송한다")
+    void deliver_WithinWindow_Digest() throws Exception {
+        // given
+        ChatPushRecipient recipient = new ChatPushRecipient(1L, "token_1", true, 'Y');
+
+        // when
+        chatPushDigestService.deliver(CHAT_ROOM_ID, TITLE, "첫 번째", 1, List.of(recipient));
+        chatPushDigestService.deliver(CHAT_ROOM_ID, TITLE, "두 번째", 1, List.of(recipient));
+        chatPushDigestService.deliver(CHAT_ROOM_ID, TITLE, "세 번째 외 1개의 메시지", 2, List.of(recipient));
+
+        // then
+        verify(fcmService).sendMessagesByTokens(CHAT_ROOM_ID, TITLE, "첫 번째", List.of("token_1"));
+        verify(fcmService, timeout(1000)).sendMessagesByTokens(CHAT_ROOM_ID, TITLE, "새 메시지 3개", List.of("token_1"));
+        verifyNoMoreInteractions(fcmService);
+        assertThat(meterRegistry.counter("chat.push.digest.deferred").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("푸시 빈도 제한은 사용자별로 적용된다")
+    void deliver_PerUserWindow() throws Exception {
+        // given
+        ChatPushRecipient notified = new ChatPushRecipient(1L, "token_1", true, 'Y');
+        ChatPushRecipient newcomer = new ChatPushRecipient(2L, "token_2", true, 'Y');
+        chatPushDigestService.deliver(CHAT_ROOM_ID, TITLE, "첫 번째", 1, List.of(notified));
+
+        // when
+        chatPushDigestService.deliver(CHAT_ROOM_ID, TITLE, "두 번째", 1, List.of(notified, newcomer));
+
+        // then
+        verify(fcmService).sendMessagesByTokens(CHAT_ROOM_ID, TITLE, "첫 번째", List.of("token_1"));
+        verify(fcmService).sendMessagesByTokens(CHAT_ROOM_ID, TITLE, "두 번째", List.of("token_2"));
+    }
+
+    @Test
+    @DisplayName("오래 푸시가 없었던 사용자-채팅방 상태는 정리된다")
+    void evictIdleStates() throws Exception {
+        // given
+        ReflectionTestUtils.setField(chatPushDigestService, "maxWindowMillis", 0L);
+        chatPushDigestService.deliver(CHAT_ROOM_ID, TITLE, "첫 번째", 1, List.of(new ChatPushRecipient(1L, "token_1", true, 'Y')));
+        Thread.sleep(5);
+
+        // when
+        chatPushDigestService.evictIdleStates();
+
+        // then
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(chatPushDigestService, "digestStateMap")).isEmpty();
+    }
+}
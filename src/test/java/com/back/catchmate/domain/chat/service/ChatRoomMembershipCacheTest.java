@@ -0,0 +1,123 @@
+package com.back.catchmate.domain.chat.service;
+
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.chat.entity.UserChatRoom;
+import com.back.catchmate.domain.chat.membership.MembershipEviction;
+import com.back.catchmate.domain.chat.membership.MembershipEvictionBroadcaster;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMembershipCacheTest {
+    private static final Long USER_ID = 1L;
+    private static final Long CHAT_ROOM_ID = 10L;
+
+    @InjectMocks
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @Mock
+    private UserChatRoomRepository userChatRoomRepository;
+
+    @Mock
+    private MembershipEvictionBroadcaster membershipEvictionBroadcaster;
+
+    @Captor
+    private ArgumentCaptor<Consumer<MembershipEviction>> listenerCaptor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chatRoomMembershipCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(chatRoomMembershipCache, "maxEntries", 100);
+        chatRoomMembershipCache.init();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 참여 여부는 TTL 동안 한 번만 조회한다")
+    void isMember_CacheHit() {
+        // given
+        given(userChatRoomRepository.findByUserIdAndDeletedAtIsNull(USER_ID)).willReturn(List.of(createUserChatRoom(CHAT_ROOM_ID)));
+
+        // when
+        chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID);
+        boolean member = chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID);
+
+        // then
+        assertThat(member).isTrue();
+        verify(userChatRoomRepository, times(1)).findByUserIdAndDeletedAtIsNull(USER_ID);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 인스턴스에 전파하고 다음 요청에서 다시 조회한다")
+    void evict_PublishAndReload() {
+        // given
+        given(userChatRoomRepository.findByUserIdAndDeletedAtIsNull(USER_ID))
+                .willReturn(List.of(createUserChatRoom(CHAT_ROOM_ID)), List.of());
+        chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID);
+
+        // when
+        chatRoomMembershipCache.evict(USER_ID);
+        boolean member = chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID);
+
+        // then
+        assertThat(member).isFalse();
+        verify(membershipEvictionBroadcaster).publish(MembershipEviction.ofUser(USER_ID));
+        verify(userChatRoomRepository, times(2)).findByUserIdAndDeletedAtIsNull(USER_ID);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 삭제한 채팅방은 전파를 받으면 참여 권한이 사라진다")
+    void remoteEviction_ChatRoom_RevokesMembership() {
+        // given
+        verify(membershipEvictionBroadcaster).subscribe(listenerCaptor.capture());
+        given(userChatRoomRepository.findByUserIdAndDeletedAtIsNull(USER_ID))
+                .willReturn(List.of(createUserChatRoom(CHAT_ROOM_ID)), List.of());
+        chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID);
+
+        // when
+        listenerCaptor.getValue().accept(MembershipEviction.ofChatRoom(CHAT_ROOM_ID));
+        boolean member = chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID);
+
+        // then
+        assertThat(member).isFalse();
+        verify(userChatRoomRepository, times(2)).findByUserIdAndDeletedAtIsNull(USER_ID);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회한다")
+    void isMember_Expired() {
+        // given
+        ReflectionTestUtils.setField(chatRoomMembershipCache, "ttlSeconds", 0L);
+        chatRoomMembershipCache.init();
+        given(userChatRoomRepository.findByUserIdAndDeletedAtIsNull(USER_ID)).willReturn(List.of(createUserChatRoom(CHAT_ROOM_ID)));
+
+        // when
+        chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID);
+        chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID);
+
+        // then
+        verify(userChatRoomRepository, times(2)).findByUserIdAndDeletedAtIsNull(USER_ID);
+    }
+
+    private UserChatRoom createUserChatRoom(Long chatRoomId) {
+        return UserChatRoom.builder()
+                .chatRoom(ChatRoom.builder().id(chatRoomId).build())
+                .build();
+    }
+}
@@ -175,6 +175,10 @@ class ChatRoomServiceTest {
         // 1. UserChatRoom 삭제 확인
         assertThat(userChatRoomRepository.existsByUserIdAndChatRoomIdAndDeletedAtIsNull(participant.getId(), chatRoom.getId())).isFalse();
 
+        // 인원 수는 원자적 UPDATE 로 변경되므로 영속성 컨텍스트를 비운 뒤 확인
+        em.flush();
+        em.clear();
+
         // 2. ChatRoom 인원 감소 확인 (2 -> 1)
         ChatRoom updatedChatRoom = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
         assertThat(updatedChatRoom.getParticipantCount()).isEqualTo(1);
@@ -255,6 +259,8 @@ class ChatRoomServiceTest {
         assertThat(userChatRoomRepository.existsByUserIdAndChatRoomIdAndDeletedAtIsNull(participant.getId(), chatRoom.getId())).isFalse();
 
         // 인원 감소 확인
+        em.flush();
+        em.clear();
         ChatRoom updatedRoom = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
         assertThat(updatedRoom.getParticipantCount()).isEqualTo(1);
     }
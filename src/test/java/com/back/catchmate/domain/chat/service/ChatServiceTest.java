@@ -16,7 +16,6 @@ import com.back.catchmate.domain.club.entity.Club;
 import com.back.catchmate.domain.club.repository.ClubRepository;
 import com.back.catchmate.domain.game.entity.Game;
 import com.back.catchmate.domain.game.repository.GameRepository;
-import com.back.catchmate.domain.notification.service.FCMService;
 import com.back.catchmate.domain.user.entity.Authority;
 import com.back.catchmate.domain.user.entity.Provider;
 import com.back.catchmate.domain.user.entity.User;
@@ -74,11 +73,13 @@ class ChatServiceImplTest {
     @MockBean
     private SimpMessagingTemplate messagingTemplate;
     @MockBean
-    private FCMService fcmService;
+    private ChatPushCoalescer chatPushCoalescer;
     @MockBean
     private ChatSessionService chatSessionService;
     @MockBean
     private ChatMessageRepository chatMessageRepository;
+    @MockBean
+    private ChatArchiveService chatArchiveService;
 
     private User sender;
     private User receiver;
@@ -145,9 +146,6 @@ class ChatServiceImplTest {
         // Mocking: 날짜 메시지 필요 여부 (null이면 첫 메시지라 날짜 메시지 생성됨)
         given(chatMessageRepository.findFirstByChatRoomIdOrderBySendTimeDesc(chatRoom.getId())).willReturn(null);
 
-        // Mocking: 채팅방 유저 접속 상태 (상대방은 미접속 -> 알림 전송 대상)
-        given(chatSessionService.isUserInChatRoom(eq(chatRoom.getId()), eq(receiver.getId()))).willReturn(false);
-
         // when
         chatService.sendChatMessage(chatRoom.getId(), request);
 
@@ -158,8 +156,8 @@ class ChatServiceImplTest {
         // 2. 채팅 목록 갱신 전송 확인
         verify(messagingTemplate).convertAndSend(eq("/topic/chatList"), any(Object.class));
 
-        // 3. FCM 전송 확인 (상대방에게)
-        verify(fcmService).sendMessagesByTokens(eq(chatRoom.getId()), any(), eq("안녕하세요"), eq(sender.getFcmToken()));
+        // 3. 채팅방 푸시 요청 확인 (수신 대상 선정은 채팅방 단위로 묶어서 수행)
+        verify(chatPushCoalescer).submit(eq(chatRoom.getId()), any(), eq("안녕하세요"), eq(sender.getId()));
 
         // 4. 채팅방 정보(마지막 메시지 등) 업데이트 확인 (JPA)
         ChatRoom updatedChatRoom = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
@@ -211,6 +209,36 @@ class ChatServiceImplTest {
         assertThat(ucr.getLastReadTime()).isAfter(LocalDateTime.now().minusMinutes(1));
     }
 
+    @Test
+    @DisplayName("아카이브된 채팅방은 MongoDB 메시지 이후 아카이브 메시지를 이어서 조회한다")
+    void getChatMessageList_WithArchive() {
+        // given
+        ObjectId archivedId1 = new ObjectId();
+        ObjectId archivedId2 = new ObjectId();
+        ObjectId recentId = new ObjectId();
+
+        ChatRoom archivedChatRoom = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+        archivedChatRoom.archive("chat-archive/" + chatRoom.getId() + ".cma.gz", archivedId2.toHexString());
+        em.flush();
+        em.clear();
+
+        ChatMessage recent = createMessage(recentId, "최근 메시지");
+        given(chatMessageRepository.findByChatRoomIdOrderByIdDesc(any(), any()))
+                .willReturn(new PageImpl<>(List.of(recent)));
+        given(chatArchiveService.getArchivedMessageList(any(ChatRoom.class), eq(recentId), eq(2)))
+                .willReturn(List.of(createMessage(archivedId2, "아카이브 2"), createMessage(archivedId1, "아카이브 1")));
+
+        // when
+        PagedChatMessageInfo result = chatService.getChatMessageList(sender.getId(), chatRoom.getId(), null, 3);
+
+        // then
+        assertThat(result.getChatMessageInfoList())
+                .extracting("content")
+                .containsExactly("최근 메시지", "아카이브 2", "아카이브 1");
+        assertThat(result.getIsLast()).isFalse();
+        assertThat(result.getLastMessageId()).isEqualTo(archivedId1.toString());
+    }
+
     @Test
     @DisplayName("참여자가 아닌 채팅방의 내역 조회 시 예외 발생")
     void getChatMessageList_Fail_NotParticipant() {
@@ -224,6 +252,17 @@ class ChatServiceImplTest {
     }
 
     // --- Helper Methods ---
+    private ChatMessage createMessage(ObjectId id, String content) {
+        return ChatMessage.builder()
+                .id(id)
+                .chatRoomId(chatRoom.getId())
+                .content(content)
+                .senderId(sender.getId())
+                .sendTime(LocalDateTime.now())
+                .messageType(MessageType.TALK.name())
+                .build();
+    }
+
     private Club createClub() {
         return Club.builder().name("Test Club").region("Seoul").homeStadium("Stadium").build();
     }
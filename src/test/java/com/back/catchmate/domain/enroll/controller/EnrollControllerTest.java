@@ -1,5 +1,6 @@
 package com.back.catchmate.domain.enroll.controller;
 
+import com.back.catchmate.domain.enroll.dto.EnrollRequest.BulkRespondEnrollRequest;
 import com.back.catchmate.domain.enroll.dto.EnrollRequest.CreateEnrollRequest;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.*;
 import com.back.catchmate.domain.enroll.entity.AcceptStatus;
@@ -228,6 +229,55 @@ class EnrollControllerTest {
                 .andExpect(jsonPath("$.acceptStatus").value("REJECTED"));
     }
 
+    @Test
+    @DisplayName("받은 직관 신청 일괄 수락 API 테스트")
+    @WithMockUser
+    void acceptEnrollList_Success() throws Exception {
+        // given
+        BulkRespondEnrollRequest request = BulkRespondEnrollRequest.builder()
+                .boardId(10L)
+                .enrollIdList(List.of(100L, 101L))
+                .build();
+        BulkUpdateEnrollInfo response = BulkUpdateEnrollInfo.builder()
+                .boardId(10L)
+                .enrollIdList(List.of(100L, 101L))
+                .acceptStatus(AcceptStatus.ACCEPTED)
+                .build();
+
+        given(enrollService.acceptEnrollList(any(BulkRespondEnrollRequest.class), any())).willReturn(response);
+
+        // when & then
+        mockMvc.perform(patch("/enrolls/bulk/accept")
+                        .header("AccessToken", "test-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrollIdList.length()").value(2))
+                .andExpect(jsonPath("$.acceptStatus").value("ACCEPTED"));
+    }
+
+    @Test
+    @DisplayName("일괄 처리할 신청 목록이 비어 있으면 400 에러를 반환한다")
+    @WithMockUser
+    void rejectEnrollList_Fail_EmptyList() throws Exception {
+        // given
+        BulkRespondEnrollRequest request = BulkRespondEnrollRequest.builder()
+                .boardId(10L)
+                .enrollIdList(List.of())
+                .build();
+
+        // when & then
+        mockMvc.perform(patch("/enrolls/bulk/reject")
+                        .header("AccessToken", "test-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("보낸 신청 상세 조회 API 테스트")
     @WithMockUser
@@ -0,0 +1,242 @@
+package com.back.catchmate.domain.enroll.service;
+
+import com.back.catchmate.domain.board.entity.Board;
+import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.back.catchmate.domain.chat.service.ChatService;
+import com.back.catchmate.domain.club.entity.Club;
+import com.back.catchmate.domain.club.repository.ClubRepository;
+import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+import com.back.catchmate.domain.enroll.entity.Enroll;
+import com.back.catchmate.domain.enroll.repository.EnrollRepository;
+import com.back.catchmate.domain.game.entity.Game;
+import com.back.catchmate.domain.game.repository.GameRepository;
+import com.back.catchmate.domain.notification.entity.Notification;
+import com.back.catchmate.domain.notification.repository.NotificationOutboxRepository;
+import com.back.catchmate.domain.notification.repository.NotificationRepository;
+import com.back.catchmate.domain.user.entity.Authority;
+import com.back.catchmate.domain.user.entity.Provider;
+import com.back.catchmate.domain.user.entity.User;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 스레드가 동시에 수락해도 정원을 넘지 않는지 확인하기 위해 트랜잭션 없이 실제 커밋으로 검증
+@ActiveProfiles("test")
+@SpringBootTest
+class EnrollConcurrencyTest {
+    private static final int MAX_PERSON = 4;
+    private static final int APPLICANT_COUNT = 10;
+
+    @Autowired
+    private EnrollService enrollService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ClubRepository clubRepository;
+    @Autowired
+    private GameRepository gameRepository;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+    @Autowired
+    private UserChatRoomRepository userChatRoomRepository;
+    @Autowired
+    private EnrollRepository enrollRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @MockBean
+    private ChatService chatService;
+
+    private Club club;
+    private User writer;
+    private Board board;
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        club = clubRepository.save(Club.builder()
+                .name("KIA Tigers")
+                .homeStadium("Champions Field")
+                .region("Gwangju")
+                .build());
+
+        writer = userRepository.save(createUser("writer@test.com", "writer"));
+
+        Game game = gameRepository.save(Game.builder()
+                .homeClub(club)
+                .awayClub(club)
+                .gameStartDate(LocalDateTime.now().plusDays(1))
+                .location("Gwangju")
+                .build());
+
+        board = boardRepository.save(Board.builder()
+                .title("직관 모집")
+                .content("같이 가요")
+                .maxPerson(MAX_PERSON)
+                .currentPerson(1)
+                .user(writer)
+                .club(club)
+                .game(game)
+                .preferredGender("M")
+                .preferredAgeRange("20s")
+                .isCompleted(true)
+                .liftUpDate(LocalDateTime.now())
+                .build());
+
+        chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .board(board)
+                .participantCount(1)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 커밋된 데이터를 외래 키 순서대로 삭제
+        notificationOutboxRepository.deleteAllInBatch();
+        notificationRepository.deleteAllInBatch();
+        userChatRoomRepository.deleteAllInBatch();
+        enrollRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        gameRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        clubRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("서로 다른 신청을 동시에 수락해도 현재 인원은 최대 인원을 넘지 않는다")
+    void acceptEnroll_Concurrently_NotExceedMaxPerson() throws InterruptedException {
+        // given
+        List<Long> enrollIdList = new ArrayList<>();
+        for (int i = 0; i < APPLICANT_COUNT; i++) {
+            User applicant = userRepository.save(createUser("applicant" + i + "@test.com", "applicant" + i));
+            enrollIdList.add(createPendingEnroll(applicant).getId());
+        }
+
+        // when
+        int successCount = runConcurrently(enrollIdList);
+
+        // then
+        Board updatedBoard = boardRepository.findById(board.getId()).orElseThrow();
+        ChatRoom updatedChatRoom = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+
+        // 신청자가 남은 자리보다 많으므로 남은 자리만큼 정확히 수락됨
+        assertThat(successCount).isEqualTo(MAX_PERSON - 1);
+        assertThat(updatedBoard.getCurrentPerson()).isEqualTo(MAX_PERSON);
+        assertThat(updatedChatRoom.getParticipantCount()).isEqualTo(MAX_PERSON);
+        assertThat(userChatRoomRepository.count()).isEqualTo(MAX_PERSON - 1);
+    }
+
+    @Test
+    @DisplayName("같은 신청을 동시에 여러 번 수락해도 한 번만 반영된다")
+    void acceptEnroll_SameEnrollConcurrently_AppliedOnce() throws InterruptedException {
+        // given
+        User applicant = userRepository.save(createUser("applicant@test.com", "applicant"));
+        Long enrollId = createPendingEnroll(applicant).getId();
+
+        List<Long> enrollIdList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            enrollIdList.add(enrollId);
+        }
+
+        // when
+        int successCount = runConcurrently(enrollIdList);
+
+        // then
+        Board updatedBoard = boardRepository.findById(board.getId()).orElseThrow();
+        assertThat(successCount).isEqualTo(1);
+        assertThat(updatedBoard.getCurrentPerson()).isEqualTo(2);
+        assertThat(userChatRoomRepository.count()).isEqualTo(1);
+    }
+
+    // --- Helper Methods ---
+    private int runConcurrently(List<Long> enrollIdList) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(enrollIdList.size());
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(enrollIdList.size());
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (Long enrollId : enrollIdList) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    enrollService.acceptEnroll(enrollId, writer.getId());
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 마감, 이미 처리됨, 잠금 대기 시간 초과 등은 실패로 집계
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertThat(doneLatch.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+        return successCount.get();
+    }
+
+    private Enroll createPendingEnroll(User applicant) {
+        Enroll enroll = enrollRepository.save(Enroll.builder()
+                .user(applicant)
+                .board(board)
+                .acceptStatus(AcceptStatus.PENDING)
+                .isNew(true)
+                .description("신청")
+                .build());
+
+        // 수락 시 작성자가 받은 신청 알림을 함께 갱신하므로 미리 저장
+        notificationRepository.save(Notification.builder()
+                .user(writer)
+                .sender(applicant)
+                .board(board)
+                .title("직관 신청")
+                .body("신청이 도착했어요")
+                .isRead(false)
+                .acceptStatus(AcceptStatus.PENDING)
+                .build());
+        return enroll;
+    }
+
+    private User createUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .provider(Provider.GOOGLE)
+                .providerId("google_" + email)
+                .gender('M')
+                .nickName(nickname)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .club(club)
+                .profileImageUrl("default.jpg")
+                .allAlarm('Y').chatAlarm('Y').enrollAlarm('Y').eventAlarm('Y')
+                .fcmToken("token_" + email)
+                .authority(Authority.ROLE_USER)
+                .isReported(false)
+                .build();
+    }
+}
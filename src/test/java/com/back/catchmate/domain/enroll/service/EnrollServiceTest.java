@@ -8,7 +8,9 @@ import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
 import com.back.catchmate.domain.chat.service.ChatService;
 import com.back.catchmate.domain.club.entity.Club;
 import com.back.catchmate.domain.club.repository.ClubRepository;
+import com.back.catchmate.domain.enroll.dto.EnrollRequest.BulkRespondEnrollRequest;
 import com.back.catchmate.domain.enroll.dto.EnrollRequest.CreateEnrollRequest;
+import com.back.catchmate.domain.enroll.dto.EnrollResponse.BulkUpdateEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.CancelEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.CreateEnrollInfo;
 import com.back.catchmate.domain.enroll.dto.EnrollResponse.EnrollDescriptionInfo;
@@ -22,12 +24,15 @@ import com.back.catchmate.domain.enroll.repository.EnrollRepository;
 import com.back.catchmate.domain.game.entity.Game;
 import com.back.catchmate.domain.game.repository.GameRepository;
 import com.back.catchmate.domain.notification.entity.Notification;
+import com.back.catchmate.domain.notification.entity.NotificationOutbox;
+import com.back.catchmate.domain.notification.entity.OutboxStatus;
+import com.back.catchmate.domain.notification.repository.NotificationOutboxRepository;
 import com.back.catchmate.domain.notification.repository.NotificationRepository;
-import com.back.catchmate.domain.notification.service.FCMService;
 import com.back.catchmate.domain.user.entity.Authority;
 import com.back.catchmate.domain.user.entity.Provider;
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.UserRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
 import jakarta.persistence.EntityManager;
@@ -37,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,11 +50,16 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static com.back.catchmate.domain.chat.dto.ChatRequest.ChatMessageRequest.MessageType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ActiveProfiles("test")
@@ -74,12 +85,14 @@ class EnrollServiceTest {
     @Autowired
     private UserChatRoomRepository userChatRoomRepository;
     @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+    @Autowired
     private EntityManager em;
 
-    @MockBean
-    private FCMService fcmService;
     @MockBean
     private ChatService chatService;
+    @SpyBean
+    private UnreadBadgeService unreadBadgeService;
 
     private User writer;
     private User applicant;
@@ -136,7 +149,11 @@ class EnrollServiceTest {
         ).orElseThrow(() -> new IllegalArgumentException("알림이 생성되지 않음"));
         assertThat(notification.getBody()).contains("applicant님의 직관 신청");
 
-        verify(fcmService).sendMessageByToken(any(), any(), any(), any(), any(), any());
+        // 푸시는 바로 전송하지 않고 같은 트랜잭션에서 아웃박스에 저장
+        NotificationOutbox outbox = findOutbox("enroll-request:" + result.getEnrollId());
+        assertThat(outbox.getTargetToken()).isEqualTo(writer.getFcmToken());
+        assertThat(outbox.getAcceptStatus()).isEqualTo(AcceptStatus.PENDING);
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
     }
 
     @Test
@@ -172,6 +189,37 @@ class EnrollServiceTest {
                 board.getId(), writer.getId(), applicant.getId())).isEmpty();
     }
 
+    @Test
+    @DisplayName("게시글 작성자가 읽지 않은 신청 알림이 취소되면 작성자의 배지에서 차감한다")
+    void cancelEnroll_UnreadNotification_DecrementBadge() throws Exception {
+        // given
+        CreateEnrollRequest request = CreateEnrollRequest.builder().description("취소할 신청").build();
+        CreateEnrollInfo createInfo = enrollService.requestEnroll(request, board.getId(), applicant.getId());
+
+        // when
+        enrollService.cancelEnroll(createInfo.getEnrollId(), applicant.getId());
+
+        // then
+        verify(unreadBadgeService).onNotificationRead(writer.getId());
+    }
+
+    @Test
+    @DisplayName("게시글 작성자가 이미 읽은 신청 알림이 취소되면 배지를 차감하지 않는다")
+    void cancelEnroll_ReadNotification_KeepBadge() throws Exception {
+        // given
+        CreateEnrollRequest request = CreateEnrollRequest.builder().description("취소할 신청").build();
+        CreateEnrollInfo createInfo = enrollService.requestEnroll(request, board.getId(), applicant.getId());
+        notificationRepository.findByBoardIdAndUserIdAndSenderIdAndDeletedAtIsNull(board.getId(), writer.getId(), applicant.getId())
+                .orElseThrow()
+                .markAsRead();
+
+        // when
+        enrollService.cancelEnroll(createInfo.getEnrollId(), applicant.getId());
+
+        // then
+        verify(unreadBadgeService, never()).onNotificationRead(writer.getId());
+    }
+
     @Test
     @DisplayName("본인이 아닌 유저가 취소 시도 시 예외 발생")
     void cancelEnroll_Fail_InvalidUser() throws Exception {
@@ -210,13 +258,21 @@ class EnrollServiceTest {
         boolean isUserInChat = userChatRoomRepository.existsByUserIdAndChatRoomIdAndDeletedAtIsNull(applicant.getId(), chatRoom.getId());
         assertThat(isUserInChat).isTrue();
 
+        // 인원 수는 조건부 UPDATE 로 변경되므로 영속성 컨텍스트를 비운 뒤 확인
+        em.flush();
+        em.clear();
         Board updatedBoard = boardRepository.findById(board.getId()).orElseThrow();
         assertThat(updatedBoard.getCurrentPerson()).isEqualTo(2);
+        assertThat(chatRoomRepository.findById(chatRoom.getId()).orElseThrow().getParticipantCount()).isEqualTo(2);
 
         Notification noti = notificationRepository.findAll().stream()
                 .filter(n -> n.getBoard().getId().equals(board.getId()) && n.getSender().getId().equals(applicant.getId()))
                 .findFirst().orElseThrow();
         assertThat(noti.getAcceptStatus()).isEqualTo(AcceptStatus.ALREADY_ACCEPTED);
+
+        NotificationOutbox outbox = findOutbox("enroll-accept:" + createInfo.getEnrollId());
+        assertThat(outbox.getTargetToken()).isEqualTo(applicant.getFcmToken());
+        assertThat(outbox.getChatRoomId()).isEqualTo(chatRoom.getId());
     }
 
     @Test
@@ -314,6 +370,158 @@ class EnrollServiceTest {
                 .filter(n -> n.getBoard().getId().equals(board.getId()) && n.getSender().getId().equals(applicant.getId()))
                 .findFirst().orElseThrow();
         assertThat(noti.getAcceptStatus()).isEqualTo(AcceptStatus.ALREADY_REJECTED);
+
+        NotificationOutbox outbox = findOutbox("enroll-reject:" + createInfo.getEnrollId());
+        assertThat(outbox.getAcceptStatus()).isEqualTo(AcceptStatus.REJECTED);
+        assertThat(outbox.getChatRoomId()).isNull();
+    }
+
+    @Test
+    @DisplayName("직관 신청 일괄 수락 성공 - 인원 증가, 채팅방 입장, 입장 메시지 1회 전송 확인")
+    void acceptEnrollList_Success() throws Exception {
+        // given
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .board(board)
+                .participantCount(1)
+                .build());
+        User applicant2 = userRepository.save(createUser("applicant2@test.com", "applicant2", club));
+
+        CreateEnrollRequest request = CreateEnrollRequest.builder().description("수락해주세요").build();
+        Long enrollId1 = enrollService.requestEnroll(request, board.getId(), applicant.getId()).getEnrollId();
+        Long enrollId2 = enrollService.requestEnroll(request, board.getId(), applicant2.getId()).getEnrollId();
+
+        em.flush();
+        em.clear();
+
+        BulkRespondEnrollRequest bulkRequest = BulkRespondEnrollRequest.builder()
+                .boardId(board.getId())
+                .enrollIdList(List.of(enrollId1, enrollId2))
+                .build();
+
+        // when
+        BulkUpdateEnrollInfo result = enrollService.acceptEnrollList(bulkRequest, writer.getId());
+
+        // then
+        assertThat(result.getAcceptStatus()).isEqualTo(AcceptStatus.ACCEPTED);
+        assertThat(result.getEnrollIdList()).containsExactlyInAnyOrder(enrollId1, enrollId2);
+
+        em.flush();
+        em.clear();
+        assertThat(boardRepository.findById(board.getId()).orElseThrow().getCurrentPerson()).isEqualTo(3);
+        assertThat(chatRoomRepository.findById(chatRoom.getId()).orElseThrow().getParticipantCount()).isEqualTo(3);
+        assertThat(userChatRoomRepository.existsByUserIdAndChatRoomIdAndDeletedAtIsNull(applicant.getId(), chatRoom.getId())).isTrue();
+        assertThat(userChatRoomRepository.existsByUserIdAndChatRoomIdAndDeletedAtIsNull(applicant2.getId(), chatRoom.getId())).isTrue();
+        assertThat(enrollRepository.findByIdAndDeletedAtIsNull(enrollId1)).isEmpty();
+        assertThat(enrollRepository.findByIdAndDeletedAtIsNull(enrollId2)).isEmpty();
+
+        verify(chatService, times(1)).sendEnterLeaveMessage(eq(chatRoom.getId()), any(), eq(writer.getId()), eq(MessageType.ENTER));
+
+        assertThat(findOutbox("enroll-accept:" + enrollId1).getChatRoomId()).isEqualTo(chatRoom.getId());
+        assertThat(findOutbox("enroll-accept:" + enrollId2).getTargetToken()).isEqualTo(applicant2.getFcmToken());
+    }
+
+    @Test
+    @DisplayName("일괄 수락 인원이 남은 정원보다 많으면 예외가 발생한다")
+    void acceptEnrollList_Fail_FullPerson() {
+        // given
+        Board smallBoard = boardRepository.save(Board.builder()
+                .title("Small Board")
+                .content("Small")
+                .maxPerson(2)
+                .currentPerson(1)
+                .user(writer)
+                .club(club)
+                .game(game)
+                .preferredGender("M")
+                .preferredAgeRange("20s")
+                .isCompleted(true)
+                .liftUpDate(LocalDateTime.now())
+                .build());
+        User applicant2 = userRepository.save(createUser("applicant2@test.com", "applicant2", club));
+
+        Enroll enroll1 = enrollRepository.save(Enroll.builder()
+                .user(applicant).board(smallBoard).acceptStatus(AcceptStatus.PENDING).isNew(true).build());
+        Enroll enroll2 = enrollRepository.save(Enroll.builder()
+                .user(applicant2).board(smallBoard).acceptStatus(AcceptStatus.PENDING).isNew(true).build());
+
+        BulkRespondEnrollRequest bulkRequest = BulkRespondEnrollRequest.builder()
+                .boardId(smallBoard.getId())
+                .enrollIdList(List.of(enroll1.getId(), enroll2.getId()))
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> enrollService.acceptEnrollList(bulkRequest, writer.getId()))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.FULL_PERSON.getMessage());
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 신청이 섞여 있으면 일괄 수락할 수 없다")
+    void acceptEnrollList_Fail_OtherBoardEnroll() {
+        // given
+        Board otherBoard = boardRepository.save(Board.builder()
+                .title("Other Board")
+                .content("Other")
+                .maxPerson(4)
+                .currentPerson(1)
+                .user(applicant)
+                .club(club)
+                .game(game)
+                .preferredGender("M")
+                .preferredAgeRange("20s")
+                .isCompleted(true)
+                .liftUpDate(LocalDateTime.now())
+                .build());
+
+        Enroll enroll = enrollRepository.save(Enroll.builder()
+                .user(writer).board(otherBoard).acceptStatus(AcceptStatus.PENDING).isNew(true).build());
+
+        BulkRespondEnrollRequest bulkRequest = BulkRespondEnrollRequest.builder()
+                .boardId(board.getId())
+                .enrollIdList(List.of(enroll.getId()))
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> enrollService.acceptEnrollList(bulkRequest, writer.getId()))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.ENROLL_ACCEPT_INVALID.getMessage());
+    }
+
+    @Test
+    @DisplayName("직관 신청 일괄 거절 성공 - 상태 변경, 삭제, 알림 적재 확인")
+    void rejectEnrollList_Success() throws Exception {
+        // given
+        User applicant2 = userRepository.save(createUser("applicant2@test.com", "applicant2", club));
+
+        CreateEnrollRequest request = CreateEnrollRequest.builder().description("거절될 신청").build();
+        Long enrollId1 = enrollService.requestEnroll(request, board.getId(), applicant.getId()).getEnrollId();
+        Long enrollId2 = enrollService.requestEnroll(request, board.getId(), applicant2.getId()).getEnrollId();
+
+        BulkRespondEnrollRequest bulkRequest = BulkRespondEnrollRequest.builder()
+                .boardId(board.getId())
+                .enrollIdList(List.of(enrollId1, enrollId2))
+                .build();
+
+        // when
+        BulkUpdateEnrollInfo result = enrollService.rejectEnrollList(bulkRequest, writer.getId());
+
+        // then
+        assertThat(result.getAcceptStatus()).isEqualTo(AcceptStatus.REJECTED);
+
+        em.flush();
+        em.clear();
+        assertThat(enrollRepository.findByIdAndDeletedAtIsNull(enrollId1)).isEmpty();
+        assertThat(enrollRepository.findByIdAndDeletedAtIsNull(enrollId2)).isEmpty();
+        assertThat(enrollRepository.findById(enrollId1).orElseThrow().getAcceptStatus()).isEqualTo(AcceptStatus.REJECTED);
+
+        List<Notification> receivedList = notificationRepository.findAll().stream()
+                .filter(n -> n.getUser().getId().equals(writer.getId()) && n.getBoard().getId().equals(board.getId()))
+                .toList();
+        assertThat(receivedList).hasSize(2)
+                .allMatch(n -> n.getAcceptStatus() == AcceptStatus.ALREADY_REJECTED);
+
+        assertThat(findOutbox("enroll-reject:" + enrollId1).getChatRoomId()).isNull();
+        assertThat(findOutbox("enroll-reject:" + enrollId2).getAcceptStatus()).isEqualTo(AcceptStatus.REJECTED);
     }
 
     @Test
@@ -556,6 +764,13 @@ class EnrollServiceTest {
                 .hasMessage(ErrorCode.ENROLL_NOT_FOUND.getMessage());
     }
 
+    private NotificationOutbox findOutbox(String idempotencyKey) {
+        return notificationOutboxRepository.findAll().stream()
+                .filter(outbox -> outbox.getIdempotencyKey().equals(idempotencyKey))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("아웃박스에 저장되지 않음"));
+    }
+
     private User createUser(String email, String nickname, Club club) {
         return User.builder()
                 .email(email)
@@ -1,7 +1,9 @@
 package com.back.catchmate.domain.notification.controller;
 
+import com.back.catchmate.domain.notification.dto.NotificationResponse.CursorNotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.NotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.PagedNotificationInfo;
+import com.back.catchmate.domain.notification.dto.NotificationSummary;
 import com.back.catchmate.domain.notification.service.NotificationService;
 import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.jwt.JwtService;
@@ -20,12 +22,16 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -119,4 +125,69 @@ class NotificationControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.state").value(true));
     }
+
+    @Test
+    @DisplayName("내가 받은 알림 목록 커서 조회 API 테스트")
+    @WithMockUser
+    void getNotificationListByCursor_Success() throws Exception {
+        // given
+        LocalDateTime lastCreatedAt = LocalDateTime.of(2025, 5, 1, 12, 0);
+        NotificationSummary summary = new NotificationSummary(9L, "알림", "내용", false, null,
+                lastCreatedAt.minusMinutes(1), 3L, "직관 모집", null, "sender", "profile.jpg");
+        CursorNotificationInfo response = CursorNotificationInfo.builder()
+                .notificationSummaryList(List.of(summary))
+                .isLast(true)
+                .build();
+
+        given(notificationService.getNotificationList(any(), eq(lastCreatedAt), eq(10L), eq(20))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/notifications/receive/cursor")
+                        .header("AccessToken", "test-token")
+                        .param("lastCreatedAt", "2025-05-01T12:00:00")
+                        .param("lastNotificationId", "10")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notificationSummaryList[0].notificationId").value(9))
+                .andExpect(jsonPath("$.notificationSummaryList[0].boardTitle").value("직관 모집"))
+                .andExpect(jsonPath("$.isLast").value(true));
+    }
+
+    @Test
+    @DisplayName("내가 받은 알림 목록 커서 조회 API - 조회 개수가 허용 범위를 벗어나면 400을 반환한다")
+    @WithMockUser
+    void getNotificationListByCursor_InvalidSize() throws Exception {
+        // when & then
+        mockMvc.perform(get("/notifications/receive/cursor")
+                        .header("AccessToken", "test-token")
+                        .param("size", "101")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/notifications/receive/cursor")
+                        .header("AccessToken", "test-token")
+                        .param("size", "0")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verify(notificationService, never()).getNotificationList(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("내가 받은 알림 모두 읽음 처리 API 테스트")
+    @WithMockUser
+    void markAllAsRead_Success() throws Exception {
+        // given
+        given(notificationService.markAllAsRead(any())).willReturn(new StateResponse(true));
+
+        // when & then
+        mockMvc.perform(patch("/notifications/receive/read-all")
+                        .header("AccessToken", "test-token")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value(true));
+    }
 }
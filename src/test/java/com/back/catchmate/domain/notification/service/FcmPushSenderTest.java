@@ -0,0 +1,139 @@
+package com.back.catchmate.domain.notification.service;
+
+import com.back.catchmate.domain.notification.dto.FcmSendResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 로컬 Mock FCM 서버(MockWebServer)를 대상으로 실제 HTTP 전송과 응답 분류를 검증
+class FcmPushSenderTest {
+
+    private static final String UNREGISTERED_BODY = """
+            {"error": {"code": 404, "status": "NOT_FOUND",
+              "details": [{"@type": "type.googleapis.com/google.firebase.fcm.v1.FcmError", "errorCode": "UNREGISTERED"}]}}
+            """;
+
+    private MockWebServer server;
+    private FcmPushSender fcmPushSender;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        FcmTokenProvider fcmTokenProvider = mock(FcmTokenProvider.class);
+        given(fcmTokenProvider.getAccessToken()).willReturn("access-token");
+
+        meterRegistry = new SimpleMeterRegistry();
+        fcmPushSender = new FcmPushSender(new OkHttpClient(), fcmTokenProvider, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(fcmPushSender, "sendApiUri", server.url("/v1/projects/test/messages:send").toString());
+        ReflectionTestUtils.setField(fcmPushSender, "maxInFlight", 2);
+        ReflectionTestUtils.setField(fcmPushSender, "awaitTimeoutSeconds", 5L);
+        fcmPushSender.init();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("응답 코드와 FCM 에러 코드에 따라 토큰별 전송 결과를 분류한다")
+    void sendAll_ClassifyResults() throws InterruptedException {
+        // given
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String body = request.getBody().readUtf8();
+                if (body.contains("unregistered")) {
+                    return new MockResponse().setResponseCode(404).setBody(UNREGISTERED_BODY);
+                }
+                if (body.contains("unavailable")) {
+                    return new MockResponse().setResponseCode(503).setBody("{\"error\": {\"status\": \"UNAVAILABLE\"}}");
+                }
+                if (body.contains("invalid")) {
+                    return new MockResponse().setResponseCode(400).setBody("{\"error\": {\"status\": \"INVALID_ARGUMENT\"}}");
+                }
+                return new MockResponse().setResponseCode(200).setBody("{\"name\": \"projects/test/messages/1\"}");
+            }
+        });
+
+        // when
+        List<FcmSendResult> resultList = fcmPushSender.sendAll(List.of(
+                "{\"token\": \"ok\"}",
+                "{\"token\": \"unregistered\"}",
+                "{\"token\": \"unavailable\"}",
+                "{\"token\": \"invalid\"}"
+        ));
+
+        // then
+        assertThat(resultList).extracting(FcmSendResult::status).containsExactly(
+                FcmSendResult.Status.SUCCESS,
+                FcmSendResult.Status.UNREGISTERED,
+                FcmSendResult.Status.RETRYABLE,
+                FcmSendResult.Status.FAILED
+        );
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getHeader("Authorization")).isEqualTo("Bearer access-token");
+    }
+
+    @Test
+    @DisplayName("동시에 전송 중인 요청 수는 설정한 최대값을 넘지 않는다")
+    void sendAll_BoundedInFlight() {
+        // given
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                max.accumulateAndGet(current.incrementAndGet(), Math::max);
+                Thread.sleep(50);
+                current.decrementAndGet();
+                return new MockResponse().setResponseCode(200);
+            }
+        });
+        List<String> messageList = IntStream.range(0, 10)
+                .mapToObj(i -> "{\"token\": \"token-" + i + "\"}")
+                .toList();
+
+        // when
+        List<FcmSendResult> resultList = fcmPushSender.sendAll(messageList);
+
+        // then
+        assertThat(resultList).allMatch(FcmSendResult::isSuccess);
+        assertThat(max.get()).isLessThanOrEqualTo(2);
+        assertThat(meterRegistry.counter("fcm.sender.results", "status", "SUCCESS").count()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("서버에 연결할 수 없으면 재시도 대상으로 분류한다")
+    void sendAll_ConnectionFailure_Retryable() {
+        // given
+        ReflectionTestUtils.setField(fcmPushSender, "sendApiUri", "http://localhost:1/v1/projects/test/messages:send");
+
+        // when
+        List<FcmSendResult> resultList = fcmPushSender.sendAll(List.of("{\"token\": \"ok\"}"));
+
+        // then
+        assertThat(resultList).extracting(FcmSendResult::status).containsExactly(FcmSendResult.Status.RETRYABLE);
+    }
+}
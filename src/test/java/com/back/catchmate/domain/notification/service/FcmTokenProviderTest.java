@@ -0,0 +1,119 @@
+package com.back.catchmate.domain.notification.service;
+
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class FcmTokenProviderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FcmTokenProvider fcmTokenProvider;
+    private final AtomicInteger refreshCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fcmTokenProvider = spy(new FcmTokenProvider(meterRegistry));
+        ReflectionTestUtils.setField(fcmTokenProvider, "refreshAheadSeconds", 300L);
+        ReflectionTestUtils.setField(fcmTokenProvider, "refreshJitterSeconds", 60L);
+        ReflectionTestUtils.setField(fcmTokenProvider, "retryDelaySeconds", 30L);
+        fcmTokenProvider.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fcmTokenProvider.shutdown();
+    }
+
+    @Test
+    @DisplayName("토큰을 한 번 발급받으면 이후 요청은 키 파일을 다시 읽지 않고 캐시된 값을 사용한다")
+    void getAccessToken_Cached() throws IOException {
+        // given
+        doReturn(credentials(Duration.ofHours(1))).when(fcmTokenProvider).loadCredentials();
+
+        // when
+        String first = fcmTokenProvider.getAccessToken();
+        String second = fcmTokenProvider.getAccessToken();
+
+        // then
+        assertThat(first).isEqualTo("token-1");
+        assertThat(second).isEqualTo("token-1");
+        assertThat(refreshCount.get()).isEqualTo(1);
+        verify(fcmTokenProvider, times(1)).loadCredentials();
+        assertThat(meterRegistry.get("fcm.access_token.age.seconds").gauge().value()).isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("만료가 임박한 토큰은 요청 시점에 다시 발급받는다")
+    void getAccessToken_ExpiringToken_Refresh() throws IOException {
+        // given
+        doReturn(credentials(Duration.ofSeconds(10))).when(fcmTokenProvider).loadCredentials();
+
+        // when
+        String first = fcmTokenProvider.getAccessToken();
+        String second = fcmTokenProvider.getAccessToken();
+
+        // then
+        assertThat(first).isEqualTo("token-1");
+        assertThat(second).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("토큰 발급에 실패하면 실패 메트릭이 증가한다")
+    void getAccessToken_Failure_CountMetric() throws IOException {
+        // given
+        doReturn(new GoogleCredentials() {
+            @Override
+            public AccessToken refreshAccessToken() throws IOException {
+                throw new IOException("token endpoint unavailable");
+            }
+        }).when(fcmTokenProvider).loadCredentials();
+
+        // when & then
+        assertThatThrownBy(() -> fcmTokenProvider.getAccessToken())
+                .isInstanceOf(IOException.class);
+        assertThat(meterRegistry.counter("fcm.access_token.refresh.failures").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다음 갱신은 만료 시각보다 미리, jitter 범위 안에서 예약된다")
+    void nextRefreshDelay_BeforeExpiry() {
+        // given
+        Instant now = Instant.now();
+        FcmTokenProvider.CachedToken token = new FcmTokenProvider.CachedToken("token", now, now.plus(Duration.ofHours(1)));
+
+        // when
+        Duration delay = fcmTokenProvider.nextRefreshDelay(token);
+
+        // then
+        assertThat(delay).isBetween(Duration.ofMinutes(53), Duration.ofMinutes(55));
+    }
+
+    private GoogleCredentials credentials(Duration lifetime) {
+        return new GoogleCredentials() {
+            @Override
+            public AccessToken refreshAccessToken() {
+                int count = refreshCount.incrementAndGet();
+                return new AccessToken("token-" + count, Date.from(Instant.now().plus(lifetime)));
+            }
+        };
+    }
+}
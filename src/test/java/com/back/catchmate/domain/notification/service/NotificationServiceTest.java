@@ -10,14 +10,17 @@ import com.back.catchmate.domain.game.repository.GameRepository;
 import com.back.catchmate.domain.inquiry.entity.Inquiry;
 import com.back.catchmate.domain.inquiry.entity.InquiryType;
 import com.back.catchmate.domain.inquiry.repository.InquiryRepository;
+import com.back.catchmate.domain.notification.dto.NotificationResponse.CursorNotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.NotificationInfo;
 import com.back.catchmate.domain.notification.dto.NotificationResponse.PagedNotificationInfo;
+import com.back.catchmate.domain.notification.dto.NotificationSummary;
 import com.back.catchmate.domain.notification.entity.Notification;
 import com.back.catchmate.domain.notification.repository.NotificationRepository;
 import com.back.catchmate.domain.user.entity.Authority;
 import com.back.catchmate.domain.user.entity.Provider;
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.UserRepository;
+import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
 import jakarta.persistence.EntityManager;
@@ -398,6 +401,81 @@ class NotificationServiceTest {
                 .build();
     }
 
+    @Test
+    @DisplayName("커서 조회 - 최신순으로 size 개씩 조회하고 마지막 항목을 다음 커서로 반환한다")
+    void getNotificationListByCursor_Success() {
+        // given
+        Notification first = createMockNotification(receiver, board, "알림1");
+        Notification second = createMockNotification(receiver, board, "알림2");
+        Notification third = createMockNotification(receiver, board, "알림3");
+        createMockNotification(sender, board, "다른 사람 알림");
+
+        // when
+        CursorNotificationInfo firstPage = notificationService.getNotificationList(receiver.getId(), null, null, 2);
+        CursorNotificationInfo secondPage = notificationService.getNotificationList(receiver.getId(),
+                firstPage.getLastCreatedAt(), firstPage.getLastNotificationId(), 2);
+
+        // then
+        assertThat(firstPage.getNotificationSummaryList()).extracting(NotificationSummary::notificationId)
+                .containsExactly(third.getId(), second.getId());
+        assertThat(firstPage.getIsLast()).isFalse();
+        assertThat(firstPage.getLastNotificationId()).isEqualTo(second.getId());
+
+        assertThat(secondPage.getNotificationSummaryList()).extracting(NotificationSummary::notificationId)
+                .containsExactly(first.getId());
+        assertThat(secondPage.getIsLast()).isTrue();
+        assertThat(secondPage.getLastNotificationId()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 게시글 제목과 발신자 정보를 함께 조회하고 문의 알림은 게시글 정보가 비어 있다")
+    void getNotificationListByCursor_Projection() {
+        // given
+        createMockNotification(receiver, board, "신청 알림");
+        notificationRepository.save(Notification.builder()
+                .user(receiver)
+                .inquiry(inquiry)
+                .title("답변 알림")
+                .body("content")
+                .isRead(false)
+                .build());
+
+        // when
+        CursorNotificationInfo result = notificationService.getNotificationList(receiver.getId(), null, null, 10);
+
+        // then
+        assertThat(result.getNotificationSummaryList()).hasSize(2);
+        NotificationSummary inquirySummary = result.getNotificationSummaryList().get(0);
+        NotificationSummary enrollSummary = result.getNotificationSummaryList().get(1);
+
+        assertThat(inquirySummary.inquiryId()).isEqualTo(inquiry.getId());
+        assertThat(inquirySummary.boardId()).isNull();
+        assertThat(inquirySummary.senderNickName()).isNull();
+
+        assertThat(enrollSummary.boardTitle()).isEqualTo(board.getTitle());
+        assertThat(enrollSummary.senderNickName()).isEqualTo(sender.getNickName());
+        assertThat(enrollSummary.senderProfileImageUrl()).isEqualTo(sender.getProfileImageUrl());
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리 시 본인의 읽지 않은 알림만 한 번에 읽음 처리된다")
+    void markAllAsRead_Success() {
+        // given
+        Notification first = createMockNotification(receiver, board, "알림1");
+        Notification second = createMockNotification(receiver, board, "알림2");
+        Notification others = createMockNotification(sender, board, "다른 사람 알림");
+
+        // when
+        StateResponse response = notificationService.markAllAsRead(receiver.getId());
+
+        // then
+        assertThat(response.isState()).isTrue();
+        assertThat(notificationRepository.findById(first.getId()).orElseThrow().isRead()).isTrue();
+        assertThat(notificationRepository.findById(second.getId()).orElseThrow().isRead()).isTrue();
+        assertThat(notificationRepository.findById(others.getId()).orElseThrow().isRead()).isFalse();
+        assertThat(notificationService.hasUnreadNotification(receiver.getId())).isFalse();
+    }
+
     private Notification createMockNotification(User receiver, Board board, String title) {
         return notificationRepository.save(Notification.builder()
                 .user(receiver)
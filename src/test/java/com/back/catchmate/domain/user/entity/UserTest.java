@@ -148,17 +148,12 @@ class UserTest {
     }
 
     @Test
-    @DisplayName("유저 탈퇴 처리 테스트 - 게시글 삭제 및 토큰 삭제, Soft Delete 확인")
+    @DisplayName("유저 탈퇴 처리 테스트 - 토큰 삭제, Soft Delete 확인 (게시글은 서비스에서 일괄 삭제)")
     void deleteUser() {
         // given
         User user = createUser();
-        // Board 객체를 Mocking하여 deleteBoard() 호출 여부 검증
-        Board mockBoard1 = mock(Board.class);
-        Board mockBoard2 = mock(Board.class);
-
-        // User의 boardList에 Mock 객체 추가
-        user.getBoardList().add(mockBoard1);
-        user.getBoardList().add(mockBoard2);
+        Board mockBoard = mock(Board.class);
+        user.getBoardList().add(mockBoard);
 
         // when
         user.deleteUser();
@@ -170,9 +165,8 @@ class UserTest {
         // 2. FCM 토큰이 삭제되었는지 확인
         assertThat(user.getFcmToken()).isNull();
 
-        // 3. 연관된 게시글들의 deleteBoard()가 호출되었는지 확인
-        verify(mockBoard1, times(1)).deleteBoard();
-        verify(mockBoard2, times(1)).deleteBoard();
+        // 3. 게시글 엔티티를 순회하며 삭제하지 않음
+        verifyNoInteractions(mockBoard);
     }
 
     // --- Helper Method ---
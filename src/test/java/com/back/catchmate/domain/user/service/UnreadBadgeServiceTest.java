@@ -0,0 +1,159 @@
+package com.back.catchmate.domain.user.service;
+
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.chat.entity.UserChatRoom;
+import com.back.catchmate.domain.chat.repository.ChatMessageRepository;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.back.catchmate.domain.notification.repository.NotificationRepository;
+import com.back.catchmate.domain.user.badge.InMemoryUnreadBadgeStore;
+import com.back.catchmate.domain.user.badge.UnreadBadge;
+import com.back.catchmate.domain.user.converter.UserConverter;
+import com.back.catchmate.domain.user.dto.UserResponse.UnreadStatusInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadBadgeServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long CHAT_ROOM_ID = 100L;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserChatRoomRepository userChatRoomRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private UserConverter userConverter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UnreadBadgeService unreadBadgeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        unreadBadgeService = new UnreadBadgeService(new InMemoryUnreadBadgeStore(), notificationRepository,
+                userChatRoomRepository, chatMessageRepository, messagingTemplate, userConverter, meterRegistry);
+        ReflectionTestUtils.setField(unreadBadgeService, "ttlSeconds", 3600L);
+    }
+
+    @Test
+    @DisplayName("배지 상태가 없으면 DB 기준으로 한 번만 계산하고 이후에는 저장된 값을 반환한다")
+    void getBadge_Miss_RebuildOnce() {
+        // given
+        givenUnreadInDatabase(2, 5);
+
+        // when
+        UnreadBadge first = unreadBadgeService.getBadge(USER_ID);
+        UnreadBadge second = unreadBadgeService.getBadge(USER_ID);
+
+        // then
+        assertThat(first).isEqualTo(new UnreadBadge(2, 5));
+        assertThat(second).isEqualTo(first);
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalseAndDeletedAtIsNull(USER_ID);
+        assertThat(meterRegistry.counter("badge.rebuild").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("알림 생성 / 읽음과 채팅 수신 / 읽음이 배지에 반영된다")
+    void writePaths_UpdateBadge() {
+        // given
+        givenUnreadInDatabase(0, 0);
+        unreadBadgeService.getBadge(USER_ID);
+
+        // when
+        unreadBadgeService.onNotificationCreated(USER_ID);
+        unreadBadgeService.onNotificationCreated(USER_ID);
+        unreadBadgeService.onNotificationRead(USER_ID);
+        unreadBadgeService.onChatMessages(CHAT_ROOM_ID, Map.of(USER_ID, 3));
+        unreadBadgeService.onChatMessages(200L, Map.of(USER_ID, 1));
+        unreadBadgeService.onChatRead(USER_ID, CHAT_ROOM_ID);
+
+        // then
+        assertThat(unreadBadgeService.getBadge(USER_ID)).isEqualTo(new UnreadBadge(1, 1));
+    }
+
+    @Test
+    @DisplayName("배지 상태가 없는 사용자에 대한 변경은 무시하고 조회 시 다시 계산한다")
+    void writePaths_NotInitialized_Ignored() {
+        // given
+        unreadBadgeService.onNotificationCreated(USER_ID);
+        unreadBadgeService.onChatMessages(CHAT_ROOM_ID, Map.of(USER_ID, 3));
+        givenUnreadInDatabase(1, 0);
+
+        // when
+        UnreadBadge badge = unreadBadgeService.getBadge(USER_ID);
+
+        // then
+        assertThat(badge).isEqualTo(new UnreadBadge(1, 0));
+    }
+
+    @Test
+    @DisplayName("푸시가 켜져 있으면 변경된 배지를 사용자 배지 경로로 전송한다")
+    void onNotificationCreated_PushEnabled_Publish() {
+        // given
+        ReflectionTestUtils.setField(unreadBadgeService, "pushEnabled", true);
+        givenUnreadInDatabase(0, 0);
+        unreadBadgeService.getBadge(USER_ID);
+        UnreadStatusInfo statusInfo = UnreadStatusInfo.builder().hasUnreadNotification(true).unreadNotificationCount(1).build();
+        given(userConverter.toUnreadStatusInfo(new UnreadBadge(1, 0))).willReturn(statusInfo);
+
+        // when
+        unreadBadgeService.onNotificationCreated(USER_ID);
+
+        // then
+        verify(messagingTemplate).convertAndSend("/topic/badge." + USER_ID, statusInfo);
+    }
+
+    @Test
+    @DisplayName("푸시가 꺼져 있으면 배지를 전송하지 않는다")
+    void onNotificationCreated_PushDisabled_NotPublished() {
+        // given
+        givenUnreadInDatabase(0, 0);
+        unreadBadgeService.getBadge(USER_ID);
+
+        // when
+        unreadBadgeService.onNotificationCreated(USER_ID);
+
+        // then
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    private void givenUnreadInDatabase(long unreadNotificationCount, long unreadChatCount) {
+        LocalDateTime lastReadTime = LocalDateTime.now().minusHours(1);
+        UserChatRoom userChatRoom = UserChatRoom.builder()
+                .chatRoom(ChatRoom.builder().id(CHAT_ROOM_ID).build())
+                .lastReadTime(lastReadTime)
+                .build();
+
+        given(notificationRepository.countByUserIdAndIsReadFalseAndDeletedAtIsNull(USER_ID)).willReturn(unreadNotificationCount);
+        given(userChatRoomRepository.findByUserIdAndDeletedAtIsNull(USER_ID)).willReturn(List.of(userChatRoom));
+        given(chatMessageRepository.countByChatRoomIdAndSendTimeGreaterThanAndMessageType(eq(CHAT_ROOM_ID), eq(lastReadTime), eq("TALK")))
+                .willReturn(unreadChatCount);
+    }
+}
@@ -1,9 +1,8 @@
 package com.back.catchmate.domain.user.service;
 
-import com.back.catchmate.domain.chat.service.UserChatRoomService;
 import com.back.catchmate.domain.club.entity.Club;
 import com.back.catchmate.domain.club.repository.ClubRepository;
-import com.back.catchmate.domain.notification.service.NotificationService;
+import com.back.catchmate.domain.user.badge.UnreadBadge;
 import com.back.catchmate.domain.user.dto.UserRequest.UserJoinRequest;
 import com.back.catchmate.domain.user.dto.UserRequest.UserProfileUpdateRequest;
 import com.back.catchmate.domain.user.dto.UserResponse.LoginInfo;
@@ -15,9 +14,10 @@ import com.back.catchmate.domain.user.entity.Authority;
 import com.back.catchmate.domain.user.entity.Provider;
 import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.UserRepository;
-import com.back.catchmate.global.auth.repository.RefreshTokenRepository;
+import com.back.catchmate.global.auth.service.RefreshTokenService;
 import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.error.exception.BaseException;
+import com.back.catchmate.global.jwt.PrincipalCache;
 import com.back.catchmate.global.s3.S3Service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,8 +36,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -47,12 +45,12 @@ class UserServiceTest {
     @Autowired private UserService userService;
     @Autowired private UserRepository userRepository;
     @Autowired private ClubRepository clubRepository;
+    @Autowired private PrincipalCache principalCache;
+    @Autowired private RefreshTokenService refreshTokenService;
 
     // 외부 의존성은 Mocking
     @MockBean private S3Service s3Service;
-    @MockBean private NotificationService notificationService;
-    @MockBean private UserChatRoomService userChatRoomService;
-    @MockBean private RefreshTokenRepository refreshTokenRepository;
+    @MockBean private UnreadBadgeService unreadBadgeService;
 
     private Club club;
     private User user;
@@ -89,7 +87,6 @@ class UserServiceTest {
         LoginInfo loginInfo = userService.joinUser(request);
 
         // then
-        verify(refreshTokenRepository, times(1)).save(any());
         assertThat(loginInfo.getUserId()).isNotNull();
         assertThat(loginInfo.getAccessToken()).isNotNull();
         assertThat(loginInfo.getRefreshToken()).isNotNull();
@@ -226,12 +223,41 @@ class UserServiceTest {
         assertThat(deletedUser.getFcmToken()).isNull();
     }
 
+    @Test
+    @DisplayName("회원 탈퇴 시 인증 필터에 캐시된 권한을 무효화한다")
+    void deleteUser_EvictPrincipalCache() {
+        // given
+        assertThat(principalCache.getAuthority(user.getId())).contains(Authority.ROLE_USER);
+
+        // when
+        userService.deleteUser(user.getId());
+
+        // then
+        assertThat(principalCache.getAuthority(user.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 시 모든 기기의 리프레시 토큰을 폐기한다")
+    void deleteUser_RevokeAllRefreshTokens() {
+        // given
+        String refreshToken = refreshTokenService.issue(user.getId());
+        String otherDeviceToken = refreshTokenService.issue(user.getId());
+
+        // when
+        userService.deleteUser(user.getId());
+
+        // then
+        assertThatThrownBy(() -> refreshTokenService.rotate(refreshToken))
+                .isInstanceOf(BaseException.class);
+        assertThatThrownBy(() -> refreshTokenService.rotate(otherDeviceToken))
+                .isInstanceOf(BaseException.class);
+    }
+
     @Test
     @DisplayName("읽지 않은 알림/채팅 여부 조회")
     void hasUnreadMessagesOrNotifications_Success() {
         // given
-        given(notificationService.hasUnreadNotification(user.getId())).willReturn(true);
-        given(userChatRoomService.hasUnreadChat(user.getId())).willReturn(false);
+        given(unreadBadgeService.getBadge(user.getId())).willReturn(new UnreadBadge(3, 0));
 
         // when
         UnreadStatusInfo info = userService.hasUnreadMessagesOrNotifications(user.getId());
@@ -239,6 +265,7 @@ class UserServiceTest {
         // then
         assertThat(info.isHasUnreadNotification()).isTrue();
         assertThat(info.isHasUnreadChat()).isFalse();
+        assertThat(info.getUnreadNotificationCount()).isEqualTo(3);
     }
 
     // --- Helper Methods ---
@@ -119,7 +119,7 @@ class AuthControllerTest {
     void reissue_Success() throws Exception {
         // given
         String refreshToken = "valid_refresh_token";
-        ReissueInfo response = new ReissueInfo("new_access_token");
+        ReissueInfo response = new ReissueInfo("new_access_token", "new_refresh_token");
 
         given(authService.reissue(eq(refreshToken))).willReturn(response);
 
@@ -129,7 +129,8 @@ class AuthControllerTest {
                         .with(csrf()))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.accessToken").value("new_access_token"));
+                .andExpect(jsonPath("$.accessToken").value("new_access_token"))
+                .andExpect(jsonPath("$.refreshToken").value("new_refresh_token"));
     }
 
     @Test
@@ -10,8 +10,6 @@ import com.back.catchmate.global.auth.dto.AuthRequest.LoginRequest;
 import com.back.catchmate.global.auth.dto.AuthResponse.AuthInfo;
 import com.back.catchmate.global.auth.dto.AuthResponse.NicknameCheckInfo;
 import com.back.catchmate.global.auth.dto.AuthResponse.ReissueInfo;
-import com.back.catchmate.global.auth.entity.RefreshToken;
-import com.back.catchmate.global.auth.repository.RefreshTokenRepository;
 import com.back.catchmate.global.dto.StateResponse;
 import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
@@ -22,18 +20,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.verify;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -52,9 +46,8 @@ class AuthServiceTest {
     @Autowired
     private JwtService jwtService; // 실제 JWT 로직 사용
 
-    // Redis Repository는 외부 의존성이므로 Mocking하여 테스트 격리
-    @MockBean
-    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private RefreshTokenService refreshTokenService; // 테스트에서는 메모리 저장소 사용
 
     private User user;
     private Club club;
@@ -89,6 +82,7 @@ class AuthServiceTest {
         // 테스트 수행 후 생성된 데이터를 모두 삭제하여 DB 상태를 깨끗하게 비웁니다.
         userRepository.deleteAll();
         clubRepository.deleteAll();
+        ReflectionTestUtils.setField(refreshTokenService, "reuseGraceSeconds", 10L);
     }
 
     @Test
@@ -138,8 +132,8 @@ class AuthServiceTest {
         User updatedUser = userRepository.findById(user.getId()).orElseThrow();
         assertThat(updatedUser.getFcmToken()).isEqualTo("new-fcm-token");
 
-        // 3. Redis 저장 검증
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        // 3. 발급한 RefreshToken으로 재발급이 가능해야 함 (저장소 저장 검증)
+        assertThat(authService.reissue(authInfo.getRefreshToken()).getAccessToken()).isNotNull();
     }
 
     @Test
@@ -172,12 +166,8 @@ class AuthServiceTest {
     @DisplayName("토큰 재발급 - 유효한 RefreshToken으로 AccessToken을 재발급한다")
     void reissue_Success() {
         // given
-        // 실제 JwtService를 이용해 유효한 토큰 생성
-        String validRefreshToken = jwtService.createRefreshToken(user.getId());
-
-        // Mocking: Redis에 해당 토큰이 존재한다고 가정
-        RefreshToken mockTokenEntity = RefreshToken.of(validRefreshToken, user.getId());
-        given(refreshTokenRepository.findById(validRefreshToken)).willReturn(Optional.of(mockTokenEntity));
+        // 발급 후 저장소에 저장된 토큰
+        String validRefreshToken = refreshTokenService.issue(user.getId());
 
         // when
         ReissueInfo result = authService.reissue(validRefreshToken);
@@ -185,6 +175,50 @@ class AuthServiceTest {
         // then
         assertThat(result.getAccessToken()).isNotNull();
         assertThat(result.getAccessToken()).startsWith("Bearer ");
+        // RefreshToken도 새로 교체되어야 함
+        assertThat(result.getRefreshToken()).isNotEqualTo(validRefreshToken);
+        assertThat(authService.reissue(result.getRefreshToken()).getAccessToken()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - 이미 교체된 RefreshToken을 다시 사용하면 모든 세션을 폐기한다")
+    void reissue_Fail_ReusedToken() {
+        // given
+        // 교체 직후 재요청 허용 시간이 지난 상황
+        ReflectionTestUtils.setField(refreshTokenService, "reuseGraceSeconds", 0L);
+        String oldRefreshToken = refreshTokenService.issue(user.getId());
+        String otherDeviceToken = refreshTokenService.issue(user.getId());
+        ReissueInfo rotated = authService.reissue(oldRefreshToken);
+
+        // when & then
+        assertThatThrownBy(() -> authService.reissue(oldRefreshToken))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.INVALID_REFRESH_TOKEN.getMessage());
+
+        // 교체로 받은 토큰과 다른 기기의 토큰도 함께 폐기됨
+        assertThatThrownBy(() -> authService.reissue(rotated.getRefreshToken()))
+                .isInstanceOf(BaseException.class);
+        assertThatThrownBy(() -> authService.reissue(otherDeviceToken))
+                .isInstanceOf(BaseException.class);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - 교체 직후 같은 RefreshToken으로 다시 요청하면 세션을 폐기하지 않고 새 토큰을 발급한다")
+    void reissue_SameTokenWithinGrace_IssuesNewPair() {
+        // given
+        String refreshToken = refreshTokenService.issue(user.getId());
+        String otherDeviceToken = refreshTokenService.issue(user.getId());
+        ReissueInfo first = authService.reissue(refreshToken);
+
+        // when
+        ReissueInfo second = authService.reissue(refreshToken);
+
+        // then
+        assertThat(second.getAccessToken()).isNotNull();
+        assertThat(second.getRefreshToken()).isNotEqualTo(first.getRefreshToken());
+        assertThat(authService.reissue(first.getRefreshToken()).getAccessToken()).isNotNull();
+        assertThat(authService.reissue(second.getRefreshToken()).getAccessToken()).isNotNull();
+        assertThat(authService.reissue(otherDeviceToken).getAccessToken()).isNotNull();
     }
 
     @Test
@@ -193,8 +227,7 @@ class AuthServiceTest {
         // given
         String validFormatToken = jwtService.createRefreshToken(user.getId());
 
-        // Mocking: Redis에서 찾을 수 없음
-        given(refreshTokenRepository.findById(validFormatToken)).willReturn(Optional.empty());
+        // 저장소에 저장하지 않은 토큰
 
         // when & then
         assertThatThrownBy(() -> authService.reissue(validFormatToken))
@@ -207,7 +240,7 @@ class AuthServiceTest {
     @DisplayName("로그아웃 - FCM 토큰 삭제 및 RefreshToken 삭제가 수행되어야 한다")
     void logout_Success() {
         // given
-        String validRefreshToken = jwtService.createRefreshToken(user.getId());
+        String validRefreshToken = refreshTokenService.issue(user.getId());
 
         // when
         StateResponse response = authService.logout(validRefreshToken);
@@ -219,8 +252,10 @@ class AuthServiceTest {
         User loggedOutUser = userRepository.findById(user.getId()).orElseThrow();
         assertThat(loggedOutUser.getFcmToken()).isNull();
 
-        // 2. Redis 삭제 검증
-        verify(refreshTokenRepository).deleteById(validRefreshToken);
+        // 2. 저장소 삭제 검증 (로그아웃한 토큰으로는 재발급 불가)
+        assertThatThrownBy(() -> authService.reissue(validRefreshToken))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.INVALID_REFRESH_TOKEN.getMessage());
     }
 
     @Test
@@ -0,0 +1,142 @@
+package com.back.catchmate.global.auth.token;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Lua 스크립트를 실제 Redis 에서 검증 (Docker 가 없는 환경에서는 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class RedisRefreshTokenStoreTest {
+    private static final Long USER_ID = 1L;
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration GRACE = Duration.ofSeconds(10);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisRefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        refreshTokenStore = new RedisRefreshTokenStore(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("교체 직후 grace 이내에 같은 토큰이 다시 들어오면 새 토큰을 추가 등록하고 다른 세션은 유지한다")
+    void rotate_WithinGrace_RegistersNewToken() {
+        // given
+        refreshTokenStore.save(USER_ID, "old", TTL);
+        refreshTokenStore.save(USER_ID, "other", TTL);
+        refreshTokenStore.rotate(USER_ID, "old", "new1", TTL, GRACE);
+
+        // when
+        RotationResult result = refreshTokenStore.rotate(USER_ID, "old", "new2", TTL, GRACE);
+
+        // then
+        assertThat(result).isEqualTo(RotationResult.ROTATED_IN_GRACE);
+        assertThat(refreshTokenStore.rotate(USER_ID, "new1", "next1", TTL, GRACE)).isEqualTo(RotationResult.ROTATED);
+        assertThat(refreshTokenStore.rotate(USER_ID, "new2", "next2", TTL, GRACE)).isEqualTo(RotationResult.ROTATED);
+        assertThat(refreshTokenStore.rotate(USER_ID, "other", "next3", TTL, GRACE)).isEqualTo(RotationResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("grace 가 지난 뒤 교체된 토큰이 다시 들어오면 재사용으로 보고 모든 세션을 폐기한다")
+    void rotate_AfterGrace_RevokesAllSessions() {
+        // given
+        refreshTokenStore.save(USER_ID, "old", TTL);
+        refreshTokenStore.save(USER_ID, "other", TTL);
+        refreshTokenStore.rotate(USER_ID, "old", "new", TTL, Duration.ZERO);
+
+        // when
+        RotationResult result = refreshTokenStore.rotate(USER_ID, "old", "new2", TTL, Duration.ZERO);
+
+        // then
+        assertThat(result).isEqualTo(RotationResult.REUSED);
+        assertThat(refreshTokenStore.rotate(USER_ID, "new", "next", TTL, GRACE)).isEqualTo(RotationResult.NOT_FOUND);
+        assertThat(refreshTokenStore.rotate(USER_ID, "other", "next", TTL, GRACE)).isEqualTo(RotationResult.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("전체 세션을 폐기하면 grace 이내라도 교체된 토큰으로 다시 발급받지 못한다")
+    void deleteAll_RemovesGraceKeys() {
+        // given
+        refreshTokenStore.save(USER_ID, "old", TTL);
+        refreshTokenStore.rotate(USER_ID, "old", "new", TTL, GRACE);
+
+        // when
+        refreshTokenStore.deleteAll(USER_ID);
+
+        // then
+        assertThat(refreshTokenStore.rotate(USER_ID, "old", "new2", TTL, GRACE)).isEqualTo(RotationResult.NOT_FOUND);
+        assertThat(redisTemplate.keys("refresh:*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이전 방식으로 저장된 본인 토큰은 삭제하고 남은 유효 기간을 반환한다")
+    void claimLegacy_OwnToken_ReturnsRemainingTtl() {
+        // given
+        String refreshToken = "legacy-token";
+        redisTemplate.opsForHash().putAll("refreshToken:" + refreshToken, Map.of("refreshToken", refreshToken, "userId", "1"));
+        redisTemplate.expire("refreshToken:" + refreshToken, 1, TimeUnit.HOURS);
+        redisTemplate.opsForSet().add("refreshToken", refreshToken);
+
+        // when
+        Optional<Duration> remaining = refreshTokenStore.claimLegacy(USER_ID, refreshToken);
+
+        // then
+        assertThat(remaining).isPresent();
+        assertThat(remaining.get()).isGreaterThan(Duration.ofMinutes(59)).isLessThanOrEqualTo(Duration.ofHours(1));
+        assertThat(redisTemplate.hasKey("refreshToken:" + refreshToken)).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember("refreshToken", refreshToken)).isFalse();
+        assertThat(refreshTokenStore.claimLegacy(USER_ID, refreshToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이전 방식으로 저장된 다른 사용자의 토큰은 삭제하지 않는다")
+    void claimLegacy_OtherUserToken_ReturnsEmpty() {
+        // given
+        String refreshToken = "legacy-token";
+        redisTemplate.opsForHash().putAll("refreshToken:" + refreshToken, Map.of("refreshToken", refreshToken, "userId", "2"));
+
+        // when
+        Optional<Duration> remaining = refreshTokenStore.claimLegacy(USER_ID, refreshToken);
+
+        // then
+        assertThat(remaining).isEmpty();
+        assertThat(redisTemplate.hasKey("refreshToken:" + refreshToken)).isTrue();
+    }
+}
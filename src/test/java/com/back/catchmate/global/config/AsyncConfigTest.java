@@ -0,0 +1,100 @@
+package com.back.catchmate.global.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncConfigTest {
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncConfig asyncConfig;
+    private ThreadPoolTaskExecutor executor;
+
+    // 실행 중인 작업이 끝나지 않도록 붙잡아 두는 latch
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        asyncConfig = new AsyncConfig(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("asyncTask - 큐가 가득 차면 작업을 버리지 않고 호출한 스레드에서 직접 실행한다")
+    void asyncTask_QueueFull_RunsOnCallerThread() throws InterruptedException {
+        // given
+        executor = asyncConfig.threadPoolExecutor(1, 1, 1);
+        executor.initialize();
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> block(started));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> { });
+
+        // when
+        AtomicReference<Thread> runThread = new AtomicReference<>();
+        executor.execute(() -> runThread.set(Thread.currentThread()));
+
+        // then
+        assertThat(executor.getQueueSize()).isEqualTo(1);
+        assertThat(runThread.get()).isEqualTo(Thread.currentThread());
+        assertThat(rejectedCount("asyncTask")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("chatPushTask - 큐가 가득 차면 가장 오래된 대기 작업을 버리고 새 작업을 큐에 넣는다")
+    void chatPushTask_QueueFull_DiscardsOldest() throws InterruptedException {
+        // given
+        executor = asyncConfig.chatPushExecutor(1, 1, 1);
+        executor.initialize();
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> executed = new CopyOnWriteArrayList<>();
+        executor.execute(() -> block(started));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> executed.add("oldest"));
+
+        // when
+        CountDownLatch latestDone = new CountDownLatch(1);
+        executor.execute(() -> {
+            executed.add("latest");
+            latestDone.countDown();
+        });
+        assertThat(executor.getQueueSize()).isEqualTo(1);
+        release.countDown();
+
+        // then
+        assertThat(latestDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly("latest");
+        assertThat(rejectedCount("chatPushTask")).isEqualTo(1.0);
+    }
+
+    private void block(CountDownLatch started) {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double rejectedCount(String name) {
+        return meterRegistry.get("async.executor.rejected").tag("name", name).counter().count();
+    }
+}
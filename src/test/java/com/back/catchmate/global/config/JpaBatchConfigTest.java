@@ -0,0 +1,245 @@
+package com.back.catchmate.global.config;
+
+import com.back.catchmate.domain.board.entity.Board;
+import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.board.service.BoardDeletionService;
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.chat.entity.UserChatRoom;
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import com.back.catchmate.domain.chat.repository.UserChatRoomRepository;
+import com.back.catchmate.domain.club.entity.Club;
+import com.back.catchmate.domain.club.repository.ClubRepository;
+import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+import com.back.catchmate.domain.enroll.entity.Enroll;
+import com.back.catchmate.domain.enroll.repository.EnrollRepository;
+import com.back.catchmate.domain.game.entity.Game;
+import com.back.catchmate.domain.game.repository.GameRepository;
+import com.back.catchmate.domain.notification.entity.Notification;
+import com.back.catchmate.domain.notification.entity.NotificationOutbox;
+import com.back.catchmate.domain.notification.entity.OutboxStatus;
+import com.back.catchmate.domain.notification.entity.OutboxType;
+import com.back.catchmate.domain.notification.repository.NotificationOutboxRepository;
+import com.back.catchmate.domain.notification.repository.NotificationRepository;
+import com.back.catchmate.domain.user.entity.Authority;
+import com.back.catchmate.domain.user.entity.Provider;
+import com.back.catchmate.domain.user.entity.User;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 행을 저장하거나 삭제하는 흐름에서 실행되는 문장 수가 행 수에 비례하지 않는지 확인
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class JpaBatchConfigTest {
+    private static final int ROW_COUNT = 30;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private GameRepository gameRepository;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private ChatRoomRepository chatRoomRepository;
+    @Autowired private UserChatRoomRepository userChatRoomRepository;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private NotificationOutboxRepository notificationOutboxRepository;
+    @Autowired private EnrollRepository enrollRepository;
+    @Autowired private BoardDeletionService boardDeletionService;
+    @Autowired private EntityManager em;
+
+    private Statistics statistics;
+    private Club club;
+    private Board board;
+    private ChatRoom chatRoom;
+    private List<User> userList;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        club = clubRepository.save(Club.builder()
+                .name("KIA Tigers")
+                .homeStadium("Champions Field")
+                .region("Gwangju")
+                .build());
+
+        User writer = userRepository.save(createUser("writer@test.com", "writer"));
+        Game game = gameRepository.save(Game.builder()
+                .homeClub(club)
+                .awayClub(club)
+                .gameStartDate(LocalDateTime.now().plusDays(1))
+                .location("Gwangju")
+                .build());
+
+        board = boardRepository.save(Board.builder()
+                .title("직관 모집")
+                .content("같이 가요")
+                .maxPerson(ROW_COUNT + 1)
+                .currentPerson(1)
+                .user(writer)
+                .club(club)
+                .game(game)
+                .preferredGender("M")
+                .preferredAgeRange("20s")
+                .isCompleted(true)
+                .liftUpDate(LocalDateTime.now())
+                .build());
+        chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .board(board)
+                .participantCount(1)
+                .build());
+
+        userList = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            userList.add(createUser("user" + i + "@test.com", "user" + i));
+        }
+        userRepository.saveAll(userList);
+        em.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("채팅방 참여 정보를 여러 건 저장하면 INSERT 가 배치로 묶인다")
+    void saveAll_UserChatRoom_BatchInsert() {
+        // given
+        List<UserChatRoom> userChatRoomList = userList.stream()
+                .map(user -> UserChatRoom.builder()
+                        .user(user)
+                        .chatRoom(chatRoom)
+                        .joinedAt(LocalDateTime.now())
+                        .isNewChatRoom(true)
+                        .build())
+                .toList();
+        statistics.clear();
+
+        // when
+        userChatRoomRepository.saveAll(userChatRoomList);
+        em.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+        // 시퀀스 조회 + INSERT 배치
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(5);
+    }
+
+    @Test
+    @DisplayName("알림을 여러 건 저장하면 INSERT 가 배치로 묶인다")
+    void saveAll_Notification_BatchInsert() {
+        // given
+        List<Notification> notificationList = userList.stream()
+                .map(user -> Notification.builder()
+                        .user(user)
+                        .board(board)
+                        .title("직관 신청 알림")
+                        .body("새로운 신청이 있습니다")
+                        .isRead(false)
+                        .acceptStatus(AcceptStatus.PENDING)
+                        .build())
+                .toList();
+        statistics.clear();
+
+        // when
+        notificationRepository.saveAll(notificationList);
+        em.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+        // 시퀀스 조회 + INSERT 배치
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(5);
+    }
+
+    @Test
+    @DisplayName("푸시 발송 대기열을 여러 건 저장하면 INSERT 가 배치로 묶인다")
+    void saveAll_NotificationOutbox_BatchInsert() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> outboxList = userList.stream()
+                .map(user -> NotificationOutbox.builder()
+                        .idempotencyKey("enroll-accept:" + user.getId())
+                        .type(OutboxType.ENROLL)
+                        .targetToken(user.getFcmToken())
+                        .title("직관 신청 수락")
+                        .body("신청이 수락되었습니다")
+                        .boardId(board.getId())
+                        .chatRoomId(chatRoom.getId())
+                        .acceptStatus(AcceptStatus.ACCEPTED)
+                        .status(OutboxStatus.PENDING)
+                        .attemptCount(0)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+        statistics.clear();
+
+        // when
+        notificationOutboxRepository.saveAll(outboxList);
+        em.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+        // 시퀀스 조회 + INSERT 배치
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(5);
+    }
+
+    @Test
+    @DisplayName("게시글을 삭제하면 하위 신청, 채팅방 참여 정보 수와 관계없이 테이블마다 UPDATE 한 문장으로 처리된다")
+    void softDeleteBoards_StatementCountIndependentOfRows() {
+        // given
+        for (User user : userList) {
+            enrollRepository.save(Enroll.builder()
+                    .user(user).board(board).acceptStatus(AcceptStatus.ACCEPTED).isNew(false).build());
+            userChatRoomRepository.save(UserChatRoom.builder()
+                    .user(user).chatRoom(chatRoom).joinedAt(LocalDateTime.now()).isNewChatRoom(false).build());
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        boardDeletionService.softDeleteBoards(List.of(board.getId()));
+
+        // then
+        // 완료 게시글 수, 채팅방 ID 조회 + 신청, 알림, 찜, 채팅방 참여 정보, 채팅방, 게시글 UPDATE
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        assertThat(em.createQuery("SELECT COUNT(e) FROM Enroll e WHERE e.deletedAt IS NOT NULL", Long.class).getSingleResult())
+                .isEqualTo(ROW_COUNT);
+        assertThat(em.createQuery("SELECT COUNT(u) FROM UserChatRoom u WHERE u.deletedAt IS NOT NULL", Long.class).getSingleResult())
+                .isEqualTo(ROW_COUNT);
+    }
+
+    private User createUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .provider(Provider.GOOGLE)
+                .providerId("google_" + email)
+                .gender('M')
+                .nickName(nickname)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .club(club)
+                .profileImageUrl("default.jpg")
+                .allAlarm('Y').chatAlarm('Y').enrollAlarm('Y').eventAlarm('Y')
+                .fcmToken("token_" + email)
+                .authority(Authority.ROLE_USER)
+                .isReported(false)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.back.catchmate.global.config;
+
+import com.back.catchmate.domain.club.entity.Club;
+import com.back.catchmate.domain.club.repository.ClubRepository;
+import com.back.catchmate.domain.game.entity.Game;
+import com.back.catchmate.domain.game.repository.GameRepository;
+import com.back.catchmate.domain.notice.entity.Notice;
+import com.back.catchmate.domain.notice.repository.NoticeRepository;
+import com.back.catchmate.domain.user.entity.Authority;
+import com.back.catchmate.domain.user.entity.Provider;
+import com.back.catchmate.domain.user.entity.User;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 캐시는 트랜잭션(세션)을 넘어 공유되므로 트랜잭션 없이 실제 커밋으로 검증
+@ActiveProfiles("test")
+@SpringBootTest
+class SecondLevelCacheTest {
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private GameRepository gameRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private NoticeRepository noticeRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Club club;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        club = clubRepository.save(Club.builder()
+                .name("KIA Tigers")
+                .homeStadium("Champions Field")
+                .region("Gwangju")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        noticeRepository.deleteAllInBatch();
+        gameRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        clubRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("구단과 경기는 처음 한 번만 조회하고 이후에는 2차 캐시에서 읽는다")
+    void findById_GameAndClubCached() {
+        // given
+        Game game = gameRepository.save(createGame());
+        evictAll();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> loadGameWithClub(game.getId()));
+        long firstStatementCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> loadGameWithClub(game.getId()));
+
+        // then
+        assertThat(firstStatementCount).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(JpaConfig.GAME_CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(JpaConfig.CLUB_CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("경기를 수정하면 캐시 항목이 무효화되어 다음 조회에서 변경된 일정을 읽는다")
+    void updateGame_EvictsCachedGame() {
+        // given
+        Game game = gameRepository.save(createGame());
+        LocalDateTime changedStartDate = LocalDateTime.now().plusDays(2).withNano(0);
+        transactionTemplate.executeWithoutResult(status -> loadGameWithClub(game.getId()));
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                gameRepository.findById(game.getId()).orElseThrow().updateGame(club, club, changedStartDate));
+
+        // then
+        statistics.clear();
+        LocalDateTime gameStartDate = transactionTemplate.execute(status ->
+                gameRepository.findById(game.getId()).orElseThrow().getGameStartDate());
+        assertThat(gameStartDate).isEqualTo(changedStartDate);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("공지사항은 단건과 목록 모두 처음 한 번만 조회하고 이후에는 2차 캐시에서 읽는다")
+    void findNotices_NoticeAndListCached() {
+        // given
+        User writer = userRepository.save(createUser());
+        Notice notice = noticeRepository.save(createNotice(writer, "첫 번째 공지"));
+        noticeRepository.save(createNotice(writer, "두 번째 공지"));
+        evictAll();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> noticeRepository.findById(notice.getId()).orElseThrow());
+        transactionTemplate.executeWithoutResult(status -> noticeRepository.findAllByDeletedAtIsNull(PageRequest.of(0, 10)));
+        long firstStatementCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> noticeRepository.findById(notice.getId()).orElseThrow());
+        int noticeCount = transactionTemplate.execute(status ->
+                noticeRepository.findAllByDeletedAtIsNull(PageRequest.of(0, 10)).getNumberOfElements());
+
+        // then
+        assertThat(firstStatementCount).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(noticeCount).isEqualTo(2);
+        assertThat(statistics.getDomainDataRegionStatistics(JpaConfig.NOTICE_CACHE_REGION).getHitCount()).isGreaterThanOrEqualTo(1);
+        assertThat(statistics.getQueryRegionStatistics(JpaConfig.NOTICE_LIST_CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스에서 공지사항을 추가하면 캐시된 목록이 무효화되어 DB 에서 다시 조회한다")
+    void saveNotice_InvalidatesCachedList() {
+        // given
+        User writer = userRepository.save(createUser());
+        noticeRepository.save(createNotice(writer, "첫 번째 공지"));
+        transactionTemplate.executeWithoutResult(status -> noticeRepository.findAllByDeletedAtIsNull(PageRequest.of(0, 10)));
+
+        // when
+        noticeRepository.save(createNotice(writer, "두 번째 공지"));
+
+        // then
+        statistics.clear();
+        int noticeCount = transactionTemplate.execute(status ->
+                noticeRepository.findAllByDeletedAtIsNull(PageRequest.of(0, 10)).getNumberOfElements());
+        assertThat(noticeCount).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getQueryRegionStatistics(JpaConfig.NOTICE_LIST_CACHE_REGION).getHitCount()).isZero();
+    }
+
+    // --- Helper Methods ---
+    private void loadGameWithClub(Long gameId) {
+        Game game = gameRepository.findById(gameId).orElseThrow();
+        game.getHomeClub().getName();
+    }
+
+    private Game createGame() {
+        return Game.builder()
+                .homeClub(club)
+                .awayClub(club)
+                .gameStartDate(LocalDateTime.now().plusDays(1))
+                .location("Gwangju")
+                .build();
+    }
+
+    private void evictAll() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        statistics.clear();
+    }
+
+    private Notice createNotice(User writer, String title) {
+        return Notice.builder()
+                .user(writer)
+                .title(title)
+                .content("공지 내용")
+                .build();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .email("admin@test.com")
+                .provider(Provider.GOOGLE)
+                .providerId("google_admin@test.com")
+                .gender('M')
+                .nickName("admin")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .club(club)
+                .profileImageUrl("default.jpg")
+                .allAlarm('Y').chatAlarm('Y').enrollAlarm('Y').eventAlarm('Y')
+                .fcmToken("token_admin")
+                .authority(Authority.ROLE_ADMIN)
+                .isReported(false)
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.back.catchmate.global.handler;
 
+import com.back.catchmate.domain.chat.service.ChatRoomMembershipCache;
 import com.back.catchmate.domain.chat.service.ChatSessionService;
+import com.back.catchmate.global.error.ErrorCode;
 import com.back.catchmate.global.error.exception.BaseException;
 import com.back.catchmate.global.jwt.JwtService;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +43,9 @@ class ChatPreHandlerTest {
     @Mock
     private ChatSessionService chatSessionService;
 
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
     @Mock
     private MessageChannel channel;
 
@@ -79,6 +84,7 @@ class ChatPreHandlerTest {
 
         // 2. 서비스 호출 검증
         verify(chatSessionService).userJoined(CHAT_ROOM_ID, USER_ID);
+        verify(chatRoomMembershipCache).load(USER_ID);
     }
 
     @Test
@@ -145,6 +151,7 @@ class ChatPreHandlerTest {
 
         // then
         verify(chatSessionService).userLeft(CHAT_ROOM_ID, USER_ID);
+        verify(chatRoomMembershipCache).evict(USER_ID);
     }
 
     @Test
@@ -181,4 +188,93 @@ class ChatPreHandlerTest {
         verify(chatSessionService, never()).userJoined(anyLong(), anyLong());
         verify(chatSessionService, never()).userLeft(anyLong(), anyLong());
     }
+
+    @Test
+    @DisplayName("SUBSCRIBE 시 참여중인 채팅방이면 메시지를 그대로 반환한다")
+    void preSend_Subscribe_Member_Success() {
+        // given
+        Message<?> message = createMessageWithSession(StompCommand.SUBSCRIBE, "/topic/chat." + CHAT_ROOM_ID);
+        given(chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID)).willReturn(true);
+
+        // when
+        Message<?> result = chatPreHandler.preSend(message, channel);
+
+        // then
+        assertThat(result).isEqualTo(message);
+        verify(chatRoomMembershipCache).isMember(USER_ID, CHAT_ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE 시 참여하지 않은 채팅방이면 예외가 발생한다")
+    void preSend_Subscribe_NotMember_ThrowsException() {
+        // given
+        Message<?> message = createMessageWithSession(StompCommand.SUBSCRIBE, "/topic/chat." + CHAT_ROOM_ID);
+        given(chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> chatPreHandler.preSend(message, channel))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.CHATROOM_ACCESS_DENIED.getMessage());
+    }
+
+    @Test
+    @DisplayName("SEND 시 참여하지 않은 채팅방이면 예외가 발생한다")
+    void preSend_Send_NotMember_ThrowsException() {
+        // given
+        Message<?> message = createMessageWithSession(StompCommand.SEND, "/app/chat." + CHAT_ROOM_ID);
+        given(chatRoomMembershipCache.isMember(USER_ID, CHAT_ROOM_ID)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> chatPreHandler.preSend(message, channel))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.CHATROOM_ACCESS_DENIED.getMessage());
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE 시 채팅방 경로가 아니면 권한 검사를 하지 않는다")
+    void preSend_Subscribe_OtherDestination() {
+        // given
+        Message<?> message = createMessageWithSession(StompCommand.SUBSCRIBE, "/topic/chatList");
+
+        // when
+        Message<?> result = chatPreHandler.preSend(message, channel);
+
+        // then
+        assertThat(result).isEqualTo(message);
+        verify(chatRoomMembershipCache, never()).isMember(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE 시 본인의 배지 경로는 구독할 수 있다")
+    void preSend_Subscribe_OwnBadge_Success() {
+        // given
+        Message<?> message = createMessageWithSession(StompCommand.SUBSCRIBE, "/topic/badge." + USER_ID);
+
+        // when
+        Message<?> result = chatPreHandler.preSend(message, channel);
+
+        // then
+        assertThat(result).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE 시 다른 사용자의 배지 경로면 예외가 발생한다")
+    void preSend_Subscribe_OtherBadge_ThrowsException() {
+        // given
+        Message<?> message = createMessageWithSession(StompCommand.SUBSCRIBE, "/topic/badge.2");
+
+        // when & then
+        assertThatThrownBy(() -> chatPreHandler.preSend(message, channel))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.FORBIDDEN_ACCESS.getMessage());
+    }
+
+    private Message<?> createMessageWithSession(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put("userId", USER_ID);
+        accessor.setSessionAttributes(sessionAttributes);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
 }
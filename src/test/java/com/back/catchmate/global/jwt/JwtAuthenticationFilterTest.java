@@ -3,7 +3,6 @@ package com.back.catchmate.global.jwt;
 import com.back.catchmate.domain.club.entity.Club;
 import com.back.catchmate.domain.user.entity.Authority;
 import com.back.catchmate.domain.user.entity.User;
-import com.back.catchmate.domain.user.repository.UserRepository;
 import com.back.catchmate.global.error.ErrorCode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -38,7 +37,7 @@ class JwtAuthenticationFilterTest {
     private JwtService jwtService;
 
     @Mock
-    private UserRepository userRepository;
+    private PrincipalCache principalCache;
 
     @Mock
     private FilterChain filterChain;
@@ -79,7 +78,7 @@ class JwtAuthenticationFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         given(jwtService.parseJwtToken("valid_token")).willReturn(user.getId());
-        given(userRepository.findByIdAndDeletedAtIsNull(user.getId())).willReturn(Optional.of(user));
+        given(principalCache.getAuthority(user.getId())).willReturn(Optional.of(user.getAuthority()));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -88,6 +87,7 @@ class JwtAuthenticationFilterTest {
         // 1. SecurityContext에 인증 객체가 설정되었는지 확인 (상태 검증)
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
         assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(user.getId());
+        assertThat(request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE)).isEqualTo(user.getId());
 
         // 2. 다음 필터가 호출되었는지 확인 (행위 검증)
         verify(filterChain).doFilter(request, response);
@@ -123,7 +123,7 @@ class JwtAuthenticationFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         given(jwtService.parseJwtToken("user_token")).willReturn(user.getId());
-        given(userRepository.findByIdAndDeletedAtIsNull(user.getId())).willReturn(Optional.of(user));
+        given(principalCache.getAuthority(user.getId())).willReturn(Optional.of(user.getAuthority()));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -149,7 +149,7 @@ class JwtAuthenticationFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         given(jwtService.parseJwtToken("admin_token")).willReturn(admin.getId());
-        given(userRepository.findByIdAndDeletedAtIsNull(admin.getId())).willReturn(Optional.of(admin));
+        given(principalCache.getAuthority(admin.getId())).willReturn(Optional.of(admin.getAuthority()));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -195,7 +195,7 @@ class JwtAuthenticationFilterTest {
 
         given(jwtService.parseJwtToken(anyString())).willReturn(999L);
         // DB 조회 실패 (Optional.empty)
-        given(userRepository.findByIdAndDeletedAtIsNull(999L)).willReturn(Optional.empty());
+        given(principalCache.getAuthority(999L)).willReturn(Optional.empty());
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -0,0 +1,127 @@
+package com.back.catchmate.global.jwt;
+
+import com.back.catchmate.global.error.ErrorCode;
+import com.back.catchmate.global.error.exception.BaseException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+    private static final String SECRET_KEY = "test-secret-key-must-be-long-enough-for-security-algorithms";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = createJwtService(SECRET_KEY, 3600000L);
+    }
+
+    @Test
+    @DisplayName("발급한 액세스 토큰을 파싱하면 사용자 ID를 반환한다")
+    void parseJwtToken_Success() {
+        // given
+        String accessToken = jwtService.createAccessToken(1L);
+
+        // when
+        Long userId = jwtService.parseJwtToken(accessToken);
+
+        // then
+        assertThat(userId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("이전 방식(Base64 문자열 키)으로 서명된 토큰도 그대로 파싱한다")
+    void parseJwtToken_LegacyToken() {
+        // given
+        String legacyToken = "Bearer " + Jwts.builder()
+                .claim("id", 1)
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(SignatureAlgorithm.HS256, Base64.getEncoder().encodeToString(SECRET_KEY.getBytes()))
+                .compact();
+
+        // when
+        Long userId = jwtService.parseJwtToken(legacyToken);
+
+        // then
+        assertThat(userId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 캐시에 있는 토큰과 무관하게 INVALID_TOKEN 예외를 던진다")
+    void parseJwtToken_Fail_InvalidSignature() {
+        // given
+        JwtService otherJwtService = createJwtService("other-secret-key-must-be-long-enough-for-security-algorithms", 3600000L);
+        String forgedToken = otherJwtService.createAccessToken(1L);
+        jwtService.parseJwtToken(jwtService.createAccessToken(1L));
+
+        // when & then
+        assertThatThrownBy(() -> jwtService.parseJwtToken(forgedToken))
+                .isInstanceOf(BaseException.class)
+                .extracting("message")
+                .isEqualTo(ErrorCode.INVALID_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 INVALID_TOKEN 예외를 던진다")
+    void parseJwtToken_Fail_Expired() {
+        // given
+        JwtService expiredJwtService = createJwtService(SECRET_KEY, -1000L);
+        String expiredToken = expiredJwtService.createAccessToken(1L);
+
+        // when & then
+        assertThatThrownBy(() -> jwtService.parseJwtToken(expiredToken))
+                .isInstanceOf(BaseException.class)
+                .extracting("message")
+                .isEqualTo(ErrorCode.INVALID_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 만료 시각이 지나면 다시 검증하여 INVALID_TOKEN 예외를 던진다")
+    void parseJwtToken_CachedTokenExpired() throws InterruptedException {
+        // given
+        JwtService shortLivedJwtService = createJwtService(SECRET_KEY, 1000L);
+        String accessToken = shortLivedJwtService.createAccessToken(1L);
+        assertThat(shortLivedJwtService.parseJwtToken(accessToken)).isEqualTo(1L);
+
+        // when
+        Thread.sleep(1100);
+
+        // then
+        assertThatThrownBy(() -> shortLivedJwtService.parseJwtToken(accessToken))
+                .isInstanceOf(BaseException.class)
+                .extracting("message")
+                .isEqualTo(ErrorCode.INVALID_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("Bearer 접두사가 없거나 형식이 잘못된 토큰은 INVALID_TOKEN 예외를 던진다")
+    void parseJwtToken_Fail_Malformed() {
+        // when & then
+        assertThatThrownBy(() -> jwtService.parseJwtToken("abc"))
+                .isInstanceOf(BaseException.class);
+        assertThatThrownBy(() -> jwtService.parseJwtToken("Bearer abc.def.ghi"))
+                .isInstanceOf(BaseException.class);
+    }
+
+    // --- Helper Methods ---
+    private JwtService createJwtService(String secretKey, Long expiration) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secretKey", secretKey);
+        ReflectionTestUtils.setField(service, "accessTokenExpirationPeriod", expiration);
+        ReflectionTestUtils.setField(service, "refreshTokenExpirationPeriod", expiration);
+        ReflectionTestUtils.setField(service, "ACCESS_TOKEN_SUBJECT", "AccessToken");
+        ReflectionTestUtils.setField(service, "REFRESH_TOKEN_SUBJECT", "RefreshToken");
+        ReflectionTestUtils.setField(service, "claimsCacheMaxEntries", 100);
+        service.init();
+        return service;
+    }
+}
@@ -13,8 +13,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.context.request.NativeWebRequest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,4 +59,18 @@ class JwtValidateArgumentResolverTest {
                 .extracting("message")
                 .isEqualTo(ErrorCode.INVALID_ACCESS_TOKEN.getMessage()); //
     }
+
+    @Test
+    @DisplayName("resolveArgument - 인증 필터가 저장한 userId가 있으면 토큰을 다시 파싱하지 않는다")
+    void resolveArgument_Success_FromRequestAttribute() throws Exception {
+        // given
+        when(mockRequest.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE)).thenReturn(10L);
+
+        // when
+        Object result = resolver.resolveArgument(methodParameter, null, webRequest, null);
+
+        // then
+        assertThat(result).isEqualTo(10L);
+        verify(jwtService, never()).parseJwtToken(anyString());
+    }
 }
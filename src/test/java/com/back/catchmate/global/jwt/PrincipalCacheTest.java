@@ -0,0 +1,107 @@
+package com.back.catchmate.global.jwt;
+
+import com.back.catchmate.domain.user.entity.Authority;
+import com.back.catchmate.domain.user.entity.User;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @InjectMocks
+    private PrincipalCache principalCache;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(principalCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(principalCache, "maxEntries", 100);
+        principalCache.init();
+
+        user = User.builder()
+                .id(1L)
+                .email("user@test.com")
+                .authority(Authority.ROLE_USER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 권한은 TTL 동안 한 번만 조회한다")
+    void getAuthority_CacheHit() {
+        // given
+        given(userRepository.findByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(user));
+
+        // when
+        principalCache.getAuthority(1L);
+        Optional<Authority> authority = principalCache.getAuthority(1L);
+
+        // then
+        assertThat(authority).contains(Authority.ROLE_USER);
+        verify(userRepository, times(1)).findByIdAndDeletedAtIsNull(1L);
+    }
+
+    @Test
+    @DisplayName("탈퇴했거나 존재하지 않는 사용자도 캐싱하여 반복 조회하지 않는다")
+    void getAuthority_NegativeCache() {
+        // given
+        given(userRepository.findByIdAndDeletedAtIsNull(999L)).willReturn(Optional.empty());
+
+        // when
+        principalCache.getAuthority(999L);
+        Optional<Authority> authority = principalCache.getAuthority(999L);
+
+        // then
+        assertThat(authority).isEmpty();
+        verify(userRepository, times(1)).findByIdAndDeletedAtIsNull(999L);
+    }
+
+    @Test
+    @DisplayName("무효화된 사용자는 다음 요청에서 다시 조회한다")
+    void evict_ReloadOnNextRequest() {
+        // given
+        given(userRepository.findByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(user), Optional.empty());
+        principalCache.getAuthority(1L);
+
+        // when
+        principalCache.evict(1L);
+        Optional<Authority> authority = principalCache.getAuthority(1L);
+
+        // then
+        assertThat(authority).isEmpty();
+        verify(userRepository, times(2)).findByIdAndDeletedAtIsNull(1L);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회한다")
+    void getAuthority_Expired() {
+        // given
+        ReflectionTestUtils.setField(principalCache, "ttlSeconds", 0L);
+        principalCache.init();
+        given(userRepository.findByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(user));
+
+        // when
+        principalCache.getAuthority(1L);
+        principalCache.getAuthority(1L);
+
+        // then
+        verify(userRepository, times(2)).findByIdAndDeletedAtIsNull(1L);
+    }
+}
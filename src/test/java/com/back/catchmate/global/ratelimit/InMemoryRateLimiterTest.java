@@ -0,0 +1,154 @@
+package com.back.catchmate.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimiterTest {
+
+    @Test
+    @DisplayName("버킷 크기만큼 연속 요청을 허용하고 이후 요청은 거절한다")
+    void tryAcquire_ExceedCapacity() {
+        // given
+        InMemoryRateLimiter rateLimiter = createRateLimiter(new MutableClock());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("board.create:1", 3, 6)).isTrue();
+        }
+
+        // then
+        assertThat(rateLimiter.tryAcquire("board.create:1", 3, 6)).isFalse();
+        // 다른 사용자의 버킷에는 영향을 주지 않음
+        assertThat(rateLimiter.tryAcquire("board.create:2", 3, 6)).isTrue();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 충전 속도만큼 다시 허용한다")
+    void tryAcquire_Refill() {
+        // given
+        MutableClock clock = new MutableClock();
+        InMemoryRateLimiter rateLimiter = createRateLimiter(clock);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("board.create:1", 3, 6);
+        }
+
+        // when
+        clock.advance(Duration.ofSeconds(10)); // 분당 6개 -> 10초에 1개 충전
+
+        // then
+        assertThat(rateLimiter.tryAcquire("board.create:1", 3, 6)).isTrue();
+        assertThat(rateLimiter.tryAcquire("board.create:1", 3, 6)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 버킷 크기보다 많이 허용하지 않는다")
+    void tryAcquire_Concurrent() throws InterruptedException {
+        // given
+        InMemoryRateLimiter rateLimiter = createRateLimiter(new MutableClock());
+        int threadCount = 32;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger allowedCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (rateLimiter.tryAcquire("chat.send:1", 10, 60)) {
+                        allowedCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(allowedCount.get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("요청이 없던 버킷은 유휴 시간이 지나면 제거되고 다시 요청하면 가득 찬 버킷으로 시작한다")
+    void tryAcquire_IdleBucketExpired() {
+        // given
+        MutableClock clock = new MutableClock();
+        InMemoryRateLimiter rateLimiter = createRateLimiter(clock);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("board.create:1", 3, 6);
+        }
+
+        // when
+        clock.advance(Duration.ofSeconds(601));
+        rateLimiter.bucketMap.cleanUp();
+
+        // then
+        assertThat(rateLimiter.bucketMap.estimatedSize()).isZero();
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("board.create:1", 3, 6)).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire("board.create:1", 3, 6)).isFalse();
+    }
+
+    @Test
+    @DisplayName("버킷 수가 최대 개수를 넘으면 일부 버킷을 제거하여 최대 개수를 유지한다")
+    void tryAcquire_ExceedMaxBuckets() {
+        // given
+        InMemoryRateLimiter rateLimiter = new InMemoryRateLimiter(new MutableClock());
+        ReflectionTestUtils.setField(rateLimiter, "maxBuckets", 10);
+        rateLimiter.init();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.tryAcquire("board.create:" + i, 3, 6);
+        }
+        rateLimiter.bucketMap.cleanUp();
+
+        // then
+        assertThat(rateLimiter.bucketMap.estimatedSize()).isLessThanOrEqualTo(10);
+    }
+
+    private InMemoryRateLimiter createRateLimiter(Clock clock) {
+        InMemoryRateLimiter rateLimiter = new InMemoryRateLimiter(clock);
+        rateLimiter.init();
+        return rateLimiter;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.now();
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.back.catchmate.global.ratelimit;
+
+import com.back.catchmate.global.error.ErrorCode;
+import com.back.catchmate.global.error.exception.BaseException;
+import com.back.catchmate.global.jwt.JwtValidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LimitedHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        InMemoryRateLimiter rateLimiter = new InMemoryRateLimiter();
+        rateLimiter.init();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new LimitedHandler());
+        proxyFactory.addAspect(new RateLimitAspect(rateLimiter, meterRegistry));
+        handler = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("@JwtValidation 사용자 ID 기준으로 한도를 넘으면 TOO_MANY_REQUESTS 예외를 던진다")
+    void checkRateLimit_Mvc() {
+        // given
+        handler.create(1L);
+        handler.create(1L);
+
+        // when & then
+        assertThatThrownBy(() -> handler.create(1L))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.TOO_MANY_REQUESTS.getMessage());
+        handler.create(2L); // 다른 사용자는 허용
+        assertThat(meterRegistry.counter("ratelimit.rejected", "name", "test.create").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("STOMP 핸들러는 세션 속성의 사용자 ID 기준으로 한도를 적용한다")
+    void checkRateLimit_Stomp() {
+        // given
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put("userId", 1L);
+        accessor.setSessionAttributes(sessionAttributes);
+        handler.send(accessor);
+        handler.send(accessor);
+
+        // when & then
+        assertThatThrownBy(() -> handler.send(accessor))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.TOO_MANY_REQUESTS.getMessage());
+    }
+
+    static class LimitedHandler {
+        @RateLimit(name = "test.create", capacity = 2, refillPerMinute = 1)
+        public void create(@JwtValidation Long userId) {
+        }
+
+        @RateLimit(name = "test.send", capacity = 2, refillPerMinute = 1)
+        public void send(SimpMessageHeaderAccessor headerAccessor) {
+        }
+    }
+}
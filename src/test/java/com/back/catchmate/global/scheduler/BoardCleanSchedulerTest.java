@@ -2,6 +2,7 @@ package com.back.catchmate.global.scheduler;
 
 import com.back.catchmate.domain.board.entity.Board;
 import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.board.service.BoardDeletionService;
 import com.back.catchmate.domain.chat.entity.ChatRoom;
 import com.back.catchmate.domain.chat.repository.ChatMessageRepository;
 import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
@@ -15,27 +16,31 @@ import com.back.catchmate.domain.user.entity.User;
 import com.back.catchmate.domain.user.repository.UserRepository;
 import com.back.catchmate.global.config.JpaConfig;
 import com.back.catchmate.global.config.QueryDslConfig;
-import jakarta.persistence.EntityManager;
+import com.back.catchmate.global.scheduler.entity.JobCheckpoint;
+import com.back.catchmate.global.scheduler.repository.JobCheckpointRepository;
+import com.back.catchmate.global.scheduler.repository.JobRunHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willCallRealMethod;
 
+// 청크마다 커밋되는지 확인하기 위해 트랜잭션 없이 실제 커밋으로 검증
 @SpringBootTest
-@Transactional
 @ActiveProfiles("test")
 @Import({QueryDslConfig.class, JpaConfig.class})
 class BoardCleanSchedulerTest {
@@ -46,21 +51,17 @@ class BoardCleanSchedulerTest {
     @Autowired private ClubRepository clubRepository;
     @Autowired private GameRepository gameRepository;
     @Autowired private ChatRoomRepository chatRoomRepository;
-    @Autowired private EntityManager em; // [필수] 영속성 컨텍스트 제어용
+    @Autowired private JobCheckpointRepository jobCheckpointRepository;
+    @Autowired private JobRunHistoryRepository jobRunHistoryRepository;
 
     @MockBean private ChatMessageRepository chatMessageRepository;
+    @SpyBean private BoardDeletionService boardDeletionService;
 
     private User user;
     private Club club;
 
     @BeforeEach
     void setUp() {
-        // 데이터 격리
-        chatRoomRepository.deleteAll();
-        boardRepository.deleteAll();
-        userRepository.deleteAll();
-        clubRepository.deleteAll();
-
         club = clubRepository.save(Club.builder()
                 .name("KIA Tigers")
                 .homeStadium("Champions Field")
@@ -70,6 +71,20 @@ class BoardCleanSchedulerTest {
         user = userRepository.save(createUser("user@test.com", "User", club));
     }
 
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(boardCleanScheduler, "chunkSize", 500);
+
+        // 커밋된 데이터를 외래 키 순서대로 삭제
+        jobRunHistoryRepository.deleteAllInBatch();
+        jobCheckpointRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        gameRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        clubRepository.deleteAllInBatch();
+    }
+
     @Test
     @DisplayName("오래된 게시글 삭제 - 경기일로부터 7일이 지난 게시글과 채팅 데이터는 삭제되어야 한다")
     void softDeleteOldBoardsAndChats_Success() {
@@ -78,14 +93,13 @@ class BoardCleanSchedulerTest {
         LocalDateTime oldDate = LocalDateTime.now().minusDays(8);
         Game oldGame = gameRepository.save(createGame(club, oldDate));
         Board oldBoard = createAndSaveBoard("오래된 글", user, club, oldGame);
-        // 이제 createAndSaveBoard에서 refresh를 하므로 getChatRoom()이 null이 아님
-        Long oldChatRoomId = oldBoard.getChatRoom().getId();
+        Long oldChatRoomId = createAndSaveChatRoom(oldBoard).getId();
 
         // 2. 유지 대상 게시글 (내일 경기)
         LocalDateTime futureDate = LocalDateTime.now().plusDays(1);
         Game futureGame = gameRepository.save(createGame(club, futureDate));
         Board recentBoard = createAndSaveBoard("최신 글", user, club, futureGame);
-        Long recentChatRoomId = recentBoard.getChatRoom().getId();
+        Long recentChatRoomId = createAndSaveChatRoom(recentBoard).getId();
 
         // when
         boardCleanScheduler.softDeleteOldBoardsAndChats();
@@ -99,9 +113,95 @@ class BoardCleanSchedulerTest {
         Board aliveBoard = boardRepository.findById(recentBoard.getId()).orElseThrow();
         assertThat(aliveBoard.getDeletedAt()).isNull();
 
-        // 3. 채팅 메시지 삭제 로직 호출 검증
-        verify(chatMessageRepository, times(1)).deleteAllByChatRoomId(oldChatRoomId);
-        verify(chatMessageRepository, times(0)).deleteAllByChatRoomId(recentChatRoomId);
+        // 3. 채팅방 soft delete 확인
+        assertThat(chatRoomRepository.findById(oldChatRoomId).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(chatRoomRepository.findById(recentChatRoomId).orElseThrow().getDeletedAt()).isNull();
+
+        // 4. 체크포인트 완료 처리 확인
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById("board-clean").orElseThrow();
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.getLastProcessedId()).isEqualTo(oldBoard.getId());
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오래된 게시글 삭제 - 완료되지 않은 체크포인트가 있으면 마지막 처리 위치 이후부터 재개한다")
+    void softDeleteOldBoardsAndChats_ResumeFromCheckpoint() {
+        // given
+        LocalDateTime oldDate = LocalDateTime.now().minusDays(8);
+        Game oldGame = gameRepository.save(createGame(club, oldDate));
+        Board processedBoard = createAndSaveBoard("이미 처리된 글", user, club, oldGame);
+        Board remainingBoard = createAndSaveBoard("남은 글", user, club, oldGame);
+
+        // 이전 실행이 첫 번째 게시글까지 커밋한 뒤 중단된 상황
+        JobCheckpoint checkpoint = JobCheckpoint.start("board-clean", LocalDateTime.now().minusDays(7));
+        checkpoint.advance(processedBoard.getId(), 1);
+        jobCheckpointRepository.save(checkpoint);
+
+        // when
+        boardCleanScheduler.softDeleteOldBoardsAndChats();
+
+        // then
+        assertThat(boardRepository.findById(processedBoard.getId()).orElseThrow().getDeletedAt()).isNull();
+        assertThat(boardRepository.findById(remainingBoard.getId()).orElseThrow().getDeletedAt()).isNotNull();
+
+        JobCheckpoint resumed = jobCheckpointRepository.findById("board-clean").orElseThrow();
+        assertThat(resumed.isCompleted()).isTrue();
+        assertThat(resumed.getProcessedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("오래된 게시글 삭제 - 뒤 청크가 실패해도 앞서 커밋된 청크는 유지되고 다음 실행에서 실패한 청크부터 재개한다")
+    void softDeleteOldBoardsAndChats_LaterChunkFails_KeepsCommittedChunks() {
+        // given
+        ReflectionTestUtils.setField(boardCleanScheduler, "chunkSize", 1);
+        Game oldGame = gameRepository.save(createGame(club, LocalDateTime.now().minusDays(8)));
+        Board firstBoard = createAndSaveBoard("첫 번째 글", user, club, oldGame);
+        Board secondBoard = createAndSaveBoard("두 번째 글", user, club, oldGame);
+
+        // 첫 번째 청크는 정상 처리하고 두 번째 청크에서 실패
+        willCallRealMethod()
+                .willThrow(new IllegalStateException("chunk failed"))
+                .willCallRealMethod()
+                .given(boardDeletionService).softDeleteBoards(anyList());
+
+        // when
+        boardCleanScheduler.softDeleteOldBoardsAndChats();
+
+        // then
+        assertThat(boardRepository.findById(firstBoard.getId()).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(boardRepository.findById(secondBoard.getId()).orElseThrow().getDeletedAt()).isNull();
+
+        JobCheckpoint failed = jobCheckpointRepository.findById("board-clean").orElseThrow();
+        assertThat(failed.isCompleted()).isFalse();
+        assertThat(failed.getLastProcessedId()).isEqualTo(firstBoard.getId());
+        assertThat(failed.getProcessedCount()).isEqualTo(1);
+
+        // when (재실행)
+        boardCleanScheduler.softDeleteOldBoardsAndChats();
+
+        // then
+        assertThat(boardRepository.findById(secondBoard.getId()).orElseThrow().getDeletedAt()).isNotNull();
+        JobCheckpoint resumed = jobCheckpointRepository.findById("board-clean").orElseThrow();
+        assertThat(resumed.isCompleted()).isTrue();
+        assertThat(resumed.getProcessedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("오래된 게시글 삭제 - 삭제 대상이 없으면 아무것도 삭제하지 않고 완료 처리한다")
+    void softDeleteOldBoardsAndChats_NoTarget() {
+        // given
+        Game futureGame = gameRepository.save(createGame(club, LocalDateTime.now().plusDays(1)));
+        Board recentBoard = createAndSaveBoard("최신 글", user, club, futureGame);
+
+        // when
+        boardCleanScheduler.softDeleteOldBoardsAndChats();
+
+        // then
+        assertThat(boardRepository.findById(recentBoard.getId()).orElseThrow().getDeletedAt()).isNull();
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById("board-clean").orElseThrow();
+        assertThat(checkpoint.isCompleted()).isTrue();
+        assertThat(checkpoint.getProcessedCount()).isZero();
     }
 
     // --- Helper Methods ---
@@ -146,19 +246,14 @@ class BoardCleanSchedulerTest {
                 .liftUpDate(LocalDateTime.now())
                 .build();
 
-        board = boardRepository.save(board);
+        return boardRepository.save(board);
+    }
 
-        ChatRoom chatRoom = ChatRoom.builder()
+    private ChatRoom createAndSaveChatRoom(Board board) {
+        return chatRoomRepository.save(ChatRoom.builder()
                 .board(board)
                 .participantCount(1)
                 .userChatRoomList(new ArrayList<>())
-                .build();
-        chatRoomRepository.save(chatRoom);
-
-        // [핵심 수정] DB에 저장된 ChatRoom 관계를 Board 객체에 반영
-        em.flush();
-        em.refresh(board);
-
-        return board;
+                .build());
     }
 }
@@ -0,0 +1,141 @@
+package com.back.catchmate.global.scheduler;
+
+import com.back.catchmate.domain.board.entity.Board;
+import com.back.catchmate.domain.board.repository.BoardRepository;
+import com.back.catchmate.domain.chat.entity.ChatRoom;
+import com.back.catchmate.domain.chat.repository.ChatRoomRepository;
+import com.back.catchmate.domain.club.entity.Club;
+import com.back.catchmate.domain.club.repository.ClubRepository;
+import com.back.catchmate.domain.game.entity.Game;
+import com.back.catchmate.domain.game.repository.GameRepository;
+import com.back.catchmate.domain.user.entity.Authority;
+import com.back.catchmate.domain.user.entity.Provider;
+import com.back.catchmate.domain.user.entity.User;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class DeletedUserBoardSweepSchedulerTest {
+
+    @Autowired private DeletedUserBoardSweepScheduler deletedUserBoardSweepScheduler;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private ChatRoomRepository chatRoomRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private GameRepository gameRepository;
+    @Autowired private EntityManager em;
+
+    private Club club;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        club = clubRepository.save(Club.builder()
+                .name("KIA Tigers")
+                .homeStadium("Champions Field")
+                .region("Gwangju")
+                .build());
+
+        game = gameRepository.save(Game.builder()
+                .homeClub(club)
+                .awayClub(club)
+                .gameStartDate(LocalDateTime.now().plusDays(1))
+                .location("Gwangju")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(deletedUserBoardSweepScheduler, "chunkSize", 200);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 남은 게시글과 채팅방은 삭제하고 활동 중인 사용자의 게시글은 유지한다")
+    void sweepBoardsOfDeletedUsers_DeletesOnlyBoardsOfDeletedUsers() {
+        // given
+        // 비동기 정리가 유실되어 게시글이 남아 있는 탈퇴 사용자
+        User deletedUser = userRepository.save(createUser("deleted@test.com", "deleted"));
+        Board firstBoard = createAndSaveBoard("남은 글 1", deletedUser);
+        Board secondBoard = createAndSaveBoard("남은 글 2", deletedUser);
+        Long chatRoomId = createAndSaveChatRoom(firstBoard).getId();
+        deletedUser.deleteUser();
+
+        User activeUser = userRepository.save(createUser("active@test.com", "active"));
+        Board activeBoard = createAndSaveBoard("활동 중인 사용자 글", activeUser);
+        em.flush();
+
+        // 청크가 여러 번 나뉘어도 모두 처리
+        ReflectionTestUtils.setField(deletedUserBoardSweepScheduler, "chunkSize", 1);
+
+        // when
+        deletedUserBoardSweepScheduler.sweepBoardsOfDeletedUsers();
+        em.clear();
+
+        // then
+        assertThat(boardRepository.findById(firstBoard.getId()).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(boardRepository.findById(secondBoard.getId()).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(chatRoomRepository.findById(chatRoomId).orElseThrow().getDeletedAt()).isNotNull();
+        assertThat(boardRepository.findById(activeBoard.getId()).orElseThrow().getDeletedAt()).isNull();
+        assertThat(boardRepository.findActiveIdsOfDeletedUsers(0L, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    // --- Helper Methods ---
+    private User createUser(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .provider(Provider.GOOGLE)
+                .providerId("google_" + email)
+                .gender('M')
+                .nickName(nickname)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .club(club)
+                .profileImageUrl("default.jpg")
+                .allAlarm('Y').chatAlarm('Y').enrollAlarm('Y').eventAlarm('Y')
+                .fcmToken("token_" + email)
+                .authority(Authority.ROLE_USER)
+                .isReported(false)
+                .build();
+    }
+
+    private Board createAndSaveBoard(String title, User user) {
+        return boardRepository.save(Board.builder()
+                .title(title)
+                .content("내용")
+                .maxPerson(4)
+                .currentPerson(1)
+                .user(user)
+                .club(club)
+                .game(game)
+                .preferredGender("M")
+                .preferredAgeRange("20s")
+                .isCompleted(true)
+                .liftUpDate(LocalDateTime.now())
+                .build());
+    }
+
+    private ChatRoom createAndSaveChatRoom(Board board) {
+        return chatRoomRepository.save(ChatRoom.builder()
+                .board(board)
+                .participantCount(1)
+                .userChatRoomList(new ArrayList<>())
+                .build());
+    }
+}
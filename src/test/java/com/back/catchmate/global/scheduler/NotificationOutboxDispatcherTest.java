@@ -0,0 +1,206 @@
+package com.back.catchmate.global.scheduler;
+
+import com.back.catchmate.domain.enroll.entity.AcceptStatus;
+import com.back.catchmate.domain.notification.dto.FcmSendResult;
+import com.back.catchmate.domain.notification.entity.NotificationOutbox;
+import com.back.catchmate.domain.notification.entity.OutboxStatus;
+import com.back.catchmate.domain.notification.entity.OutboxType;
+import com.back.catchmate.domain.notification.repository.NotificationOutboxRepository;
+import com.back.catchmate.domain.notification.service.FCMService;
+import com.back.catchmate.domain.notification.service.FcmPushSender;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxDispatcherTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private FCMService fcmService;
+
+    @Mock
+    private FcmPushSender fcmPushSender;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationOutboxDispatcher(notificationOutboxRepository, fcmService, fcmPushSender, userRepository, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "visibilityTimeoutSeconds", 60L);
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseSeconds", 10L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxSeconds", 3600L);
+    }
+
+    @Test
+    @DisplayName("전송에 성공하면 SENT 상태로 변경된다")
+    void dispatch_Success_MarkSent() throws IOException {
+        // given
+        NotificationOutbox outbox = createOutbox(1L, 0);
+        givenDispatchable(outbox);
+        given(fcmService.makeEnrollMessage(any(), any(), any(), any(), any(), any())).willReturn("message");
+        given(fcmPushSender.sendAll(List.of("message"))).willReturn(List.of(FcmSendResult.success()));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(outbox.getAttemptCount()).isEqualTo(1);
+        assertThat(outbox.getSentAt()).isNotNull();
+        assertThat(meterRegistry.counter("notification.outbox.sent").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일시적인 오류(5xx)는 백오프 이후 다시 전송하도록 예약된다")
+    void dispatch_ServerError_Retry() throws IOException {
+        // given
+        NotificationOutbox outbox = createOutbox(1L, 0);
+        givenDispatchable(outbox);
+        given(fcmService.makeEnrollMessage(any(), any(), any(), any(), any(), any())).willReturn("message");
+        given(fcmPushSender.sendAll(List.of("message"))).willReturn(List.of(FcmSendResult.retryable("FCM status 503")));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getNextAttemptAt()).isAfter(before.plusSeconds(4));
+        assertThat(outbox.getLastError()).contains("503");
+        assertThat(meterRegistry.counter("notification.outbox.retried").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수를 넘기면 DEAD 상태로 격리된다")
+    void dispatch_MaxAttempts_MarkDead() throws IOException {
+        // given
+        NotificationOutbox outbox = createOutbox(1L, 2);
+        givenDispatchable(outbox);
+        given(fcmService.makeEnrollMessage(any(), any(), any(), any(), any(), any())).willReturn("message");
+        given(fcmPushSender.sendAll(List.of("message"))).willReturn(List.of(FcmSendResult.retryable("Timeout")));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(outbox.getAttemptCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("notification.outbox.dead").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도해도 성공할 수 없는 오류(4xx)는 바로 DEAD 상태가 된다")
+    void dispatch_ClientError_MarkDeadImmediately() throws IOException {
+        // given
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .id(2L)
+                .idempotencyKey("inquiry-answer:2")
+                .type(OutboxType.INQUIRY)
+                .targetToken("token")
+                .title("title")
+                .body("body")
+                .inquiryId(2L)
+                .status(OutboxStatus.PENDING)
+                .attemptCount(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        givenDispatchable(outbox);
+        given(fcmService.makeInquiryMessage(anyString(), anyString(), anyString(), eq(2L))).willReturn("message");
+        given(fcmPushSender.sendAll(List.of("message"))).willReturn(List.of(FcmSendResult.failed("FCM status 400 INVALID_ARGUMENT")));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(outbox.getAttemptCount()).isEqualTo(1);
+        verify(userRepository, never()).clearFcmTokens(any());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 토큰이면 DEAD 상태가 되고 사용자의 FCM 토큰을 제거한다")
+    void dispatch_Unregistered_ClearToken() throws IOException {
+        // given
+        NotificationOutbox outbox = createOutbox(1L, 0);
+        givenDispatchable(outbox);
+        given(fcmService.makeEnrollMessage(any(), any(), any(), any(), any(), any())).willReturn("message");
+        given(fcmPushSender.sendAll(List.of("message"))).willReturn(List.of(FcmSendResult.unregistered("FCM status 404 UNREGISTERED")));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        verify(userRepository).clearFcmTokens(Set.of("token"));
+    }
+
+    @Test
+    @DisplayName("백오프 시간은 재시도 횟수에 따라 증가하고 최대값을 넘지 않는다")
+    void backoff_Exponential_WithCap() {
+        // when
+        Duration first = dispatcher.backoff(1);
+        Duration third = dispatcher.backoff(3);
+        Duration capped = dispatcher.backoff(30);
+
+        // then
+        assertThat(first).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+        assertThat(third).isBetween(Duration.ofSeconds(20), Duration.ofSeconds(40));
+        assertThat(capped).isBetween(Duration.ofSeconds(1800), Duration.ofSeconds(3600));
+    }
+
+    private void givenDispatchable(NotificationOutbox outbox) {
+        given(notificationOutboxRepository.findDispatchable(eq(OutboxStatus.PENDING), any(), any())).willReturn(List.of(outbox));
+        given(notificationOutboxRepository.findAllById(any())).willReturn(List.of(outbox));
+    }
+
+    private NotificationOutbox createOutbox(Long id, int attemptCount) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .idempotencyKey("enroll-accept:" + id)
+                .type(OutboxType.ENROLL)
+                .targetToken("token")
+                .title("title")
+                .body("body")
+                .boardId(10L)
+                .acceptStatus(AcceptStatus.ACCEPTED)
+                .chatRoomId(20L)
+                .status(OutboxStatus.PENDING)
+                .attemptCount(attemptCount)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,227 @@
+package com.back.catchmate.global.scheduler;
+
+import com.back.catchmate.domain.club.entity.Club;
+import com.back.catchmate.domain.club.repository.ClubRepository;
+import com.back.catchmate.domain.notification.entity.Notification;
+import com.back.catchmate.domain.notification.entity.NotificationOutbox;
+import com.back.catchmate.domain.notification.entity.NotificationRollup;
+import com.back.catchmate.domain.notification.entity.OutboxStatus;
+import com.back.catchmate.domain.notification.entity.OutboxType;
+import com.back.catchmate.domain.notification.repository.NotificationOutboxRepository;
+import com.back.catchmate.domain.notification.repository.NotificationRepository;
+import com.back.catchmate.domain.notification.repository.NotificationRollupRepository;
+import com.back.catchmate.domain.user.entity.Authority;
+import com.back.catchmate.domain.user.entity.Provider;
+import com.back.catchmate.domain.user.entity.User;
+import com.back.catchmate.domain.user.repository.UserRepository;
+import com.back.catchmate.domain.user.service.UnreadBadgeService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class NotificationRetentionSchedulerTest {
+
+    @Autowired private NotificationRetentionScheduler notificationRetentionScheduler;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private NotificationRollupRepository notificationRollupRepository;
+    @Autowired private NotificationOutboxRepository notificationOutboxRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ClubRepository clubRepository;
+    @Autowired private EntityManager em;
+
+    @SpyBean private UnreadBadgeService unreadBadgeService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Club club = clubRepository.save(Club.builder()
+                .name("KIA Tigers")
+                .homeStadium("Champions Field")
+                .region("Gwangju")
+                .build());
+
+        user = userRepository.save(createUser("user@test.com", "user", club));
+    }
+
+    @Test
+    @DisplayName("읽은 지 오래된 알림과 최대 보관 기간이 지난 알림은 사용자별 요약에 합친 뒤 삭제한다")
+    void cleanUpNotifications_CompactOldNotifications() {
+        // given
+        Notification oldRead = createNotification(true, LocalDateTime.now().minusDays(40));
+        Notification oldUnread = createNotification(false, LocalDateTime.now().minusDays(40));
+        Notification expiredUnread = createNotification(false, LocalDateTime.now().minusDays(200));
+        Notification recentRead = createNotification(true, LocalDateTime.now().minusDays(1));
+
+        // when
+        notificationRetentionScheduler.cleanUpNotifications();
+
+        // then
+        assertThat(notificationRepository.findById(oldRead.getId())).isEmpty();
+        assertThat(notificationRepository.findById(expiredUnread.getId())).isEmpty();
+        assertThat(notificationRepository.findById(oldUnread.getId())).isPresent(); // 읽지 않은 알림은 최대 보관 기간까지 유지
+        assertThat(notificationRepository.findById(recentRead.getId())).isPresent();
+
+        NotificationRollup rollup = findRollup();
+        assertThat(rollup.getTotalCount()).isEqualTo(2);
+        assertThat(rollup.getReadCount()).isEqualTo(1);
+        assertThat(rollup.getOldestCreatedAt()).isBefore(LocalDateTime.now().minusDays(199));
+
+        // 함께 삭제된 읽지 않은 알림 1건은 배지에서 차감
+        verify(unreadBadgeService).onNotificationRead(user.getId(), 1);
+    }
+
+    @Test
+    @DisplayName("삭제 후 유예 기간이 지난 알림은 요약 없이 삭제한다")
+    void cleanUpNotifications_PurgeDeletedNotifications() {
+        // given
+        Notification oldDeleted = createNotification(false, LocalDateTime.now().minusDays(10));
+        Notification recentDeleted = createNotification(false, LocalDateTime.now().minusDays(10));
+        markDeletedAt(oldDeleted, LocalDateTime.now().minusDays(8));
+        markDeletedAt(recentDeleted, LocalDateTime.now().minusDays(1));
+
+        // when
+        notificationRetentionScheduler.cleanUpNotifications();
+
+        // then
+        assertThat(notificationRepository.findById(oldDeleted.getId())).isEmpty();
+        assertThat(notificationRepository.findById(recentDeleted.getId())).isPresent();
+        assertThat(notificationRollupRepository.findByUserIdIn(List.of(user.getId()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기존 요약이 있으면 새로 정리한 건수를 누적한다")
+    void cleanUpNotifications_AccumulateRollup() {
+        // given
+        notificationRollupRepository.save(NotificationRollup.builder()
+                .userId(user.getId())
+                .totalCount(5)
+                .readCount(5)
+                .oldestCreatedAt(LocalDateTime.now().minusDays(300))
+                .newestCreatedAt(LocalDateTime.now().minusDays(100))
+                .build());
+        createNotification(true, LocalDateTime.now().minusDays(40));
+
+        // when
+        notificationRetentionScheduler.cleanUpNotifications();
+
+        // then
+        NotificationRollup rollup = findRollup();
+        assertThat(rollup.getTotalCount()).isEqualTo(6);
+        assertThat(rollup.getReadCount()).isEqualTo(6);
+        assertThat(rollup.getNewestCreatedAt()).isAfter(LocalDateTime.now().minusDays(41));
+        verify(unreadBadgeService, never()).onNotificationRead(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("전송이 끝난 아웃박스는 보관 기간이 지나면 삭제하고, 실패한 아웃박스는 더 오래 보관한다")
+    void cleanUpNotifications_PurgeOutbox() {
+        // given
+        NotificationOutbox oldSent = createOutbox("old-sent", OutboxStatus.SENT, LocalDateTime.now().minusDays(8));
+        NotificationOutbox recentSent = createOutbox("recent-sent", OutboxStatus.SENT, LocalDateTime.now().minusDays(1));
+        NotificationOutbox oldDead = createOutbox("old-dead", OutboxStatus.DEAD, LocalDateTime.now().minusDays(31));
+        NotificationOutbox recentDead = createOutbox("recent-dead", OutboxStatus.DEAD, LocalDateTime.now().minusDays(8));
+        NotificationOutbox oldPending = createOutbox("old-pending", OutboxStatus.PENDING, LocalDateTime.now().minusDays(40));
+
+        // when
+        notificationRetentionScheduler.cleanUpNotifications();
+
+        // then
+        assertThat(notificationOutboxRepository.findById(oldSent.getId())).isEmpty();
+        assertThat(notificationOutboxRepository.findById(oldDead.getId())).isEmpty();
+        assertThat(notificationOutboxRepository.findById(recentSent.getId())).isPresent();
+        assertThat(notificationOutboxRepository.findById(recentDead.getId())).isPresent();
+        assertThat(notificationOutboxRepository.findById(oldPending.getId())).isPresent(); // 전송 대기중인 건은 유지
+    }
+
+    // --- Helper Methods ---
+    private NotificationRollup findRollup() {
+        List<NotificationRollup> rollupList = notificationRollupRepository.findByUserIdIn(List.of(user.getId()));
+        assertThat(rollupList).hasSize(1);
+        return rollupList.get(0);
+    }
+
+    private NotificationOutbox createOutbox(String idempotencyKey, OutboxStatus status, LocalDateTime updatedAt) {
+        NotificationOutbox outbox = notificationOutboxRepository.save(NotificationOutbox.builder()
+                .idempotencyKey(idempotencyKey)
+                .type(OutboxType.ENROLL)
+                .targetToken("token")
+                .title("알림")
+                .body("내용")
+                .status(status)
+                .attemptCount(1)
+                .nextAttemptAt(updatedAt)
+                .build());
+        em.flush();
+
+        // updatedAt 은 auditing 으로 채워지므로 직접 변경
+        em.createNativeQuery("UPDATE notification_outbox SET updated_at = :updatedAt WHERE notification_outbox_id = :id")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", outbox.getId())
+                .executeUpdate();
+        em.clear();
+        return outbox;
+    }
+
+    private Notification createNotification(boolean isRead, LocalDateTime createdAt) {
+        Notification notification = notificationRepository.save(Notification.builder()
+                .user(user)
+                .title("알림")
+                .body("내용")
+                .isRead(isRead)
+                .build());
+        em.flush();
+
+        // createdAt 은 auditing 으로 채워지므로 직접 변경
+        em.createNativeQuery("UPDATE notifications SET created_at = :createdAt WHERE notification_id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", notification.getId())
+                .executeUpdate();
+        em.clear();
+        return notification;
+    }
+
+    private void markDeletedAt(Notification notification, LocalDateTime deletedAt) {
+        em.createNativeQuery("UPDATE notifications SET deleted_at = :deletedAt WHERE notification_id = :id")
+                .setParameter("deletedAt", deletedAt)
+                .setParameter("id", notification.getId())
+                .executeUpdate();
+        em.clear();
+    }
+
+    private User createUser(String email, String nickname, Club club) {
+        return User.builder()
+                .email(email)
+                .provider(Provider.GOOGLE)
+                .providerId("google_" + email)
+                .gender('M')
+                .nickName(nickname)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .club(club)
+                .profileImageUrl("default.jpg")
+                .allAlarm('Y').chatAlarm('Y').enrollAlarm('Y').eventAlarm('Y')
+                .fcmToken("token_" + email)
+                .authority(Authority.ROLE_USER)
+                .isReported(false)
+                .build();
+    }
+}
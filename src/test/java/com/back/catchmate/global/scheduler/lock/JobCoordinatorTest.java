@@ -0,0 +1,194 @@
+package com.back.catchmate.global.scheduler.lock;
+
+import com.back.catchmate.global.scheduler.entity.JobRunHistory;
+import com.back.catchmate.global.scheduler.entity.JobRunStatus;
+import com.back.catchmate.global.scheduler.repository.JobRunHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JobCoordinatorTest {
+
+    private static final String JOB_NAME = "test-job";
+    private static final Duration LEASE_TIME = Duration.ofSeconds(30);
+
+    @Mock
+    private JobRunHistoryRepository jobRunHistoryRepository;
+
+    private InMemoryJobLeaseStore jobLeaseStore;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jobLeaseStore = new InMemoryJobLeaseStore();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 실행해도 작업은 한 번만 수행된다")
+    void runExclusively_OnlyOneInstanceRuns() throws Exception {
+        // given
+        int instanceCount = 5;
+        List<JobCoordinator> coordinators = new ArrayList<>();
+        for (int i = 0; i < instanceCount; i++) {
+            coordinators.add(new JobCoordinator(jobLeaseStore, jobRunHistoryRepository, meterRegistry, "instance-" + i));
+        }
+
+        AtomicInteger executionCount = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch jobStarted = new CountDownLatch(1);
+        CountDownLatch releaseJob = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(instanceCount);
+
+        // when
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (JobCoordinator coordinator : coordinators) {
+            results.add(executorService.submit(() -> {
+                startLatch.await();
+                return coordinator.runExclusively(JOB_NAME, LEASE_TIME, lease -> {
+                    executionCount.incrementAndGet();
+                    jobStarted.countDown();
+                    await(releaseJob);
+                });
+            }));
+        }
+        startLatch.countDown();
+        assertThat(jobStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 작업이 실행 중인 동안 나머지 인스턴스가 모두 임대 획득에 실패할 때까지 대기
+        long deadline = System.currentTimeMillis() + 5000;
+        while (results.stream().filter(Future::isDone).count() < instanceCount - 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        releaseJob.countDown();
+
+        int ranCount = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(5, TimeUnit.SECONDS)) {
+                ranCount++;
+            }
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(executionCount.get()).isEqualTo(1);
+        assertThat(ranCount).isEqualTo(1);
+        assertThat(meterRegistry.counter("scheduler.job.skipped", "job", JOB_NAME).count()).isEqualTo(instanceCount - 1);
+        assertThat(meterRegistry.find("scheduler.job.duration").tag("status", "SUCCEEDED").timer().count()).isEqualTo(1);
+        verify(jobRunHistoryRepository).save(any(JobRunHistory.class));
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 임대가 해제되어 다음 실행은 더 큰 fencing 토큰을 받는다")
+    void runExclusively_FencingTokenIncreases() {
+        // given
+        JobCoordinator first = new JobCoordinator(jobLeaseStore, jobRunHistoryRepository, meterRegistry, "instance-1");
+        JobCoordinator second = new JobCoordinator(jobLeaseStore, jobRunHistoryRepository, meterRegistry, "instance-2");
+        List<Long> tokens = new ArrayList<>();
+
+        // when
+        first.runExclusively(JOB_NAME, LEASE_TIME, lease -> tokens.add(lease.getFencingToken()));
+        second.runExclusively(JOB_NAME, LEASE_TIME, lease -> tokens.add(lease.getFencingToken()));
+
+        // then
+        assertThat(tokens).hasSize(2);
+        assertThat(tokens.get(1)).isGreaterThan(tokens.get(0));
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 FAILED 이력을 남기고 임대를 해제한다")
+    void runExclusively_Failure_RecordsHistory() {
+        // given
+        JobCoordinator coordinator = new JobCoordinator(jobLeaseStore, jobRunHistoryRepository, meterRegistry, "instance-1");
+        ArgumentCaptor<JobRunHistory> captor = ArgumentCaptor.forClass(JobRunHistory.class);
+
+        // when
+        boolean ran = coordinator.runExclusively(JOB_NAME, LEASE_TIME, lease -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // then
+        assertThat(ran).isTrue();
+        verify(jobRunHistoryRepository).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(JobRunStatus.FAILED);
+        assertThat(captor.getValue().getErrorMessage()).isEqualTo("boom");
+        assertThat(jobLeaseStore.tryAcquire(JOB_NAME, "other", LEASE_TIME)).isPresent();
+    }
+
+    @Test
+    @DisplayName("임대가 만료되면 다른 인스턴스가 획득하고 이전 소유자는 연장할 수 없다")
+    void leaseStore_ExpiredLease_TakenOver() {
+        // given
+        MutableClock clock = new MutableClock();
+        InMemoryJobLeaseStore store = new InMemoryJobLeaseStore(clock);
+        JobLease oldLease = store.tryAcquire(JOB_NAME, "instance-1", LEASE_TIME).orElseThrow();
+
+        // when
+        clock.advance(LEASE_TIME.plusSeconds(1));
+        JobLease newLease = store.tryAcquire(JOB_NAME, "instance-2", LEASE_TIME).orElseThrow();
+
+        // then
+        assertThat(newLease.getFencingToken()).isGreaterThan(oldLease.getFencingToken());
+        assertThat(store.renew(oldLease, LEASE_TIME)).isFalse();
+        assertThat(store.renew(newLease, LEASE_TIME)).isTrue();
+
+        // 이전 소유자의 해제 요청은 새 임대에 영향을 주지 않음
+        store.release(oldLease);
+        assertThat(store.tryAcquire(JOB_NAME, "instance-3", LEASE_TIME)).isEmpty();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.now();
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
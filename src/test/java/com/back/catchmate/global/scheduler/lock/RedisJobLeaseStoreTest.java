@@ -0,0 +1,129 @@
+package com.back.catchmate.global.scheduler.lock;
+
+import com.back.catchmate.global.scheduler.entity.JobCheckpoint;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Lua 스크립트와 fencing 토큰을 실제 Redis 에서 검증 (Docker 가 없는 환경에서는 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class RedisJobLeaseStoreTest {
+    private static final String JOB_NAME = "test-job";
+    private static final Duration LEASE_TIME = Duration.ofSeconds(30);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisJobLeaseStore jobLeaseStore;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of("scheduler:lock:" + JOB_NAME, "scheduler:fence:" + JOB_NAME));
+        jobLeaseStore = new RedisJobLeaseStore(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("임대가 잡혀 있으면 다른 인스턴스는 획득하지 못하고, 해제 후 다시 획득하면 fencing 토큰이 증가한다")
+    void tryAcquire_HeldLease_RejectsOtherOwner() {
+        // given
+        JobLease first = jobLeaseStore.tryAcquire(JOB_NAME, "instance-1", LEASE_TIME).orElseThrow();
+
+        // when
+        Optional<JobLease> rejected = jobLeaseStore.tryAcquire(JOB_NAME, "instance-2", LEASE_TIME);
+        jobLeaseStore.release(first);
+        JobLease second = jobLeaseStore.tryAcquire(JOB_NAME, "instance-2", LEASE_TIME).orElseThrow();
+
+        // then
+        assertThat(rejected).isEmpty();
+        assertThat(second.getFencingToken()).isGreaterThan(first.getFencingToken());
+        assertThat(redisTemplate.opsForValue().get("scheduler:lock:" + JOB_NAME)).isEqualTo(second.getLockValue());
+    }
+
+    @Test
+    @DisplayName("보유 중인 임대만 연장되고, 만료 후 다른 인스턴스가 획득하면 이전 소유자는 연장하지 못한다")
+    void renew_OnlyCurrentOwnerExtends() throws InterruptedException {
+        // given
+        JobLease first = jobLeaseStore.tryAcquire(JOB_NAME, "instance-1", Duration.ofMillis(200)).orElseThrow();
+        assertThat(jobLeaseStore.renew(first, LEASE_TIME)).isTrue();
+        assertThat(redisTemplate.getExpire("scheduler:lock:" + JOB_NAME)).isGreaterThan(1L);
+
+        // 연장하지 못한 채 만료된 상황
+        redisTemplate.expire("scheduler:lock:" + JOB_NAME, Duration.ofMillis(50));
+        Thread.sleep(200);
+        JobLease second = jobLeaseStore.tryAcquire(JOB_NAME, "instance-2", LEASE_TIME).orElseThrow();
+
+        // when
+        boolean renewed = jobLeaseStore.renew(first, LEASE_TIME);
+
+        // then
+        assertThat(renewed).isFalse();
+        assertThat(redisTemplate.opsForValue().get("scheduler:lock:" + JOB_NAME)).isEqualTo(second.getLockValue());
+    }
+
+    @Test
+    @DisplayName("이전 소유자가 늦게 해제해도 새 소유자의 임대는 유지된다")
+    void release_StaleLease_KeepsNewOwnerLock() {
+        // given
+        JobLease first = jobLeaseStore.tryAcquire(JOB_NAME, "instance-1", LEASE_TIME).orElseThrow();
+        redisTemplate.delete("scheduler:lock:" + JOB_NAME);
+        JobLease second = jobLeaseStore.tryAcquire(JOB_NAME, "instance-2", LEASE_TIME).orElseThrow();
+
+        // when
+        jobLeaseStore.release(first);
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("scheduler:lock:" + JOB_NAME)).isEqualTo(second.getLockValue());
+        assertThat(jobLeaseStore.tryAcquire(JOB_NAME, "instance-1", LEASE_TIME)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 소유자가 체크포인트를 갱신한 뒤에는 이전 소유자의 fencing 토큰이 거부된다")
+    void fencingToken_StaleOwnerRejectedByCheckpoint() {
+        // given
+        JobLease first = jobLeaseStore.tryAcquire(JOB_NAME, "instance-1", LEASE_TIME).orElseThrow();
+        redisTemplate.delete("scheduler:lock:" + JOB_NAME);
+        JobLease second = jobLeaseStore.tryAcquire(JOB_NAME, "instance-2", LEASE_TIME).orElseThrow();
+        JobCheckpoint checkpoint = JobCheckpoint.start(JOB_NAME, LocalDateTime.now());
+
+        // when
+        boolean secondClaimed = checkpoint.claim(second.getFencingToken());
+        boolean firstClaimed = checkpoint.claim(first.getFencingToken());
+
+        // then
+        assertThat(secondClaimed).isTrue();
+        assertThat(firstClaimed).isFalse();
+    }
+}